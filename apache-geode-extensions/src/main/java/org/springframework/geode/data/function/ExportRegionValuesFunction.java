@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.function;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+/**
+ * The {@link ExportRegionValuesFunction} class is a data-aware Apache Geode {@link Function} that exports
+ * the {@link Object values} of the {@link Region} on which it is executed from the servers hosting the data.
+ *
+ * For a {@literal PARTITION} {@link Region}, each server only exports the {@link Object values} from the primary
+ * buckets it hosts, so that the export scales with the cluster rather than funneling all data through a single
+ * {@literal client} {@link Region#getAll(java.util.Collection)} operation.
+ *
+ * The {@link Object values} are streamed back to the caller in {@link List chunks}. The only, optional
+ * {@link Function} argument is the {@code chunkSize}, which also allows the {@link Function} to be executed
+ * from {@literal Gfsh}.
+ *
+ * The {@link Function} must be registered on the servers, for example by deploying this JAR file
+ * with {@literal Gfsh}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.execute.ResultSender
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ * @since 1.4.0
+ */
+public class ExportRegionValuesFunction implements Function<Object> {
+
+	public static final String ID = "ExportRegionValuesFunction";
+
+	protected static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private static final long serialVersionUID = 1L;
+
+	private static boolean hasText(String value) {
+		return value != null && !value.trim().isEmpty();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/**
+	 * Returns {@literal false} since {@link Object values} already sent to the caller would be sent again
+	 * if the {@link Function} were retried.
+	 *
+	 * @return {@literal false}.
+	 */
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	/**
+	 * Returns {@literal true} so that the {@link Function} is only executed on the servers hosting
+	 * the primary buckets of a {@literal PARTITION} {@link Region}.
+	 *
+	 * @return {@literal true}.
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void execute(FunctionContext<Object> context) {
+
+		if (!(context instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		Region<?, ?> localData = resolveLocalData((RegionFunctionContext) context);
+
+		Object[] arguments = resolveArguments(context.getArguments());
+
+		sendValues(localData, resolveChunkSize(arguments), context.getResultSender());
+	}
+
+	/**
+	 * Resolves the {@link Region} containing the data local to this server to export.
+	 *
+	 * @param context {@link RegionFunctionContext} for the {@link Function} execution.
+	 * @return the local primary data of a {@literal PARTITION} {@link Region}, or the {@link Region} itself.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalDataForContext(RegionFunctionContext)
+	 */
+	protected Region<?, ?> resolveLocalData(RegionFunctionContext context) {
+
+		Region<?, ?> region = context.getDataSet();
+
+		return PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalDataForContext(context)
+			: region;
+	}
+
+	private Object[] resolveArguments(Object arguments) {
+
+		return arguments instanceof Object[] ? (Object[]) arguments
+			: arguments != null ? new Object[] { arguments }
+			: new Object[0];
+	}
+
+	/**
+	 * Resolves the maximum number of {@link Object values} sent to the caller in a single chunk.
+	 *
+	 * @param arguments array of {@link Function} arguments.
+	 * @return the resolved chunk size.
+	 */
+	protected int resolveChunkSize(Object[] arguments) {
+
+		Object chunkSize = arguments.length > 0 ? arguments[0] : null;
+
+		int resolvedChunkSize = chunkSize instanceof Number ? ((Number) chunkSize).intValue()
+			: chunkSize instanceof String && hasText((String) chunkSize) ? Integer.parseInt(((String) chunkSize).trim())
+			: DEFAULT_CHUNK_SIZE;
+
+		return resolvedChunkSize > 0 ? resolvedChunkSize : DEFAULT_CHUNK_SIZE;
+	}
+
+	/**
+	 * Sends all {@link Object values} from the given {@link Region} to the caller in chunks.
+	 *
+	 * @param region {@link Region} containing the {@link Object values} to send.
+	 * @param chunkSize maximum number of {@link Object values} sent in a single chunk.
+	 * @param resultSender {@link ResultSender} used to send the chunks.
+	 * @see org.apache.geode.cache.execute.ResultSender
+	 */
+	protected void sendValues(Region<?, ?> region, int chunkSize, ResultSender<Object> resultSender) {
+
+		List<Object> chunk = new ArrayList<>(Math.min(chunkSize, DEFAULT_CHUNK_SIZE));
+
+		for (Object value : region.values()) {
+			if (value != null) {
+
+				chunk.add(value);
+
+				if (chunk.size() >= chunkSize) {
+					resultSender.sendResult(chunk);
+					chunk = new ArrayList<>(Math.min(chunkSize, DEFAULT_CHUNK_SIZE));
+				}
+			}
+		}
+
+		resultSender.lastResult(chunk.isEmpty() ? Collections.emptyList() : chunk);
+	}
+}
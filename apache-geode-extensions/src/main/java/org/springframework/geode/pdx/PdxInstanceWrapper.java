@@ -19,14 +19,26 @@ import static org.springframework.geode.util.GeodeAssertions.assertThat;
 
 import java.io.DataOutput;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.internal.Sendable;
 import org.apache.geode.pdx.JSONFormatter;
@@ -65,6 +77,40 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	protected static final String OBJECT_BEGIN = "{";
 	protected static final String OBJECT_END = "}";
 
+	private static final Logger LOGGER = LogManager.getLogger(PdxInstanceWrapper.class);
+
+	private static final AtomicReference<ObjectMapper> SHARED_OBJECT_MAPPER = new AtomicReference<>(null);
+
+	private static final ClassValue<Boolean> USES_SHARED_OBJECT_MAPPER = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+
+			for (Class<?> currentType = type; !PdxInstanceWrapper.class.equals(currentType);
+					currentType = currentType.getSuperclass()) {
+
+				try {
+					currentType.getDeclaredMethod("newObjectMapper");
+					return false;
+				}
+				catch (NoSuchMethodException ignore) { }
+			}
+
+			return true;
+		}
+	};
+
+	private static final ClassValue<ObjectReader> OBJECT_READERS = new ClassValue<ObjectReader>() {
+
+		@Override
+		protected ObjectReader computeValue(Class<?> type) {
+			return SHARED_OBJECT_MAPPER.get().readerFor(type);
+		}
+	};
+
+	private static final Map<ClassLoader, Map<String, WeakReference<Class<?>>>> RESOLVED_TYPES =
+		Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Smart, {@literal null-safe} factory method used to evaluate the given {@link Object} and wrap the {@link Object}
 	 * in a new instance of {@link PdxInstanceWrapper} if the {@link Object} is an instance of {@link PdxInstance}
@@ -148,25 +194,54 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 		return this.delegate;
 	}
 
+	/**
+	 * Returns the {@link Logger} used to log the operations of this wrapper.
+	 *
+	 * @return the {@link Logger} used to log the operations of this wrapper.
+	 * @see org.apache.logging.log4j.Logger
+	 */
+	Logger getLogger() {
+		return LOGGER;
+	}
+
 	/**
 	 * Returns an {@link Optional} reference to a configured Jackson {@link ObjectMapper} used to
 	 * deserialize the {@link String JSON} generated from {@link PdxInstance PDX} back into an {@link Object}.
 	 *
 	 * This method is meant ot be overridden by {@link Class subclasses}.
 	 *
+	 * By default, a single, thread-safe {@link ObjectMapper} is configured on first use and then shared by
+	 * all {@link PdxInstanceWrapper PdxInstanceWrappers}. {@link Class Subclasses} overriding
+	 * {@link #newObjectMapper()} get a new, configured {@link ObjectMapper} from their override instead.
+	 *
 	 * @return an {@link Optional} {@link ObjectMapper}.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper
 	 * @see java.util.Optional
+	 * @see #newConfiguredObjectMapper()
 	 */
 	protected Optional<ObjectMapper> getObjectMapper() {
+		ObjectMapper objectMapper = USES_SHARED_OBJECT_MAPPER.get(getClass())
+			? SHARED_OBJECT_MAPPER.updateAndGet(it -> it != null ? it : newConfiguredObjectMapper())
+			: newConfiguredObjectMapper();
+
+		return Optional.of(objectMapper);
+	}
+
+	/**
+	 * Constructs and configures a new instance of Jackson's {@link ObjectMapper} used to map {@literal JSON}
+	 * {@link PdxInstance PDX} to an {@link Object}.
+	 *
+	 * @return a new, configured instance of Jackson's {@link ObjectMapper}; never {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 * @see #newObjectMapper()
+	 */
+	ObjectMapper newConfiguredObjectMapper() {
 
-		ObjectMapper objectMapper = newObjectMapper()
+		return newObjectMapper()
 			.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false)
 			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
 			.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
 			.findAndRegisterModules();
-
-		return Optional.of(objectMapper);
 	}
 
 	/**
@@ -225,9 +300,7 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	 *
 	 * @return the {@link Object identifier} for this {@link PdxInstance}; never {@literal null}.
 	 * @throws IllegalStateException if the {@link PdxInstance} does not have an id.
-	 * @see #isIdentityField(String)
 	 * @see #getField(String)
-	 * @see #getFieldNames()
 	 * @see #getId()
 	 */
 	public Object getIdentifier() {
@@ -326,14 +399,27 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 	/**
 	 * Materializes an {@link Object} from the PDX bytes described by this {@link PdxInstance}.
 	 *
-	 * If these PDX bytes describe an {@link Object} parsed from JSON, then the JSON is reconstructed from
-	 * this {@link PdxInstance} and mapped to an instance of the {@link Class type} identified by
-	 * the {@literal @type} metadata PDX {@link String field} using Jackson's {@link ObjectMapper}.
+	 * If these PDX bytes describe an {@link Object} parsed from JSON, then the {@link PdxInstance} is mapped to
+	 * an instance of the {@link Class type} identified by the {@literal @type} metadata PDX {@link String field}
+	 * using Jackson's {@link ObjectMapper}.
+	 *
+	 * When the shared, default {@link ObjectMapper} is used, the {@link PdxInstance} fields are streamed directly
+	 * to a cached {@link ObjectReader} for the {@link Class type} without generating intermediate {@literal JSON}.
+	 * Otherwise, the JSON is reconstructed from this {@link PdxInstance} and read with the {@link ObjectMapper}.
+	 *
+	 * Caching does keep application {@link ClassLoader ClassLoaders} loaded. The cached {@link ObjectReader} is
+	 * stored on the {@link Class type} it reads and strongly references that {@link Class type}. The shared
+	 * {@link ObjectMapper} also caches deserializers for every {@link Class type} it has read, and it lives for
+	 * as long as this {@link Class} is loaded. Therefore, a {@link ClassLoader} that loaded a {@link Class type}
+	 * read here, for example an application redeployed to a long-running server, cannot be unloaded before
+	 * the {@link ClassLoader} that loaded this {@link Class}. This trade-off avoids resolving a deserializer
+	 * on every read.
 	 *
 	 * @return an {@link Object} constructed from the PDX bytes described by this {@link PdxInstance}.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper
 	 * @see java.lang.Object
 	 * @see #getObjectMapper()
+	 * @see #resolveType(String)
 	 */
 	@Override
 	public Object getObject() {
@@ -346,20 +432,111 @@ public class PdxInstanceWrapper implements PdxInstance, Sendable {
 
 					String typeName = String.valueOf(getField(AT_TYPE_FIELD_NAME));
 
-					Class<?> type = Class.forName(typeName);
+					Class<?> type = resolveType(typeName);
+
+					if (objectMapper == SHARED_OBJECT_MAPPER.get()) {
+						return readObject(objectMapper, OBJECT_READERS.get(type));
+					}
 
 					String json = jsonFormatterToJson(getDelegate());
 
 					return objectMapper.readValue(json, type);
 				}
-				catch (Throwable ignore) {
-					// TODO Log Throwable?
+				catch (Throwable cause) {
+
+					getLogger().warn("Failed to map JSON PdxInstance to an Object using Jackson;"
+						+ " falling back to PdxInstance.getObject()", cause);
+
 					return null;
 				}
 			})
 			.orElseGet(() -> getDelegate().getObject());
 	}
 
+	/**
+	 * Resolves the {@link Class type} with the given {@link String fully-qualified class name} using
+	 * the {@link Thread#getContextClassLoader() Thread context ClassLoader}, if present, otherwise
+	 * the {@link ClassLoader} that loaded this {@link Class}.
+	 *
+	 * Resolved {@link Class types} are cached per {@link ClassLoader}.
+	 *
+	 * @param typeName {@link String} containing the fully-qualified class name of the {@link Class type} to resolve.
+	 * @return the resolved {@link Class type}.
+	 * @throws ClassNotFoundException if the {@link Class type} cannot be found.
+	 */
+	Class<?> resolveType(String typeName) throws ClassNotFoundException {
+
+		ClassLoader threadContextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		ClassLoader classLoader = threadContextClassLoader != null ? threadContextClassLoader
+			: PdxInstanceWrapper.class.getClassLoader();
+
+		Map<String, WeakReference<Class<?>>> resolvedTypes =
+			RESOLVED_TYPES.computeIfAbsent(classLoader, it -> new ConcurrentHashMap<>());
+
+		WeakReference<Class<?>> typeReference = resolvedTypes.get(typeName);
+
+		Class<?> type = typeReference != null ? typeReference.get() : null;
+
+		if (type == null) {
+			type = Class.forName(typeName, true, classLoader);
+			resolvedTypes.put(typeName, new WeakReference<>(type));
+		}
+
+		return type;
+	}
+
+	private Object readObject(ObjectMapper objectMapper, ObjectReader objectReader) throws IOException {
+
+		TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+
+		writePdx(tokenBuffer, getDelegate());
+
+		return objectReader.readValue(tokenBuffer.asParser());
+	}
+
+	private void writePdx(JsonGenerator jsonGenerator, PdxInstance pdx) throws IOException {
+
+		jsonGenerator.writeStartObject();
+
+		for (String fieldName : nullSafeList(pdx.getFieldNames())) {
+			jsonGenerator.writeFieldName(fieldName);
+			writeValue(jsonGenerator, pdx.getField(fieldName));
+		}
+
+		jsonGenerator.writeEndObject();
+	}
+
+	private void writeValue(JsonGenerator jsonGenerator, Object value) throws IOException {
+
+		if (value instanceof PdxInstance) {
+			writePdx(jsonGenerator, (PdxInstance) value);
+		}
+		else if (value instanceof Collection) {
+
+			jsonGenerator.writeStartArray();
+
+			for (Object element : (Collection<?>) value) {
+				writeValue(jsonGenerator, element);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else if (value instanceof Object[]) {
+
+			jsonGenerator.writeStartArray();
+
+			for (Object element : (Object[]) value) {
+				writeValue(jsonGenerator, element);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else {
+			jsonGenerator.writeObject(value);
+		}
+	}
+
 	/**
 	 * Calls {@link JSONFormatter#toJSON(PdxInstance)} to convert the {@link PdxInstance} into {@link String JSON}.
 	 *
@@ -17,19 +17,32 @@ package org.springframework.geode.util;
 
 import static org.springframework.geode.util.GeodeAssertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 
 /**
@@ -44,10 +57,14 @@ import org.apache.geode.internal.cache.GemFireCacheImpl;
  * @see org.apache.geode.cache.RegionService
  * @see org.apache.geode.cache.client.ClientCache
  * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ * @see java.util.stream.Stream
  * @since 1.3.0
  */
 public abstract class CacheUtils {
 
+	protected static final int DEFAULT_BATCH_SIZE = 1000;
+
 	/**
 	 * Collects all {@link Object values} from the given {@link Region}.
 	 *
@@ -61,7 +78,6 @@ public abstract class CacheUtils {
 	 * @see org.apache.geode.cache.Region
 	 * @see java.util.Collection
 	 */
-	// TODO Add Predicate-based Filtering
 	public static <T> Collection<T> collectValues(Region<?, T> region) {
 
 		assertThat(region).isNotNull();
@@ -71,6 +87,170 @@ public abstract class CacheUtils {
 			: localRegionValues(region);
 	}
 
+	/**
+	 * Collects all {@link Object values} from the given {@link Region} accepted by the given {@link Predicate}.
+	 *
+	 * Unlike {@link #collectValues(Region)}, the {@link Object values} of a [client] {@literal PROXY} {@link Region}
+	 * are fetched from the server in bounded batches.
+	 *
+	 * @param <T> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} from which to collect the {@link Object values}.
+	 * @param filter {@link Predicate} used to filter the {@link Object values}; may be {@literal null}.
+	 * @return a {@link Collection} of the filtered {@link Object values} from the given {@link Region}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see #streamValues(Region, Predicate)
+	 * @see java.util.function.Predicate
+	 */
+	public static <T> Collection<T> collectValues(Region<?, T> region, Predicate<? super T> filter) {
+		return streamValues(region, filter).collect(Collectors.toList());
+	}
+
+	/**
+	 * Streams all {@link Object values} from the given {@link Region}.
+	 *
+	 * @param <T> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} from which to stream the {@link Object values}.
+	 * @return a {@link Stream} of all {@link Object values} from the given {@link Region}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see #streamValues(Region, int, boolean, Predicate)
+	 */
+	public static <T> Stream<T> streamValues(Region<?, T> region) {
+		return streamValues(region, null);
+	}
+
+	/**
+	 * Streams all {@link Object values} from the given {@link Region} accepted by the given {@link Predicate}.
+	 *
+	 * @param <T> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} from which to stream the {@link Object values}.
+	 * @param filter {@link Predicate} used to filter the {@link Object values}; may be {@literal null}.
+	 * @return a {@link Stream} of the filtered {@link Object values} from the given {@link Region}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see #streamValues(Region, int, boolean, Predicate)
+	 */
+	public static <T> Stream<T> streamValues(Region<?, T> region, Predicate<? super T> filter) {
+		return streamValues(region, DEFAULT_BATCH_SIZE, false, filter);
+	}
+
+	/**
+	 * Streams all {@link Object values} from the given {@link Region} accepted by the given {@link Predicate}.
+	 *
+	 * For a [client] {@literal PROXY} {@link Region}, the keys are fetched from the server first, and then
+	 * the {@link Object values} are lazily fetched from the server with {@link Region#getAll(Collection)}
+	 * in batches of no more than {@code batchSize} keys as the {@link Stream} is consumed. When {@code parallel}
+	 * is {@literal true}, batches are fetched concurrently, which allows a single-hop enabled {@link Pool}
+	 * to spread the requests across the servers hosting the data.
+	 *
+	 * Only the {@link Object values} are streamed. The full set of keys returned by {@link Region#keySetOnServer()}
+	 * is still loaded onto the client in a single request and held for the lifetime of the {@link Stream}, so
+	 * the client must have enough heap for all the keys of the {@link Region}.
+	 *
+	 * {@literal null} values, such as for entries destroyed after the keys were fetched, are not streamed.
+	 *
+	 * @param <T> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} from which to stream the {@link Object values}.
+	 * @param batchSize maximum number of keys fetched in a single round trip to the server;
+	 * a non-positive value uses the default batch size.
+	 * @param parallel boolean value indicating whether to return a parallel {@link Stream}.
+	 * @param filter {@link Predicate} used to filter the {@link Object values}; may be {@literal null}.
+	 * @return a {@link Stream} of the filtered {@link Object values} from the given {@link Region}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.Region#keySetOnServer()
+	 * @see org.apache.geode.cache.Region#getAll(Collection)
+	 * @see java.util.function.Predicate
+	 * @see java.util.stream.Stream
+	 */
+	public static <T> Stream<T> streamValues(Region<?, T> region, int batchSize, boolean parallel,
+			Predicate<? super T> filter) {
+
+		assertThat(region).isNotNull();
+
+		Stream<T> values = isClientRegion(region) && isProxyRegion(region)
+			? clientRegionValuesFromServerInBatches(region, batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE, parallel)
+			: parallel ? localRegionValues(region).parallelStream() : localRegionValues(region).stream();
+
+		return values
+			.filter(Objects::nonNull)
+			.filter(filter != null ? filter : value -> true);
+	}
+
+	/**
+	 * Streams the {@link Object values} of the given {@literal peer} {@link Region} that are hosted by this member
+	 * as primary, in {@link Collection segments} of at most {@code segmentSize} {@link Object values}.
+	 *
+	 * For a {@literal PARTITION} {@link Region} hosting data on this member, the {@link Object values} are read from
+	 * the {@link PartitionRegionHelper#getLocalPrimaryData(Region) local primary data}, without the redundant copies
+	 * hosted by this member, and are only gathered into a segment as the {@link Stream} is consumed. Segments of
+	 * a {@link Stream#parallel() parallel} {@link Stream} are split off one at a time so they can be processed
+	 * concurrently.
+	 *
+	 * For any other {@link Region}, including a {@literal PARTITION} {@link Region} accessor, the {@link Stream}
+	 * contains a single segment with all the {@link Region#values() values} of the {@link Region}.
+	 *
+	 * @param <T> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} from which to stream the {@link Object values}.
+	 * @param segmentSize maximum number of {@link Object values} in a single segment;
+	 * a non-positive value uses the default segment size.
+	 * @return a {@link Stream} of {@link Collection segments} of {@link Object values}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalPrimaryData(Region)
+	 * @see java.util.stream.Stream
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Stream<Collection<T>> streamLocalPrimaryValues(Region<?, T> region, int segmentSize) {
+
+		assertThat(region).isNotNull();
+
+		if (isPartitionDataStore(region)) {
+
+			Region<Object, T> localPrimaryData = PartitionRegionHelper.getLocalPrimaryData((Region<Object, T>) region);
+
+			Iterator<T> values = nullSafeCollection(localPrimaryData.values()).iterator();
+
+			return StreamSupport.stream(new SegmentSpliterator<>(values,
+				segmentSize > 0 ? segmentSize : DEFAULT_BATCH_SIZE), false);
+		}
+
+		return Stream.of(localRegionValues(region));
+	}
+
+	private static boolean isPartitionDataStore(Region<?, ?> region) {
+
+		return PartitionRegionHelper.isPartitionedRegion(region)
+			&& Optional.ofNullable(region.getAttributes())
+				.map(RegionAttributes::getPartitionAttributes)
+				.map(PartitionAttributes<?, ?>::getLocalMaxMemory)
+				.filter(localMaxMemory -> localMaxMemory > 0)
+				.isPresent();
+	}
+
+	/**
+	 * Streams all values from the {@literal client} {@link Region} by pulling the values down from the server
+	 * in batches. All keys are pulled down from the server up front.
+	 *
+	 * @param <T> {@link Class type} of the {@link Region Region's} values.
+	 * @param region {@link Region} from which to stream values.
+	 * @param batchSize maximum number of keys fetched in a single {@link Region#getAll(Collection)}.
+	 * @param parallel boolean value indicating whether to return a parallel {@link Stream}.
+	 * @return a {@link Stream} of the values from the {@literal client} {@link Region} on the server.
+	 * @see org.apache.geode.cache.Region#keySetOnServer()
+	 * @see #getAll(Region, Collection)
+	 */
+	private static <T> Stream<T> clientRegionValuesFromServerInBatches(Region<?, T> region, int batchSize,
+			boolean parallel) {
+
+		List<?> keys = new ArrayList<>(nullSafeSet(region.keySetOnServer()));
+
+		int batchCount = (keys.size() + batchSize - 1) / batchSize;
+
+		IntStream batchIndexes = IntStream.range(0, batchCount);
+
+		return (parallel ? batchIndexes.parallel() : batchIndexes)
+			.mapToObj(batchIndex -> keys.subList(batchIndex * batchSize,
+				Math.min(keys.size(), (batchIndex + 1) * batchSize)))
+			.flatMap(batch -> getAll(region, batch).stream());
+	}
+
 	/**
 	 * Collects values from the given {@literal client} {@link Region}.
 	 *
@@ -96,7 +276,7 @@ public abstract class CacheUtils {
 	 * @param region {@link Region} from which to collect values.
 	 * @return a {@link Collection} containing the values from the {@literal client} {@link Region} on the server.
 	 * @see org.apache.geode.cache.Region#keySetOnServer()
-	 * @see #getAll(Region, Set)
+	 * @see #getAll(Region, Collection)
 	 */
 	private static <T> Collection<T> clientRegionValuesFromServer(Region<?, T> region) {
 
@@ -110,11 +290,11 @@ public abstract class CacheUtils {
 	 *
 	 * @param <T> {@link Class type} of the {@link Region Region's} values.
 	 * @param region {@link Region} from which to get all values.
-	 * @param keys {@link Set} of keys targeting the values to retrieve.
+	 * @param keys {@link Collection} of keys targeting the values to retrieve.
 	 * @return a {@link Collection} of the {@link Region Region's} values.
 	 * @see org.apache.geode.cache.Region#getAll(Collection)
 	 */
-	private static <T> Collection<T> getAll(Region<?, T> region, Set<?> keys) {
+	private static <T> Collection<T> getAll(Region<?, T> region, Collection<?> keys) {
 		return nullSafeMap(region.getAll(keys)).values();
 		// Fallback procedure if region.getAll(keys) is buggered
 		//return keys.stream().map(region::get).collect(Collectors.toSet());
@@ -136,6 +316,10 @@ public abstract class CacheUtils {
 		return value != null && !value.trim().isEmpty();
 	}
 
+	private static <T> Collection<T> nullSafeCollection(Collection<T> collection) {
+		return collection != null ? collection : Collections.emptyList();
+	}
+
 	private static <K, V> Map<K, V> nullSafeMap(Map<K, V> map) {
 		return map != null ? map :Collections.emptyMap();
 	}
@@ -256,4 +440,71 @@ public abstract class CacheUtils {
 			.filter(CacheUtils::hasText)
 			.isPresent();
 	}
+
+	/**
+	 * {@link Spliterator} gathering the {@link Object values} of an {@link Iterator} into {@link Collection segments},
+	 * splitting off one segment at a time.
+	 *
+	 * @param <T> {@link Class type} of the {@link Object values}.
+	 */
+	static final class SegmentSpliterator<T> implements Spliterator<Collection<T>> {
+
+		private final int segmentSize;
+
+		private final Iterator<T> values;
+
+		SegmentSpliterator(Iterator<T> values, int segmentSize) {
+			this.values = values;
+			this.segmentSize = segmentSize;
+		}
+
+		private List<T> nextSegment() {
+
+			List<T> segment = new ArrayList<>(Math.min(this.segmentSize, DEFAULT_BATCH_SIZE));
+
+			while (segment.size() < this.segmentSize && this.values.hasNext()) {
+
+				T value = this.values.next();
+
+				if (value != null) {
+					segment.add(value);
+				}
+			}
+
+			return segment;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Collection<T>> action) {
+
+			List<T> segment = nextSegment();
+
+			if (segment.isEmpty()) {
+				return false;
+			}
+
+			action.accept(segment);
+
+			return true;
+		}
+
+		@Override
+		public Spliterator<Collection<T>> trySplit() {
+
+			List<T> segment = nextSegment();
+
+			return segment.isEmpty() ? null
+				: Collections.<Collection<T>>singletonList(segment).spliterator();
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.NONNULL;
+		}
+	}
 }
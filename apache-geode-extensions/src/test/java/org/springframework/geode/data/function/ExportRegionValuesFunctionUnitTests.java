@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+/**
+ * Unit Tests for {@link ExportRegionValuesFunction}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.execute.ResultSender
+ * @see org.springframework.geode.data.function.ExportRegionValuesFunction
+ * @since 1.4.0
+ */
+@SuppressWarnings("unchecked")
+public class ExportRegionValuesFunctionUnitTests {
+
+	private final ExportRegionValuesFunction function = new ExportRegionValuesFunction();
+
+	private final List<Object> sentResults = new ArrayList<>();
+
+	private final List<Object> lastResults = new ArrayList<>();
+
+	private RegionFunctionContext mockRegionFunctionContext(Object arguments, Object... values) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("Example").when(mockRegion).getName();
+		doReturn(Arrays.asList(values)).when(mockRegion).values();
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		doAnswer(invocation -> this.sentResults.add(new ArrayList<>(invocation.getArgument(0))))
+			.when(mockResultSender).sendResult(any());
+
+		doAnswer(invocation -> this.lastResults.add(invocation.getArgument(0)))
+			.when(mockResultSender).lastResult(any());
+
+		RegionFunctionContext mockContext = mock(RegionFunctionContext.class);
+
+		doReturn(mockRegion).when(mockContext).getDataSet();
+		doReturn(arguments).when(mockContext).getArguments();
+		doReturn(mockResultSender).when(mockContext).getResultSender();
+
+		return mockContext;
+	}
+
+	@Test
+	public void functionIsConfiguredCorrectly() {
+
+		assertThat(this.function.getId()).isEqualTo(ExportRegionValuesFunction.ID);
+		assertThat(this.function.hasResult()).isTrue();
+		assertThat(this.function.isHA()).isFalse();
+		assertThat(this.function.optimizeForWrite()).isTrue();
+	}
+
+	@Test
+	public void executeSendsValuesInChunks() {
+
+		this.function.execute(mockRegionFunctionContext(new Object[] { 2 }, 1, 2, null, 3, 4, 5));
+
+		assertThat(this.sentResults).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4));
+		assertThat(this.lastResults).containsExactly(Collections.singletonList(5));
+	}
+
+	@Test
+	public void executeWithFullLastChunkSendsEmptyLastResult() {
+
+		this.function.execute(mockRegionFunctionContext(new String[] { "2" }, 1, 2));
+
+		assertThat(this.sentResults).containsExactly(Arrays.asList(1, 2));
+		assertThat(this.lastResults).containsExactly(Collections.emptyList());
+	}
+
+	@Test
+	public void executeWithNoArgumentsUsesDefaultChunkSize() {
+
+		this.function.execute(mockRegionFunctionContext(null, 1, 2, 3));
+
+		assertThat(this.sentResults).isEmpty();
+		assertThat(this.lastResults).containsExactly(Arrays.asList(1, 2, 3));
+	}
+
+	@Test
+	public void resolveChunkSizeHandlesInvalidValues() {
+
+		int defaultChunkSize = ExportRegionValuesFunction.DEFAULT_CHUNK_SIZE;
+
+		assertThat(this.function.resolveChunkSize(new Object[0])).isEqualTo(defaultChunkSize);
+		assertThat(this.function.resolveChunkSize(new Object[] { -1 })).isEqualTo(defaultChunkSize);
+		assertThat(this.function.resolveChunkSize(new Object[] { "  " })).isEqualTo(defaultChunkSize);
+		assertThat(this.function.resolveChunkSize(new Object[] { " 500 " })).isEqualTo(500);
+		assertThat(this.function.resolveChunkSize(new Object[] { 250L })).isEqualTo(250);
+	}
+
+	@Test
+	public void executeWithAdditionalArgumentsOnlySendsValues() {
+
+		this.function.execute(mockRegionFunctionContext(new Object[] { 10, "/tmp" }, "Jon Doe"));
+
+		assertThat(this.sentResults).isEmpty();
+		assertThat(this.lastResults).containsExactly(Collections.singletonList("Jon Doe"));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void executeWithNonRegionFunctionContextThrowsFunctionException() {
+
+		FunctionContext<Object> mockContext = mock(FunctionContext.class);
+
+		try {
+			this.function.execute(mockContext);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [ExportRegionValuesFunction] must be executed on a Region");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockContext, never()).getResultSender();
+		}
+	}
+
+	@Test
+	public void resolveLocalDataForNonPartitionedRegionReturnsRegion() {
+
+		RegionFunctionContext mockContext = mockRegionFunctionContext(null);
+
+		Region<?, ?> region = mockContext.getDataSet();
+
+		assertThat(this.function.resolveLocalData(mockContext)).isSameAs(region);
+
+		verify(mockContext, times(2)).getDataSet();
+		verify(mockContext, never()).getFilter();
+		verify(mockContext, never()).getArguments();
+		verify(mockContext, never()).getResultSender();
+		verify(region, never()).getName();
+		verify(region, never()).values();
+	}
+}
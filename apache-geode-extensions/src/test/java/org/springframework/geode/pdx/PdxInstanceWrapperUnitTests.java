@@ -48,6 +48,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.Test;
 
+import org.apache.logging.log4j.Logger;
+
 import org.apache.geode.internal.Sendable;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
@@ -181,6 +183,37 @@ public class PdxInstanceWrapperUnitTests {
 		verifyNoMoreInteractions(mockObjectMapper);
 	}
 
+	@Test
+	public void getObjectMapperReturnsSharedObjectMapper() {
+
+		ObjectMapper objectMapper = PdxInstanceWrapper.from(mock(PdxInstance.class)).getObjectMapper().orElse(null);
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(PdxInstanceWrapper.from(mock(PdxInstance.class)).getObjectMapper()).containsSame(objectMapper);
+		assertThat(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isFalse();
+		assertThat(objectMapper.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)).isTrue();
+	}
+
+	@Test
+	public void getObjectMapperUsesNewObjectMapperOverriddenBySubclass() {
+
+		PdxInstanceWrapper wrapper = new PdxInstanceWrapper(mock(PdxInstance.class)) {
+
+			@Override
+			ObjectMapper newObjectMapper() {
+				return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, true);
+			}
+		};
+
+		ObjectMapper objectMapper = wrapper.getObjectMapper().orElse(null);
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(objectMapper).isNotSameAs(PdxInstanceWrapper.from(mock(PdxInstance.class))
+			.getObjectMapper().orElse(null));
+		assertThat(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)).isTrue();
+		assertThat(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isFalse();
+	}
+
 	@Test
 	public void getClassNameCallsPdxInstanceGetClassName() {
 
@@ -683,6 +716,10 @@ public class PdxInstanceWrapperUnitTests {
 
 		Object value = new Object();
 
+		JsonGenerationException cause = new JsonGenerationException("TEST", mock(JsonGenerator.class));
+
+		Logger mockLogger = mock(Logger.class);
+
 		ObjectMapper mockObjectMapper = mock(ObjectMapper.class);
 
 		PdxInstance mockPdxInstance = mock(PdxInstance.class);
@@ -701,8 +738,8 @@ public class PdxInstanceWrapperUnitTests {
 
 		doReturn(Optional.of(mockObjectMapper)).when(wrapper).getObjectMapper();
 		doReturn(json).when(wrapper).jsonFormatterToJson(eq(mockPdxInstance));
-		doThrow(new JsonGenerationException("TEST", mock(JsonGenerator.class)))
-			.when(mockObjectMapper).readValue(anyString(), any(Class.class));
+		doReturn(mockLogger).when(wrapper).getLogger();
+		doThrow(cause).when(mockObjectMapper).readValue(anyString(), any(Class.class));
 
 		assertThat(wrapper.getObject()).isEqualTo(value);
 
@@ -714,9 +751,62 @@ public class PdxInstanceWrapperUnitTests {
 		verify(wrapper, times(1)).jsonFormatterToJson(eq(mockPdxInstance));
 		verify(mockObjectMapper, times(1)).readValue(eq(json), eq(Account.class));
 		verify(mockPdxInstance, times((1))).getObject();
+		verify(mockLogger, times(1)).warn(anyString(), eq(cause));
 		verifyNoMoreInteractions(mockObjectMapper, mockPdxInstance);
 	}
 
+	@Test
+	public void getObjectMapsJsonPdxDirectlyToObjectWithSharedObjectMapper() {
+
+		PdxInstance mockPublisher = mock(PdxInstance.class);
+
+		doReturn(JSONFormatter.JSON_CLASSNAME).when(mockPublisher).getClassName();
+		doReturn(Collections.singletonList("name")).when(mockPublisher).getFieldNames();
+		doReturn("O'Reilly").when(mockPublisher).getField(eq("name"));
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(JSONFormatter.JSON_CLASSNAME).when(mockPdxInstance).getClassName();
+		doReturn(true).when(mockPdxInstance).hasField(eq(PdxInstanceWrapper.AT_TYPE_FIELD_NAME));
+		doReturn(Arrays.asList(PdxInstanceWrapper.AT_TYPE_FIELD_NAME, "id", "title", "authors", "publisher"))
+			.when(mockPdxInstance).getFieldNames();
+		doReturn(Book.class.getName()).when(mockPdxInstance).getField(eq(PdxInstanceWrapper.AT_TYPE_FIELD_NAME));
+		doReturn((byte) 1).when(mockPdxInstance).getField(eq("id"));
+		doReturn("Cloud Native Java").when(mockPdxInstance).getField(eq("title"));
+		doReturn(Arrays.asList("Josh Long", "Kenny Bastani")).when(mockPdxInstance).getField(eq("authors"));
+		doReturn(mockPublisher).when(mockPdxInstance).getField(eq("publisher"));
+
+		Object object = PdxInstanceWrapper.from(mockPdxInstance).getObject();
+
+		assertThat(object).isInstanceOf(Book.class);
+
+		Book book = (Book) object;
+
+		assertThat(book.id).isEqualTo(1L);
+		assertThat(book.title).isEqualTo("Cloud Native Java");
+		assertThat(book.authors).containsExactly("Josh Long", "Kenny Bastani");
+		assertThat(book.publisher).isNotNull();
+		assertThat(book.publisher.name).isEqualTo("O'Reilly");
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void resolveTypeReturnsCachedType() throws ClassNotFoundException {
+
+		PdxInstanceWrapper wrapper = PdxInstanceWrapper.from(mock(PdxInstance.class));
+
+		Class<?> type = wrapper.resolveType(Book.class.getName());
+
+		assertThat(type).isEqualTo(Book.class);
+		assertThat(wrapper.resolveType(Book.class.getName())).isSameAs(type);
+	}
+
+	@Test(expected = ClassNotFoundException.class)
+	public void resolveNonExistingTypeThrowsClassNotFoundException() throws ClassNotFoundException {
+		PdxInstanceWrapper.from(mock(PdxInstance.class)).resolveType("non.existing.class.Name");
+	}
+
 	@Test
 	public void getObjectCallsPdxInstanceGetObjectWhenObjectMapperIsNotPresent() {
 
@@ -794,6 +884,19 @@ public class PdxInstanceWrapperUnitTests {
 
 	interface Person { }
 
+	static class Book {
+
+		public Long id;
+		public List<String> authors;
+		public Publisher publisher;
+		public String title;
+
+	}
+
+	static class Publisher {
+		public String name;
+	}
+
 	interface SendablePdxInstance extends PdxInstance, Sendable { }
 
 }
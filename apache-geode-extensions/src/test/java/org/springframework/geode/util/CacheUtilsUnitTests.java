@@ -18,6 +18,7 @@ package org.springframework.geode.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -28,21 +29,32 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.Test;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
 
 /**
  * Unit Tests for {@link CacheUtils}.
@@ -58,7 +70,7 @@ import org.apache.geode.internal.cache.GemFireCacheImpl;
  * @see org.apache.geode.cache.client.ClientCache
  * @since 1.3.0
  */
-@SuppressWarnings("unchecked")
+@SuppressWarnings({ "rawtypes", "unchecked" })
 public class CacheUtilsUnitTests {
 
 	@Test
@@ -242,6 +254,272 @@ public class CacheUtilsUnitTests {
 		}
 	}
 
+	private Region<Object, Object> mockProxyRegion(Map<Object, Object> keysValues) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(mock(ClientCache.class)).when(mockRegion).getRegionService();
+		doReturn(new TreeSet<>(keysValues.keySet())).when(mockRegion).keySetOnServer();
+		doReturn(DataPolicy.EMPTY).when(mockRegionAttributes).getDataPolicy();
+
+		doAnswer(invocation -> {
+
+			Map<Object, Object> result = new HashMap<>();
+
+			for (Object key : invocation.<Collection<Object>>getArgument(0)) {
+				result.put(key, keysValues.get(key));
+			}
+
+			return result;
+
+		}).when(mockRegion).getAll(any());
+
+		return mockRegion;
+	}
+
+	@Test
+	public void streamValuesFromClientProxyRegionFetchesValuesInBatches() {
+
+		Map<Object, Object> keysValues = new HashMap<>();
+
+		for (int key = 1; key <= 5; key++) {
+			keysValues.put(key, "value" + key);
+		}
+
+		Region<Object, Object> mockRegion = mockProxyRegion(keysValues);
+
+		Stream<Object> values = CacheUtils.streamValues(mockRegion, 2, false, null);
+
+		verify(mockRegion, never()).getAll(any());
+
+		assertThat(values).containsExactly("value1", "value2", "value3", "value4", "value5");
+
+		verify(mockRegion, times(1)).keySetOnServer();
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(1, 2)));
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(3, 4)));
+		verify(mockRegion, times(1)).getAll(eq(Collections.singletonList(5)));
+		verify(mockRegion, never()).values();
+	}
+
+	@Test
+	public void streamValuesFromClientProxyRegionOnlyFetchesBatchesThatAreConsumed() {
+
+		Map<Object, Object> keysValues = new HashMap<>();
+
+		for (int key = 1; key <= 5; key++) {
+			keysValues.put(key, "value" + key);
+		}
+
+		Region<Object, Object> mockRegion = mockProxyRegion(keysValues);
+
+		assertThat(CacheUtils.streamValues(mockRegion, 2, false, null).findFirst()).contains("value1");
+
+		verify(mockRegion, times(1)).getAll(any());
+	}
+
+	@Test
+	public void streamValuesInParallelFromClientProxyRegion() {
+
+		Map<Object, Object> keysValues = new HashMap<>();
+
+		for (int key = 1; key <= 100; key++) {
+			keysValues.put(key, key);
+		}
+
+		Region<Object, Object> mockRegion = mockProxyRegion(keysValues);
+
+		Stream<Object> values = CacheUtils.streamValues(mockRegion, 10, true, null);
+
+		assertThat(values.isParallel()).isTrue();
+		assertThat(values.collect(Collectors.toList())).containsExactlyInAnyOrder(keysValues.values().toArray());
+
+		verify(mockRegion, times(10)).getAll(any());
+	}
+
+	@Test
+	public void streamValuesFromClientProxyRegionSkipsNullValues() {
+
+		Map<Object, Object> keysValues = new HashMap<>();
+
+		keysValues.put(1, "one");
+		keysValues.put(2, null);
+		keysValues.put(3, "three");
+
+		assertThat(CacheUtils.streamValues(mockProxyRegion(keysValues))).containsExactly("one", "three");
+	}
+
+	@Test
+	public void streamValuesFromClientProxyRegionWithNonPositiveBatchSizeUsesDefaultBatchSize() {
+
+		Map<Object, Object> keysValues = new HashMap<>();
+
+		keysValues.put(1, "one");
+		keysValues.put(2, "two");
+
+		Region<Object, Object> mockRegion = mockProxyRegion(keysValues);
+
+		assertThat(CacheUtils.streamValues(mockRegion, 0, false, null)).containsExactly("one", "two");
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList(1, 2)));
+	}
+
+	@Test
+	public void collectValuesFromClientProxyRegionWithPredicate() {
+
+		Map<Object, Object> keysValues = new HashMap<>();
+
+		keysValues.put(1, "one");
+		keysValues.put(2, "two");
+		keysValues.put(3, "three");
+
+		assertThat(CacheUtils.collectValues(mockProxyRegion(keysValues), value -> value.toString().startsWith("t")))
+			.containsExactly("two", "three");
+	}
+
+	@Test
+	public void collectValuesFromPeerRegionWithPredicate() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(mock(Cache.class)).when(mockRegion).getRegionService();
+		doReturn(Arrays.asList("one", "two", "three")).when(mockRegion).values();
+
+		assertThat(CacheUtils.collectValues(mockRegion, value -> value.toString().length() > 3))
+			.containsExactly("three");
+
+		verify(mockRegion, times(1)).values();
+		verify(mockRegion, never()).keySetOnServer();
+	}
+
+	@Test
+	public void streamLocalPrimaryValuesFromPartitionRegionDataStoreStreamsLocalPrimaryData() {
+
+		PartitionedRegion mockRegion = mock(PartitionedRegion.class);
+
+		PartitionedRegionDataStore mockDataStore = mock(PartitionedRegionDataStore.class);
+
+		PartitionAttributes<Object, Object> mockPartitionAttributes = mock(PartitionAttributes.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(mockPartitionAttributes).when(mockRegionAttributes).getPartitionAttributes();
+		doReturn(100).when(mockPartitionAttributes).getLocalMaxMemory();
+		doReturn(mockDataStore).when(mockRegion).getDataStore();
+		doReturn(Collections.emptySet()).when(mockDataStore).getAllLocalPrimaryBucketIds();
+
+		Region<Object, Object> region = (Region) mockRegion;
+
+		assertThat(CacheUtils.streamLocalPrimaryValues(region, 10)).isEmpty();
+
+		verify(mockDataStore, times(1)).getAllLocalPrimaryBucketIds();
+		verify(mockRegion, never()).values();
+	}
+
+	@Test
+	public void streamLocalPrimaryValuesFromPartitionRegionAccessorStreamsAllValues() {
+
+		PartitionedRegion mockRegion = mock(PartitionedRegion.class);
+
+		PartitionAttributes<Object, Object> mockPartitionAttributes = mock(PartitionAttributes.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(mockPartitionAttributes).when(mockRegionAttributes).getPartitionAttributes();
+		doReturn(0).when(mockPartitionAttributes).getLocalMaxMemory();
+		doReturn(Arrays.asList("one", "two")).when(mockRegion).values();
+
+		Region<Object, Object> region = (Region) mockRegion;
+
+		assertThat(CacheUtils.streamLocalPrimaryValues(region, 10)).containsExactly(Arrays.asList("one", "two"));
+
+		verify(mockRegion, times(1)).values();
+		verify(mockRegion, never()).getDataStore();
+	}
+
+	@Test
+	public void streamLocalPrimaryValuesFromNonPartitionRegionStreamsAllValues() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(Arrays.asList("one", "two")).when(mockRegion).values();
+
+		assertThat(CacheUtils.streamLocalPrimaryValues(mockRegion, 10)).containsExactly(Arrays.asList("one", "two"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void streamLocalPrimaryValuesFromNullRegion() {
+
+		try {
+			CacheUtils.streamLocalPrimaryValues(null, 10);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Argument must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void segmentSpliteratorStreamsSegmentsOfAtMostSegmentSizeValues() {
+
+		Iterator<Object> values = Arrays.<Object>asList(1, 2, null, 3, 4, 5).iterator();
+
+		List<Collection<Object>> segments =
+			StreamSupport.stream(new CacheUtils.SegmentSpliterator<>(values, 2), false).collect(Collectors.toList());
+
+		assertThat(segments).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5));
+	}
+
+	@Test
+	public void segmentSpliteratorSplitsOffOneSegmentAtATime() {
+
+		Iterator<Object> values = Arrays.<Object>asList(1, 2, 3).iterator();
+
+		Spliterator<Collection<Object>> spliterator = new CacheUtils.SegmentSpliterator<>(values, 2);
+
+		Spliterator<Collection<Object>> split = spliterator.trySplit();
+
+		assertThat(split).isNotNull();
+		assertThat(StreamSupport.stream(split, false)).containsExactly(Arrays.asList(1, 2));
+		assertThat(StreamSupport.stream(spliterator, false)).containsExactly(Collections.singletonList(3));
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	public void segmentSpliteratorProcessesAllSegmentsInParallel() {
+
+		List<Integer> values = IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+
+		Set<Integer> collectedValues =
+			StreamSupport.stream(new CacheUtils.SegmentSpliterator<>(values.iterator(), 7), true)
+				.flatMap(Collection::stream)
+				.collect(Collectors.toSet());
+
+		assertThat(collectedValues).containsExactlyInAnyOrderElementsOf(values);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void streamValuesWithNullRegionThrowsIllegalArgumentException() {
+
+		try {
+			CacheUtils.streamValues(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Argument must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test
 	public void isClientCacheWithClientCache() {
 		assertThat(CacheUtils.isClientCache(mock(ClientCache.class))).isTrue();
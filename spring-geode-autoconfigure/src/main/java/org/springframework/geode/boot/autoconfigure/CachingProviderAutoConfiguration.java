@@ -17,6 +17,7 @@ package org.springframework.geode.boot.autoconfigure;
 
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,14 +33,19 @@ import org.springframework.boot.autoconfigure.cache.CacheProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.cache.GemfireCacheManager;
 import org.springframework.data.gemfire.cache.config.EnableGemfireCaching;
+import org.springframework.geode.cache.NearCachingCacheManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -47,6 +53,11 @@ import org.springframework.util.StringUtils;
  * Spring Boot {@link EnableAutoConfiguration auto-configuration} for Spring's Cache Abstraction
  * using Apache Geode as the caching provider.
  *
+ * When the {@literal spring.cache.gemfire.near-cache.enabled} property is set to {@literal true},
+ * a {@link NearCachingCacheManager} decorating the {@link GemfireCacheManager} is declared as
+ * the {@link Primary primary} {@link CacheManager}, adding a bounded, local tier in front of
+ * each {@literal client} {@link org.apache.geode.cache.Region} used as a cache.
+ *
  * @author John Blum
  * @see javax.annotation.PostConstruct
  * @see org.apache.geode.cache.GemFireCache
@@ -58,6 +69,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.cache.GemfireCacheManager
  * @see org.springframework.data.gemfire.cache.config.EnableGemfireCaching
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
+ * @see org.springframework.geode.cache.NearCachingCacheManager
  * @since 1.0.0
  */
 @Configuration
@@ -74,6 +86,10 @@ public class CachingProviderAutoConfiguration {
 
 	protected static final String SPRING_CACHE_TYPE_PROPERTY = "spring.cache.type";
 
+	protected static final String NEAR_CACHE_ENABLED_PROPERTY = "spring.cache.gemfire.near-cache.enabled";
+	protected static final String NEAR_CACHE_MAXIMUM_SIZE_PROPERTY = "spring.cache.gemfire.near-cache.maximum-size";
+	protected static final String NEAR_CACHE_TIME_TO_LIVE_PROPERTY = "spring.cache.gemfire.near-cache.time-to-live";
+
 	private final CacheManagerCustomizers cacheManagerCustomizers;
 
 	private final CacheProperties cacheProperties;
@@ -110,6 +126,22 @@ public class CachingProviderAutoConfiguration {
 			.ifPresent(cacheManagerCustomizers -> cacheManagerCustomizers.customize(getCacheManager()));
 	}
 
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = NEAR_CACHE_ENABLED_PROPERTY, havingValue = "true")
+	NearCachingCacheManager nearCachingCacheManager(GemfireCacheManager cacheManager, Environment environment) {
+
+		int maximumSize = environment.getProperty(NEAR_CACHE_MAXIMUM_SIZE_PROPERTY, Integer.class,
+			NearCachingCacheManager.DEFAULT_MAXIMUM_SIZE);
+
+		Duration timeToLive = environment.getProperty(NEAR_CACHE_TIME_TO_LIVE_PROPERTY, Duration.class,
+			NearCachingCacheManager.DEFAULT_TIME_TO_LIVE);
+
+		return new NearCachingCacheManager(cacheManager)
+			.withMaximumSize(maximumSize)
+			.withTimeToLive(timeToLive);
+	}
+
 	public static class SpringCacheTypeCondition implements Condition {
 
 		@Override
@@ -40,8 +40,10 @@ import org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRe
 import org.springframework.geode.cache.SimpleCacheResolver;
 import org.springframework.geode.data.AbstractCacheDataImporterExporter;
 import org.springframework.geode.data.CacheDataImporterExporter;
+import org.springframework.geode.data.binary.BinaryCacheDataImporterExporter;
 import org.springframework.geode.data.json.JsonCacheDataImporterExporter;
 import org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -65,6 +67,7 @@ import org.springframework.lang.Nullable;
  * @see org.springframework.data.gemfire.CacheFactoryBean
  * @see org.springframework.geode.boot.autoconfigure.support.PdxInstanceWrapperRegionAspect
  * @see org.springframework.geode.data.CacheDataImporterExporter
+ * @see org.springframework.geode.data.binary.BinaryCacheDataImporterExporter
  * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
  * @see org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter
  * @since 1.3.0
@@ -79,20 +82,45 @@ public class DataImportExportAutoConfiguration {
 	protected static final String PDX_READ_SERIALIZED_PROPERTY = "spring.data.gemfire.pdx.read-serialized";
 	protected static final String REGION_ADVICE_ENABLED_PROPERTY =
 		"spring.boot.data.gemfire.cache.region.advice.enabled";
+	protected static final String REGION_ADVICE_REGIONS_PROPERTY =
+		"spring.boot.data.gemfire.cache.region.advice.regions";
 
 	@Bean
-	CacheDataImporterExporter jsonCacheDataImporterExporter() {
-		return new LifecycleAwareCacheDataImporterExporter(newCacheDataImporterExporter());
+	CacheDataImporterExporter jsonCacheDataImporterExporter(Environment environment) {
+		return new LifecycleAwareCacheDataImporterExporter(newCacheDataImporterExporter(environment));
+	}
+
+	protected CacheDataImporterExporter newCacheDataImporterExporter(@Nullable Environment environment) {
+
+		return isBinaryCacheDataFormat(environment)
+			? new BinaryCacheDataImporterExporter()
+			: newCacheDataImporterExporter();
 	}
 
 	protected CacheDataImporterExporter newCacheDataImporterExporter() {
 		return new JsonCacheDataImporterExporter();
 	}
 
+	private boolean isBinaryCacheDataFormat(@Nullable Environment environment) {
+
+		return Optional.ofNullable(environment)
+			.map(env -> env.getProperty(CacheDataImporterExporterReference.FORMAT_PROPERTY_NAME))
+			.map(String::trim)
+			.filter(BinaryCacheDataImporterExporter.BINARY_CACHE_DATA_FORMAT::equalsIgnoreCase)
+			.isPresent();
+	}
+
 	@Bean
 	@Conditional(RegionAdviceConditions.class)
-	PdxInstanceWrapperRegionAspect pdxInstanceWrapperAspect() {
-		return new PdxInstanceWrapperRegionAspect();
+	PdxInstanceWrapperRegionAspect pdxInstanceWrapperAspect(Environment environment) {
+		return PdxInstanceWrapperRegionAspect.forRegions(resolveAdvisedRegionNames(environment));
+	}
+
+	private @Nullable String[] resolveAdvisedRegionNames(@Nullable Environment environment) {
+
+		return Optional.ofNullable(environment)
+			.map(env -> env.getProperty(REGION_ADVICE_REGIONS_PROPERTY, String[].class))
+			.orElse(null);
 	}
 
 	static class RegionAdviceConditions extends AnyNestedCondition {
@@ -156,9 +184,14 @@ public class DataImportExportAutoConfiguration {
 		}
 	}
 
-	static abstract class CacheDataImporterExporterReference extends AbstractCacheDataImporterExporter {
+	static abstract class CacheDataImporterExporterReference extends ResourceCapableCacheDataImporterExporter {
+
 		static final String EXPORT_ENABLED_PROPERTY_NAME =
 			AbstractCacheDataImporterExporter.CACHE_DATA_EXPORT_ENABLED_PROPERTY_NAME;
+
+		static final String FORMAT_PROPERTY_NAME =
+			ResourceCapableCacheDataImporterExporter.CACHE_DATA_FORMAT_PROPERTY_NAME;
+
 	}
 
 	static class DisableGemFireShutdownHookCondition extends AbstractDisableGemFireShutdownHookSupport
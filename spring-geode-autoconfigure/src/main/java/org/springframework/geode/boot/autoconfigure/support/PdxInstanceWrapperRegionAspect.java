@@ -15,9 +15,16 @@
  */
 package org.springframework.geode.boot.autoconfigure.support;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.geode.cache.CacheStatistics;
@@ -26,7 +33,9 @@ import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.geode.pdx.PdxInstanceWrapper;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -39,6 +48,13 @@ import org.aspectj.lang.annotation.Pointcut;
  * Specifically, this {@link Aspect} wraps all {@link PdxInstance} objects returned from cache {@link Region}
  * read data access operations inside a new instance of {@link PdxInstanceWrapper}.
  *
+ * {@link Collection Collections} and {@link Map Maps} returned from {@link Region#values()}
+ * and {@link Region#getAll(Collection)} are not copied; they are returned as views wrapping
+ * each {@link PdxInstance} on access.
+ *
+ * Advice can be restricted to a specific set of {@link Region Regions}, identified by
+ * {@link Region#getName() name} or {@link Region#getFullPath() path}.
+ *
  * @author John Blum
  * @see java.util.Map
  * @see org.apache.geode.cache.Region
@@ -61,6 +77,84 @@ public class PdxInstanceWrapperRegionAspect {
 		return value instanceof Map ? (Map<?, ?>) value : Collections.emptyMap();
 	}
 
+	private final Set<String> regionNames;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceWrapperRegionAspect} advising all {@link Region Regions}.
+	 */
+	public PdxInstanceWrapperRegionAspect() {
+		this(Collections.emptySet());
+	}
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceWrapperRegionAspect} advising only the {@link Region Regions}
+	 * identified by the given {@link String names} or {@link Region#getFullPath() paths}.
+	 *
+	 * @param regionNames {@link Set} of {@link Region} names or paths to advise; if {@literal null} or empty,
+	 * then all {@link Region Regions} are advised.
+	 */
+	public PdxInstanceWrapperRegionAspect(@Nullable Set<String> regionNames) {
+
+		this.regionNames = regionNames != null
+			? Collections.unmodifiableSet(regionNames.stream()
+				.filter(StringUtils::hasText)
+				.map(String::trim)
+				.collect(Collectors.toSet()))
+			: Collections.emptySet();
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link PdxInstanceWrapperRegionAspect} advising only
+	 * the {@link Region Regions} identified by the given {@link String names} or {@link Region#getFullPath() paths}.
+	 *
+	 * @param regionNames array of {@link Region} names or paths to advise; if {@literal null} or empty,
+	 * then all {@link Region Regions} are advised.
+	 * @return a new {@link PdxInstanceWrapperRegionAspect}.
+	 * @see #PdxInstanceWrapperRegionAspect(Set)
+	 */
+	public static PdxInstanceWrapperRegionAspect forRegions(@Nullable String... regionNames) {
+
+		return new PdxInstanceWrapperRegionAspect(regionNames != null
+			? new HashSet<>(Arrays.asList(regionNames))
+			: Collections.emptySet());
+	}
+
+	/**
+	 * Returns the {@link Set} of {@link Region} names or paths advised by this {@link Aspect}.
+	 *
+	 * @return the {@link Set} of {@link Region} names or paths advised by this {@link Aspect};
+	 * an empty {@link Set} indicates all {@link Region Regions} are advised.
+	 */
+	public @NonNull Set<String> getRegionNames() {
+		return this.regionNames;
+	}
+
+	/**
+	 * Determines whether the {@link Region} targeted by the given {@link ProceedingJoinPoint} is advised.
+	 *
+	 * @param joinPoint {@link ProceedingJoinPoint} for the {@link Region} data access operation.
+	 * @return a boolean value indicating whether the targeted {@link Region} is advised.
+	 */
+	protected boolean isAdvised(@NonNull ProceedingJoinPoint joinPoint) {
+
+		Set<String> regionNames = getRegionNames();
+
+		if (regionNames.isEmpty()) {
+			return true;
+		}
+
+		Object target = joinPoint.getTarget();
+
+		if (target instanceof Region) {
+
+			Region<?, ?> region = (Region<?, ?>) target;
+
+			return regionNames.contains(region.getName()) || regionNames.contains(region.getFullPath());
+		}
+
+		return false;
+	}
+
 	@Pointcut("target(org.apache.geode.cache.Region)")
 	private void regionPointcut() { }
 
@@ -82,31 +176,198 @@ public class PdxInstanceWrapperRegionAspect {
 
 	@Around("regionPointcut() && regionGetPointcut()")
 	public Object regionGetAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
-		return PdxInstanceWrapper.from(joinPoint.proceed());
+
+		return isAdvised(joinPoint)
+			? PdxInstanceWrapper.from(joinPoint.proceed())
+			: joinPoint.proceed();
 	}
 
 	@Around("regionPointcut() && regionGetAllPointcut()")
 	public Object regionGetAllAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
-		return asMap(joinPoint.proceed()).entrySet().stream()
-			.collect(Collectors.toMap(Map.Entry::getKey, mapEntry -> PdxInstanceWrapper.from(mapEntry.getValue())));
+
+		return isAdvised(joinPoint)
+			? new PdxInstanceWrappingMap<>(asMap(joinPoint.proceed()))
+			: joinPoint.proceed();
 	}
 
 	@Around("regionPointcut() && regionGetEntryPointcut()")
 	public Object regionGetEntryAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
-		return RegionEntryWrapper.from(joinPoint.proceed());
+
+		return isAdvised(joinPoint)
+			? RegionEntryWrapper.from(joinPoint.proceed())
+			: joinPoint.proceed();
 	}
 
 	@Around("regionPointcut() && regionSelectValuePointcut()")
 	public Object regionSelectValueAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
-		return PdxInstanceWrapper.from(joinPoint.proceed());
+
+		return isAdvised(joinPoint)
+			? PdxInstanceWrapper.from(joinPoint.proceed())
+			: joinPoint.proceed();
 	}
 
 	@Around("regionPointcut() && regionValuesPointcut()")
 	public Object regionValuesAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
 
-		return asCollection(joinPoint.proceed()).stream()
-			.map(PdxInstanceWrapper::from)
-			.collect(Collectors.toList());
+		return isAdvised(joinPoint)
+			? new PdxInstanceWrappingCollection(asCollection(joinPoint.proceed()))
+			: joinPoint.proceed();
+	}
+
+	/**
+	 * A {@link Collection} view of a {@link Collection} of {@link Region} values wrapping each {@link PdxInstance}
+	 * in a {@link PdxInstanceWrapper} as the value is accessed.
+	 */
+	public static class PdxInstanceWrappingCollection extends AbstractCollection<Object> {
+
+		private final Collection<?> delegate;
+
+		protected PdxInstanceWrappingCollection(@NonNull Collection<?> delegate) {
+
+			Assert.notNull(delegate, "Collection must not be null");
+
+			this.delegate = delegate;
+		}
+
+		protected @NonNull Collection<?> getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public boolean contains(Object value) {
+
+			return getDelegate().contains(value instanceof PdxInstance
+				? PdxInstanceWrapper.unwrap((PdxInstance) value)
+				: value);
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+
+			Iterator<?> iterator = getDelegate().iterator();
+
+			return new Iterator<Object>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Object next() {
+					return PdxInstanceWrapper.from(iterator.next());
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return getDelegate().size();
+		}
+	}
+
+	/**
+	 * A {@link Map} view of a {@link Map} of {@link Region} keys and values wrapping each {@link PdxInstance} value
+	 * in a {@link PdxInstanceWrapper} as the value is accessed.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 */
+	public static class PdxInstanceWrappingMap<K> extends AbstractMap<K, Object> {
+
+		private final Map<K, ?> delegate;
+
+		private transient Set<Map.Entry<K, Object>> entrySet;
+
+		protected PdxInstanceWrappingMap(@NonNull Map<K, ?> delegate) {
+
+			Assert.notNull(delegate, "Map must not be null");
+
+			this.delegate = delegate;
+		}
+
+		protected @NonNull Map<K, ?> getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return getDelegate().containsKey(key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			return PdxInstanceWrapper.from(getDelegate().get(key));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object put(K key, Object value) {
+			return PdxInstanceWrapper.from(((Map<K, Object>) getDelegate()).put(key, value));
+		}
+
+		@Override
+		public Object remove(Object key) {
+			return PdxInstanceWrapper.from(getDelegate().remove(key));
+		}
+
+		@Override
+		public int size() {
+			return getDelegate().size();
+		}
+
+		@Override
+		public Set<Map.Entry<K, Object>> entrySet() {
+
+			Set<Map.Entry<K, Object>> entrySet = this.entrySet;
+
+			if (entrySet == null) {
+
+				entrySet = new AbstractSet<Map.Entry<K, Object>>() {
+
+					@Override
+					public Iterator<Map.Entry<K, Object>> iterator() {
+
+						Iterator<? extends Map.Entry<K, ?>> iterator = getDelegate().entrySet().iterator();
+
+						return new Iterator<Map.Entry<K, Object>>() {
+
+							@Override
+							public boolean hasNext() {
+								return iterator.hasNext();
+							}
+
+							@Override
+							public Map.Entry<K, Object> next() {
+
+								Map.Entry<K, ?> entry = iterator.next();
+
+								return new SimpleImmutableEntry<>(entry.getKey(),
+									PdxInstanceWrapper.from(entry.getValue()));
+							}
+
+							@Override
+							public void remove() {
+								iterator.remove();
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return getDelegate().size();
+					}
+				};
+
+				this.entrySet = entrySet;
+			}
+
+			return entrySet;
+		}
 	}
 
 	public static class RegionEntryWrapper<K, V> implements Region.Entry<K, V> {
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.cache.GemfireCacheManager;
+import org.springframework.data.gemfire.config.annotation.EnableCachingDefinedRegions;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.data.gemfire.tests.mock.annotation.EnableGemFireMockObjects;
+import org.springframework.geode.boot.autoconfigure.CachingProviderAutoConfiguration;
+import org.springframework.geode.cache.NearCachingCacheManager;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import example.test.service.TestCacheableService;
+
+/**
+ * Unit Tests for {@link CachingProviderAutoConfiguration} with near caching enabled
+ * using Mock Apache Geode {@link Object Objects}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.data.gemfire.tests.mock.annotation.EnableGemFireMockObjects
+ * @see org.springframework.geode.boot.autoconfigure.CachingProviderAutoConfiguration
+ * @see org.springframework.geode.cache.NearCachingCacheManager
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 1.4.0
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+	properties = {
+		"spring.cache.gemfire.near-cache.enabled=true",
+		"spring.cache.gemfire.near-cache.maximum-size=100",
+		"spring.cache.gemfire.near-cache.time-to-live=30s"
+	},
+	webEnvironment = SpringBootTest.WebEnvironment.NONE
+)
+@SuppressWarnings("unused")
+public class AutoConfiguredNearCachingUnitTests extends IntegrationTestsSupport {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private ClientCache clientCache;
+
+	@Autowired
+	private GemfireCacheManager gemfireCacheManager;
+
+	@Autowired
+	private TestCacheableService cacheableService;
+
+	@Before
+	public void setup() {
+
+		assertThat(this.clientCache).isNotNull();
+		assertThat(this.gemfireCacheManager).isNotNull();
+		assertThat(this.cacheableService).isNotNull();
+	}
+
+	@Test
+	public void nearCachingCacheManagerIsPrimaryCacheManager() {
+
+		assertThat(this.cacheManager).isInstanceOf(NearCachingCacheManager.class);
+		assertThat(this.cacheManager).isNotSameAs(this.gemfireCacheManager);
+		assertThat(((NearCachingCacheManager) this.cacheManager).getMaximumSize()).isEqualTo(100);
+		assertThat(((NearCachingCacheManager) this.cacheManager).getTimeToLive()).isEqualTo(Duration.ofSeconds(30L));
+	}
+
+	@Test
+	public void cachingIsConfiguredAndWorkingCorrectly() {
+
+		Number randomNumber = this.cacheableService.getRandomNumber("A");
+
+		assertThat(randomNumber).isNotNull();
+		assertThat(this.cacheableService.isCacheMiss()).isTrue();
+
+		Number sameRandomNumber = this.cacheableService.getRandomNumber("A");
+
+		assertThat(sameRandomNumber).isEqualTo(randomNumber);
+		assertThat(this.cacheableService.isCacheMiss()).isFalse();
+
+		assertThat(this.cacheableService.getRandomNumber("A")).isEqualTo(randomNumber);
+		assertThat(this.cacheableService.isCacheMiss()).isFalse();
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration
+	@EnableCachingDefinedRegions
+	@EnableGemFireMockObjects
+	static class TestConfiguration {
+
+		@Bean
+		TestCacheableService testCacheableService() {
+			return new TestCacheableService();
+		}
+	}
+}
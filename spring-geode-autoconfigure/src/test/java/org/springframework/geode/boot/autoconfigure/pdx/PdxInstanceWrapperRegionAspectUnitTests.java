@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -217,6 +219,144 @@ public class PdxInstanceWrapperRegionAspectUnitTests {
 		verifyNoInteractions(mockPdxInstance);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionValuesAdviceReturnsLazyView() throws Throwable {
+
+		ProceedingJoinPoint mockJointPoint = mock(ProceedingJoinPoint.class);
+
+		Collection<Object> mockRegionValues = mock(Collection.class);
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(2).when(mockRegionValues).size();
+		doReturn(Arrays.asList("TEST", mockPdxInstance).iterator()).when(mockRegionValues).iterator();
+		doReturn(mockRegionValues).when(mockJointPoint).proceed();
+
+		Collection<Object> result = (Collection<Object>) this.aspect.regionValuesAdvice(mockJointPoint);
+
+		assertThat(result).isInstanceOf(PdxInstanceWrapperRegionAspect.PdxInstanceWrappingCollection.class);
+		assertThat(result.size()).isEqualTo(2);
+
+		verify(mockRegionValues, times(1)).size();
+		verify(mockRegionValues, never()).iterator();
+
+		Iterator<Object> iterator = result.iterator();
+
+		assertThat(iterator.next()).isEqualTo("TEST");
+
+		Object value = iterator.next();
+
+		assertThat(value).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(((PdxInstanceWrapper) value).getDelegate()).isEqualTo(mockPdxInstance);
+		assertThat(iterator.hasNext()).isFalse();
+
+		verify(mockRegionValues, times(1)).iterator();
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionGetAllAdviceReturnsLazyViewToleratingNullValues() throws Throwable {
+
+		ProceedingJoinPoint mockJointPoint = mock(ProceedingJoinPoint.class);
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Map<Object, Object> map = new HashMap<>();
+
+		map.put(1, null);
+		map.put(2, mockPdxInstance);
+
+		doReturn(map).when(mockJointPoint).proceed();
+
+		Map<Object, Object> result = (Map<Object, Object>) this.aspect.regionGetAllAdvice(mockJointPoint);
+
+		assertThat(result).isInstanceOf(PdxInstanceWrapperRegionAspect.PdxInstanceWrappingMap.class);
+		assertThat(result).hasSize(2);
+		assertThat(result.containsKey(1)).isTrue();
+		assertThat(result.containsKey(3)).isFalse();
+		assertThat(result.get(1)).isNull();
+		assertThat(result.get(2)).isInstanceOf(PdxInstanceWrapper.class);
+
+		for (Map.Entry<Object, Object> entry : result.entrySet()) {
+			if (Integer.valueOf(2).equals(entry.getKey())) {
+				assertThat(entry.getValue()).isInstanceOf(PdxInstanceWrapper.class);
+				assertThat(((PdxInstanceWrapper) entry.getValue()).getDelegate()).isEqualTo(mockPdxInstance);
+			}
+			else {
+				assertThat(entry.getValue()).isNull();
+			}
+		}
+
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void regionGetAllAdviceWithNullReturnsEmptyMap() throws Throwable {
+
+		ProceedingJoinPoint mockJointPoint = mock(ProceedingJoinPoint.class);
+
+		doReturn(null).when(mockJointPoint).proceed();
+
+		assertThat((Map<?, ?>) this.aspect.regionGetAllAdvice(mockJointPoint)).isEmpty();
+	}
+
+	@Test
+	public void forRegionsAdvisesOnlyNamedRegions() throws Throwable {
+
+		PdxInstanceWrapperRegionAspect aspect = PdxInstanceWrapperRegionAspect.forRegions(" Customers ", "  ");
+
+		assertThat(aspect.getRegionNames()).containsExactly("Customers");
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<?, ?> mockCustomersRegion = mock(Region.class);
+		Region<?, ?> mockOrdersRegion = mock(Region.class);
+
+		doReturn("Customers").when(mockCustomersRegion).getName();
+		doReturn("Orders").when(mockOrdersRegion).getName();
+		doReturn("/Orders").when(mockOrdersRegion).getFullPath();
+
+		ProceedingJoinPoint mockCustomersJoinPoint = mock(ProceedingJoinPoint.class);
+		ProceedingJoinPoint mockOrdersJoinPoint = mock(ProceedingJoinPoint.class);
+
+		doReturn(mockPdxInstance).when(mockCustomersJoinPoint).proceed();
+		doReturn(mockCustomersRegion).when(mockCustomersJoinPoint).getTarget();
+		doReturn(mockPdxInstance).when(mockOrdersJoinPoint).proceed();
+		doReturn(mockOrdersRegion).when(mockOrdersJoinPoint).getTarget();
+
+		assertThat(aspect.regionGetAdvice(mockCustomersJoinPoint)).isInstanceOf(PdxInstanceWrapper.class);
+		assertThat(aspect.regionGetAdvice(mockOrdersJoinPoint)).isSameAs(mockPdxInstance);
+	}
+
+	@Test
+	public void forRegionsAdvisesRegionByFullPath() throws Throwable {
+
+		PdxInstanceWrapperRegionAspect aspect = PdxInstanceWrapperRegionAspect.forRegions("/Parent/Child");
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn("Child").when(mockRegion).getName();
+		doReturn("/Parent/Child").when(mockRegion).getFullPath();
+
+		ProceedingJoinPoint mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		doReturn(mockPdxInstance).when(mockJoinPoint).proceed();
+		doReturn(mockRegion).when(mockJoinPoint).getTarget();
+
+		assertThat(aspect.regionSelectValueAdvice(mockJoinPoint)).isInstanceOf(PdxInstanceWrapper.class);
+	}
+
+	@Test
+	public void defaultAspectAdvisesAllRegions() {
+
+		assertThat(this.aspect.getRegionNames()).isEmpty();
+		assertThat(PdxInstanceWrapperRegionAspect.forRegions((String[]) null).getRegionNames()).isEmpty();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void constructRegionEntryWrapperWithRegionEntry() {
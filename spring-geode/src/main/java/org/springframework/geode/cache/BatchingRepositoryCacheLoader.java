@@ -0,0 +1,454 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryCacheLoader} that coalesces concurrent loads for the same key into a single, in-flight
+ * {@link CrudRepository} call and batches concurrent loads for different keys into a single
+ * {@link CrudRepository#findAllById(Iterable)} call.
+ *
+ * The first thread to miss on a key after the current batch has been dispatched waits for the configured
+ * {@link #getBatchWindow() batch window} to collect misses from other threads before querying the backend data source.
+ * The batch window is skipped when no other loads are in flight, so that a lone load on an otherwise idle
+ * {@link CacheLoader} does not pay the batch window latency. A batch is dispatched immediately once it reaches
+ * the configured {@link #getMaxBatchSize() maximum batch size}.
+ *
+ * Since Apache Geode invokes a {@link CacheLoader} once per key, even for {@link Region#getAll(java.util.Collection)},
+ * callers needing to load many keys at once should use {@link #loadAll(Iterable)}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.apache.geode.cache.CacheLoader
+ * @see org.apache.geode.cache.LoaderHelper
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryCacheLoader
+ * @since 1.4.0
+ */
+public class BatchingRepositoryCacheLoader<T, ID> extends RepositoryCacheLoader<T, ID> {
+
+	protected static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+	protected static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(5L);
+
+	private final AtomicLong batchCount = new AtomicLong(0L);
+	private final AtomicLong coalescedLoadCount = new AtomicLong(0L);
+	private final AtomicLong loadCount = new AtomicLong(0L);
+
+	private final ConcurrentMap<ID, CompletableFuture<T>> inFlightLoads = new ConcurrentHashMap<>();
+
+	private volatile Duration batchWindow = DEFAULT_BATCH_WINDOW;
+
+	private final Function<T, ID> identifierResolver;
+
+	private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private final List<ID> pendingKeys = new ArrayList<>();
+
+	/**
+	 * Constructs a new instance of {@link BatchingRepositoryCacheLoader} initialized with the given, required
+	 * {@link CrudRepository} and {@link Function} used to resolve the identifier of an entity returned by
+	 * {@link CrudRepository#findAllById(Iterable)}.
+	 *
+	 * @param repository {@link CrudRepository} used to load entities from the backend data source; must not be null.
+	 * @param identifierResolver {@link Function} used to resolve the identifier of an entity; must not be null.
+	 * @throws IllegalArgumentException if the {@link CrudRepository} or identifier resolver {@link Function}
+	 * is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.util.function.Function
+	 */
+	public BatchingRepositoryCacheLoader(@NonNull CrudRepository<T, ID> repository,
+			@NonNull Function<T, ID> identifierResolver) {
+
+		super(repository);
+
+		Assert.notNull(identifierResolver, "Identifier resolver Function must not be null");
+
+		this.identifierResolver = identifierResolver;
+	}
+
+	/**
+	 * Returns the number of {@link CrudRepository} calls made to load a batch of keys.
+	 *
+	 * @return the number of {@link CrudRepository} calls made to load a batch of keys.
+	 */
+	public long getBatchCount() {
+		return this.batchCount.get();
+	}
+
+	/**
+	 * Returns the {@link Duration} to wait for concurrent loads to be collected into a batch.
+	 *
+	 * @return the {@link Duration} to wait for concurrent loads to be collected into a batch.
+	 */
+	public @NonNull Duration getBatchWindow() {
+		return this.batchWindow;
+	}
+
+	/**
+	 * Returns the number of loads that joined a load already in-flight for the same key.
+	 *
+	 * @return the number of loads that joined a load already in-flight for the same key.
+	 */
+	public long getCoalescedLoadCount() {
+		return this.coalescedLoadCount.get();
+	}
+
+	/**
+	 * Returns the configured {@link Function} used to resolve the identifier of an entity.
+	 *
+	 * @return the configured {@link Function} used to resolve the identifier of an entity.
+	 */
+	protected @NonNull Function<T, ID> getIdentifierResolver() {
+		return this.identifierResolver;
+	}
+
+	/**
+	 * Returns the number of keys requested from this {@link CacheLoader}.
+	 *
+	 * @return the number of keys requested from this {@link CacheLoader}.
+	 */
+	public long getLoadCount() {
+		return this.loadCount.get();
+	}
+
+	/**
+	 * Returns the maximum number of keys loaded in a single {@link CrudRepository} call.
+	 *
+	 * @return the maximum number of keys loaded in a single {@link CrudRepository} call.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Duration} to wait for concurrent loads to be collected
+	 * into a batch.
+	 *
+	 * A {@link Duration#isZero() zero} {@link Duration} disables batching; concurrent loads for the same key
+	 * are still coalesced.
+	 *
+	 * @param batchWindow {@link Duration} to wait for concurrent loads; must not be negative.
+	 * @return this {@link BatchingRepositoryCacheLoader}.
+	 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+	 */
+	public @NonNull BatchingRepositoryCacheLoader<T, ID> withBatchWindow(@NonNull Duration batchWindow) {
+
+		Assert.isTrue(batchWindow != null && !batchWindow.isNegative(),
+			() -> String.format("Batch window [%s] must not be null or negative", batchWindow));
+
+		this.batchWindow = batchWindow;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of keys loaded in a single {@link CrudRepository} call.
+	 *
+	 * @param maxBatchSize maximum number of keys loaded in a single {@link CrudRepository} call;
+	 * must be greater than {@literal 0}.
+	 * @return this {@link BatchingRepositoryCacheLoader}.
+	 * @throws IllegalArgumentException if the maximum batch size is less than {@literal 1}.
+	 */
+	public @NonNull BatchingRepositoryCacheLoader<T, ID> withMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0,
+			() -> String.format("Max batch size [%d] must be greater than 0", maxBatchSize));
+
+		this.maxBatchSize = maxBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected T doLoad(LoaderHelper<ID, T> helper, ID key) throws CacheLoaderException {
+
+		this.loadCount.incrementAndGet();
+
+		CompletableFuture<T> newLoad = new CompletableFuture<>();
+		CompletableFuture<T> inFlightLoad = this.inFlightLoads.putIfAbsent(key, newLoad);
+
+		if (inFlightLoad != null) {
+			this.coalescedLoadCount.incrementAndGet();
+			return await(key, inFlightLoad);
+		}
+
+		List<ID> fullBatch = null;
+
+		boolean leader;
+
+		synchronized (this.pendingKeys) {
+
+			leader = this.pendingKeys.isEmpty();
+
+			this.pendingKeys.add(key);
+
+			if (this.pendingKeys.size() >= getMaxBatchSize()) {
+				fullBatch = drainPendingKeys();
+			}
+		}
+
+		if (fullBatch != null) {
+			loadBatch(fullBatch);
+		}
+		else if (leader) {
+
+			if (hasOtherLoadsInFlight()) {
+				waitForBatchWindow(newLoad);
+			}
+
+			flushPendingKeys();
+		}
+
+		return await(key, newLoad);
+	}
+
+	/**
+	 * Loads all entities with the given keys using as few {@link CrudRepository#findAllById(Iterable)} calls
+	 * as allowed by the configured {@link #getMaxBatchSize() maximum batch size}.
+	 *
+	 * Refresh-ahead is not scheduled for the loaded entities since no {@link Region} is known.
+	 *
+	 * @param keys {@link Iterable} of keys to load.
+	 * @return a {@link Map} of the loaded entities keyed by identifier.
+	 * @throws CacheLoaderException if the entities could not be loaded.
+	 * @see #loadAll(Region, Iterable)
+	 */
+	public @NonNull Map<ID, T> loadAll(@Nullable Iterable<ID> keys) {
+		return loadAll(null, keys);
+	}
+
+	/**
+	 * Loads all entities with the given keys using as few {@link CrudRepository#findAllById(Iterable)} calls
+	 * as allowed by the configured {@link #getMaxBatchSize() maximum batch size}.
+	 *
+	 * Keys already being loaded by another thread are joined rather than reloaded. Keys for which no entity exists
+	 * in the backend data source are not present in the returned {@link Map}. Like {@link #load(LoaderHelper)},
+	 * keys with a cached negative result are not loaded, keys for which no entity exists are remembered
+	 * when {@link #isNegativeCachingEnabled() negative caching} is enabled and a refresh-ahead is scheduled
+	 * for the loaded entities when {@link #isRefreshAheadEnabled() refresh-ahead} is enabled.
+	 *
+	 * @param region {@link Region} in which the loaded entities are cached; used to schedule refresh-ahead.
+	 * @param keys {@link Iterable} of keys to load.
+	 * @return a {@link Map} of the loaded entities keyed by identifier.
+	 * @throws CacheLoaderException if the entities could not be loaded.
+	 * @see #load(LoaderHelper)
+	 */
+	public @NonNull Map<ID, T> loadAll(@Nullable Region<ID, T> region, @Nullable Iterable<ID> keys) {
+
+		Map<ID, CompletableFuture<T>> loads = new LinkedHashMap<>();
+
+		List<ID> keysToLoad = new ArrayList<>();
+
+		for (ID key : keys != null ? keys : Collections.<ID>emptyList()) {
+			if (key != null && !loads.containsKey(key) && !isNegativeResultCached(key)) {
+
+				this.loadCount.incrementAndGet();
+
+				CompletableFuture<T> newLoad = new CompletableFuture<>();
+				CompletableFuture<T> inFlightLoad = this.inFlightLoads.putIfAbsent(key, newLoad);
+
+				if (inFlightLoad != null) {
+					this.coalescedLoadCount.incrementAndGet();
+					loads.put(key, inFlightLoad);
+				}
+				else {
+					keysToLoad.add(key);
+					loads.put(key, newLoad);
+				}
+			}
+		}
+
+		for (int index = 0, size = keysToLoad.size(); index < size; index += getMaxBatchSize()) {
+			loadBatch(new ArrayList<>(keysToLoad.subList(index, Math.min(index + getMaxBatchSize(), size))));
+		}
+
+		Map<ID, T> entities = new LinkedHashMap<>();
+
+		loads.forEach((key, load) -> {
+
+			T entity = await(key, load);
+
+			if (entity == null) {
+				registerNegativeResultEvictingCacheListener(region);
+				cacheNegativeResult(key);
+			}
+			else {
+
+				entities.put(key, entity);
+
+				if (isRefreshAheadEnabled()) {
+					scheduleRefreshAhead(region, key);
+				}
+			}
+		});
+
+		return entities;
+	}
+
+	/**
+	 * Loads the entities with the given keys in a single {@link CrudRepository} call and completes
+	 * all in-flight loads waiting on those keys.
+	 *
+	 * @param keys {@link List} of keys to load.
+	 */
+	protected void loadBatch(@NonNull List<ID> keys) {
+
+		if (!keys.isEmpty()) {
+			try {
+
+				Map<ID, T> entities = findAllById(keys);
+
+				for (ID key : keys) {
+					complete(key).complete(entities.get(key));
+				}
+			}
+			catch (Throwable cause) {
+				for (ID key : keys) {
+					complete(key).completeExceptionally(cause);
+				}
+			}
+		}
+	}
+
+	private Map<ID, T> findAllById(List<ID> keys) {
+
+		this.batchCount.incrementAndGet();
+
+		if (keys.size() == 1) {
+
+			ID key = keys.get(0);
+
+			return getRepository().findById(key)
+				.map(entity -> Collections.singletonMap(key, entity))
+				.orElseGet(Collections::emptyMap);
+		}
+
+		Map<ID, T> entities = new HashMap<>(keys.size());
+
+		for (T entity : getRepository().findAllById(keys)) {
+			if (entity != null) {
+				entities.put(getIdentifierResolver().apply(entity), entity);
+			}
+		}
+
+		return entities;
+	}
+
+	private CompletableFuture<T> complete(ID key) {
+
+		CompletableFuture<T> load = this.inFlightLoads.remove(key);
+
+		return load != null ? load : new CompletableFuture<>();
+	}
+
+	private T await(ID key, CompletableFuture<T> load) {
+
+		try {
+			return load.get();
+		}
+		catch (ExecutionException cause) {
+			throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
+				key, getRepository().getClass().getName()), cause.getCause());
+		}
+		catch (InterruptedException cause) {
+
+			Thread.currentThread().interrupt();
+
+			throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
+				key, getRepository().getClass().getName()), cause);
+		}
+	}
+
+	private boolean hasOtherLoadsInFlight() {
+		return this.inFlightLoads.size() > 1;
+	}
+
+	private List<ID> drainPendingKeys() {
+
+		List<ID> batch = new ArrayList<>(this.pendingKeys);
+
+		this.pendingKeys.clear();
+
+		return batch;
+	}
+
+	private void flushPendingKeys() {
+
+		List<ID> batch;
+
+		synchronized (this.pendingKeys) {
+			batch = drainPendingKeys();
+		}
+
+		for (int index = 0, size = batch.size(); index < size; index += getMaxBatchSize()) {
+			loadBatch(batch.subList(index, Math.min(index + getMaxBatchSize(), size)));
+		}
+	}
+
+	/**
+	 * Waits for the configured {@link #getBatchWindow() batch window} to collect concurrent loads into a batch,
+	 * or until the given load completes, whichever comes first.
+	 *
+	 * @param load {@link CompletableFuture} for the load of the calling thread.
+	 */
+	protected void waitForBatchWindow(@NonNull CompletableFuture<T> load) {
+
+		Duration batchWindow = getBatchWindow();
+
+		if (!batchWindow.isZero()) {
+			try {
+				load.get(batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException | TimeoutException ignore) {
+				// the load either failed and will be reported by await(..) or the batch window elapsed
+			}
+		}
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.wan.EventSequenceID;
+
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventError;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncEventErrorHandler} implementation that records the {@link AsyncEvent} that could not be processed
+ * as a {@link DeadLetter} and then reports the {@link AsyncEvent} as handled.
+ *
+ * This prevents a single poison {@link AsyncEvent} from causing Apache Geode to redeliver the entire batch
+ * over and over. The {@link DeadLetter DeadLetters} can be written to a {@literal dead-letter} {@link Region}
+ * using {@link #toRegion(Region)}, or to any other destination (e.g. a file) using a {@link Consumer}.
+ *
+ * If recording the {@link DeadLetter} fails, then this handler returns {@literal false} so that the
+ * {@link AsyncEvent} is not lost.
+ *
+ * @author John Blum
+ * @see java.util.function.Consumer
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler
+ * @see org.springframework.geode.cache.RetryingAsyncEventErrorHandler
+ * @since 1.4.0
+ */
+public class DeadLetterAsyncEventErrorHandler implements AsyncEventErrorHandler {
+
+	/**
+	 * Factory method used to construct a new {@link DeadLetterAsyncEventErrorHandler} that puts {@link DeadLetter}
+	 * into the given {@literal dead-letter} {@link Region}, keyed by the {@link DeadLetter#getId() id}
+	 * of the {@link DeadLetter}.
+	 *
+	 * Every failed {@link AsyncEvent} is retained in the {@link Region}, even when multiple {@link AsyncEvent AsyncEvents}
+	 * for the same {@link AsyncEvent#getKey() key} fail.
+	 *
+	 * @param deadLetterRegion {@link Region} in which to store the {@link DeadLetter DeadLetters};
+	 * must not be {@literal null}.
+	 * @return a new {@link DeadLetterAsyncEventErrorHandler}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public static @NonNull DeadLetterAsyncEventErrorHandler toRegion(
+			@NonNull Region<Object, DeadLetter> deadLetterRegion) {
+
+		Assert.notNull(deadLetterRegion, "Dead-letter Region must not be null");
+
+		return new DeadLetterAsyncEventErrorHandler(deadLetter -> deadLetterRegion.put(deadLetter.getId(), deadLetter));
+	}
+
+	private final AtomicLong deadLetterCount = new AtomicLong(0L);
+
+	private final Consumer<DeadLetter> deadLetterConsumer;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Constructs a new instance of {@link DeadLetterAsyncEventErrorHandler} initialized with the given,
+	 * required {@link Consumer} used to record {@link DeadLetter DeadLetters}.
+	 *
+	 * @param deadLetterConsumer {@link Consumer} used to record {@link DeadLetter DeadLetters};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Consumer} is {@literal null}.
+	 * @see java.util.function.Consumer
+	 */
+	public DeadLetterAsyncEventErrorHandler(@NonNull Consumer<DeadLetter> deadLetterConsumer) {
+
+		Assert.notNull(deadLetterConsumer, "Dead-letter Consumer must not be null");
+
+		this.deadLetterConsumer = deadLetterConsumer;
+	}
+
+	/**
+	 * Records the {@link AsyncEvent} that could not be processed as a {@link DeadLetter}.
+	 *
+	 * @param eventError {@link AsyncEventError} to handle.
+	 * @return {@literal true} if the {@link DeadLetter} was recorded, otherwise {@literal false}.
+	 */
+	@Override
+	public Boolean apply(@NonNull AsyncEventError eventError) {
+
+		try {
+
+			DeadLetter deadLetter = DeadLetter.from(eventError);
+
+			getDeadLetterConsumer().accept(deadLetter);
+
+			this.deadLetterCount.incrementAndGet();
+
+			getLogger().warn("Recorded dead-letter for AsyncEvent with key [{}] and operation [{}]",
+				deadLetter.getKey(), deadLetter.getOperation(), eventError.getCause());
+
+			return true;
+		}
+		catch (RuntimeException cause) {
+
+			getLogger().error("Failed to record dead-letter for AsyncEvent [{}]", eventError.getEvent(), cause);
+
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the number of {@link DeadLetter DeadLetters} recorded by this handler.
+	 *
+	 * @return the number of {@link DeadLetter DeadLetters} recorded by this handler.
+	 */
+	public long getDeadLetterCount() {
+		return this.deadLetterCount.get();
+	}
+
+	/**
+	 * Returns the {@link Consumer} used to record {@link DeadLetter DeadLetters}.
+	 *
+	 * @return the {@link Consumer} used to record {@link DeadLetter DeadLetters}.
+	 */
+	protected @NonNull Consumer<DeadLetter> getDeadLetterConsumer() {
+		return this.deadLetterConsumer;
+	}
+
+	/**
+	 * Returns the {@link Logger} used to log messages.
+	 *
+	 * @return the {@link Logger} used to log messages.
+	 */
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * {@link DeadLetter} records an {@link AsyncEvent} that could not be processed along with the error.
+	 *
+	 * The {@link #getValue() value} must be serializable by the serialization mechanism (e.g. PDX) configured
+	 * for the {@literal dead-letter} {@link Region}.
+	 */
+	@SuppressWarnings("unused")
+	public static class DeadLetter implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Factory method used to construct a new {@link DeadLetter} from the given {@link AsyncEventError}.
+		 *
+		 * @param eventError {@link AsyncEventError} to record; must not be {@literal null}.
+		 * @return a new {@link DeadLetter}.
+		 * @throws IllegalArgumentException if the {@link AsyncEventError} is {@literal null}.
+		 * @see #resolveId(AsyncEvent, long)
+		 */
+		public static @NonNull DeadLetter from(@NonNull AsyncEventError eventError) {
+
+			Assert.notNull(eventError, "AsyncEventError must not be null");
+
+			AsyncEvent<?, ?> event = eventError.getEvent();
+
+			Operation operation = event.getOperation();
+
+			Region<?, ?> region = event.getRegion();
+
+			Throwable cause = eventError.getCause();
+
+			long timestamp = System.currentTimeMillis();
+
+			return new DeadLetter(resolveId(event, timestamp), region != null ? region.getFullPath() : null,
+				event.getKey(), operation != null ? operation.toString() : null, event.getDeserializedValue(),
+					cause != null ? cause.getClass().getName() : null, cause != null ? cause.getMessage() : null,
+						timestamp);
+		}
+
+		/**
+		 * Resolves an identifier uniquely identifying the failed {@link AsyncEvent}.
+		 *
+		 * The identifier is composed of the {@link AsyncEvent#getKey() key} and the {@link EventSequenceID}
+		 * of the {@link AsyncEvent}, or the given {@code timestamp} when the {@link EventSequenceID} is not available.
+		 * Therefore, the {@link DeadLetter} for one {@link AsyncEvent} does not replace the {@link DeadLetter}
+		 * of another {@link AsyncEvent} for the same key, whereas the redelivery of the same {@link AsyncEvent}
+		 * resolves to the same identifier.
+		 *
+		 * @param event failed {@link AsyncEvent}.
+		 * @param timestamp time at which the {@link AsyncEvent} failed.
+		 * @return the resolved identifier.
+		 * @see org.apache.geode.cache.wan.EventSequenceID
+		 */
+		protected static @NonNull String resolveId(@NonNull AsyncEvent<?, ?> event, long timestamp) {
+
+			EventSequenceID eventSequenceId = event.getEventSequenceID();
+
+			return eventSequenceId != null
+				? String.format("%1$s:%2$s:%3$d:%4$d", event.getKey(), eventSequenceId.getMembershipID(),
+					eventSequenceId.getThreadID(), eventSequenceId.getSequenceID())
+				: String.format("%1$s:%2$d", event.getKey(), timestamp);
+		}
+
+		private final long timestamp;
+
+		private final Object key;
+		private final Object value;
+
+		private final String errorMessage;
+		private final String errorType;
+		private final String id;
+		private final String operation;
+		private final String regionPath;
+
+		public DeadLetter(@NonNull String id, @Nullable String regionPath, @Nullable Object key,
+				@Nullable String operation, @Nullable Object value, @Nullable String errorType,
+				@Nullable String errorMessage, long timestamp) {
+
+			Assert.hasText(id, "DeadLetter id must not be null or empty");
+
+			this.id = id;
+			this.regionPath = regionPath;
+			this.key = key;
+			this.operation = operation;
+			this.value = value;
+			this.errorType = errorType;
+			this.errorMessage = errorMessage;
+			this.timestamp = timestamp;
+		}
+
+		public @Nullable String getErrorMessage() {
+			return this.errorMessage;
+		}
+
+		public @Nullable String getErrorType() {
+			return this.errorType;
+		}
+
+		public @NonNull String getId() {
+			return this.id;
+		}
+
+		public @Nullable Object getKey() {
+			return this.key;
+		}
+
+		public @Nullable String getOperation() {
+			return this.operation;
+		}
+
+		public @Nullable String getRegionPath() {
+			return this.regionPath;
+		}
+
+		public long getTimestamp() {
+			return this.timestamp;
+		}
+
+		public @Nullable Object getValue() {
+			return this.value;
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		public String toString() {
+			return String.format("DeadLetter { id = %1$s, region = %2$s, key = %3$s, operation = %4$s, error = %5$s: %6$s }",
+				getId(), getRegionPath(), getKey(), getOperation(), getErrorType(), getErrorMessage());
+		}
+	}
+}
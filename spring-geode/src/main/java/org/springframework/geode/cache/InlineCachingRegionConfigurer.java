@@ -15,13 +15,14 @@
  */
 package org.springframework.geode.cache;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheWriter;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
 
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
@@ -34,30 +35,57 @@ import org.springframework.util.Assert;
 /**
  * A {@link RegionConfigurer} implementation used to enable Inline Caching on a designated {@link Region}.
  *
+ * By default, {@link Region} values are written through to the external data source synchronously using
+ * a {@link CacheWriter}. When {@link #withWriteBehind() write-behind} is enabled, peer {@link Region Regions}
+ * are instead configured with an {@link AsyncEventQueue} that writes {@link Region} values to the external
+ * data source asynchronously, in batches. {@literal Client} {@link Region Regions} do not support
+ * {@link AsyncEventQueue AsyncEventQueues} and always write-through.
+ *
  * @author John Blum
  * @see java.util.function.Predicate
  * @see org.apache.geode.cache.CacheLoader
  * @see org.apache.geode.cache.CacheWriter
  * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
  * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @see org.springframework.geode.cache.RepositoryAsyncEventQueueRegionConfigurer
  * @see org.springframework.geode.cache.RepositoryCacheLoaderRegionConfigurer
  * @see org.springframework.geode.cache.RepositoryCacheWriterRegionConfigurer
  * @since 1.1.0
  */
 public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
 
-	private final List<RegionConfigurer> regionConfigurers = new ArrayList<>();
+	private final CrudRepository<T, ID> repository;
+
+	private final Predicate<String> regionBeanName;
+
+	private final RepositoryCacheLoaderRegionConfigurer<T, ID> cacheLoaderRegionConfigurer;
+
+	private final RepositoryCacheWriterRegionConfigurer<T, ID> cacheWriterRegionConfigurer;
+
+	private volatile RegionConfigurer writeBehindRegionConfigurer;
 
 	private final RegionConfigurer compositeRegionConfigurer = new RegionConfigurer() {
 
 		@Override
 		public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
-			regionConfigurers.forEach(regionConfigurer -> regionConfigurer.configure(beanName, bean));
+			cacheLoaderRegionConfigurer.configure(beanName, bean);
+			cacheWriterRegionConfigurer.configure(beanName, bean);
 		}
 
 		@Override
 		public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
-			regionConfigurers.forEach(regionConfigurer -> regionConfigurer.configure(beanName, bean));
+
+			RegionConfigurer writeBehindRegionConfigurer = InlineCachingRegionConfigurer.this.writeBehindRegionConfigurer;
+
+			cacheLoaderRegionConfigurer.configure(beanName, bean);
+
+			if (writeBehindRegionConfigurer != null) {
+				writeBehindRegionConfigurer.configure(beanName, bean);
+			}
+			else {
+				cacheWriterRegionConfigurer.configure(beanName, bean);
+			}
 		}
 	};
 
@@ -78,10 +106,144 @@ public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
 
 		Assert.notNull(repository, "CrudRepository is required");
 
-		regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
+		this.repository = repository;
+		this.regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
+		this.cacheLoaderRegionConfigurer = newRepositoryCacheLoaderRegionConfigurer(repository, this.regionBeanName);
+		this.cacheWriterRegionConfigurer = newRepositoryCacheWriterRegionConfigurer(repository, this.regionBeanName);
+	}
 
-		this.regionConfigurers.add(newRepositoryCacheLoaderRegionConfigurer(repository, regionBeanName));
-		this.regionConfigurers.add(newRepositoryCacheWriterRegionConfigurer(repository, regionBeanName));
+	/**
+	 * Configures the {@link CacheLoader} to remember keys with no entity in the external data source
+	 * for the given {@link Duration}, avoiding repeated queries for non-existent entities.
+	 *
+	 * A remembered key is forgotten as soon as an entity with the key is created or updated in the {@link Region}.
+	 *
+	 * @param negativeResultTimeToLive {@link Duration} for which negative results are remembered;
+	 * a {@link Duration#isZero() zero} {@link Duration} disables negative caching.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withNegativeCaching(Duration)
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withNegativeCaching(@NonNull Duration negativeResultTimeToLive) {
+
+		this.cacheLoaderRegionConfigurer.withNegativeCaching(negativeResultTimeToLive);
+
+		return this;
+	}
+
+	/**
+	 * Configures the {@link CacheLoader} to refresh hot entities asynchronously after the given fraction
+	 * of the {@link Region} entry time-to-live (TTL) has elapsed.
+	 *
+	 * @param refreshAheadFactor fraction of the entry TTL after which an entity is refreshed; {@literal 0} disables
+	 * refresh-ahead.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if the factor is not greater than or equal to {@literal 0}
+	 * and less than {@literal 1}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withRefreshAhead(float)
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withRefreshAhead(float refreshAheadFactor) {
+
+		this.cacheLoaderRegionConfigurer.withRefreshAhead(refreshAheadFactor);
+
+		return this;
+	}
+
+	/**
+	 * Configures the {@link CacheWriter} to skip updates that do not change the entity, as determined by
+	 * the given {@link RepositoryCacheWriter.ChangeDetector}.
+	 *
+	 * @param changeDetector {@link RepositoryCacheWriter.ChangeDetector} used to determine whether an update
+	 * changes the entity; {@literal null} disables change detection.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withChangeDetection(RepositoryCacheWriter.ChangeDetector)
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withChangeDetection(
+			@Nullable RepositoryCacheWriter.ChangeDetector<T> changeDetector) {
+
+		this.cacheWriterRegionConfigurer.withChangeDetection(changeDetector);
+
+		return this;
+	}
+
+	/**
+	 * Configures the {@link CacheWriter} to delete all entities using the given
+	 * {@link RepositoryCacheWriter.BulkDeleteStrategy} when the {@link Region} is cleared.
+	 *
+	 * @param bulkDeleteStrategy {@link RepositoryCacheWriter.BulkDeleteStrategy} used to delete all entities;
+	 * {@literal null} defaults to {@link CrudRepository#deleteAll()}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withBulkDeleteStrategy(RepositoryCacheWriter.BulkDeleteStrategy)
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withBulkDeleteStrategy(
+			@Nullable RepositoryCacheWriter.BulkDeleteStrategy<T, ID> bulkDeleteStrategy) {
+
+		this.cacheWriterRegionConfigurer.withBulkDeleteStrategy(bulkDeleteStrategy);
+
+		return this;
+	}
+
+	/**
+	 * Configures the {@link CacheWriter} to run the given action when the {@link Region} is destroyed.
+	 *
+	 * @param regionDestroyAction {@link RepositoryCacheWriter.BulkDeleteStrategy} run when the {@link Region}
+	 * is destroyed; {@literal null} leaves the backend data source unchanged.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withRegionDestroyAction(RepositoryCacheWriter.BulkDeleteStrategy)
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withRegionDestroyAction(
+			@Nullable RepositoryCacheWriter.BulkDeleteStrategy<T, ID> regionDestroyAction) {
+
+		this.cacheWriterRegionConfigurer.withRegionDestroyAction(regionDestroyAction);
+
+		return this;
+	}
+
+	/**
+	 * Enables write-behind on peer {@link Region Regions} using the default {@link AsyncEventQueue} configuration.
+	 *
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see #withWriteBehind(Consumer)
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withWriteBehind() {
+		return withWriteBehind(asyncEventQueueRegionConfigurer -> {});
+	}
+
+	/**
+	 * Enables write-behind on peer {@link Region Regions}, replacing the {@link CacheWriter} with
+	 * an {@link AsyncEventQueue} so that cache operations return without waiting on the external data source.
+	 *
+	 * The given {@link Consumer} can customize the batch size, batch time interval, persistence and number of
+	 * dispatcher {@link Thread Threads} of the {@link AsyncEventQueue}.
+	 *
+	 * @param customizer {@link Consumer} used to customize the {@link RepositoryAsyncEventQueueRegionConfigurer}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.RepositoryAsyncEventQueueRegionConfigurer
+	 * @see java.util.function.Consumer
+	 */
+	public @NonNull InlineCachingRegionConfigurer<T, ID> withWriteBehind(
+			@Nullable Consumer<RepositoryAsyncEventQueueRegionConfigurer<T, ID>> customizer) {
+
+		RepositoryAsyncEventQueueRegionConfigurer<T, ID> asyncEventQueueRegionConfigurer =
+			newRepositoryAsyncEventQueueRegionConfigurer(this.repository, this.regionBeanName);
+
+		if (customizer != null) {
+			customizer.accept(asyncEventQueueRegionConfigurer);
+		}
+
+		this.writeBehindRegionConfigurer = asyncEventQueueRegionConfigurer;
+
+		return this;
+	}
+
+	/**
+	 * Determines whether write-behind is enabled on peer {@link Region Regions}.
+	 *
+	 * @return a boolean value indicating whether write-behind is enabled.
+	 * @see #withWriteBehind(Consumer)
+	 */
+	public boolean isWriteBehindEnabled() {
+		return this.writeBehindRegionConfigurer != null;
 	}
 
 	/**
@@ -122,6 +284,25 @@ public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
 		return new RepositoryCacheWriterRegionConfigurer<>(repository, regionBeanName);
 	}
 
+	/**
+	 * Constructs a new instance of {@link RepositoryAsyncEventQueueRegionConfigurer} initialized with
+	 * the given {@link CrudRepository} to write-behind to an external data source and {@link Predicate}
+	 * to identify the target {@link Region} to which the {@link AsyncEventQueue} will be attached.
+	 *
+	 * @param repository {@link CrudRepository} used to write-behind to the external data source.
+	 * @param regionBeanName {@link Predicate} used to identify the target {@link Region} to which
+	 * the {@link AsyncEventQueue} will be attached.
+	 * @return a new {@link RepositoryAsyncEventQueueRegionConfigurer}.
+	 * @see org.springframework.geode.cache.RepositoryAsyncEventQueueRegionConfigurer
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.util.function.Predicate
+	 */
+	protected RepositoryAsyncEventQueueRegionConfigurer<T, ID> newRepositoryAsyncEventQueueRegionConfigurer(
+			@NonNull CrudRepository<T, ID> repository, @Nullable Predicate<String> regionBeanName) {
+
+		return new RepositoryAsyncEventQueueRegionConfigurer<>(repository, regionBeanName);
+	}
+
 	@Override
 	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
 		this.compositeRegionConfigurer.configure(beanName, bean);
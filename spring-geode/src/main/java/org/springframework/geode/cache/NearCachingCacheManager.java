@@ -0,0 +1,684 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.SubscriptionNotEnabledException;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.management.membership.ClientMembership;
+import org.apache.geode.management.membership.ClientMembershipEvent;
+import org.apache.geode.management.membership.ClientMembershipListener;
+import org.apache.geode.management.membership.ClientMembershipListenerAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link CacheManager} implementation decorating another {@link CacheManager}, such as
+ * the {@link org.springframework.data.gemfire.cache.GemfireCacheManager}, to add a bounded, local, on-heap
+ * {@link Cache} tier in front of each {@literal client} {@link Region} backed {@link Cache}.
+ *
+ * Cache hits on the local tier avoid the network hop to the servers incurred by each lookup on
+ * a {@literal client} {@literal PROXY} {@link Region}. The local tier holds at most the configured
+ * {@link #withMaximumSize(int) maximum number} of entries and evicts the least recently used entry when full.
+ *
+ * The local tier is kept coherent with the servers by registering interest in all keys of the {@link Region}
+ * and evicting entries as the servers notify the client of updates, invalidations and destroys. Therefore,
+ * the {@literal client} {@link org.apache.geode.cache.client.Pool} must have subscription enabled.
+ * If subscription is not enabled, or the {@link Cache} is not backed by a {@literal client} {@link Region},
+ * the {@link Cache} is returned undecorated.
+ *
+ * Since events may be lost when the subscription fails over to another server, or the client reconnects,
+ * the local tier is cleared when a server leaves or crashes. Additionally, entries can be configured to
+ * {@link #withTimeToLive(Duration) expire} from the local tier, bounding the time a stale entry can be served.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.apache.geode.management.membership.ClientMembershipListener
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.cache.Cache
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @since 1.4.0
+ */
+public class NearCachingCacheManager implements CacheManager, DisposableBean {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ZERO;
+
+	private final CacheManager cacheManager;
+
+	private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+	private volatile Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+	private volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	private final List<ClientMembershipListener> clientMembershipListeners = new CopyOnWriteArrayList<>();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Constructs a new instance of {@link NearCachingCacheManager} initialized with the given {@link CacheManager}
+	 * managing the {@link Cache Caches} decorated with a local tier.
+	 *
+	 * @param cacheManager {@link CacheManager} to decorate.
+	 * @throws IllegalArgumentException if {@link CacheManager} is {@literal null}.
+	 * @see org.springframework.cache.CacheManager
+	 */
+	public NearCachingCacheManager(@NonNull CacheManager cacheManager) {
+
+		Assert.notNull(cacheManager, "CacheManager is required");
+
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * Returns the decorated {@link CacheManager}.
+	 *
+	 * @return the decorated {@link CacheManager}.
+	 * @see org.springframework.cache.CacheManager
+	 */
+	protected @NonNull CacheManager getCacheManager() {
+		return this.cacheManager;
+	}
+
+	/**
+	 * Returns the maximum number of entries held in the local tier of each {@link Cache}.
+	 *
+	 * @return the maximum number of entries held in the local tier of each {@link Cache}.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of entries held in the local tier of each {@link Cache}.
+	 *
+	 * The maximum size only applies to {@link Cache Caches} decorated after this method is called.
+	 *
+	 * @param maximumSize maximum number of entries held in the local tier of each {@link Cache};
+	 * non-positive values default to {@link #DEFAULT_MAXIMUM_SIZE}.
+	 * @return this {@link NearCachingCacheManager}.
+	 */
+	public @NonNull NearCachingCacheManager withMaximumSize(int maximumSize) {
+
+		this.maximumSize = maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an entry expires from the local tier of each {@link Cache}.
+	 *
+	 * @return the {@link Duration} after which an entry expires from the local tier;
+	 * {@link Duration#ZERO} if entries do not expire.
+	 */
+	public @NonNull Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Duration} after which an entry, once read from the {@link Region},
+	 * expires from the local tier of each {@link Cache}.
+	 *
+	 * The time-to-live bounds the time a stale entry is served from the local tier if a notification from
+	 * the servers is lost. The time-to-live only applies to {@link Cache Caches} decorated after this method
+	 * is called.
+	 *
+	 * @param timeToLive {@link Duration} after which an entry expires from the local tier; {@literal null},
+	 * {@link Duration#isZero() zero} or negative values default to {@link #DEFAULT_TIME_TO_LIVE},
+	 * in which case entries do not expire.
+	 * @return this {@link NearCachingCacheManager}.
+	 */
+	public @NonNull NearCachingCacheManager withTimeToLive(@Nullable Duration timeToLive) {
+
+		this.timeToLive = timeToLive != null && !timeToLive.isNegative() ? timeToLive : DEFAULT_TIME_TO_LIVE;
+
+		return this;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable Cache getCache(String name) {
+
+		Cache cache = getCacheManager().getCache(name);
+
+		return cache != null
+			? this.caches.computeIfAbsent(name, cacheName -> decorateCache(cache))
+			: null;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Collection<String> getCacheNames() {
+		return getCacheManager().getCacheNames();
+	}
+
+	/**
+	 * Decorates the given {@link Cache} with a local tier if the {@link Cache} is backed by
+	 * a {@literal client} {@link Region}.
+	 *
+	 * Interest in all keys is registered before the {@link CacheListener} evicting entries from the local tier
+	 * is added to the {@link Region}. No events are missed since the local tier is empty until this method returns.
+	 * A {@link ClientMembershipListener} clearing the local tier when a server leaves or crashes is also registered.
+	 *
+	 * @param cache {@link Cache} to decorate.
+	 * @return the decorated {@link Cache}, or the given {@link Cache} if it cannot be decorated.
+	 * @see #newNearCache(Cache)
+	 * @see #registerClientMembershipListener(ClientMembershipListener)
+	 */
+	@SuppressWarnings("unchecked")
+	protected @NonNull Cache decorateCache(@NonNull Cache cache) {
+
+		Object nativeCache = cache.getNativeCache();
+
+		if (nativeCache instanceof Region && RegionUtils.isClient((Region<?, ?>) nativeCache)) {
+
+			Region<Object, Object> region = (Region<Object, Object>) nativeCache;
+
+			try {
+
+				region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+
+				NearCache nearCache = newNearCache(cache);
+
+				region.getAttributesMutator().addCacheListener(nearCache.newCacheListener());
+
+				registerClientMembershipListener(nearCache.newClientMembershipListener());
+
+				return nearCache;
+			}
+			catch (SubscriptionNotEnabledException cause) {
+				this.logger.warn("Subscription is not enabled for client Region [{}];"
+					+ " the Cache will not be near cached", region.getFullPath());
+			}
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Constructs a new instance of {@link NearCache} decorating the given {@link Cache}.
+	 *
+	 * @param cache {@link Cache} to decorate.
+	 * @return a new {@link NearCache}.
+	 * @see NearCache
+	 */
+	protected @NonNull NearCache newNearCache(@NonNull Cache cache) {
+		return new NearCache(cache, getMaximumSize(), getTimeToLive());
+	}
+
+	/**
+	 * Registers the given {@link ClientMembershipListener} with Apache Geode, tracking the listener
+	 * so that it is unregistered when this {@link CacheManager} is {@link #destroy() destroyed}.
+	 *
+	 * @param listener {@link ClientMembershipListener} to register.
+	 * @see org.apache.geode.management.membership.ClientMembership#registerClientMembershipListener(ClientMembershipListener)
+	 */
+	protected void registerClientMembershipListener(@NonNull ClientMembershipListener listener) {
+		ClientMembership.registerClientMembershipListener(listener);
+		this.clientMembershipListeners.add(listener);
+	}
+
+	/**
+	 * Unregisters all {@link ClientMembershipListener ClientMembershipListeners} registered for the decorated
+	 * {@link Cache Caches}.
+	 *
+	 * @see org.apache.geode.management.membership.ClientMembership#unregisterClientMembershipListener(ClientMembershipListener)
+	 */
+	@Override
+	public void destroy() {
+
+		for (ClientMembershipListener listener : this.clientMembershipListeners) {
+			ClientMembership.unregisterClientMembershipListener(listener);
+			this.clientMembershipListeners.remove(listener);
+		}
+	}
+
+	/**
+	 * {@link Cache} implementation decorating a {@link Region} backed {@link Cache} with a bounded, local tier
+	 * evicting the least recently used entry when full.
+	 *
+	 * Values are only held in the local tier after being read from the {@link Region}, optionally expiring
+	 * after a time-to-live. Writes go to the {@link Region} and evict the entry from the local tier. A value read
+	 * from the {@link Region} is not held in the local tier if the entry with the same key was evicted while
+	 * the value was being read, so that a value changed concurrently on the servers is not held in the local tier.
+	 *
+	 * @see org.springframework.cache.Cache
+	 */
+	public static class NearCache implements Cache {
+
+		private final AtomicLong hitCount = new AtomicLong(0L);
+		private final AtomicLong missCount = new AtomicLong(0L);
+
+		private final Cache cache;
+
+		private final ConcurrentMap<Object, Object> pendingReads = new ConcurrentHashMap<>();
+
+		private final long timeToLiveNanos;
+
+		private final Map<Object, LocalEntry> entries;
+
+		/**
+		 * Constructs a new instance of {@link NearCache} initialized with the given {@link Cache}
+		 * and maximum number of entries held in the local tier.
+		 *
+		 * @param cache {@link Cache} to decorate.
+		 * @param maximumSize maximum number of entries held in the local tier.
+		 * @throws IllegalArgumentException if {@link Cache} is {@literal null} or the maximum size
+		 * is not greater than {@literal 0}.
+		 */
+		public NearCache(@NonNull Cache cache, int maximumSize) {
+			this(cache, maximumSize, DEFAULT_TIME_TO_LIVE);
+		}
+
+		/**
+		 * Constructs a new instance of {@link NearCache} initialized with the given {@link Cache},
+		 * maximum number of entries held in the local tier and {@link Duration} after which an entry
+		 * expires from the local tier.
+		 *
+		 * @param cache {@link Cache} to decorate.
+		 * @param maximumSize maximum number of entries held in the local tier.
+		 * @param timeToLive {@link Duration} after which an entry expires from the local tier;
+		 * a {@literal null} or {@link Duration#isZero() zero} {@link Duration} disables expiration.
+		 * @throws IllegalArgumentException if {@link Cache} is {@literal null}, the maximum size
+		 * is not greater than {@literal 0} or the time-to-live is negative.
+		 */
+		public NearCache(@NonNull Cache cache, int maximumSize, @Nullable Duration timeToLive) {
+
+			Assert.notNull(cache, "Cache is required");
+			Assert.isTrue(maximumSize > 0, () -> String.format("Maximum size [%d] must be greater than 0", maximumSize));
+			Assert.isTrue(timeToLive == null || !timeToLive.isNegative(),
+				() -> String.format("Time-to-live [%s] must not be negative", timeToLive));
+
+			this.cache = cache;
+			this.timeToLiveNanos = timeToLive != null ? timeToLive.toNanos() : 0L;
+			this.entries = Collections.synchronizedMap(new LinkedHashMap<Object, LocalEntry>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, LocalEntry> eldest) {
+					return size() > maximumSize;
+				}
+			});
+		}
+
+		/**
+		 * Returns the decorated {@link Cache}.
+		 *
+		 * @return the decorated {@link Cache}.
+		 */
+		protected @NonNull Cache getCache() {
+			return this.cache;
+		}
+
+		/**
+		 * Returns the number of lookups satisfied by the local tier.
+		 *
+		 * @return the number of lookups satisfied by the local tier.
+		 */
+		public long getHitCount() {
+			return this.hitCount.get();
+		}
+
+		/**
+		 * Returns the number of lookups forwarded to the decorated {@link Cache}.
+		 *
+		 * @return the number of lookups forwarded to the decorated {@link Cache}.
+		 */
+		public long getMissCount() {
+			return this.missCount.get();
+		}
+
+		/**
+		 * Returns the current number of entries held in the local tier.
+		 *
+		 * @return the current number of entries held in the local tier.
+		 */
+		public int size() {
+			return this.entries.size();
+		}
+
+		@Override
+		public String getName() {
+			return getCache().getName();
+		}
+
+		@Override
+		public Object getNativeCache() {
+			return getCache().getNativeCache();
+		}
+
+		@Override
+		public @Nullable ValueWrapper get(Object key) {
+
+			ValueWrapper valueWrapper = getLocally(key);
+
+			if (valueWrapper != null) {
+				this.hitCount.incrementAndGet();
+				return valueWrapper;
+			}
+
+			this.missCount.incrementAndGet();
+
+			Object readStamp = beginRead(key);
+
+			try {
+
+				valueWrapper = getCache().get(key);
+
+				if (valueWrapper != null && valueWrapper.get() != null) {
+					cacheLocally(key, valueWrapper, readStamp);
+				}
+
+				return valueWrapper;
+			}
+			finally {
+				endRead(key, readStamp);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public @Nullable <T> T get(Object key, @Nullable Class<T> type) {
+
+			ValueWrapper valueWrapper = get(key);
+
+			Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+			if (value != null && type != null && !type.isInstance(value)) {
+				throw new IllegalStateException(String.format("Cached value [%1$s] is not of required type [%2$s]",
+					value, type.getName()));
+			}
+
+			return (T) value;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public @Nullable <T> T get(Object key, Callable<T> valueLoader) {
+
+			ValueWrapper valueWrapper = getLocally(key);
+
+			if (valueWrapper != null) {
+				this.hitCount.incrementAndGet();
+				return (T) valueWrapper.get();
+			}
+
+			this.missCount.incrementAndGet();
+
+			Object readStamp = beginRead(key);
+
+			try {
+
+				T value = getCache().get(key, valueLoader);
+
+				if (value != null) {
+					cacheLocally(key, new SimpleValueWrapper(value), readStamp);
+				}
+
+				return value;
+			}
+			finally {
+				endRead(key, readStamp);
+			}
+		}
+
+		@Override
+		public void put(Object key, @Nullable Object value) {
+			getCache().put(key, value);
+			evictLocally(key);
+		}
+
+		@Override
+		public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+
+			ValueWrapper existingValue = getCache().putIfAbsent(key, value);
+
+			evictLocally(key);
+
+			return existingValue;
+		}
+
+		@Override
+		public void evict(Object key) {
+			getCache().evict(key);
+			evictLocally(key);
+		}
+
+		@Override
+		public void clear() {
+			getCache().clear();
+			clearLocally();
+		}
+
+		private @Nullable ValueWrapper getLocally(Object key) {
+
+			LocalEntry localEntry = this.entries.get(key);
+
+			if (localEntry != null) {
+
+				if (!localEntry.isExpired()) {
+					return localEntry.getValueWrapper();
+				}
+
+				this.entries.remove(key, localEntry);
+			}
+
+			return null;
+		}
+
+		private @Nullable Object beginRead(@Nullable Object key) {
+
+			if (key != null) {
+
+				Object readStamp = new Object();
+
+				this.pendingReads.put(key, readStamp);
+
+				return readStamp;
+			}
+
+			return null;
+		}
+
+		private void cacheLocally(Object key, ValueWrapper valueWrapper, @Nullable Object readStamp) {
+
+			synchronized (this.entries) {
+				if (readStamp != null && this.pendingReads.remove(key, readStamp)) {
+					this.entries.put(key, new LocalEntry(valueWrapper, this.timeToLiveNanos));
+				}
+			}
+		}
+
+		private void endRead(@Nullable Object key, @Nullable Object readStamp) {
+
+			if (key != null && readStamp != null) {
+				this.pendingReads.remove(key, readStamp);
+			}
+		}
+
+		/**
+		 * Evicts the entry with the given key from the local tier.
+		 *
+		 * A value of the entry being read concurrently from the {@link Region} is not held in the local tier.
+		 *
+		 * @param key key of the entry to evict.
+		 */
+		protected void evictLocally(@Nullable Object key) {
+
+			synchronized (this.entries) {
+
+				if (key != null) {
+					this.pendingReads.remove(key);
+				}
+
+				this.entries.remove(key);
+			}
+		}
+
+		/**
+		 * Evicts all entries from the local tier.
+		 *
+		 * Values of entries being read concurrently from the {@link Region} are not held in the local tier.
+		 */
+		protected void clearLocally() {
+
+			synchronized (this.entries) {
+				this.pendingReads.clear();
+				this.entries.clear();
+			}
+		}
+
+		/**
+		 * Constructs a new {@link CacheListener} evicting entries from the local tier when the entries
+		 * in the {@link Region} are created, updated, invalidated or destroyed.
+		 *
+		 * @return a new {@link CacheListener} keeping the local tier coherent with the {@link Region}.
+		 * @see org.apache.geode.cache.CacheListener
+		 */
+		protected @NonNull CacheListener<Object, Object> newCacheListener() {
+
+			return new CacheListenerAdapter<Object, Object>() {
+
+				@Override
+				public void afterCreate(EntryEvent<Object, Object> event) {
+					evictLocally(event.getKey());
+				}
+
+				@Override
+				public void afterUpdate(EntryEvent<Object, Object> event) {
+					evictLocally(event.getKey());
+				}
+
+				@Override
+				public void afterInvalidate(EntryEvent<Object, Object> event) {
+					evictLocally(event.getKey());
+				}
+
+				@Override
+				public void afterDestroy(EntryEvent<Object, Object> event) {
+					evictLocally(event.getKey());
+				}
+
+				@Override
+				public void afterRegionClear(RegionEvent<Object, Object> event) {
+					clearLocally();
+				}
+
+				@Override
+				public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+					clearLocally();
+				}
+
+				@Override
+				public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+					clearLocally();
+				}
+
+				@Override
+				public void afterRegionLive(RegionEvent<Object, Object> event) {
+					clearLocally();
+				}
+			};
+		}
+
+		/**
+		 * Constructs a new {@link ClientMembershipListener} clearing the local tier when a server leaves or crashes,
+		 * since notifications may be lost while the subscription fails over to another server.
+		 *
+		 * @return a new {@link ClientMembershipListener} clearing the local tier when a server leaves or crashes.
+		 * @see org.apache.geode.management.membership.ClientMembershipListener
+		 */
+		protected @NonNull ClientMembershipListener newClientMembershipListener() {
+
+			return new ClientMembershipListenerAdapter() {
+
+				@Override
+				public void memberLeft(ClientMembershipEvent event) {
+					clearLocallyWhenServer(event);
+				}
+
+				@Override
+				public void memberCrashed(ClientMembershipEvent event) {
+					clearLocallyWhenServer(event);
+				}
+			};
+		}
+
+		private void clearLocallyWhenServer(ClientMembershipEvent event) {
+
+			if (event != null && !event.isClient()) {
+				clearLocally();
+			}
+		}
+
+		/**
+		 * Entry held in the local tier, expiring after a time-to-live.
+		 */
+		static final class LocalEntry {
+
+			private final long cachedAt = System.nanoTime();
+			private final long timeToLiveNanos;
+
+			private final ValueWrapper valueWrapper;
+
+			LocalEntry(ValueWrapper valueWrapper, long timeToLiveNanos) {
+				this.valueWrapper = valueWrapper;
+				this.timeToLiveNanos = timeToLiveNanos;
+			}
+
+			ValueWrapper getValueWrapper() {
+				return this.valueWrapper;
+			}
+
+			boolean isExpired() {
+				return this.timeToLiveNanos > 0L && System.nanoTime() - this.cachedAt >= this.timeToLiveNanos;
+			}
+		}
+	}
+}
@@ -15,13 +15,25 @@
  */
 package org.springframework.geode.cache;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.asyncqueue.AsyncEvent;
@@ -33,6 +45,9 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * An Apache Geode {@link AsyncEventListener} that uses a Spring Data {@link CrudRepository} to perform
  * data access operations to a backend, external data source asynchronously, triggered by cache operations.
@@ -49,10 +64,24 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 
 	protected static final AsyncEventErrorHandler DEFAULT = eventError -> false;
 
+	protected static final int DEFAULT_PARALLELISM = 1;
+
+	private volatile boolean batchingEnabled = false;
+
+	private volatile int parallelism = DEFAULT_PARALLELISM;
+
+	private AsyncEventBatchWriter<T, ID> batchWriter;
+
 	private AsyncEventErrorHandler asyncEventErrorHandler = DEFAULT;
 
+	private final BatchMetrics batchMetrics = new BatchMetrics();
+
+	private ExecutorService dispatchExecutorService;
+
 	private final CrudRepository<T, ID> repository;
 
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
 	private final List<AsyncEventOperationRepositoryFunction<T, ID>> repositoryFunctions = new CopyOnWriteArrayList<>();
 
 	/**
@@ -103,6 +132,115 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		return this.asyncEventErrorHandler != null ? this.asyncEventErrorHandler : DEFAULT;
 	}
 
+	/**
+	 * Enables or disables batching.
+	 *
+	 * When batching is enabled, {@link Operation#isCreate() create}, {@link Operation#isUpdate() update}
+	 * and {@link Operation#REMOVE remove} {@link AsyncEvent AsyncEvents} in the batch passed to
+	 * {@link #processEvents(List)} are coalesced by key and written to the backend, external data source in bulk
+	 * using the configured {@link AsyncEventBatchWriter}, rather than invoking a {@link CrudRepository} data access
+	 * operation for each {@link AsyncEvent}. {@link AsyncEvent AsyncEvents} handled by a user
+	 * {@link #register(AsyncEventOperationRepositoryFunction) registered} {@link AsyncEventOperationRepositoryFunction}
+	 * are still processed individually with that {@link AsyncEventOperationRepositoryFunction}.
+	 *
+	 * @param batchingEnabled boolean value indicating whether batching is enabled; batching is disabled by default.
+	 * @see #processEventsInBatch(List)
+	 */
+	public void setBatchingEnabled(boolean batchingEnabled) {
+		this.batchingEnabled = batchingEnabled;
+	}
+
+	/**
+	 * Determines whether batching is enabled.
+	 *
+	 * @return a boolean value indicating whether batching is enabled.
+	 * @see #setBatchingEnabled(boolean)
+	 */
+	public boolean isBatchingEnabled() {
+		return this.batchingEnabled;
+	}
+
+	/**
+	 * Gets the {@link BatchMetrics} recording statistics about the batches processed by this listener
+	 * when batching is enabled.
+	 *
+	 * @return the {@link BatchMetrics} for this listener; never {@literal null}.
+	 * @see BatchMetrics
+	 */
+	public @NonNull BatchMetrics getBatchMetrics() {
+		return this.batchMetrics;
+	}
+
+	/**
+	 * Configures the {@link AsyncEventBatchWriter} used to write the coalesced entities of a batch to the backend,
+	 * external data source when batching is enabled.
+	 *
+	 * @param batchWriter {@link AsyncEventBatchWriter} used to write the coalesced entities of a batch.
+	 * @see AsyncEventBatchWriter
+	 */
+	public void setBatchWriter(@Nullable AsyncEventBatchWriter<T, ID> batchWriter) {
+		this.batchWriter = batchWriter;
+	}
+
+	/**
+	 * Gets the configured {@link AsyncEventBatchWriter} used to write the coalesced entities of a batch to the backend,
+	 * external data source when batching is enabled.
+	 *
+	 * Defaults to an {@link AsyncEventBatchWriter} calling {@link CrudRepository#saveAll(Iterable)}
+	 * and {@link CrudRepository#deleteAll(Iterable)}.
+	 *
+	 * @return the configured {@link AsyncEventBatchWriter}; never {@literal null}.
+	 * @see AsyncEventBatchWriter
+	 */
+	protected @NonNull AsyncEventBatchWriter<T, ID> getBatchWriter() {
+
+		AsyncEventBatchWriter<T, ID> batchWriter = this.batchWriter;
+
+		return batchWriter != null ? batchWriter : AsyncEventBatchWriter.repositoryBatchWriter();
+	}
+
+	/**
+	 * Configures the number of {@link Thread Threads} used to dispatch the {@link AsyncEvent AsyncEvents}
+	 * in a batch to the backend, external data source in parallel.
+	 *
+	 * The {@link AsyncEvent AsyncEvents} are partitioned by the hash of the {@link AsyncEvent#getKey() key}
+	 * so that all {@link AsyncEvent AsyncEvents} for the same key are processed in order, by the same
+	 * {@link Thread}, while {@link AsyncEvent AsyncEvents} for unrelated keys are processed concurrently.
+	 *
+	 * @param parallelism number of {@link Thread Threads} used to dispatch {@link AsyncEvent AsyncEvents};
+	 * values less than {@literal 1} default to {@literal 1}, which processes the batch serially on
+	 * the {@link AsyncEventListener} dispatcher {@link Thread}.
+	 * @see #processEventsInParallel(List, int)
+	 */
+	public synchronized void setParallelism(int parallelism) {
+
+		this.parallelism = Math.max(parallelism, DEFAULT_PARALLELISM);
+
+		shutdownDispatchExecutorService();
+	}
+
+	/**
+	 * Gets the configured number of {@link Thread Threads} used to dispatch the {@link AsyncEvent AsyncEvents}
+	 * in a batch in parallel.
+	 *
+	 * @return the configured number of {@link Thread Threads} used to dispatch {@link AsyncEvent AsyncEvents};
+	 * defaults to {@literal 1}.
+	 * @see #setParallelism(int)
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Returns a reference to the configured {@link Logger} used to log messages.
+	 *
+	 * @return a reference to the configured {@link Logger}.
+	 * @see org.slf4j.Logger
+	 */
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
 	/**
 	 * Gets a reference to the configured Spring Data {@link CrudRepository} used by this {@link AsyncEventListener}
 	 * to perform data access operations to a backend, external data source asynchronously when triggered by a cache
@@ -141,33 +279,398 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 	 * @see org.apache.geode.cache.asyncqueue.AsyncEvent
 	 * @see AsyncEventOperationRepositoryFunction
 	 * @see #getRepositoryFunctions()
+	 * @see #isBatchingEnabled()
+	 * @see #processEventsInBatch(List)
 	 * @see java.util.List
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public boolean processEvents(List<AsyncEvent> events) {
 
-		AtomicBoolean result = new AtomicBoolean(true);
-
-		CollectionUtils.nullSafeList(events).stream()
+		List<AsyncEvent<ID, T>> nonNullEvents = CollectionUtils.nullSafeList(events).stream()
 			.filter(Objects::nonNull)
-			.forEach(event -> {
+			.map(event -> (AsyncEvent<ID, T>) event)
+			.collect(Collectors.toList());
+
+		int parallelism = getParallelism();
+
+		return parallelism > 1 && nonNullEvents.size() > 1
+			? processEventsInParallel(nonNullEvents, parallelism)
+			: dispatch(nonNullEvents);
+	}
+
+	/**
+	 * Dispatches the {@link AsyncEvent AsyncEvents} either {@link #processEventsInBatch(List) in batch}
+	 * or {@link #processEventsInOrder(List) in order}, one at a time, depending on whether batching is enabled.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to process.
+	 * @return a boolean value indicating whether all {@link AsyncEvent AsyncEvents} were processes successfully.
+	 * @see #isBatchingEnabled()
+	 */
+	protected boolean dispatch(@NonNull List<AsyncEvent<ID, T>> events) {
+
+		return isBatchingEnabled()
+			? processEventsInBatch(events)
+			: processEventsInOrder(events);
+	}
+
+	/**
+	 * Processes the {@link AsyncEvent AsyncEvents} in parallel, {@link #partition(List, int) partitioned by key}.
+	 *
+	 * This method waits for all partitions to be processed. The result is all-or-nothing: if any partition fails,
+	 * then this method returns {@literal false} and Apache Geode redelivers the entire batch, including the
+	 * {@link AsyncEvent AsyncEvents} of the partitions that were processed successfully. Therefore, the data access
+	 * operations invoked for the {@link AsyncEvent AsyncEvents} should be idempotent. Partial failures are logged,
+	 * identifying the number of failed partitions and {@link AsyncEvent AsyncEvents}.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to process.
+	 * @param parallelism number of partitions.
+	 * @return a boolean value indicating whether all {@link AsyncEvent AsyncEvents} were processes successfully.
+	 * @see #partition(List, int)
+	 * @see #dispatch(List)
+	 */
+	protected boolean processEventsInParallel(@NonNull List<AsyncEvent<ID, T>> events, int parallelism) {
+
+		List<List<AsyncEvent<ID, T>>> partitions = partition(events, parallelism);
+
+		ExecutorService dispatchExecutorService = getDispatchExecutorService();
+
+		List<Future<Boolean>> dispatchFutures = partitions.stream()
+			.map(partition -> dispatchExecutorService.submit(() -> dispatch(partition)))
+			.collect(Collectors.toList());
+
+		int failedEventCount = 0;
+		int failedPartitionCount = 0;
+
+		for (int index = 0; index < dispatchFutures.size(); index++) {
+			if (!awaitDispatch(dispatchFutures.get(index))) {
+				failedEventCount += partitions.get(index).size();
+				failedPartitionCount++;
+			}
+		}
+
+		if (failedPartitionCount > 0) {
+			getLogger().warn("Failed to process [{}] of [{}] partition(s) containing [{}] of [{}] AsyncEvent(s);"
+				+ " the batch will be redelivered", failedPartitionCount, partitions.size(), failedEventCount,
+					events.size());
+		}
 
-				Optional<AsyncEventOperationRepositoryFunction<T, ID>> repositoryFunction =
-					getRepositoryFunctions().stream()
-						.filter(function -> function.canProcess(event))
-						.findFirst();
+		return failedPartitionCount == 0;
+	}
+
+	private boolean awaitDispatch(Future<Boolean> dispatchFuture) {
+
+		try {
+			return Boolean.TRUE.equals(dispatchFuture.get());
+		}
+		catch (ExecutionException cause) {
+			getLogger().error("Failed to process partition of AsyncEvents", cause.getCause());
+			return false;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Partitions the {@link AsyncEvent AsyncEvents} by the hash of the {@link AsyncEvent#getKey() key}, preserving
+	 * the order of the {@link AsyncEvent AsyncEvents} within each partition.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to partition.
+	 * @param parallelism maximum number of partitions.
+	 * @return a {@link List} of non-empty partitions.
+	 */
+	protected @NonNull List<List<AsyncEvent<ID, T>>> partition(@NonNull List<AsyncEvent<ID, T>> events, int parallelism) {
+
+		List<List<AsyncEvent<ID, T>>> partitions = new ArrayList<>(parallelism);
+
+		for (int index = 0; index < parallelism; index++) {
+			partitions.add(new ArrayList<>());
+		}
+
+		for (AsyncEvent<ID, T> event : events) {
+			partitions.get(Math.floorMod(Objects.hashCode(event.getKey()), parallelism)).add(event);
+		}
+
+		partitions.removeIf(List::isEmpty);
+
+		return partitions;
+	}
+
+	/**
+	 * Gets the {@link ExecutorService} used to dispatch partitions of {@link AsyncEvent AsyncEvents} in parallel,
+	 * constructing it on first use.
+	 *
+	 * @return the {@link ExecutorService} used to dispatch {@link AsyncEvent AsyncEvents} in parallel.
+	 * @see #newDispatchExecutorService(int)
+	 */
+	protected synchronized @NonNull ExecutorService getDispatchExecutorService() {
+
+		if (this.dispatchExecutorService == null) {
+			this.dispatchExecutorService = newDispatchExecutorService(getParallelism());
+		}
+
+		return this.dispatchExecutorService;
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} used to dispatch partitions of {@link AsyncEvent AsyncEvents}
+	 * in parallel.
+	 *
+	 * @param threadCount number of {@link Thread Threads} in the pool.
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected @NonNull ExecutorService newDispatchExecutorService(int threadCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+
+			Thread thread = new Thread(runnable, "repository-async-event-dispatcher-thread-"
+				+ threadNumber.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	private synchronized void shutdownDispatchExecutorService() {
+
+		if (this.dispatchExecutorService != null) {
+			this.dispatchExecutorService.shutdown();
+			this.dispatchExecutorService = null;
+		}
+	}
 
-				boolean processed = Boolean.TRUE.equals(repositoryFunction
-					.map(function -> function.apply(event))
-					.orElse(false));
+	/**
+	 * Shuts down the {@link ExecutorService} used to dispatch {@link AsyncEvent AsyncEvents} in parallel.
+	 */
+	@Override
+	public void close() {
+		shutdownDispatchExecutorService();
+	}
 
-				result.compareAndSet(true, processed);
-			});
+	/**
+	 * Processes each {@link AsyncEvent} in order, one at a time.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to process.
+	 * @return a boolean value indicating whether all {@link AsyncEvent AsyncEvents} were processes successfully.
+	 * @see #processEvent(AsyncEvent)
+	 */
+	protected boolean processEventsInOrder(@NonNull List<AsyncEvent<ID, T>> events) {
+
+		AtomicBoolean result = new AtomicBoolean(true);
+
+		events.forEach(event -> result.compareAndSet(true, processEvent(event)));
 
 		return result.get();
 	}
 
+	/**
+	 * Processes a single {@link AsyncEvent} by applying the first registered
+	 * {@link AsyncEventOperationRepositoryFunction} capable of processing the {@link AsyncEvent}.
+	 *
+	 * @param event {@link AsyncEvent} to process.
+	 * @return a boolean value indicating whether the {@link AsyncEvent} was processed successfully.
+	 * @see #getRepositoryFunctions()
+	 */
+	protected boolean processEvent(@NonNull AsyncEvent<ID, T> event) {
+
+		return Boolean.TRUE.equals(resolveRepositoryFunction(event)
+			.map(function -> function.apply(event))
+			.orElse(false));
+	}
+
+	/**
+	 * Resolves the first registered {@link AsyncEventOperationRepositoryFunction} capable of processing
+	 * the given {@link AsyncEvent}.
+	 *
+	 * @param event {@link AsyncEvent} to process.
+	 * @return an {@link Optional} {@link AsyncEventOperationRepositoryFunction} capable of processing
+	 * the given {@link AsyncEvent}.
+	 * @see #getRepositoryFunctions()
+	 */
+	protected Optional<AsyncEventOperationRepositoryFunction<T, ID>> resolveRepositoryFunction(
+			@Nullable AsyncEvent<ID, T> event) {
+
+		return getRepositoryFunctions().stream()
+			.filter(function -> function.canProcess(event))
+			.findFirst();
+	}
+
+	/**
+	 * Processes the {@link AsyncEvent AsyncEvents} in batches.
+	 *
+	 * Consecutive {@link #isBatchable(AsyncEvent) batchable} {@link AsyncEvent AsyncEvents} are
+	 * {@link #coalesce(List) coalesced} by key and written in bulk with the configured {@link AsyncEventBatchWriter}.
+	 * Any other {@link AsyncEvent} is processed individually with the registered
+	 * {@link AsyncEventOperationRepositoryFunction AsyncEventOperationRepositoryFunctions} after writing
+	 * the pending batch in order to preserve the order of the {@link AsyncEvent AsyncEvents}.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to process.
+	 * @return a boolean value indicating whether all {@link AsyncEvent AsyncEvents} were processes successfully.
+	 * @see #isBatchable(AsyncEvent)
+	 * @see #writeBatch(List)
+	 */
+	protected boolean processEventsInBatch(@NonNull List<AsyncEvent<ID, T>> events) {
+
+		boolean result = true;
+
+		List<AsyncEvent<ID, T>> batch = new ArrayList<>(events.size());
+
+		for (AsyncEvent<ID, T> event : events) {
+			if (isBatchable(event)) {
+				batch.add(event);
+			}
+			else {
+				result &= writeBatch(batch);
+				result &= processEvent(event);
+				batch.clear();
+			}
+		}
+
+		result &= writeBatch(batch);
+
+		return result;
+	}
+
+	/**
+	 * Determines whether the given {@link AsyncEvent} can be coalesced and written in bulk, which is only possible for
+	 * {@link Operation#isCreate() create}, {@link Operation#isUpdate() update} and {@link Operation#REMOVE remove}
+	 * {@link AsyncEvent AsyncEvents} that would otherwise be processed by one of the default
+	 * {@link AsyncEventOperationRepositoryFunction AsyncEventOperationRepositoryFunctions} provided by this listener.
+	 *
+	 * {@link AsyncEvent AsyncEvents} handled by a user {@link #register(AsyncEventOperationRepositoryFunction)
+	 * registered} {@link AsyncEventOperationRepositoryFunction} are never batched so that the registered
+	 * {@link AsyncEventOperationRepositoryFunction} is not bypassed.
+	 *
+	 * @param event {@link AsyncEvent} to evaluate.
+	 * @return a boolean value indicating whether the given {@link AsyncEvent} can be batched.
+	 * @see #resolveRepositoryFunction(AsyncEvent)
+	 */
+	protected boolean isBatchable(@Nullable AsyncEvent<ID, T> event) {
+
+		Operation operation = event != null ? event.getOperation() : null;
+
+		return operation != null
+			&& (operation.isCreate() || operation.isUpdate() || Operation.REMOVE.equals(operation))
+			&& resolveRepositoryFunction(event).filter(this::isDefaultRepositoryFunction).isPresent();
+	}
+
+	private boolean isDefaultRepositoryFunction(@NonNull AsyncEventOperationRepositoryFunction<T, ID> function) {
+
+		Class<?> functionType = function.getClass();
+
+		return CreateUpdateAsyncEventRepositoryFunction.class.equals(functionType)
+			|| RemoveAsyncEventRepositoryFunction.class.equals(functionType);
+	}
+
+	/**
+	 * Coalesces the given {@link List} of {@link AsyncEvent AsyncEvents} by key.
+	 *
+	 * For each key, only the last {@link AsyncEvent} is retained (last write wins). A {@link Operation#isCreate() create}
+	 * followed by a {@link Operation#REMOVE remove} for the same key in the batch is coalesced into the remove
+	 * rather than dropped altogether. A {@link Operation#isCreate() create} does not mean the entity is new to
+	 * the backend, external data source, for example when the entry was loaded or put again after being evicted.
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} to coalesce.
+	 * @return a {@link Collection} of coalesced {@link AsyncEvent AsyncEvents} ordered by the position
+	 * of the last {@link AsyncEvent} for each key.
+	 */
+	protected @NonNull Collection<AsyncEvent<ID, T>> coalesce(@NonNull List<AsyncEvent<ID, T>> events) {
+
+		Map<Object, AsyncEvent<ID, T>> coalescedEvents = new LinkedHashMap<>();
+
+		for (AsyncEvent<ID, T> event : events) {
+
+			Object key = event.getKey();
+
+			coalescedEvents.remove(key);
+			coalescedEvents.put(key, event);
+		}
+
+		return coalescedEvents.values();
+	}
+
+	/**
+	 * Coalesces and writes the batch of {@link AsyncEvent AsyncEvents} in bulk using
+	 * the configured {@link AsyncEventBatchWriter}.
+	 *
+	 * If the bulk write fails, then each coalesced {@link AsyncEvent} is {@link #processEvent(AsyncEvent) processed}
+	 * individually so that the {@link AsyncEventErrorHandler} is called for only the {@link AsyncEvent AsyncEvents}
+	 * that actually fail.
+	 *
+	 * @param batch {@link List} of {@link #isBatchable(AsyncEvent) batchable} {@link AsyncEvent AsyncEvents}.
+	 * @return a boolean value indicating whether all {@link AsyncEvent AsyncEvents} were processes successfully.
+	 * @see #coalesce(List)
+	 * @see #getBatchWriter()
+	 */
+	protected boolean writeBatch(@NonNull List<AsyncEvent<ID, T>> batch) {
+
+		if (batch.isEmpty()) {
+			return true;
+		}
+
+		long startTime = System.nanoTime();
+
+		Collection<AsyncEvent<ID, T>> coalescedEvents = coalesce(batch);
+
+		List<T> entitiesToSave = new ArrayList<>(coalescedEvents.size());
+		List<T> entitiesToDelete = new ArrayList<>();
+
+		// AsyncEvents without an entity cannot be written in bulk and are processed individually
+		List<AsyncEvent<ID, T>> individualEvents = new ArrayList<>();
+
+		for (AsyncEvent<ID, T> event : coalescedEvents) {
+
+			T entity = event.getDeserializedValue();
+
+			if (entity == null) {
+				individualEvents.add(event);
+			}
+			else if (Operation.REMOVE.equals(event.getOperation())) {
+				entitiesToDelete.add(entity);
+			}
+			else {
+				entitiesToSave.add(entity);
+			}
+		}
+
+		try {
+			getBatchWriter().write(getRepository(), entitiesToSave, entitiesToDelete);
+		}
+		catch (Throwable cause) {
+
+			getLogger().warn("Failed to write batch of [{}] entities; processing each AsyncEvent individually",
+				entitiesToSave.size() + entitiesToDelete.size(), cause);
+
+			getBatchMetrics().recordFailedBatch();
+
+			individualEvents = new ArrayList<>(coalescedEvents);
+			entitiesToSave.clear();
+			entitiesToDelete.clear();
+		}
+
+		boolean result = true;
+
+		for (AsyncEvent<ID, T> event : individualEvents) {
+			result &= processEvent(event);
+		}
+
+		long batchTime = System.nanoTime() - startTime;
+
+		getBatchMetrics().record(batch.size(), batch.size() - coalescedEvents.size(),
+			entitiesToSave.size(), entitiesToDelete.size(), batchTime);
+
+		getLogger().debug("Wrote batch of [{}] AsyncEvent(s) coalesced into [{}] save(s) and [{}] delete(s) in [{}] ms",
+			batch.size(), entitiesToSave.size(), entitiesToDelete.size(), TimeUnit.NANOSECONDS.toMillis(batchTime));
+
+		return result;
+	}
+
 	/**
 	 * Registers a {@link AsyncEventOperationRepositoryFunction} capable of processing {@link AsyncEvent AsyncEvents}
 	 * by {@link Operation} and invoking the appropriate Spring Data {@link CrudRepository} data access operation.
@@ -220,6 +723,8 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 
 		private final AsyncEvent<?, ?> event;
 
+		private final Runnable retryOperation;
+
 		private final Throwable cause;
 
 		/**
@@ -233,12 +738,30 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		 * @see java.lang.Throwable
 		 */
 		public AsyncEventError(@NonNull AsyncEvent<?, ?> event, @NonNull Throwable cause) {
+			this(event, cause, null);
+		}
+
+		/**
+		 * Constructs a new instance of {@link AsyncEventError} initialized with the required {@link AsyncEvent},
+		 * the {@link Throwable} thrown while processing the event and an optional {@link Runnable operation}
+		 * used to {@link #retry() retry} the data access operation that failed.
+		 *
+		 * @param event processed {@link AsyncEvent}; must not be {@literal null}.
+		 * @param cause {@link Throwable error} thrown while processing the event; must not be {@literal null}.
+		 * @param retryOperation {@link Runnable} used to retry the failed data access operation.
+		 * @throws IllegalArgumentException if the {@link AsyncEvent} or the {@link Throwable} are {@literal null}.
+		 * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+		 * @see java.lang.Throwable
+		 */
+		public AsyncEventError(@NonNull AsyncEvent<?, ?> event, @NonNull Throwable cause,
+				@Nullable Runnable retryOperation) {
 
 			Assert.notNull(event, "AsyncEvent must not be null");
 			Assert.notNull(cause, "The cause must not be null");
 
 			this.event = event;
 			this.cause = cause;
+			this.retryOperation = retryOperation;
 		}
 
 		/**
@@ -261,6 +784,30 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 			return this.event;
 		}
 
+		/**
+		 * Determines whether the failed data access operation can be {@link #retry() retried}.
+		 *
+		 * @return a boolean value indicating whether the failed data access operation can be retried.
+		 * @see #retry()
+		 */
+		public boolean isRetryable() {
+			return this.retryOperation != null;
+		}
+
+		/**
+		 * Retries the failed data access operation.
+		 *
+		 * @throws IllegalStateException if the failed data access operation is not {@link #isRetryable() retryable}.
+		 * @throws RuntimeException if the data access operation fails again.
+		 * @see #isRetryable()
+		 */
+		public void retry() {
+
+			Assert.state(isRetryable(), () -> String.format("AsyncEvent [%s] is not retryable", getEvent()));
+
+			this.retryOperation.run();
+		}
+
 		/**
 		 * @inheritDoc
 		 */
@@ -271,6 +818,170 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		}
 	}
 
+	/**
+	 * The {@link AsyncEventBatchWriter} interface is a {@link FunctionalInterface} defining a strategy to write
+	 * the coalesced entities of a batch of {@link AsyncEvent AsyncEvents} to a backend, external data source in bulk.
+	 *
+	 * @param <T> {@link Class type} of the entity tied to the event.
+	 * @param <ID> {@link Class type} of the identifier of the entity.
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.lang.FunctionalInterface
+	 */
+	@FunctionalInterface
+	public interface AsyncEventBatchWriter<T, ID> {
+
+		/**
+		 * Factory method returning an {@link AsyncEventBatchWriter} calling {@link CrudRepository#saveAll(Iterable)}
+		 * and {@link CrudRepository#deleteAll(Iterable)}.
+		 *
+		 * @param <T> {@link Class type} of the entity tied to the event.
+		 * @param <ID> {@link Class type} of the identifier of the entity.
+		 * @return an {@link AsyncEventBatchWriter} using the bulk {@link CrudRepository} data access operations.
+		 */
+		static <T, ID> AsyncEventBatchWriter<T, ID> repositoryBatchWriter() {
+
+			return (repository, entitiesToSave, entitiesToDelete) -> {
+
+				if (!entitiesToSave.isEmpty()) {
+					repository.saveAll(entitiesToSave);
+				}
+
+				if (!entitiesToDelete.isEmpty()) {
+					repository.deleteAll(entitiesToDelete);
+				}
+			};
+		}
+
+		/**
+		 * Writes the coalesced entities of a batch to the backend, external data source.
+		 *
+		 * @param repository Spring Data {@link CrudRepository} used to access the backend, external data source.
+		 * @param entitiesToSave {@link List} of entities to save; never {@literal null}.
+		 * @param entitiesToDelete {@link List} of entities to delete; never {@literal null}.
+		 */
+		void write(@NonNull CrudRepository<T, ID> repository, @NonNull List<T> entitiesToSave,
+			@NonNull List<T> entitiesToDelete);
+
+	}
+
+	/**
+	 * {@link BatchMetrics} records statistics about the batches of {@link AsyncEvent AsyncEvents} written in bulk
+	 * when batching is enabled.
+	 */
+	public static class BatchMetrics {
+
+		private final AtomicLong batchCount = new AtomicLong(0L);
+		private final AtomicLong coalescedEventCount = new AtomicLong(0L);
+		private final AtomicLong deletedEntityCount = new AtomicLong(0L);
+		private final AtomicLong eventCount = new AtomicLong(0L);
+		private final AtomicLong failedBatchCount = new AtomicLong(0L);
+		private final AtomicLong lastBatchTime = new AtomicLong(0L);
+		private final AtomicLong savedEntityCount = new AtomicLong(0L);
+		private final AtomicLong totalBatchTime = new AtomicLong(0L);
+
+		void recordFailedBatch() {
+			this.failedBatchCount.incrementAndGet();
+		}
+
+		void record(int events, int coalescedEvents, int savedEntities, int deletedEntities, long batchTimeNanos) {
+
+			this.batchCount.incrementAndGet();
+			this.coalescedEventCount.addAndGet(coalescedEvents);
+			this.deletedEntityCount.addAndGet(deletedEntities);
+			this.eventCount.addAndGet(events);
+			this.lastBatchTime.set(batchTimeNanos);
+			this.savedEntityCount.addAndGet(savedEntities);
+			this.totalBatchTime.addAndGet(batchTimeNanos);
+		}
+
+		/**
+		 * Returns the number of batches processed.
+		 *
+		 * @return the number of batches processed.
+		 */
+		public long getBatchCount() {
+			return this.batchCount.get();
+		}
+
+		/**
+		 * Returns the number of {@link AsyncEvent AsyncEvents} eliminated by coalescing.
+		 *
+		 * @return the number of {@link AsyncEvent AsyncEvents} eliminated by coalescing.
+		 */
+		public long getCoalescedEventCount() {
+			return this.coalescedEventCount.get();
+		}
+
+		/**
+		 * Returns the number of entities deleted in bulk.
+		 *
+		 * @return the number of entities deleted in bulk.
+		 */
+		public long getDeletedEntityCount() {
+			return this.deletedEntityCount.get();
+		}
+
+		/**
+		 * Returns the number of {@link AsyncEvent AsyncEvents} received in batches.
+		 *
+		 * @return the number of {@link AsyncEvent AsyncEvents} received in batches.
+		 */
+		public long getEventCount() {
+			return this.eventCount.get();
+		}
+
+		/**
+		 * Returns the number of batches for which the bulk write failed.
+		 *
+		 * @return the number of batches for which the bulk write failed.
+		 */
+		public long getFailedBatchCount() {
+			return this.failedBatchCount.get();
+		}
+
+		/**
+		 * Returns the time it took to process the last batch in the given {@link TimeUnit}.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned time.
+		 * @return the time it took to process the last batch.
+		 */
+		public long getLastBatchTime(@NonNull TimeUnit timeUnit) {
+			return timeUnit.convert(this.lastBatchTime.get(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the number of entities saved in bulk.
+		 *
+		 * @return the number of entities saved in bulk.
+		 */
+		public long getSavedEntityCount() {
+			return this.savedEntityCount.get();
+		}
+
+		/**
+		 * Returns the total time spent processing batches in the given {@link TimeUnit}.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned time.
+		 * @return the total time spent processing batches.
+		 */
+		public long getTotalBatchTime(@NonNull TimeUnit timeUnit) {
+			return timeUnit.convert(this.totalBatchTime.get(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		public String toString() {
+
+			return String.format("{ batchCount = %1$d, eventCount = %2$d, coalescedEventCount = %3$d,"
+				+ " savedEntityCount = %4$d, deletedEntityCount = %5$d, failedBatchCount = %6$d,"
+				+ " totalBatchTime = %7$d ms }", getBatchCount(), getEventCount(), getCoalescedEventCount(),
+					getSavedEntityCount(), getDeletedEntityCount(), getFailedBatchCount(),
+						getTotalBatchTime(TimeUnit.MILLISECONDS));
+		}
+	}
+
 	/**
 	 * The {@link AsyncEventErrorHandler} interface is a {@link Function} and {@link FunctionalInterface} used to
 	 * handle errors while processing {@link AsyncEvent AsyncEvents}.
@@ -336,7 +1047,10 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		 *
 		 * {@link AsyncEventErrorHandler} can be implemented to retry the operation with incremental backoff, based on
 		 * count or time, record the failure, perform resource cleanup actions, whatever is necessary and appropriate
-		 * to the application use case.
+		 * to the application use case. The {@link AsyncEventError} passed to the {@link AsyncEventErrorHandler} is
+		 * {@link AsyncEventError#retry() retryable} when the entity was resolved, as is the case when
+		 * the {@link CrudRepository} data access operation fails. See {@link RetryingAsyncEventErrorHandler}
+		 * and {@link DeadLetterAsyncEventErrorHandler}.
 		 *
 		 * @param event {@link AsyncEvent} to process.
 		 * @return a boolean value indicating whether the event was successfully processed.
@@ -351,11 +1065,15 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		@Override
 		public Boolean apply(@Nullable AsyncEvent<ID, T> event) {
 
+			Runnable retryOperation = null;
+
 			try {
 				if (canProcess(event)) {
 
 					T entity = resolveEntity(event);
 
+					retryOperation = () -> doRepositoryOp(entity);
+
 					doRepositoryOp(entity);
 
 					return true;
@@ -364,7 +1082,7 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 				return false;
 			}
 			catch (Throwable cause) {
-				return getAsyncEventErrorHandler().apply(new AsyncEventError(event, cause));
+				return getAsyncEventErrorHandler().apply(new AsyncEventError(event, cause, retryOperation));
 			}
 		}
 
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+import org.apache.geode.cache.wan.GatewayEventFilter;
+import org.apache.geode.cache.wan.GatewayQueueEvent;
+import org.apache.geode.cache.wan.GatewaySender;
+
+import org.springframework.data.gemfire.PeerRegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring Data {@link RegionConfigurer} implementation used to create an {@link AsyncEventQueue} backed by
+ * a {@link RepositoryAsyncEventListener} adapting a Spring Data {@link CrudRepository} and attach the queue to
+ * a targeted {@link Region} for write-behind.
+ *
+ * Unlike a {@link RepositoryCacheWriter}, which blocks cache operations until the {@link CrudRepository} returns,
+ * cache operations on the {@link Region} return once the event is enqueued and the backend data source/data store
+ * is updated asynchronously, in batches, by the {@link AsyncEventQueue} dispatcher {@link Thread Threads}.
+ *
+ * Cache events caused by a {@link RepositoryCacheLoader#isRefreshAhead(Object) refresh-ahead} are not enqueued
+ * since the entity was just read from the backend data source.
+ *
+ * {@link AsyncEventQueue AsyncEventQueues} are only supported by peer {@link Region Regions}, therefore
+ * {@literal client} {@link Region Regions} are not configured by this {@link RegionConfigurer}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see java.util.function.Predicate
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory
+ * @see org.springframework.data.gemfire.PeerRegionFactoryBean
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @since 1.4.0
+ */
+public class RepositoryAsyncEventQueueRegionConfigurer<T, ID> implements RegionConfigurer {
+
+	protected static final boolean DEFAULT_PARALLEL = false;
+	protected static final boolean DEFAULT_PERSISTENT = GatewaySender.DEFAULT_PERSISTENCE_ENABLED;
+
+	protected static final int DEFAULT_BATCH_SIZE = GatewaySender.DEFAULT_BATCH_SIZE;
+	protected static final int DEFAULT_BATCH_TIME_INTERVAL = GatewaySender.DEFAULT_BATCH_TIME_INTERVAL;
+	protected static final int DEFAULT_DISPATCHER_THREADS = GatewaySender.DEFAULT_DISPATCHER_THREADS;
+
+	protected static final String ASYNC_EVENT_QUEUE_ID_PATTERN = "%s-RepositoryAsyncEventQueue";
+
+	/**
+	 * Factory method used to construct a new instance of {@link RepositoryAsyncEventQueueRegionConfigurer}
+	 * initialized with the given Spring Data {@link CrudRepository} used to write {@link Region} values to
+	 * a backend data source/data store along with a given {@link Predicate} to identify/qualify the {@link Region}
+	 * to which the {@link AsyncEventQueue} will be attached.
+	 *
+	 * @param repository {@link CrudRepository} used to write {@link Region} values to a backend data source.
+	 * @param regionBeanName {@link Predicate} used to identify/qualify the {@link Region} to which
+	 * the {@link AsyncEventQueue} will be attached.
+	 * @return a new instance of {@link RepositoryAsyncEventQueueRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.util.function.Predicate
+	 * @see #RepositoryAsyncEventQueueRegionConfigurer(CrudRepository, Predicate)
+	 */
+	public static <T, ID> RepositoryAsyncEventQueueRegionConfigurer<T, ID> create(
+			@NonNull CrudRepository<T, ID> repository, @Nullable Predicate<String> regionBeanName) {
+
+		return new RepositoryAsyncEventQueueRegionConfigurer<>(repository, regionBeanName);
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link RepositoryAsyncEventQueueRegionConfigurer}
+	 * initialized with the given Spring Data {@link CrudRepository} used to write {@link Region} values to
+	 * a backend data source/data store along with a given {@link String} containing the bean name
+	 * of the {@link Region} to which the {@link AsyncEventQueue} will be attached.
+	 *
+	 * @param repository {@link CrudRepository} used to write {@link Region} values to a backend data source.
+	 * @param regionBeanName {@link String} containing the bean name identifying/qualifying the {@link Region}
+	 * to which the {@link AsyncEventQueue} will be attached.
+	 * @return a new instance of {@link RepositoryAsyncEventQueueRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.lang.String
+	 * @see #create(CrudRepository, Predicate)
+	 */
+	public static <T, ID> RepositoryAsyncEventQueueRegionConfigurer<T, ID> create(
+			@NonNull CrudRepository<T, ID> repository, @Nullable String regionBeanName) {
+
+		return create(repository, Predicate.isEqual(regionBeanName));
+	}
+
+	private boolean batchingEnabled = false;
+	private boolean parallel = DEFAULT_PARALLEL;
+	private boolean persistent = DEFAULT_PERSISTENT;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int batchTimeInterval = DEFAULT_BATCH_TIME_INTERVAL;
+	private int dispatcherThreads = DEFAULT_DISPATCHER_THREADS;
+
+	private RepositoryAsyncEventListener.AsyncEventErrorHandler asyncEventErrorHandler;
+
+	private final CrudRepository<T, ID> repository;
+
+	private final Predicate<String> regionBeanName;
+
+	private String diskStoreName;
+
+	/**
+	 * Constructs a new instance of {@link RepositoryAsyncEventQueueRegionConfigurer} initialized with the given
+	 * Spring Data {@link CrudRepository} used to write {@link Region} values to a backend data source/data store
+	 * along with a given {@link Predicate} to identify/qualify the {@link Region} to which the {@link AsyncEventQueue}
+	 * will be attached.
+	 *
+	 * @param repository {@link CrudRepository} used to write {@link Region} values to a backend data source.
+	 * @param regionBeanName {@link Predicate} used to identify/qualify the {@link Region} to which
+	 * the {@link AsyncEventQueue} will be attached.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.util.function.Predicate
+	 */
+	public RepositoryAsyncEventQueueRegionConfigurer(@NonNull CrudRepository<T, ID> repository,
+			@Nullable Predicate<String> regionBeanName) {
+
+		Assert.notNull(repository, "CrudRepository is required");
+
+		this.repository = repository;
+		this.regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
+	}
+
+	/**
+	 * Configures the {@link RepositoryAsyncEventListener.AsyncEventErrorHandler} used by
+	 * the {@link RepositoryAsyncEventListener} to handle errors while writing to the backend data source.
+	 *
+	 * @param asyncEventErrorHandler {@link RepositoryAsyncEventListener.AsyncEventErrorHandler} used to handle errors.
+	 * @see RepositoryAsyncEventListener#setAsyncEventErrorHandler(RepositoryAsyncEventListener.AsyncEventErrorHandler)
+	 */
+	public void setAsyncEventErrorHandler(
+			@Nullable RepositoryAsyncEventListener.AsyncEventErrorHandler asyncEventErrorHandler) {
+
+		this.asyncEventErrorHandler = asyncEventErrorHandler;
+	}
+
+	/**
+	 * Returns the configured {@link RepositoryAsyncEventListener.AsyncEventErrorHandler}.
+	 *
+	 * @return the configured {@link RepositoryAsyncEventListener.AsyncEventErrorHandler}; may be {@literal null}.
+	 */
+	protected @Nullable RepositoryAsyncEventListener.AsyncEventErrorHandler getAsyncEventErrorHandler() {
+		return this.asyncEventErrorHandler;
+	}
+
+	/**
+	 * Enables or disables batching in the {@link RepositoryAsyncEventListener}, which coalesces the events
+	 * in a batch by key and writes the entities to the backend data source in bulk.
+	 *
+	 * @param batchingEnabled boolean value indicating whether batching is enabled; disabled by default.
+	 * @see RepositoryAsyncEventListener#setBatchingEnabled(boolean)
+	 */
+	public void setBatchingEnabled(boolean batchingEnabled) {
+		this.batchingEnabled = batchingEnabled;
+	}
+
+	/**
+	 * Determines whether batching is enabled in the {@link RepositoryAsyncEventListener}.
+	 *
+	 * @return a boolean value indicating whether batching is enabled.
+	 */
+	public boolean isBatchingEnabled() {
+		return this.batchingEnabled;
+	}
+
+	/**
+	 * Configures the maximum number of events dispatched to the {@link RepositoryAsyncEventListener}
+	 * in a single batch.
+	 *
+	 * @param batchSize maximum number of events in a batch; values less than {@literal 1} use the default.
+	 * @see AsyncEventQueueFactory#setBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Returns the configured maximum number of events dispatched in a single batch.
+	 *
+	 * @return the configured batch size; defaults to {@literal 100}.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Configures the maximum number of milliseconds that can elapse between dispatching batches.
+	 *
+	 * @param batchTimeInterval maximum number of milliseconds between batches; values less than {@literal 1}
+	 * use the default.
+	 * @see AsyncEventQueueFactory#setBatchTimeInterval(int)
+	 */
+	public void setBatchTimeInterval(int batchTimeInterval) {
+		this.batchTimeInterval = batchTimeInterval > 0 ? batchTimeInterval : DEFAULT_BATCH_TIME_INTERVAL;
+	}
+
+	/**
+	 * Returns the configured maximum number of milliseconds that can elapse between dispatching batches.
+	 *
+	 * @return the configured batch time interval; defaults to {@literal 1000} milliseconds.
+	 */
+	public int getBatchTimeInterval() {
+		return this.batchTimeInterval;
+	}
+
+	/**
+	 * Configures the number of {@link Thread Threads} dispatching events from the {@link AsyncEventQueue}.
+	 *
+	 * @param dispatcherThreads number of dispatcher {@link Thread Threads}; values less than {@literal 1}
+	 * use the default.
+	 * @see AsyncEventQueueFactory#setDispatcherThreads(int)
+	 */
+	public void setDispatcherThreads(int dispatcherThreads) {
+		this.dispatcherThreads = dispatcherThreads > 0 ? dispatcherThreads : DEFAULT_DISPATCHER_THREADS;
+	}
+
+	/**
+	 * Returns the configured number of {@link Thread Threads} dispatching events from the {@link AsyncEventQueue}.
+	 *
+	 * @return the configured number of dispatcher {@link Thread Threads}; defaults to {@literal 5}.
+	 */
+	public int getDispatcherThreads() {
+		return this.dispatcherThreads;
+	}
+
+	/**
+	 * Configures the name of the {@link org.apache.geode.cache.DiskStore} used to overflow
+	 * or persist the {@link AsyncEventQueue}.
+	 *
+	 * @param diskStoreName {@link String} containing the name of the {@link org.apache.geode.cache.DiskStore}.
+	 * @see AsyncEventQueueFactory#setDiskStoreName(String)
+	 */
+	public void setDiskStoreName(@Nullable String diskStoreName) {
+		this.diskStoreName = diskStoreName;
+	}
+
+	/**
+	 * Returns the configured name of the {@link org.apache.geode.cache.DiskStore} used by
+	 * the {@link AsyncEventQueue}.
+	 *
+	 * @return the configured name of the {@link org.apache.geode.cache.DiskStore}; may be {@literal null}.
+	 */
+	public @Nullable String getDiskStoreName() {
+		return this.diskStoreName;
+	}
+
+	/**
+	 * Configures whether the {@link AsyncEventQueue} is parallel, in which case each server dispatches the events
+	 * for the primary buckets it hosts. A parallel {@link AsyncEventQueue} requires a {@literal PARTITION}
+	 * {@link Region}.
+	 *
+	 * @param parallel boolean value indicating whether the {@link AsyncEventQueue} is parallel.
+	 * @see AsyncEventQueueFactory#setParallel(boolean)
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Determines whether the {@link AsyncEventQueue} is parallel.
+	 *
+	 * @return a boolean value indicating whether the {@link AsyncEventQueue} is parallel.
+	 */
+	public boolean isParallel() {
+		return this.parallel;
+	}
+
+	/**
+	 * Configures whether the {@link AsyncEventQueue} is persisted to disk so that events not yet written to
+	 * the backend data source survive a server restart.
+	 *
+	 * @param persistent boolean value indicating whether the {@link AsyncEventQueue} is persistent.
+	 * @see AsyncEventQueueFactory#setPersistent(boolean)
+	 */
+	public void setPersistent(boolean persistent) {
+		this.persistent = persistent;
+	}
+
+	/**
+	 * Determines whether the {@link AsyncEventQueue} is persistent.
+	 *
+	 * @return a boolean value indicating whether the {@link AsyncEventQueue} is persistent.
+	 */
+	public boolean isPersistent() {
+		return this.persistent;
+	}
+
+	/**
+	 * Returns the configured {@link Predicate} used to identify/qualify the {@link Region}
+	 * to which the {@link AsyncEventQueue} will be attached.
+	 *
+	 * @return the configured {@link Predicate} used to identify/qualify the targeted {@link Region}.
+	 * @see java.util.function.Predicate
+	 */
+	protected @NonNull Predicate<String> getRegionBeanName() {
+		return this.regionBeanName;
+	}
+
+	/**
+	 * Returns the configured Spring Data {@link CrudRepository} adapted as a {@link RepositoryAsyncEventListener}
+	 * and used to write {@link Region} values to a backend data source/data store.
+	 *
+	 * @return the configured {@link CrudRepository} used to write {@link Region} values to a backend data source.
+	 * @see org.springframework.data.repository.CrudRepository
+	 */
+	protected @NonNull CrudRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Does not configure {@literal client} {@link Region Regions} since {@link AsyncEventQueue AsyncEventQueues}
+	 * are only supported by peer {@link Region Regions}.
+	 *
+	 * @param beanName {@link String} containing the name of the {@link Region} bean.
+	 * @param bean {@link ClientRegionFactoryBean} used to create the {@literal client} {@link Region}.
+	 */
+	@Override
+	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) { }
+
+	@Override
+	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
+
+		if (getRegionBeanName().test(beanName)) {
+			bean.addAsyncEventQueues(new AsyncEventQueue[] { resolveAsyncEventQueue(bean.getCache(), beanName) });
+		}
+	}
+
+	/**
+	 * Resolves the {@link AsyncEventQueue} for the {@link Region} with the given bean name, creating the queue
+	 * if it does not already exist in the {@link Cache}.
+	 *
+	 * @param gemfireCache peer {@link Cache} in which the {@link AsyncEventQueue} is created.
+	 * @param beanName {@link String} containing the name of the {@link Region} bean.
+	 * @return the resolved {@link AsyncEventQueue}.
+	 * @throws IllegalStateException if the {@link GemFireCache} is not a peer {@link Cache}.
+	 * @see #newAsyncEventQueue(Cache, String)
+	 */
+	protected synchronized @NonNull AsyncEventQueue resolveAsyncEventQueue(@Nullable GemFireCache gemfireCache,
+			@NonNull String beanName) {
+
+		Assert.state(gemfireCache instanceof Cache,
+			() -> String.format("A peer Cache is required to create an AsyncEventQueue for Region [%s]", beanName));
+
+		Cache cache = (Cache) gemfireCache;
+
+		String asyncEventQueueId = String.format(ASYNC_EVENT_QUEUE_ID_PATTERN, beanName);
+
+		AsyncEventQueue asyncEventQueue = cache.getAsyncEventQueue(asyncEventQueueId);
+
+		return asyncEventQueue != null ? asyncEventQueue : newAsyncEventQueue(cache, asyncEventQueueId);
+	}
+
+	/**
+	 * Constructs a new {@link AsyncEventQueue} with the given ID, configured with the batch size, batch time interval,
+	 * dispatcher threads, persistence and {@link RepositoryAsyncEventListener} of this {@link RegionConfigurer}.
+	 *
+	 * The {@link AsyncEventQueue} is configured with a {@link GatewayEventFilter} that does not enqueue
+	 * cache events caused by a refresh-ahead.
+	 *
+	 * @param cache peer {@link Cache} in which the {@link AsyncEventQueue} is created.
+	 * @param asyncEventQueueId {@link String} containing the ID of the {@link AsyncEventQueue}.
+	 * @return a new {@link AsyncEventQueue}.
+	 * @see org.apache.geode.cache.Cache#createAsyncEventQueueFactory()
+	 * @see #newRepositoryAsyncEventListener()
+	 */
+	protected @NonNull AsyncEventQueue newAsyncEventQueue(@NonNull Cache cache, @NonNull String asyncEventQueueId) {
+
+		AsyncEventQueueFactory asyncEventQueueFactory = cache.createAsyncEventQueueFactory()
+			.setBatchSize(getBatchSize())
+			.setBatchTimeInterval(getBatchTimeInterval())
+			.setDispatcherThreads(getDispatcherThreads())
+			.setParallel(isParallel())
+			.setPersistent(isPersistent());
+
+		asyncEventQueueFactory.addGatewayEventFilter(new RefreshAheadGatewayEventFilter());
+
+		String diskStoreName = getDiskStoreName();
+
+		if (StringUtils.hasText(diskStoreName)) {
+			asyncEventQueueFactory.setDiskStoreName(diskStoreName);
+		}
+
+		return asyncEventQueueFactory.create(asyncEventQueueId, newRepositoryAsyncEventListener());
+	}
+
+	/**
+	 * Constructs a new instance of {@link RepositoryAsyncEventListener} adapting the {@link CrudRepository}
+	 * as an instance of an {@link org.apache.geode.cache.asyncqueue.AsyncEventListener}.
+	 *
+	 * @return a new {@link RepositoryAsyncEventListener}.
+	 * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+	 * @see #getRepository()
+	 */
+	protected @NonNull RepositoryAsyncEventListener<T, ID> newRepositoryAsyncEventListener() {
+
+		RepositoryAsyncEventListener<T, ID> listener = new RepositoryAsyncEventListener<>(getRepository());
+
+		listener.setAsyncEventErrorHandler(getAsyncEventErrorHandler());
+		listener.setBatchingEnabled(isBatchingEnabled());
+
+		return listener;
+	}
+
+	/**
+	 * {@link GatewayEventFilter} that does not enqueue cache events caused by
+	 * a {@link RepositoryCacheLoader#isRefreshAhead(Object) refresh-ahead}.
+	 */
+	@SuppressWarnings("rawtypes")
+	protected static class RefreshAheadGatewayEventFilter implements GatewayEventFilter {
+
+		@Override
+		public boolean beforeEnqueue(GatewayQueueEvent event) {
+			return !RepositoryCacheLoader.isRefreshAhead(event.getCallbackArgument());
+		}
+
+		@Override
+		public boolean beforeTransmit(GatewayQueueEvent event) {
+			return true;
+		}
+
+		@Override
+		public void afterAcknowledgement(GatewayQueueEvent event) { }
+
+		@Override
+		public void close() { }
+
+	}
+}
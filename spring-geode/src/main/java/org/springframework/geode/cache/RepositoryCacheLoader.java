@@ -15,22 +15,54 @@
  */
 package org.springframework.geode.cache;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import org.apache.geode.cache.CacheListener;
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheLoaderException;
 import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.CacheListenerAdapter;
 
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A {@link CacheLoader} implementation backed by a Spring Data {@link CrudRepository} used to load an entity
  * from an external data source.
  *
+ * Optionally, keys for which no entity exists in the external data source can be remembered for a short
+ * {@link #withNegativeCaching(Duration) time-to-live}, during which repeated loads of the same key return
+ * {@literal null} without querying the external data source. A negative result is forgotten as soon as an entity
+ * with the same key is created or updated in the {@link Region}.
+ *
+ * Optionally, entities can be {@link #withRefreshAhead(float) refreshed ahead} of the {@link Region} entry
+ * time-to-live (TTL) expiration. Entries accessed since they were loaded, or last refreshed, are reloaded
+ * asynchronously and put back into the {@link Region} before they expire, so that hot entries do not stall
+ * readers on a synchronous reload. Entries not accessed in the meantime are left to expire.
+ *
  * @author John Blum
+ * @see org.apache.geode.cache.CacheListener
  * @see org.apache.geode.cache.CacheLoader
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.cache.ExpirationAttributes
  * @see org.springframework.data.repository.CrudRepository
  * @see org.springframework.geode.cache.support.CacheLoaderSupport
  * @since 1.1.0
@@ -40,15 +72,188 @@ public class RepositoryCacheLoader<T, ID> extends RepositoryCacheLoaderWriterSup
 
   protected static final String CACHE_LOAD_EXCEPTION_MESSAGE = "Error while loading Entity [%s] with Repository [%s]";
 
+  /**
+   * Callback argument passed to {@link Region#put(Object, Object, Object)} when an entity is refreshed ahead of
+   * expiration, identifying cache events that must not be written back to the external data source.
+   */
+  public static final String REFRESH_AHEAD_CALLBACK_ARGUMENT = RepositoryCacheLoader.class.getName() + ".REFRESH_AHEAD";
+
+  protected static final int DEFAULT_MAX_NEGATIVE_RESULTS = 10000;
+
+  /**
+   * Determines whether the given callback argument identifies a cache event caused by a refresh-ahead.
+   *
+   * @param callbackArgument callback argument of the cache event.
+   * @return a boolean value indicating whether the cache event was caused by a refresh-ahead.
+   * @see #REFRESH_AHEAD_CALLBACK_ARGUMENT
+   */
+  public static boolean isRefreshAhead(@Nullable Object callbackArgument) {
+    return REFRESH_AHEAD_CALLBACK_ARGUMENT.equals(callbackArgument);
+  }
+
+  private final ConcurrentMap<ID, Long> negativeResults = new ConcurrentHashMap<>();
+
+  private final Set<Region<ID, T>> negativeResultEvictingRegions = ConcurrentHashMap.newKeySet();
+
+  private volatile Duration negativeResultTimeToLive = Duration.ZERO;
+
+  private volatile float refreshAheadFactor = 0.0f;
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private ScheduledExecutorService refreshAheadExecutorService;
+
+  private final Set<ID> scheduledRefreshes = ConcurrentHashMap.newKeySet();
+
   public RepositoryCacheLoader(CrudRepository<T, ID> repository) {
     super(repository);
   }
 
+  /**
+   * Returns the {@link Duration} for which keys with no entity in the external data source are remembered.
+   *
+   * @return the {@link Duration} for which negative results are remembered; {@link Duration#ZERO} if disabled.
+   */
+  public @NonNull Duration getNegativeResultTimeToLive() {
+    return this.negativeResultTimeToLive;
+  }
+
+  /**
+   * Determines whether negative results are cached.
+   *
+   * @return a boolean value indicating whether negative results are cached.
+   * @see #withNegativeCaching(Duration)
+   */
+  public boolean isNegativeCachingEnabled() {
+    return !getNegativeResultTimeToLive().isZero();
+  }
+
+  /**
+   * Returns the fraction of the {@link Region} entry time-to-live after which a loaded entity is refreshed.
+   *
+   * @return the refresh-ahead factor; {@literal 0} if disabled.
+   */
+  public float getRefreshAheadFactor() {
+    return this.refreshAheadFactor;
+  }
+
+  /**
+   * Determines whether refresh-ahead is enabled.
+   *
+   * @return a boolean value indicating whether refresh-ahead is enabled.
+   * @see #withRefreshAhead(float)
+   */
+  public boolean isRefreshAheadEnabled() {
+    return getRefreshAheadFactor() > 0.0f;
+  }
+
+  /**
+   * Builder method used to configure the {@link Duration} for which keys with no entity in the external data source
+   * are remembered, during which loads of those keys return {@literal null} without querying the external data source.
+   *
+   * Entities created in the external data source, other than through the {@link Region}, may not be visible
+   * until the {@link Duration} elapses, so the {@link Duration} should be short. A {@link Duration#isZero() zero}
+   * {@link Duration} disables negative caching, which is the default.
+   *
+   * @param negativeResultTimeToLive {@link Duration} for which negative results are remembered;
+   * must not be {@literal null} or negative.
+   * @return this {@link RepositoryCacheLoader}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+   */
+  public @NonNull RepositoryCacheLoader<T, ID> withNegativeCaching(@NonNull Duration negativeResultTimeToLive) {
+
+    Assert.isTrue(negativeResultTimeToLive != null && !negativeResultTimeToLive.isNegative(),
+        () -> String.format("Negative result time-to-live [%s] must not be null or negative",
+            negativeResultTimeToLive));
+
+    this.negativeResultTimeToLive = negativeResultTimeToLive;
+
+    if (negativeResultTimeToLive.isZero()) {
+      clearNegativeResults();
+    }
+
+    return this;
+  }
+
+  /**
+   * Builder method used to enable refresh-ahead of loaded entities after the given fraction of the {@link Region}
+   * entry time-to-live (TTL) has elapsed.
+   *
+   * For example, with a factor of {@literal 0.75} and an entry TTL of 60 seconds, an entity accessed since it was
+   * loaded is reloaded 45 seconds after the load. Refresh-ahead requires the {@link Region} to be configured with
+   * an entry TTL {@link ExpirationAttributes expiration timeout} and statistics enabled. A factor of {@literal 0}
+   * disables refresh-ahead, which is the default.
+   *
+   * @param refreshAheadFactor fraction of the entry TTL after which an entity is refreshed; must be greater than
+   * or equal to {@literal 0} and less than {@literal 1}.
+   * @return this {@link RepositoryCacheLoader}.
+   * @throws IllegalArgumentException if the factor is not greater than or equal to {@literal 0}
+   * and less than {@literal 1}.
+   */
+  public @NonNull RepositoryCacheLoader<T, ID> withRefreshAhead(float refreshAheadFactor) {
+
+    Assert.isTrue(refreshAheadFactor >= 0.0f && refreshAheadFactor < 1.0f,
+        () -> String.format("Refresh-ahead factor [%s] must be greater than or equal to 0 and less than 1",
+            refreshAheadFactor));
+
+    this.refreshAheadFactor = refreshAheadFactor;
+
+    return this;
+  }
+
+  /**
+   * Forgets all negative results so that subsequent loads query the external data source.
+   */
+  public void clearNegativeResults() {
+    this.negativeResults.clear();
+  }
+
+  /**
+   * Forgets the negative result for the given key so that the next load queries the external data source.
+   *
+   * @param key key of the negative result to forget.
+   */
+  public void evictNegativeResult(@Nullable ID key) {
+
+    if (key != null) {
+      this.negativeResults.remove(key);
+    }
+  }
+
   @Override
   public T load(LoaderHelper<ID, T> helper) throws CacheLoaderException {
 
+    ID key = helper.getKey();
+
+    if (isNegativeResultCached(key)) {
+      return null;
+    }
+
+    T entity = doLoad(helper, key);
+
+    if (entity == null) {
+      registerNegativeResultEvictingCacheListener(helper.getRegion());
+      cacheNegativeResult(key);
+    }
+    else if (isRefreshAheadEnabled()) {
+      scheduleRefreshAhead(helper.getRegion(), key);
+    }
+
+    return entity;
+  }
+
+  /**
+   * Loads the entity with the given key from the external data source.
+   *
+   * @param helper {@link LoaderHelper} for the load.
+   * @param key key of the entity to load.
+   * @return the loaded entity or {@literal null} if no entity exists with the given key.
+   * @throws CacheLoaderException if the entity could not be loaded.
+   */
+  protected T doLoad(LoaderHelper<ID, T> helper, ID key) throws CacheLoaderException {
+
     try {
-      return getRepository().findById(helper.getKey()).orElse(null);
+      return getRepository().findById(key).orElse(null);
     }
     catch (Exception cause) {
       throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
@@ -56,6 +261,236 @@ public class RepositoryCacheLoader<T, ID> extends RepositoryCacheLoaderWriterSup
     }
   }
 
+  /**
+   * Determines whether a negative result is remembered for the given key and has not yet expired.
+   *
+   * @param key key to evaluate.
+   * @return a boolean value indicating whether a negative result is cached for the given key.
+   * @see #withNegativeCaching(Duration)
+   */
+  protected boolean isNegativeResultCached(@Nullable ID key) {
+
+    Long expiresAt = key != null ? this.negativeResults.get(key) : null;
+
+    if (expiresAt != null) {
+
+      if (System.nanoTime() - expiresAt < 0L) {
+        return true;
+      }
+
+      this.negativeResults.remove(key, expiresAt);
+    }
+
+    return false;
+  }
+
+  /**
+   * Remembers that no entity exists for the given key if negative caching is enabled.
+   *
+   * @param key key for which no entity exists.
+   * @see #withNegativeCaching(Duration)
+   */
+  protected void cacheNegativeResult(@Nullable ID key) {
+
+    Duration negativeResultTimeToLive = getNegativeResultTimeToLive();
+
+    if (key != null && !negativeResultTimeToLive.isZero()) {
+
+      long now = System.nanoTime();
+
+      if (this.negativeResults.size() >= DEFAULT_MAX_NEGATIVE_RESULTS) {
+        this.negativeResults.values().removeIf(expiresAt -> now - expiresAt >= 0L);
+      }
+
+      if (this.negativeResults.size() < DEFAULT_MAX_NEGATIVE_RESULTS) {
+        this.negativeResults.put(key, now + negativeResultTimeToLive.toNanos());
+      }
+    }
+  }
+
+  /**
+   * Registers a {@link CacheListener} on the given {@link Region} that forgets the negative result for a key
+   * when an entity with the key is created or updated in the {@link Region}, if negative caching is enabled.
+   *
+   * Otherwise, an entity created through the {@link Region} that is later evicted or expires from the {@link Region}
+   * would not be loaded again until the negative result expires. The {@link CacheListener} is only registered once
+   * per {@link Region}.
+   *
+   * @param region {@link Region} in which the entities are cached.
+   * @see #newNegativeResultEvictingCacheListener()
+   * @see #evictNegativeResult(Object)
+   */
+  protected void registerNegativeResultEvictingCacheListener(@Nullable Region<ID, T> region) {
+
+    if (region != null && isNegativeCachingEnabled() && this.negativeResultEvictingRegions.add(region)) {
+      try {
+        region.getAttributesMutator().addCacheListener(newNegativeResultEvictingCacheListener());
+      }
+      catch (RuntimeException cause) {
+        this.negativeResultEvictingRegions.remove(region);
+        this.logger.warn("Failed to register CacheListener evicting negative results on Region [{}]",
+            region.getFullPath(), cause);
+      }
+    }
+  }
+
+  /**
+   * Constructs a new {@link CacheListener} that forgets the negative result for the key of an entity
+   * created or updated in the {@link Region}.
+   *
+   * @return a new {@link CacheListener} evicting negative results.
+   * @see #evictNegativeResult(Object)
+   */
+  protected @NonNull CacheListener<ID, T> newNegativeResultEvictingCacheListener() {
+
+    return new CacheListenerAdapter<ID, T>() {
+
+      @Override
+      public void afterCreate(EntryEvent<ID, T> event) {
+        evictNegativeResult(event.getKey());
+      }
+
+      @Override
+      public void afterUpdate(EntryEvent<ID, T> event) {
+        evictNegativeResult(event.getKey());
+      }
+    };
+  }
+
+  /**
+   * Schedules an asynchronous refresh of the entity with the given key once the configured fraction
+   * of the {@link Region} entry time-to-live has elapsed.
+   *
+   * No refresh is scheduled if the {@link Region} is not configured with an entry time-to-live
+   * or a refresh is already scheduled for the key.
+   *
+   * @param region {@link Region} in which the entity is cached.
+   * @param key key of the entity to refresh.
+   * @see #refreshAhead(Region, Object)
+   */
+  protected void scheduleRefreshAhead(@Nullable Region<ID, T> region, @NonNull ID key) {
+
+    long timeToLiveMillis = resolveEntryTimeToLiveMillis(region);
+
+    if (timeToLiveMillis > 0L && this.scheduledRefreshes.add(key)) {
+
+      long delay = (long) (timeToLiveMillis * getRefreshAheadFactor());
+
+      try {
+        getRefreshAheadExecutorService().schedule(() -> refreshAhead(region, key), delay, TimeUnit.MILLISECONDS);
+      }
+      catch (RuntimeException cause) {
+        this.scheduledRefreshes.remove(key);
+        this.logger.warn("Failed to schedule refresh-ahead of entity [{}]", key, cause);
+      }
+    }
+  }
+
+  private long resolveEntryTimeToLiveMillis(Region<ID, T> region) {
+
+    ExpirationAttributes entryTimeToLive = region != null && region.getAttributes() != null
+        ? region.getAttributes().getEntryTimeToLive()
+        : null;
+
+    return entryTimeToLive != null ? TimeUnit.SECONDS.toMillis(entryTimeToLive.getTimeout()) : 0L;
+  }
+
+  /**
+   * Reloads the entity with the given key from the external data source and puts it into the {@link Region}
+   * if the entry was accessed since it was loaded, or last refreshed.
+   *
+   * The entity is put with the {@link #REFRESH_AHEAD_CALLBACK_ARGUMENT} so that it is not written back to
+   * the external data source. Failures are logged and the entry is left to expire.
+   *
+   * @param region {@link Region} in which the entity is cached.
+   * @param key key of the entity to refresh.
+   * @see #REFRESH_AHEAD_CALLBACK_ARGUMENT
+   */
+  protected void refreshAhead(@NonNull Region<ID, T> region, @NonNull ID key) {
+
+    this.scheduledRefreshes.remove(key);
+
+    try {
+      if (!region.isDestroyed() && isAccessedSinceLastModified(region.getEntry(key))) {
+
+        T entity = getRepository().findById(key).orElse(null);
+
+        if (entity != null) {
+          region.put(key, entity, REFRESH_AHEAD_CALLBACK_ARGUMENT);
+          scheduleRefreshAhead(region, key);
+        }
+      }
+    }
+    catch (Exception cause) {
+      this.logger.warn("Failed to refresh-ahead entity [{}] in Region [{}]", key, region.getFullPath(), cause);
+    }
+  }
+
+  private boolean isAccessedSinceLastModified(Region.Entry<ID, T> entry) {
+
+    if (entry != null && !entry.isDestroyed()) {
+
+      CacheStatistics statistics = entry.getStatistics();
+
+      return statistics != null && statistics.getLastAccessedTime() > statistics.getLastModifiedTime();
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the {@link ScheduledExecutorService} used to refresh entities ahead of expiration.
+   *
+   * @return the {@link ScheduledExecutorService} used to refresh entities ahead of expiration.
+   */
+  protected synchronized @NonNull ScheduledExecutorService getRefreshAheadExecutorService() {
+
+    if (this.refreshAheadExecutorService == null) {
+      this.refreshAheadExecutorService = newRefreshAheadExecutorService();
+    }
+
+    return this.refreshAheadExecutorService;
+  }
+
+  /**
+   * Constructs a new {@link ScheduledExecutorService} with a single daemon {@link Thread}
+   * used to refresh entities ahead of expiration.
+   *
+   * @return a new {@link ScheduledExecutorService}.
+   */
+  protected @NonNull ScheduledExecutorService newRefreshAheadExecutorService() {
+
+    ScheduledThreadPoolExecutor executorService = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+      Thread refreshAheadThread = new Thread(runnable, "RepositoryCacheLoader-RefreshAhead");
+
+      refreshAheadThread.setDaemon(true);
+
+      return refreshAheadThread;
+    });
+
+    executorService.setRemoveOnCancelPolicy(true);
+
+    return executorService;
+  }
+
+  /**
+   * Stops refreshing entities ahead of expiration and forgets all negative results.
+   */
+  @Override
+  public void close() {
+
+    synchronized (this) {
+      if (this.refreshAheadExecutorService != null) {
+        this.refreshAheadExecutorService.shutdownNow();
+        this.refreshAheadExecutorService = null;
+      }
+    }
+
+    this.scheduledRefreshes.clear();
+    clearNegativeResults();
+  }
+
   @Override
   protected CacheRuntimeException newCacheRuntimeException(Supplier<String> messageSupplier, Throwable cause) {
     return new CacheLoaderException(messageSupplier.get(), cause);
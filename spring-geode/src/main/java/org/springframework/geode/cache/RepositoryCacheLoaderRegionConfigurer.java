@@ -15,6 +15,7 @@
  */
 package org.springframework.geode.cache;
 
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import org.apache.geode.cache.CacheLoader;
@@ -94,6 +95,10 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 
 	private final CrudRepository<T, ID> repository;
 
+	private Duration negativeResultTimeToLive = Duration.ZERO;
+
+	private float refreshAheadFactor = 0.0f;
+
 	private final Predicate<String> regionBeanName;
 
 	/**
@@ -118,6 +123,68 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 		this.regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
 	}
 
+	/**
+	 * Builder method used to configure the {@link Duration} for which keys with no entity in the backend data source
+	 * are remembered by the {@link RepositoryCacheLoader}, avoiding repeated queries for non-existent entities.
+	 *
+	 * @param negativeResultTimeToLive {@link Duration} for which negative results are remembered;
+	 * a {@link Duration#isZero() zero} {@link Duration} disables negative caching.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+	 * @see RepositoryCacheLoader#withNegativeCaching(Duration)
+	 */
+	public @NonNull RepositoryCacheLoaderRegionConfigurer<T, ID> withNegativeCaching(
+			@NonNull Duration negativeResultTimeToLive) {
+
+		Assert.isTrue(negativeResultTimeToLive != null && !negativeResultTimeToLive.isNegative(),
+			() -> String.format("Negative result time-to-live [%s] must not be null or negative",
+				negativeResultTimeToLive));
+
+		this.negativeResultTimeToLive = negativeResultTimeToLive;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link RepositoryCacheLoader} to refresh hot entities asynchronously
+	 * after the given fraction of the {@link Region} entry time-to-live (TTL) has elapsed.
+	 *
+	 * @param refreshAheadFactor fraction of the entry TTL after which an entity is refreshed; {@literal 0} disables
+	 * refresh-ahead.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @throws IllegalArgumentException if the factor is not greater than or equal to {@literal 0}
+	 * and less than {@literal 1}.
+	 * @see RepositoryCacheLoader#withRefreshAhead(float)
+	 */
+	public @NonNull RepositoryCacheLoaderRegionConfigurer<T, ID> withRefreshAhead(float refreshAheadFactor) {
+
+		Assert.isTrue(refreshAheadFactor >= 0.0f && refreshAheadFactor < 1.0f,
+			() -> String.format("Refresh-ahead factor [%s] must be greater than or equal to 0 and less than 1",
+				refreshAheadFactor));
+
+		this.refreshAheadFactor = refreshAheadFactor;
+
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link Duration} for which negative results are remembered.
+	 *
+	 * @return the configured {@link Duration} for which negative results are remembered.
+	 */
+	protected @NonNull Duration getNegativeResultTimeToLive() {
+		return this.negativeResultTimeToLive;
+	}
+
+	/**
+	 * Returns the configured fraction of the {@link Region} entry TTL after which an entity is refreshed.
+	 *
+	 * @return the configured refresh-ahead factor.
+	 */
+	protected float getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
 	/**
 	 * Returns the configured {@link Predicate} used to identify/qualify the {@link Region}
 	 * on which the {@link CrudRepository} will be registered as a {@link CacheLoader} for cache misses.
@@ -146,7 +213,7 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheLoader(newRepositoryCacheLoader());
+			((ClientRegionFactoryBean<ID, T>) bean).setCacheLoader(newConfiguredRepositoryCacheLoader());
 		}
 	}
 
@@ -155,7 +222,7 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheLoader(newRepositoryCacheLoader());
+			((PeerRegionFactoryBean<ID, T>) bean).setCacheLoader(newConfiguredRepositoryCacheLoader());
 		}
 	}
 
@@ -169,7 +236,14 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 	 * @see org.apache.geode.cache.CacheLoader
 	 * @see #getRepository()
 	 */
-	protected RepositoryCacheLoader newRepositoryCacheLoader() {
+	protected RepositoryCacheLoader<T, ID> newRepositoryCacheLoader() {
 		return new RepositoryCacheLoader<>(getRepository());
 	}
+
+	private RepositoryCacheLoader<T, ID> newConfiguredRepositoryCacheLoader() {
+
+		return newRepositoryCacheLoader()
+			.withNegativeCaching(getNegativeResultTimeToLive())
+			.withRefreshAhead(getRefreshAheadFactor());
+	}
 }
@@ -15,6 +15,15 @@
  */
 package org.springframework.geode.cache;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.geode.cache.CacheRuntimeException;
@@ -22,17 +31,36 @@ import org.apache.geode.cache.CacheWriter;
 import org.apache.geode.cache.CacheWriterException;
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
 import org.springframework.geode.core.util.function.FunctionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link CacheWriter} implementation backed by a Spring Data {@link CrudRepository} used to persist a cache entry
  * (i.e. entity) to a backend, external data source.
  *
+ * Entities put into the cache by a {@link RepositoryCacheLoader#isRefreshAhead(Object) refresh-ahead}
+ * were just read from the external data source and are not written back.
+ *
+ * Optionally, updates can be {@link #withChangeDetection(ChangeDetector) checked for changes} by comparing
+ * the {@link EntryEvent#getNewValue() new value} with the {@link EntryEvent#getOldValue() old value},
+ * in which case updates that do not change the entity are not written to the external data source.
+ *
+ * When {@link org.apache.geode.cache.Region#clear() clearing} the {@link org.apache.geode.cache.Region}
+ * with {@link #NUKE_AND_PAVE_PROPERTY nuke-and-pave} enabled, all entities are deleted from the external data source
+ * using the configured {@link #withBulkDeleteStrategy(BulkDeleteStrategy) bulk delete strategy}. An action, such as
+ * deleting all entities, can also be {@link #withRegionDestroyAction(BulkDeleteStrategy) configured} to run when
+ * the {@link org.apache.geode.cache.Region} is destroyed.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.CacheWriter
+ * @see org.apache.geode.pdx.PdxInstance
  * @see org.springframework.data.repository.CrudRepository
  * @see org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport
  * @since 1.1.0
@@ -40,18 +68,176 @@ import org.springframework.geode.core.util.function.FunctionUtils;
 @SuppressWarnings("unused")
 public class RepositoryCacheWriter<T, ID> extends RepositoryCacheLoaderWriterSupport<T, ID> {
 
+  private final AtomicLong skippedWriteCount = new AtomicLong(0L);
+  private final AtomicLong writeCount = new AtomicLong(0L);
+
+  private volatile BulkDeleteStrategy<T, ID> bulkDeleteStrategy = BulkDeleteStrategy.deleteAll();
+
+  private volatile BulkDeleteStrategy<T, ID> regionDestroyAction;
+
+  private volatile ChangeDetector<T> changeDetector;
+
   public RepositoryCacheWriter(CrudRepository<T, ID> repository) {
     super(repository);
   }
 
+  /**
+   * Returns the configured {@link BulkDeleteStrategy} used to delete all entities when the Region is cleared.
+   *
+   * @return the configured {@link BulkDeleteStrategy}; defaults to {@link CrudRepository#deleteAll()}.
+   */
+  public @NonNull BulkDeleteStrategy<T, ID> getBulkDeleteStrategy() {
+    return this.bulkDeleteStrategy;
+  }
+
+  /**
+   * Returns the configured {@link BulkDeleteStrategy} run when the Region is destroyed.
+   *
+   * @return the configured {@link BulkDeleteStrategy} run when the Region is destroyed; {@literal null}
+   * if the external data source is left unchanged.
+   */
+  public @Nullable BulkDeleteStrategy<T, ID> getRegionDestroyAction() {
+    return this.regionDestroyAction;
+  }
+
+  /**
+   * Builder method used to configure the {@link BulkDeleteStrategy} used to delete all entities from the external
+   * data source when the Region is cleared with {@link #NUKE_AND_PAVE_PROPERTY nuke-and-pave} enabled.
+   *
+   * @param bulkDeleteStrategy {@link BulkDeleteStrategy} used to delete all entities; {@literal null} resets
+   * the strategy to {@link CrudRepository#deleteAll()}.
+   * @return this {@link RepositoryCacheWriter}.
+   * @see BulkDeleteStrategy
+   */
+  public @NonNull RepositoryCacheWriter<T, ID> withBulkDeleteStrategy(
+      @Nullable BulkDeleteStrategy<T, ID> bulkDeleteStrategy) {
+
+    this.bulkDeleteStrategy = bulkDeleteStrategy != null ? bulkDeleteStrategy : BulkDeleteStrategy.deleteAll();
+
+    return this;
+  }
+
+  /**
+   * Builder method used to configure the action run against the external data source when the Region is destroyed,
+   * for example deleting all entities or dropping the table.
+   *
+   * @param regionDestroyAction {@link BulkDeleteStrategy} run when the Region is destroyed; {@literal null} leaves
+   * the external data source unchanged, which is the default.
+   * @return this {@link RepositoryCacheWriter}.
+   * @see BulkDeleteStrategy
+   */
+  public @NonNull RepositoryCacheWriter<T, ID> withRegionDestroyAction(
+      @Nullable BulkDeleteStrategy<T, ID> regionDestroyAction) {
+
+    this.regionDestroyAction = regionDestroyAction;
+
+    return this;
+  }
+
+  /**
+   * Returns the configured {@link ChangeDetector} used to determine whether an update changes the entity.
+   *
+   * @return the configured {@link ChangeDetector}; {@literal null} if change detection is disabled.
+   */
+  public @Nullable ChangeDetector<T> getChangeDetector() {
+    return this.changeDetector;
+  }
+
+  /**
+   * Determines whether change detection is enabled.
+   *
+   * @return a boolean value indicating whether change detection is enabled.
+   * @see #withChangeDetection(ChangeDetector)
+   */
+  public boolean isChangeDetectionEnabled() {
+    return getChangeDetector() != null;
+  }
+
+  /**
+   * Returns the number of updates that were not written to the external data source since the entity
+   * did not change.
+   *
+   * @return the number of skipped writes.
+   */
+  public long getSkippedWriteCount() {
+    return this.skippedWriteCount.get();
+  }
+
+  /**
+   * Returns the number of entities written to the external data source.
+   *
+   * @return the number of performed writes.
+   */
+  public long getWriteCount() {
+    return this.writeCount.get();
+  }
+
+  /**
+   * Builder method used to configure the {@link ChangeDetector} used to determine whether an update changes
+   * the entity. Updates that do not change the entity are not written to the external data source.
+   *
+   * When the {@link EntryEvent#getOldValue() old value} is not available, or is the same instance as
+   * the {@link EntryEvent#getNewValue() new value} because the entity was modified in place and put back into
+   * the {@link org.apache.geode.cache.Region}, the update is always written.
+   * A {@literal null} {@link ChangeDetector} disables change detection, which is the default.
+   *
+   * @param changeDetector {@link ChangeDetector} used to determine whether an update changes the entity.
+   * @return this {@link RepositoryCacheWriter}.
+   * @see ChangeDetector
+   */
+  public @NonNull RepositoryCacheWriter<T, ID> withChangeDetection(@Nullable ChangeDetector<T> changeDetector) {
+    this.changeDetector = changeDetector;
+    return this;
+  }
+
   @Override
   public void beforeCreate(EntryEvent<ID, T> event) throws CacheWriterException {
-    doRepositoryOp(event.getNewValue(), getRepository()::save);
+
+    if (!RepositoryCacheLoader.isRefreshAhead(event.getCallbackArgument())) {
+      save(event.getNewValue());
+    }
   }
 
   @Override
   public void beforeUpdate(EntryEvent<ID, T> event) throws CacheWriterException {
-    doRepositoryOp(event.getNewValue(), getRepository()::save);
+
+    if (!RepositoryCacheLoader.isRefreshAhead(event.getCallbackArgument())) {
+      if (isChanged(event)) {
+        save(event.getNewValue());
+      }
+      else {
+        this.skippedWriteCount.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Determines whether the update described by the given {@link EntryEvent} changes the entity.
+   *
+   * @param event {@link EntryEvent} describing the update.
+   * @return {@literal true} if change detection is disabled, the {@link EntryEvent#getOldValue() old value}
+   * is not available, is the same instance as the {@link EntryEvent#getNewValue() new value}, or the
+   * {@link ChangeDetector} reports a change.
+   * @see #getChangeDetector()
+   */
+  protected boolean isChanged(@NonNull EntryEvent<ID, T> event) {
+
+    ChangeDetector<T> changeDetector = getChangeDetector();
+
+    if (changeDetector != null) {
+
+      T oldValue = event.getOldValue();
+      T newValue = event.getNewValue();
+
+      return oldValue == null || oldValue == newValue || changeDetector.isChanged(oldValue, newValue);
+    }
+
+    return true;
+  }
+
+  private void save(T entity) {
+    doRepositoryOp(entity, getRepository()::save);
+    this.writeCount.incrementAndGet();
   }
 
   @Override
@@ -65,18 +251,181 @@ public class RepositoryCacheWriter<T, ID> extends RepositoryCacheLoaderWriterSup
   public void beforeRegionClear(RegionEvent<ID, T> event) throws CacheWriterException {
 
     if (isNukeAndPaveEnabled()) {
-      doRepositoryOp(null, FunctionUtils.toNullReturningFunction(it -> getRepository().deleteAll()));
+      doRepositoryOp(null, FunctionUtils.toNullReturningFunction(it ->
+          getBulkDeleteStrategy().deleteAll(getRepository())));
     }
   }
 
   @Override
   public void beforeRegionDestroy(RegionEvent<ID, T> event) throws CacheWriterException {
-    // TODO: perhaps implement by releasing external data source resources
-    //  (i.e. destroy database object(s), e.g. DROP TABLE)
+
+    BulkDeleteStrategy<T, ID> regionDestroyAction = getRegionDestroyAction();
+
+    if (regionDestroyAction != null) {
+      doRepositoryOp(null, FunctionUtils.toNullReturningFunction(it ->
+          regionDestroyAction.deleteAll(getRepository())));
+    }
   }
 
   @Override
   protected CacheRuntimeException newCacheRuntimeException(Supplier<String> messageSupplier, Throwable cause) {
     return new CacheWriterException(messageSupplier.get(), cause);
   }
+
+  /**
+   * The {@link ChangeDetector} interface is a {@link FunctionalInterface} defining a strategy to determine
+   * whether an update changes an entity and therefore must be written to the external data source.
+   *
+   * @param <T> {@link Class type} of the entity.
+   */
+  @FunctionalInterface
+  public interface ChangeDetector<T> {
+
+    /**
+     * Returns a {@link ChangeDetector} comparing the old and new entity with {@link Object#equals(Object)}.
+     *
+     * @param <T> {@link Class type} of the entity.
+     * @return a {@link ChangeDetector} based on {@link Object#equals(Object)}.
+     */
+    static <T> ChangeDetector<T> equality() {
+      return (oldValue, newValue) -> !Objects.equals(oldValue, newValue);
+    }
+
+    /**
+     * Returns a {@link ChangeDetector} comparing the version of the old and new entity, for example the value of
+     * a field annotated with Spring Data's {@literal @Version} annotation.
+     *
+     * @param <T> {@link Class type} of the entity.
+     * @param versionResolver {@link Function} used to resolve the version of an entity; must not be {@literal null}.
+     * @return a {@link ChangeDetector} based on the version of the entity.
+     * @throws IllegalArgumentException if the version resolver {@link Function} is {@literal null}.
+     */
+    static <T> ChangeDetector<T> version(@NonNull Function<T, ?> versionResolver) {
+
+      Assert.notNull(versionResolver, "Version resolver Function must not be null");
+
+      return (oldValue, newValue) -> !Objects.equals(versionResolver.apply(oldValue), versionResolver.apply(newValue));
+    }
+
+    /**
+     * Returns a {@link ChangeDetector} comparing the old and new {@link PdxInstance} field by field,
+     * ignoring the given, non-persistent fields.
+     *
+     * Values that are not both {@link PdxInstance PdxInstances} are compared with {@link Object#equals(Object)}.
+     *
+     * @param <T> {@link Class type} of the entity.
+     * @param ignoredFieldNames array of {@link String names} of fields that are not persisted.
+     * @return a {@link ChangeDetector} comparing the fields of {@link PdxInstance PdxInstances}.
+     * @see org.apache.geode.pdx.PdxInstance
+     */
+    static <T> ChangeDetector<T> pdxFields(String... ignoredFieldNames) {
+
+      Set<String> ignoredFields = ignoredFieldNames != null
+          ? new HashSet<>(Arrays.asList(ignoredFieldNames))
+          : Collections.emptySet();
+
+      return (oldValue, newValue) -> {
+
+        if (oldValue instanceof PdxInstance && newValue instanceof PdxInstance) {
+
+          PdxInstance oldPdx = (PdxInstance) oldValue;
+          PdxInstance newPdx = (PdxInstance) newValue;
+
+          if (!Objects.equals(oldPdx.getClassName(), newPdx.getClassName())) {
+            return true;
+          }
+
+          Set<String> fieldNames = new LinkedHashSet<>(oldPdx.getFieldNames());
+
+          fieldNames.addAll(newPdx.getFieldNames());
+          fieldNames.removeAll(ignoredFields);
+
+          for (String fieldName : fieldNames) {
+            if (!Objects.deepEquals(oldPdx.getField(fieldName), newPdx.getField(fieldName))) {
+              return true;
+            }
+          }
+
+          return false;
+        }
+
+        return !Objects.equals(oldValue, newValue);
+      };
+    }
+
+    /**
+     * Determines whether the update from the given old value to the given new value changes the entity.
+     *
+     * @param oldValue entity before the update; never {@literal null}.
+     * @param newValue entity after the update.
+     * @return a boolean value indicating whether the entity changed.
+     */
+    boolean isChanged(@NonNull T oldValue, @Nullable T newValue);
+
+  }
+
+  /**
+   * The {@link BulkDeleteStrategy} interface is a {@link FunctionalInterface} defining a strategy to delete
+   * all entities from the external data source in bulk, for example with a single {@literal DELETE}
+   * or {@literal TRUNCATE TABLE} statement rather than deleting each entity individually.
+   *
+   * @param <T> {@link Class type} of the entity.
+   * @param <ID> {@link Class type} of the entity identifier.
+   */
+  @FunctionalInterface
+  public interface BulkDeleteStrategy<T, ID> {
+
+    String DELETE_ALL_IN_BATCH_METHOD_NAME = "deleteAllInBatch";
+
+    /**
+     * Returns a {@link BulkDeleteStrategy} calling {@link CrudRepository#deleteAll()}.
+     *
+     * Depending on the Spring Data module, {@link CrudRepository#deleteAll()} may load and delete
+     * each entity individually.
+     *
+     * @param <T> {@link Class type} of the entity.
+     * @param <ID> {@link Class type} of the entity identifier.
+     * @return a {@link BulkDeleteStrategy} calling {@link CrudRepository#deleteAll()}.
+     */
+    static <T, ID> BulkDeleteStrategy<T, ID> deleteAll() {
+      return CrudRepository::deleteAll;
+    }
+
+    /**
+     * Returns a {@link BulkDeleteStrategy} calling the {@literal deleteAllInBatch()} method of
+     * the {@link CrudRepository}, such as declared by Spring Data JPA's {@literal JpaRepository}, which deletes
+     * all entities with a single query.
+     *
+     * Falls back to {@link CrudRepository#deleteAll()} if the {@link CrudRepository} does not declare
+     * a {@literal deleteAllInBatch()} method.
+     *
+     * @param <T> {@link Class type} of the entity.
+     * @param <ID> {@link Class type} of the entity identifier.
+     * @return a {@link BulkDeleteStrategy} calling {@literal deleteAllInBatch()} when available.
+     */
+    static <T, ID> BulkDeleteStrategy<T, ID> deleteAllInBatch() {
+
+      return repository -> {
+
+        Method deleteAllInBatch =
+            ReflectionUtils.findMethod(repository.getClass(), DELETE_ALL_IN_BATCH_METHOD_NAME);
+
+        if (deleteAllInBatch != null) {
+          ReflectionUtils.makeAccessible(deleteAllInBatch);
+          ReflectionUtils.invokeMethod(deleteAllInBatch, repository);
+        }
+        else {
+          repository.deleteAll();
+        }
+      };
+    }
+
+    /**
+     * Deletes all entities from the external data source accessed by the given {@link CrudRepository}.
+     *
+     * @param repository {@link CrudRepository} used to access the external data source.
+     */
+    void deleteAll(@NonNull CrudRepository<T, ID> repository);
+
+  }
 }
@@ -88,6 +88,12 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 		return create(repository, Predicate.isEqual(regionBeanName));
 	}
 
+	private RepositoryCacheWriter.BulkDeleteStrategy<T, ID> bulkDeleteStrategy;
+
+	private RepositoryCacheWriter.BulkDeleteStrategy<T, ID> regionDestroyAction;
+
+	private RepositoryCacheWriter.ChangeDetector<T> changeDetector;
+
 	private final CrudRepository<T, ID> repository;
 
 	private final Predicate<String> regionBeanName;
@@ -114,6 +120,85 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 		this.regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
 	}
 
+	/**
+	 * Builder method used to configure the {@link RepositoryCacheWriter.ChangeDetector} used by
+	 * the {@link RepositoryCacheWriter} to skip updates that do not change the entity.
+	 *
+	 * @param changeDetector {@link RepositoryCacheWriter.ChangeDetector} used to determine whether an update
+	 * changes the entity; {@literal null} disables change detection.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheWriter#withChangeDetection(RepositoryCacheWriter.ChangeDetector)
+	 */
+	public @NonNull RepositoryCacheWriterRegionConfigurer<T, ID> withChangeDetection(
+			@Nullable RepositoryCacheWriter.ChangeDetector<T> changeDetector) {
+
+		this.changeDetector = changeDetector;
+
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link RepositoryCacheWriter.ChangeDetector}.
+	 *
+	 * @return the configured {@link RepositoryCacheWriter.ChangeDetector}; may be {@literal null}.
+	 */
+	protected @Nullable RepositoryCacheWriter.ChangeDetector<T> getChangeDetector() {
+		return this.changeDetector;
+	}
+
+	/**
+	 * Builder method used to configure the {@link RepositoryCacheWriter.BulkDeleteStrategy} used by
+	 * the {@link RepositoryCacheWriter} to delete all entities when the {@link Region} is cleared.
+	 *
+	 * @param bulkDeleteStrategy {@link RepositoryCacheWriter.BulkDeleteStrategy} used to delete all entities;
+	 * {@literal null} defaults to {@link CrudRepository#deleteAll()}.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheWriter#withBulkDeleteStrategy(RepositoryCacheWriter.BulkDeleteStrategy)
+	 */
+	public @NonNull RepositoryCacheWriterRegionConfigurer<T, ID> withBulkDeleteStrategy(
+			@Nullable RepositoryCacheWriter.BulkDeleteStrategy<T, ID> bulkDeleteStrategy) {
+
+		this.bulkDeleteStrategy = bulkDeleteStrategy;
+
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link RepositoryCacheWriter.BulkDeleteStrategy}.
+	 *
+	 * @return the configured {@link RepositoryCacheWriter.BulkDeleteStrategy}; may be {@literal null}.
+	 */
+	protected @Nullable RepositoryCacheWriter.BulkDeleteStrategy<T, ID> getBulkDeleteStrategy() {
+		return this.bulkDeleteStrategy;
+	}
+
+	/**
+	 * Builder method used to configure the action run by the {@link RepositoryCacheWriter}
+	 * when the {@link Region} is destroyed.
+	 *
+	 * @param regionDestroyAction {@link RepositoryCacheWriter.BulkDeleteStrategy} run when the {@link Region}
+	 * is destroyed; {@literal null} leaves the backend data source unchanged.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheWriter#withRegionDestroyAction(RepositoryCacheWriter.BulkDeleteStrategy)
+	 */
+	public @NonNull RepositoryCacheWriterRegionConfigurer<T, ID> withRegionDestroyAction(
+			@Nullable RepositoryCacheWriter.BulkDeleteStrategy<T, ID> regionDestroyAction) {
+
+		this.regionDestroyAction = regionDestroyAction;
+
+		return this;
+	}
+
+	/**
+	 * Returns the configured {@link RepositoryCacheWriter.BulkDeleteStrategy} run when the {@link Region}
+	 * is destroyed.
+	 *
+	 * @return the configured action run when the {@link Region} is destroyed; may be {@literal null}.
+	 */
+	protected @Nullable RepositoryCacheWriter.BulkDeleteStrategy<T, ID> getRegionDestroyAction() {
+		return this.regionDestroyAction;
+	}
+
 	/**
 	 * Returns the configured {@link Predicate} used to identify/qualify the {@link Region}
 	 * on which the {@link CrudRepository} will be registered as a {@link CacheWriter} for write through.
@@ -142,7 +227,7 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheWriter(newRepositoryCacheWriter());
+			((ClientRegionFactoryBean<ID, T>) bean).setCacheWriter(newConfiguredRepositoryCacheWriter());
 		}
 	}
 
@@ -151,7 +236,7 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheWriter(newRepositoryCacheWriter());
+			((PeerRegionFactoryBean<ID, T>) bean).setCacheWriter(newConfiguredRepositoryCacheWriter());
 		}
 	}
 
@@ -165,7 +250,15 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 	 * @see org.apache.geode.cache.CacheWriter
 	 * @see #getRepository()
 	 */
-	protected RepositoryCacheWriter newRepositoryCacheWriter() {
+	protected RepositoryCacheWriter<T, ID> newRepositoryCacheWriter() {
 		return new RepositoryCacheWriter<>(getRepository());
 	}
+
+	private RepositoryCacheWriter<T, ID> newConfiguredRepositoryCacheWriter() {
+
+		return newRepositoryCacheWriter()
+			.withChangeDetection(getChangeDetector())
+			.withBulkDeleteStrategy(getBulkDeleteStrategy())
+			.withRegionDestroyAction(getRegionDestroyAction());
+	}
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventError;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncEventErrorHandler} implementation that {@link AsyncEventError#retry() retries} the failed data access
+ * operation for an {@link AsyncEvent} a bounded number of times with exponential backoff.
+ *
+ * If the data access operation still fails after all retry attempts have been exhausted, or the
+ * {@link AsyncEventError} is not {@link AsyncEventError#isRetryable() retryable}, then the {@link AsyncEventError}
+ * is passed to the configured {@literal fallback} {@link AsyncEventErrorHandler}, for example,
+ * a {@link DeadLetterAsyncEventErrorHandler}.
+ *
+ * Retries are performed on the {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue} dispatcher
+ * {@link Thread}, so the maximum backoff bounds how long a single failing {@link AsyncEvent} can delay the queue.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.geode.cache.DeadLetterAsyncEventErrorHandler
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler
+ * @since 1.4.0
+ */
+public class RetryingAsyncEventErrorHandler implements AsyncEventErrorHandler {
+
+	protected static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	protected static final double DEFAULT_MULTIPLIER = 2.0d;
+
+	protected static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100L);
+	protected static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5L);
+
+	private final AsyncEventErrorHandler fallbackHandler;
+
+	private final AtomicLong exhaustedCount = new AtomicLong(0L);
+	private final AtomicLong retryCount = new AtomicLong(0L);
+	private final AtomicLong successfulRetryCount = new AtomicLong(0L);
+
+	private double multiplier = DEFAULT_MULTIPLIER;
+
+	private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+	private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Constructs a new instance of {@link RetryingAsyncEventErrorHandler} falling back to returning {@literal false}
+	 * when all retry attempts have been exhausted, which causes the batch to be redelivered.
+	 */
+	public RetryingAsyncEventErrorHandler() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RetryingAsyncEventErrorHandler} initialized with the given
+	 * {@literal fallback} {@link AsyncEventErrorHandler} called when all retry attempts have been exhausted.
+	 *
+	 * @param fallbackHandler {@link AsyncEventErrorHandler} called when all retry attempts have been exhausted.
+	 * @see RepositoryAsyncEventListener.AsyncEventErrorHandler
+	 */
+	public RetryingAsyncEventErrorHandler(@Nullable AsyncEventErrorHandler fallbackHandler) {
+		this.fallbackHandler = fallbackHandler != null ? fallbackHandler : RepositoryAsyncEventListener.DEFAULT;
+	}
+
+	/**
+	 * Retries the failed data access operation up to the configured {@link #getMaxAttempts() maximum attempts},
+	 * waiting between attempts with exponential backoff, and then falls back to the configured
+	 * {@link #getFallbackHandler() fallback} {@link AsyncEventErrorHandler}.
+	 *
+	 * @param eventError {@link AsyncEventError} to handle.
+	 * @return {@literal true} if a retry succeeded, otherwise the result of the {@literal fallback}
+	 * {@link AsyncEventErrorHandler}.
+	 * @see #getBackoff(int)
+	 */
+	@Override
+	public Boolean apply(@NonNull AsyncEventError eventError) {
+
+		AsyncEventError lastError = eventError;
+
+		if (eventError.isRetryable()) {
+			for (int attempt = 1; attempt <= getMaxAttempts(); attempt++) {
+				try {
+
+					sleep(getBackoff(attempt));
+
+					this.retryCount.incrementAndGet();
+
+					eventError.retry();
+
+					this.successfulRetryCount.incrementAndGet();
+
+					return true;
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				catch (RuntimeException cause) {
+
+					getLogger().debug("Retry attempt [{}] of [{}] failed for AsyncEvent [{}]",
+						attempt, getMaxAttempts(), eventError.getEvent(), cause);
+
+					lastError = new AsyncEventError(eventError.getEvent(), cause);
+				}
+			}
+
+			this.exhaustedCount.incrementAndGet();
+
+			getLogger().warn("Failed to process AsyncEvent [{}] after [{}] retry attempt(s)",
+				eventError.getEvent(), getMaxAttempts(), lastError.getCause());
+		}
+
+		return Boolean.TRUE.equals(getFallbackHandler().apply(lastError));
+	}
+
+	/**
+	 * Computes the backoff before the given retry {@literal attempt}.
+	 *
+	 * @param attempt retry attempt, starting at {@literal 1}.
+	 * @return the {@link Duration backoff} before the given retry {@literal attempt}, which is never greater than
+	 * the {@link #getMaxBackoff() maximum backoff}.
+	 */
+	protected @NonNull Duration getBackoff(int attempt) {
+
+		double backoff = getInitialBackoff().toMillis() * Math.pow(getMultiplier(), Math.max(attempt - 1, 0));
+
+		return Duration.ofMillis((long) Math.min(backoff, getMaxBackoff().toMillis()));
+	}
+
+	/**
+	 * Waits for the given {@link Duration} before retrying.
+	 *
+	 * @param duration {@link Duration} to wait.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	protected void sleep(@NonNull Duration duration) throws InterruptedException {
+
+		if (!duration.isZero() && !duration.isNegative()) {
+			Thread.sleep(duration.toMillis());
+		}
+	}
+
+	/**
+	 * Returns the number of {@link AsyncEvent AsyncEvents} for which all retry attempts were exhausted.
+	 *
+	 * @return the number of {@link AsyncEvent AsyncEvents} for which all retry attempts were exhausted.
+	 */
+	public long getExhaustedCount() {
+		return this.exhaustedCount.get();
+	}
+
+	/**
+	 * Returns the {@literal fallback} {@link AsyncEventErrorHandler} called when all retry attempts
+	 * have been exhausted.
+	 *
+	 * @return the {@literal fallback} {@link AsyncEventErrorHandler}; never {@literal null}.
+	 */
+	protected @NonNull AsyncEventErrorHandler getFallbackHandler() {
+		return this.fallbackHandler;
+	}
+
+	/**
+	 * Sets the initial {@link Duration backoff} before the first retry attempt.
+	 *
+	 * @param initialBackoff initial {@link Duration backoff}; must not be {@literal null} or negative.
+	 * @return this {@link RetryingAsyncEventErrorHandler}.
+	 */
+	public @NonNull RetryingAsyncEventErrorHandler withInitialBackoff(@NonNull Duration initialBackoff) {
+
+		Assert.isTrue(initialBackoff != null && !initialBackoff.isNegative(),
+			"Initial backoff must not be null or negative");
+
+		this.initialBackoff = initialBackoff;
+
+		return this;
+	}
+
+	/**
+	 * Returns the initial {@link Duration backoff} before the first retry attempt; defaults to {@literal 100 ms}.
+	 *
+	 * @return the initial {@link Duration backoff}.
+	 */
+	public @NonNull Duration getInitialBackoff() {
+		return this.initialBackoff;
+	}
+
+	/**
+	 * Returns the {@link Logger} used to log messages.
+	 *
+	 * @return the {@link Logger} used to log messages.
+	 */
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Sets the maximum number of retry attempts.
+	 *
+	 * @param maxAttempts maximum number of retry attempts; must be greater than or equal to {@literal 0}.
+	 * @return this {@link RetryingAsyncEventErrorHandler}.
+	 */
+	public @NonNull RetryingAsyncEventErrorHandler withMaxAttempts(int maxAttempts) {
+
+		Assert.isTrue(maxAttempts >= 0, () -> String.format("Max attempts [%d] must be greater than or equal to 0",
+			maxAttempts));
+
+		this.maxAttempts = maxAttempts;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of retry attempts; defaults to {@literal 3}.
+	 *
+	 * @return the maximum number of retry attempts.
+	 */
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * Sets the maximum {@link Duration backoff} between retry attempts.
+	 *
+	 * @param maxBackoff maximum {@link Duration backoff}; must not be {@literal null} or negative.
+	 * @return this {@link RetryingAsyncEventErrorHandler}.
+	 */
+	public @NonNull RetryingAsyncEventErrorHandler withMaxBackoff(@NonNull Duration maxBackoff) {
+
+		Assert.isTrue(maxBackoff != null && !maxBackoff.isNegative(), "Max backoff must not be null or negative");
+
+		this.maxBackoff = maxBackoff;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum {@link Duration backoff} between retry attempts; defaults to {@literal 5 seconds}.
+	 *
+	 * @return the maximum {@link Duration backoff}.
+	 */
+	public @NonNull Duration getMaxBackoff() {
+		return this.maxBackoff;
+	}
+
+	/**
+	 * Sets the multiplier applied to the backoff after each retry attempt.
+	 *
+	 * @param multiplier backoff multiplier; must be greater than or equal to {@literal 1.0}.
+	 * @return this {@link RetryingAsyncEventErrorHandler}.
+	 */
+	public @NonNull RetryingAsyncEventErrorHandler withMultiplier(double multiplier) {
+
+		Assert.isTrue(multiplier >= 1.0d, () -> String.format("Multiplier [%s] must be greater than or equal to 1.0",
+			multiplier));
+
+		this.multiplier = multiplier;
+
+		return this;
+	}
+
+	/**
+	 * Returns the multiplier applied to the backoff after each retry attempt; defaults to {@literal 2.0}.
+	 *
+	 * @return the backoff multiplier.
+	 */
+	public double getMultiplier() {
+		return this.multiplier;
+	}
+
+	/**
+	 * Returns the total number of retry attempts.
+	 *
+	 * @return the total number of retry attempts.
+	 */
+	public long getRetryCount() {
+		return this.retryCount.get();
+	}
+
+	/**
+	 * Returns the number of retry attempts that succeeded.
+	 *
+	 * @return the number of retry attempts that succeeded.
+	 */
+	public long getSuccessfulRetryCount() {
+		return this.successfulRetryCount.get();
+	}
+}
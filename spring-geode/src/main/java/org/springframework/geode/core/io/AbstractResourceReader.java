@@ -57,6 +57,38 @@ public abstract class AbstractResourceReader implements ResourceReader {
 				ResourceUtils.nullSafeGetDescription(resource))));
 	}
 
+	/**
+	 * Gets an {@link InputStream} used to read data from the target {@link Resource} incrementally.
+	 *
+	 * The {@link InputStream} is only returned if this reader is {@link #isAbleToHandle(Resource) able to handle}
+	 * the target {@link Resource}, after the {@link Resource} has been {@link #preProcess(Resource) pre-processed}
+	 * and the {@link InputStream} has been {@link #decorate(InputStream) decorated}.
+	 *
+	 * @param resource {@link Resource} to read data from.
+	 * @return an {@link InputStream} used to read data from the target {@link Resource}.
+	 * @throws UnhandledResourceException if this reader is not able to handle the target {@link Resource}.
+	 * @throws ResourceReadException if the {@link InputStream} cannot be opened.
+	 * @see #decorate(InputStream)
+	 */
+	@Override
+	public @NonNull InputStream getInputStream(@NonNull Resource resource) {
+
+		return Optional.ofNullable(resource)
+			.filter(this::isAbleToHandle)
+			.map(this::preProcess)
+			.map(it -> {
+				try {
+					return decorate(it.getInputStream());
+				}
+				catch (IOException cause) {
+					throw new ResourceReadException(String.format("Failed to open an InputStream from Resource [%s]",
+						it.getDescription()), cause);
+				}
+			})
+			.orElseThrow(() -> new UnhandledResourceException(String.format("Unable to handle Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource))));
+	}
+
 	/**
 	 * Determines whether this reader is able to handle and read from the target {@link Resource}.
 	 *
@@ -73,6 +105,20 @@ public abstract class AbstractResourceReader implements ResourceReader {
 		return resource != null;
 	}
 
+	/**
+	 * Decorates the {@link InputStream} returned by {@link Resource#getInputStream()} before it is handed
+	 * to the caller of {@link #getInputStream(Resource)}.
+	 *
+	 * The default implementation returns the given {@link InputStream} as is.
+	 *
+	 * @param inputStream {@link InputStream} to decorate.
+	 * @return the decorated {@link InputStream}.
+	 * @see java.io.InputStream
+	 */
+	protected @NonNull InputStream decorate(@NonNull InputStream inputStream) {
+		return inputStream;
+	}
+
 	/**
 	 * Reads data from the target {@link Resource} (intentionally) by using the {@link InputStream} returned by
 	 * {@link Resource#getInputStream()}.
@@ -59,6 +59,38 @@ public abstract class AbstractResourceWriter implements ResourceWriter {
 				ResourceUtils.nullSafeGetDescription(resource))));
 	}
 
+	/**
+	 * Gets an {@link OutputStream} used to write data to the target {@link Resource} incrementally.
+	 *
+	 * The {@link OutputStream} is only returned if this writer is {@link #isAbleToHandle(Resource) able to handle}
+	 * the target {@link Resource}, after the {@link Resource} has been {@link #preProcess(WritableResource)
+	 * pre-processed} and the {@link OutputStream} has been {@link #decorate(OutputStream) decorated}.
+	 *
+	 * @param resource {@link Resource} to write data to.
+	 * @return an {@link OutputStream} used to write data to the target {@link Resource}.
+	 * @throws UnhandledResourceException if this writer is not able to handle the target {@link Resource}.
+	 * @throws ResourceWriteException if the {@link OutputStream} cannot be opened.
+	 * @see #decorate(OutputStream)
+	 */
+	@Override
+	public @NonNull OutputStream getOutputStream(@NonNull Resource resource) {
+
+		return ResourceUtils.asWritableResource(resource)
+			.filter(this::isAbleToHandle)
+			.map(this::preProcess)
+			.map(it -> {
+				try {
+					return decorate(it.getOutputStream());
+				}
+				catch (IOException cause) {
+					throw new ResourceWriteException(String.format("Failed to open an OutputStream to Resource [%s]",
+						it.getDescription()), cause);
+				}
+			})
+			.orElseThrow(() -> new UnhandledResourceException(String.format("Unable to handle Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource))));
+	}
+
 	/**
 	 * Determines whether this writer is able to handle and write to the target {@link Resource}.
 	 *
@@ -74,6 +106,21 @@ public abstract class AbstractResourceWriter implements ResourceWriter {
 		return resource != null;
 	}
 
+	/**
+	 * Decorates the {@link OutputStream} returned by {@link WritableResource#getOutputStream()} before it is handed
+	 * to the caller of {@link #getOutputStream(Resource)}.
+	 *
+	 * The default implementation returns the given {@link OutputStream} as is. Subclasses may override this method
+	 * to add buffering, for instance.
+	 *
+	 * @param outputStream {@link OutputStream} to decorate.
+	 * @return the decorated {@link OutputStream}.
+	 * @see java.io.OutputStream
+	 */
+	protected @NonNull OutputStream decorate(@NonNull OutputStream outputStream) {
+		return outputStream;
+	}
+
 	/**
 	 * Writes the given data to the target {@link Resource} (intentionally) by using the {@link OutputStream}
 	 * returned by {@link WritableResource#getOutputStream()}.
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Interface (contract) defining a strategy for compressing and decompressing the data streamed to and from
+ * a {@link Resource}.
+ *
+ * {@link CompressionCodec} implementations are resolved by {@link #getName() name} or by matching the
+ * {@link #getFileExtension() file extension} of the {@link Resource} {@link String location}.
+ *
+ * @author John Blum
+ * @see java.io.InputStream
+ * @see java.io.OutputStream
+ * @see org.springframework.core.io.Resource
+ * @since 1.4.0
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Gets the {@link String name} of this {@link CompressionCodec}, such as {@literal gzip}.
+	 *
+	 * @return the {@link String name} of this {@link CompressionCodec}.
+	 */
+	@NonNull String getName();
+
+	/**
+	 * Gets the {@link String file extension}, including the leading dot (e.g. {@literal .gz}), identifying
+	 * {@link Resource Resources} compressed with this {@link CompressionCodec}.
+	 *
+	 * @return the {@link String file extension} handled by this {@link CompressionCodec}.
+	 */
+	@NonNull String getFileExtension();
+
+	/**
+	 * Determines whether this {@link CompressionCodec} is able to handle the {@link Resource}
+	 * at the given {@link String location}.
+	 *
+	 * The default implementation matches the {@link String location} against
+	 * the {@link #getFileExtension() file extension}, ignoring case.
+	 *
+	 * @param location {@link String} containing the location of the {@link Resource}.
+	 * @return a boolean value indicating whether this {@link CompressionCodec} is able to handle
+	 * the {@link Resource} at the given {@link String location}.
+	 * @see #getFileExtension()
+	 */
+	default boolean isAbleToHandle(@Nullable String location) {
+
+		return StringUtils.hasText(location)
+			&& location.trim().toLowerCase().endsWith(getFileExtension().toLowerCase());
+	}
+
+	/**
+	 * Wraps the given {@link InputStream} to decompress the data read from the stream.
+	 *
+	 * @param in {@link InputStream} of compressed data; must not be {@literal null}.
+	 * @return an {@link InputStream} returning the decompressed data.
+	 * @throws IOException if the compressed data could not be read.
+	 * @see java.io.InputStream
+	 */
+	@NonNull InputStream decompress(@NonNull InputStream in) throws IOException;
+
+	/**
+	 * Wraps the given {@link OutputStream} to compress the data written to the stream.
+	 *
+	 * Closing the returned {@link OutputStream} must finish the compressed stream and close
+	 * the given {@link OutputStream}.
+	 *
+	 * @param out {@link OutputStream} to which the compressed data is written; must not be {@literal null}.
+	 * @return an {@link OutputStream} compressing the data written to it.
+	 * @throws IOException if the compressed stream could not be initialized.
+	 * @see java.io.OutputStream
+	 */
+	@NonNull OutputStream compress(@NonNull OutputStream out) throws IOException;
+
+}
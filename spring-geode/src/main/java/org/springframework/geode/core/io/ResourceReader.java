@@ -15,9 +15,12 @@
  */
 package org.springframework.geode.core.io;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 
 import org.springframework.core.io.Resource;
+import org.springframework.geode.core.io.support.ResourceUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -26,6 +29,7 @@ import org.springframework.lang.Nullable;
  * such as by using the {@link Resource Resource's} {@link Resource#getInputStream() InputStream}.
  *
  * @author John Blum
+ * @see java.io.InputStream
  * @see java.nio.ByteBuffer
  * @see org.springframework.core.io.Resource
  * @since 1.3.1
@@ -61,10 +65,43 @@ public interface ResourceReader {
 		return ByteBuffer.wrap(read(resource));
 	}
 
+	/**
+	 * Gets an {@link InputStream} used to read data from the {@literal non-null} {@link Resource} incrementally,
+	 * in chunks, as opposed to {@link #read(Resource) reading} all the data into memory at once.
+	 *
+	 * The caller is responsible for closing the returned {@link InputStream}.
+	 *
+	 * @param resource {@link Resource} to read data from.
+	 * @return an {@link InputStream} used to read data from the {@link Resource}.
+	 * @throws UnhandledResourceException if the {@link Resource} is {@literal null}.
+	 * @throws ResourceReadException if the {@link InputStream} cannot be opened.
+	 * @see org.springframework.core.io.Resource#getInputStream()
+	 * @see java.io.InputStream
+	 */
+	default @NonNull InputStream getInputStream(@NonNull Resource resource) {
+
+		if (resource == null) {
+			throw new UnhandledResourceException(String.format("Unable to handle Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource)));
+		}
+
+		try {
+			return resource.getInputStream();
+		}
+		catch (IOException cause) {
+			throw new ResourceReadException(String.format("Failed to open an InputStream from Resource [%s]",
+				resource.getDescription()), cause);
+		}
+	}
+
 	/**
 	 * Composes this {@link ResourceReader} with the given {@link ResourceReader}
 	 * using the {@literal Composite Software Design Pattern}.
 	 *
+	 * The composite {@link ResourceReader} also delegates {@link #readIntoByteBuffer(Resource)}
+	 * and {@link #getInputStream(Resource)} to the composed readers in order so that readers optimized
+	 * for a particular type of {@link Resource} are used in all cases.
+	 *
 	 * @param reader {@link ResourceReader} to compose with this reader.
 	 * @return a composite {@link ResourceReader} composed of this {@link ResourceReader}
 	 * and the given {@link ResourceReader}. If the given {@link ResourceReader} is {@literal null},
@@ -74,13 +111,42 @@ public interface ResourceReader {
 	 */
 	default @NonNull ResourceReader thenReadFrom(@Nullable ResourceReader reader) {
 
+		ResourceReader self = this;
+
 		return reader == null ? this
-			: resource -> {
-				try {
-					return this.read(resource);
+			: new ResourceReader() {
+
+				@Override
+				public @NonNull byte[] read(@NonNull Resource resource) {
+
+					try {
+						return self.read(resource);
+					}
+					catch (UnhandledResourceException ignore) {
+						return reader.read(resource);
+					}
 				}
-				catch (UnhandledResourceException ignore) {
-					return reader.read(resource);
+
+				@Override
+				public @NonNull ByteBuffer readIntoByteBuffer(@NonNull Resource resource) {
+
+					try {
+						return self.readIntoByteBuffer(resource);
+					}
+					catch (UnhandledResourceException ignore) {
+						return reader.readIntoByteBuffer(resource);
+					}
+				}
+
+				@Override
+				public @NonNull InputStream getInputStream(@NonNull Resource resource) {
+
+					try {
+						return self.getInputStream(resource);
+					}
+					catch (UnhandledResourceException ignore) {
+						return reader.getInputStream(resource);
+					}
 				}
 			};
 	}
@@ -15,10 +15,13 @@
  */
 package org.springframework.geode.core.io;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
+import org.springframework.geode.core.io.support.ResourceUtils;
 import org.springframework.lang.NonNull;
 
 /**
@@ -27,6 +30,7 @@ import org.springframework.lang.NonNull;
  * {@link WritableResource#getOutputStream()} OutputStream}.
  *
  * @author John Blum
+ * @see java.io.OutputStream
  * @see org.springframework.core.io.Resource
  * @see org.springframework.core.io.WritableResource
  * @since 1.3.1
@@ -68,6 +72,36 @@ public interface ResourceWriter {
 		write(resource, data.array());
 	}
 
+	/**
+	 * Gets an {@link OutputStream} used to write data to the target {@link Resource} incrementally, in chunks,
+	 * as opposed to buffering all the data in memory before {@link #write(Resource, byte[]) writing} it.
+	 *
+	 * The caller is responsible for closing the returned {@link OutputStream}.
+	 *
+	 * By default, the target {@link Resource} must be a {@link WritableResource}.
+	 *
+	 * @param resource {@link Resource} to write data to.
+	 * @return an {@link OutputStream} used to write data to the target {@link Resource}.
+	 * @throws UnhandledResourceException if the target {@link Resource} is not a {@link WritableResource}.
+	 * @throws ResourceWriteException if the {@link OutputStream} cannot be opened.
+	 * @see org.springframework.core.io.WritableResource#getOutputStream()
+	 * @see java.io.OutputStream
+	 */
+	default @NonNull OutputStream getOutputStream(@NonNull Resource resource) {
+
+		WritableResource writableResource = ResourceUtils.asWritableResource(resource)
+			.orElseThrow(() -> new UnhandledResourceException(String.format("Unable to handle Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource))));
+
+		try {
+			return writableResource.getOutputStream();
+		}
+		catch (IOException cause) {
+			throw new ResourceWriteException(String.format("Failed to open an OutputStream to Resource [%s]",
+				writableResource.getDescription()), cause);
+		}
+	}
+
 	/**
 	 * Composes this {@link ResourceWriter} with the given {@link ResourceWriter}
 	 * using the {@literal Composite Software Design Pattern}.
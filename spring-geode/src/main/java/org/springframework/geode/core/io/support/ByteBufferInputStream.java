@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link InputStream} implementation reading data from a {@link ByteBuffer}, such as
+ * a {@link java.nio.MappedByteBuffer}, without copying the contents of the {@link ByteBuffer}.
+ *
+ * The {@link ByteBuffer} is {@link ByteBuffer#duplicate() duplicated} so the position and limit of the given
+ * {@link ByteBuffer} are not affected by reading from this {@link InputStream}.
+ *
+ * @author John Blum
+ * @see java.io.InputStream
+ * @see java.nio.ByteBuffer
+ * @since 1.4.0
+ */
+public class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer byteBuffer;
+
+	/**
+	 * Constructs a new instance of {@link ByteBufferInputStream} initialized with the given,
+	 * required {@link ByteBuffer}.
+	 *
+	 * @param byteBuffer {@link ByteBuffer} to read from; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}.
+	 * @see java.nio.ByteBuffer
+	 */
+	public ByteBufferInputStream(@NonNull ByteBuffer byteBuffer) {
+
+		Assert.notNull(byteBuffer, "ByteBuffer must not be null");
+
+		this.byteBuffer = byteBuffer.duplicate();
+	}
+
+	@Override
+	public int available() {
+		return this.byteBuffer.remaining();
+	}
+
+	@Override
+	public int read() {
+		return this.byteBuffer.hasRemaining() ? this.byteBuffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(@NonNull byte[] bytes, int offset, int length) {
+
+		if (length == 0) {
+			return 0;
+		}
+
+		if (!this.byteBuffer.hasRemaining()) {
+			return -1;
+		}
+
+		int bytesRead = Math.min(length, this.byteBuffer.remaining());
+
+		this.byteBuffer.get(bytes, offset, bytesRead);
+
+		return bytesRead;
+	}
+
+	@Override
+	public long skip(long length) {
+
+		int bytesSkipped = (int) Math.max(0L, Math.min(length, this.byteBuffer.remaining()));
+
+		this.byteBuffer.position(this.byteBuffer.position() + bytesSkipped);
+
+		return bytesSkipped;
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.WritableResource;
+import org.springframework.geode.core.io.CompressionCodec;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link WritableResource} implementation decorating an existing {@link Resource} in order to transparently
+ * decompress the data read from and compress the data written to the {@link Resource} using
+ * a configured {@link CompressionCodec}.
+ *
+ * Compression and decompression are performed on the streams as the data is read or written and therefore
+ * never buffers the entire contents of the {@link Resource} in memory.
+ *
+ * @author John Blum
+ * @see org.springframework.core.io.Resource
+ * @see org.springframework.core.io.WritableResource
+ * @see org.springframework.geode.core.io.CompressionCodec
+ * @since 1.4.0
+ */
+public class CompressedResource implements WritableResource {
+
+	private final CompressionCodec compressionCodec;
+
+	private final Resource resource;
+
+	/**
+	 * Constructs a new instance of {@link CompressedResource} decorating the given, required {@link Resource}
+	 * and using the given, required {@link CompressionCodec}.
+	 *
+	 * @param resource {@link Resource} to decorate; must not be {@literal null}.
+	 * @param compressionCodec {@link CompressionCodec} used to compress and decompress the data;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Resource} or {@link CompressionCodec} are {@literal null}.
+	 */
+	public CompressedResource(@NonNull Resource resource, @NonNull CompressionCodec compressionCodec) {
+
+		Assert.notNull(resource, "Resource must not be null");
+		Assert.notNull(compressionCodec, "CompressionCodec must not be null");
+
+		this.resource = resource;
+		this.compressionCodec = compressionCodec;
+	}
+
+	/**
+	 * Returns the configured {@link CompressionCodec} used to compress and decompress the data.
+	 *
+	 * @return the configured {@link CompressionCodec}.
+	 */
+	public @NonNull CompressionCodec getCompressionCodec() {
+		return this.compressionCodec;
+	}
+
+	/**
+	 * Returns the decorated {@link Resource}.
+	 *
+	 * @return the decorated {@link Resource}.
+	 */
+	public @NonNull Resource getResource() {
+		return this.resource;
+	}
+
+	@Override
+	public boolean exists() {
+		return getResource().exists();
+	}
+
+	@Override
+	public boolean isFile() {
+		return getResource().isFile();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return getResource().isOpen();
+	}
+
+	@Override
+	public boolean isReadable() {
+		return getResource().isReadable();
+	}
+
+	@Override
+	public boolean isWritable() {
+		return ResourceUtils.isWritable(getResource());
+	}
+
+	@Override
+	public long contentLength() throws IOException {
+		return getResource().contentLength();
+	}
+
+	@Override
+	public long lastModified() throws IOException {
+		return getResource().lastModified();
+	}
+
+	@Override
+	public Resource createRelative(String relativePath) throws IOException {
+		return getResource().createRelative(relativePath);
+	}
+
+	@Override
+	public String getDescription() {
+		return String.format("%1$s compressed %2$s", getCompressionCodec().getName(),
+			getResource().getDescription());
+	}
+
+	@Override
+	public File getFile() throws IOException {
+		return getResource().getFile();
+	}
+
+	@Override
+	public @Nullable String getFilename() {
+		return getResource().getFilename();
+	}
+
+	@Override
+	public URI getURI() throws IOException {
+		return getResource().getURI();
+	}
+
+	@Override
+	public URL getURL() throws IOException {
+		return getResource().getURL();
+	}
+
+	/**
+	 * Returns an {@link InputStream} decompressing the data read from the decorated {@link Resource}.
+	 *
+	 * @return an {@link InputStream} decompressing the data read from the decorated {@link Resource}.
+	 * @throws IOException if the {@link InputStream} could not be opened.
+	 * @see CompressionCodec#decompress(InputStream)
+	 */
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return getCompressionCodec().decompress(getResource().getInputStream());
+	}
+
+	/**
+	 * Returns an {@link OutputStream} compressing the data written to the decorated {@link Resource}.
+	 *
+	 * @return an {@link OutputStream} compressing the data written to the decorated {@link Resource}.
+	 * @throws IOException if the {@link OutputStream} could not be opened.
+	 * @throws IllegalStateException if the decorated {@link Resource} is not {@link WritableResource writable}.
+	 * @see CompressionCodec#compress(OutputStream)
+	 */
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		return getCompressionCodec().compress(ResourceUtils.asStrictlyWritableResource(getResource()).getOutputStream());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CompressedResource)) {
+			return false;
+		}
+
+		CompressedResource that = (CompressedResource) obj;
+
+		return this.getResource().equals(that.getResource())
+			&& this.getCompressionCodec().equals(that.getCompressionCodec());
+	}
+
+	@Override
+	public int hashCode() {
+
+		int hashValue = 17;
+
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getResource());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getCompressionCodec());
+
+		return hashValue;
+	}
+
+	@Override
+	public String toString() {
+		return getDescription();
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import org.springframework.core.io.Resource;
+import org.springframework.geode.core.io.CompressionCodec;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves a {@link CompressionCodec} by {@link String name} or from the {@link String location}
+ * of a {@link Resource}.
+ *
+ * In addition to the {@link StandardCompressionCodec StandardCompressionCodecs} provided by the JDK, additional
+ * {@link CompressionCodec CompressionCodecs} (e.g. {@literal zstd} or {@literal lz4}) can be registered using
+ * the Java {@link ServiceLoader} mechanism. {@link ServiceLoader} registered {@link CompressionCodec CompressionCodecs}
+ * take precedence over the {@link StandardCompressionCodec StandardCompressionCodecs}.
+ *
+ * @author John Blum
+ * @see java.util.ServiceLoader
+ * @see org.springframework.core.io.Resource
+ * @see org.springframework.geode.core.io.CompressionCodec
+ * @see org.springframework.geode.core.io.support.StandardCompressionCodec
+ * @since 1.4.0
+ */
+public class CompressionCodecResolver {
+
+	private final List<CompressionCodec> compressionCodecs;
+
+	/**
+	 * Constructs a new instance of {@link CompressionCodecResolver} initialized with
+	 * the {@link StandardCompressionCodec StandardCompressionCodecs} along with any
+	 * {@link CompressionCodec CompressionCodecs} registered with the {@link ServiceLoader} using
+	 * the {@link ClassUtils#getDefaultClassLoader() default ClassLoader}.
+	 *
+	 * @see #CompressionCodecResolver(ClassLoader)
+	 */
+	public CompressionCodecResolver() {
+		this(ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * Constructs a new instance of {@link CompressionCodecResolver} initialized with
+	 * the {@link StandardCompressionCodec StandardCompressionCodecs} along with any
+	 * {@link CompressionCodec CompressionCodecs} registered with the {@link ServiceLoader}
+	 * using the given {@link ClassLoader}.
+	 *
+	 * @param classLoader {@link ClassLoader} used to load {@link CompressionCodec} service providers.
+	 * @see java.util.ServiceLoader
+	 */
+	public CompressionCodecResolver(@Nullable ClassLoader classLoader) {
+		this(loadCompressionCodecs(classLoader));
+	}
+
+	/**
+	 * Constructs a new instance of {@link CompressionCodecResolver} initialized with
+	 * the given {@link CompressionCodec CompressionCodecs}.
+	 *
+	 * @param compressionCodecs {@link Iterable} of {@link CompressionCodec CompressionCodecs} to resolve.
+	 */
+	public CompressionCodecResolver(@Nullable Iterable<CompressionCodec> compressionCodecs) {
+
+		List<CompressionCodec> resolvedCompressionCodecs = new ArrayList<>();
+
+		if (compressionCodecs != null) {
+			compressionCodecs.forEach(resolvedCompressionCodecs::add);
+		}
+
+		this.compressionCodecs = Collections.unmodifiableList(resolvedCompressionCodecs);
+	}
+
+	private static List<CompressionCodec> loadCompressionCodecs(@Nullable ClassLoader classLoader) {
+
+		List<CompressionCodec> compressionCodecs = new ArrayList<>();
+
+		ServiceLoader.load(CompressionCodec.class, classLoader).forEach(compressionCodecs::add);
+		compressionCodecs.addAll(Arrays.asList(StandardCompressionCodec.values()));
+
+		return compressionCodecs;
+	}
+
+	/**
+	 * Returns the {@link List} of {@link CompressionCodec CompressionCodecs} known to this resolver.
+	 *
+	 * @return an unmodifiable {@link List} of {@link CompressionCodec CompressionCodecs}.
+	 */
+	public @NonNull List<CompressionCodec> getCompressionCodecs() {
+		return this.compressionCodecs;
+	}
+
+	/**
+	 * Resolves the {@link CompressionCodec} able to handle the {@link Resource} at the given {@link String location}.
+	 *
+	 * @param location {@link String} containing the location of the {@link Resource}.
+	 * @return an {@link Optional} {@link CompressionCodec} handling the {@link Resource}
+	 * at the given {@link String location}.
+	 * @see CompressionCodec#isAbleToHandle(String)
+	 */
+	public Optional<CompressionCodec> resolveByLocation(@Nullable String location) {
+
+		return StringUtils.hasText(location)
+			? getCompressionCodecs().stream()
+				.filter(compressionCodec -> compressionCodec.isAbleToHandle(location))
+				.findFirst()
+			: Optional.empty();
+	}
+
+	/**
+	 * Resolves the {@link CompressionCodec} with the given {@link String name}, ignoring case.
+	 *
+	 * @param name {@link String} containing the name of the {@link CompressionCodec}.
+	 * @return an {@link Optional} {@link CompressionCodec} with the given {@link String name}.
+	 * @see CompressionCodec#getName()
+	 */
+	public Optional<CompressionCodec> resolveByName(@Nullable String name) {
+
+		return StringUtils.hasText(name)
+			? getCompressionCodecs().stream()
+				.filter(compressionCodec -> compressionCodec.getName().equalsIgnoreCase(name.trim()))
+				.findFirst()
+			: Optional.empty();
+	}
+}
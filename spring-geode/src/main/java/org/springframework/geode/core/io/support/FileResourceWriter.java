@@ -153,6 +153,7 @@ public class FileResourceWriter extends AbstractResourceWriter {
 	 * @see #newFileOutputStream()
 	 * @see java.io.OutputStream
 	 */
+	@Override
 	protected @NonNull OutputStream decorate(@Nullable OutputStream outputStream) {
 
 		return outputStream instanceof BufferedOutputStream ? outputStream
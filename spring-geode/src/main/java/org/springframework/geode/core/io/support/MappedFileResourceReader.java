@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.Resource;
+import org.springframework.geode.core.io.AbstractResourceReader;
+import org.springframework.geode.core.io.ResourceReadException;
+import org.springframework.geode.core.io.UnhandledResourceException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link AbstractResourceReader} implementation that reads data from a {@link java.io.File} based {@link Resource}
+ * by mapping the {@link java.io.File} into memory with a {@link FileChannel}.
+ *
+ * The data is exposed as a read-only {@link MappedByteBuffer} or an {@link InputStream} view of
+ * the {@link MappedByteBuffer}, allowing the data to be parsed directly from the mapped region of the file
+ * without first copying all the data onto the Java heap.
+ *
+ * A single {@link ByteBuffer} cannot address more than 2 GB. Therefore, {@link #read(Resource)} and
+ * {@link #readIntoByteBuffer(Resource)} throw an {@link UnhandledResourceException} for larger {@link java.io.File Files}
+ * so that a composed reader can handle the {@link Resource} instead, while {@link #getInputStream(Resource)} maps
+ * larger {@link java.io.File Files} in multiple regions read in sequence.
+ *
+ * This reader only handles {@link Resource Resources} for which {@link Resource#isFile()} returns {@literal true}
+ * and throws an {@link UnhandledResourceException} otherwise. Therefore, it is best used in a composition with
+ * another reader, for example: {@code new MappedFileResourceReader().thenReadFrom(new ByteArrayResourceReader())}.
+ *
+ * @author John Blum
+ * @see java.nio.MappedByteBuffer
+ * @see java.nio.channels.FileChannel
+ * @see org.springframework.core.io.Resource
+ * @see org.springframework.geode.core.io.AbstractResourceReader
+ * @see org.springframework.geode.core.io.support.ByteBufferInputStream
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class MappedFileResourceReader extends AbstractResourceReader {
+
+	protected static final long DEFAULT_MAXIMUM_MAPPED_REGION_SIZE = Integer.MAX_VALUE;
+
+	/**
+	 * Reads all the data from the mapped {@link java.io.File} into an exactly sized byte array.
+	 *
+	 * @param resource {@link Resource} to read data from.
+	 * @return a {@literal non-null} byte array containing the data from the {@link Resource}.
+	 * @see #readIntoByteBuffer(Resource)
+	 */
+	@Override
+	public @NonNull byte[] read(@NonNull Resource resource) {
+
+		ByteBuffer byteBuffer = readIntoByteBuffer(resource);
+
+		byte[] data = new byte[byteBuffer.remaining()];
+
+		byteBuffer.get(data);
+
+		return data;
+	}
+
+	/**
+	 * Maps the {@link java.io.File} referred to by the {@link Resource} into memory.
+	 *
+	 * @param resource {@link Resource} to read data from.
+	 * @return a read-only {@link MappedByteBuffer} containing the data from the {@link Resource}.
+	 * @throws UnhandledResourceException if this reader is not able to handle the target {@link Resource}
+	 * or the {@link java.io.File} is too large to map into a single {@link ByteBuffer}.
+	 * @throws ResourceReadException if the {@link java.io.File} cannot be mapped.
+	 * @see #map(Resource)
+	 */
+	@Override
+	public @NonNull ByteBuffer readIntoByteBuffer(@NonNull Resource resource) {
+
+		return Optional.ofNullable(resource)
+			.filter(this::isAbleToHandle)
+			.map(this::preProcess)
+			.map(this::map)
+			.orElseThrow(() -> new UnhandledResourceException(String.format("Unable to handle Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource))));
+	}
+
+	/**
+	 * Returns an {@link InputStream} view of the mapped {@link java.io.File} referred to by the {@link Resource}.
+	 *
+	 * {@link java.io.File Files} larger than the {@link #getMaximumMappedRegionSize() maximum mapped region size}
+	 * are mapped in multiple regions, which are read in sequence.
+	 *
+	 * @param resource {@link Resource} to read data from.
+	 * @return an {@link InputStream} reading from the mapped {@link java.io.File}.
+	 * @throws UnhandledResourceException if this reader is not able to handle the target {@link Resource}.
+	 * @throws ResourceReadException if the {@link java.io.File} cannot be mapped.
+	 * @see org.springframework.geode.core.io.support.ByteBufferInputStream
+	 * @see #mapRegions(Resource)
+	 * @see #decorate(InputStream)
+	 */
+	@Override
+	public @NonNull InputStream getInputStream(@NonNull Resource resource) {
+
+		List<MappedByteBuffer> mappedRegions = Optional.ofNullable(resource)
+			.filter(this::isAbleToHandle)
+			.map(this::preProcess)
+			.map(this::mapRegions)
+			.orElseThrow(() -> new UnhandledResourceException(String.format("Unable to handle Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource))));
+
+		InputStream in = mappedRegions.size() == 1
+			? new ByteBufferInputStream(mappedRegions.get(0))
+			: new SequenceInputStream(Collections.enumeration(mappedRegions.stream()
+				.map(ByteBufferInputStream::new)
+				.collect(Collectors.toList())));
+
+		return decorate(in);
+	}
+
+	/**
+	 * Returns the maximum number of bytes mapped into a single {@link MappedByteBuffer}.
+	 *
+	 * Defaults to the maximum capacity of a {@link ByteBuffer}, which is {@link Integer#MAX_VALUE}.
+	 *
+	 * @return the maximum number of bytes mapped into a single {@link MappedByteBuffer}.
+	 */
+	protected long getMaximumMappedRegionSize() {
+		return DEFAULT_MAXIMUM_MAPPED_REGION_SIZE;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected boolean isAbleToHandle(@Nullable Resource resource) {
+
+		// The contents of a CompressedResource must be decompressed through the Resource's InputStream.
+		return super.isAbleToHandle(resource)
+			&& !(resource instanceof CompressedResource)
+			&& resource.isFile();
+	}
+
+	/**
+	 * Maps the {@link java.io.File} referred to by the {@link Resource} into memory, read-only.
+	 *
+	 * The {@link MappedByteBuffer} remains valid after the {@link FileChannel} used to map
+	 * the {@link java.io.File} is closed.
+	 *
+	 * @param resource {@link Resource} to map; must not be {@literal null}.
+	 * @return a read-only {@link MappedByteBuffer} of the entire {@link java.io.File}.
+	 * @throws UnhandledResourceException if the {@link java.io.File} is larger than
+	 * the {@link #getMaximumMappedRegionSize() maximum mapped region size}.
+	 * @throws ResourceReadException if the {@link java.io.File} cannot be mapped.
+	 * @see java.nio.channels.FileChannel#map(FileChannel.MapMode, long, long)
+	 */
+	protected @NonNull MappedByteBuffer map(@NonNull Resource resource) {
+
+		try (FileChannel fileChannel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+
+			long size = fileChannel.size();
+
+			if (size > getMaximumMappedRegionSize()) {
+				throw new UnhandledResourceException(String.format(
+					"Resource [%1$s] of size [%2$d] is too large to map into a single ByteBuffer",
+						resource.getDescription(), size));
+			}
+
+			return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		catch (IOException cause) {
+			throw new ResourceReadException(String.format("Failed to map Resource [%s] into memory",
+				resource.getDescription()), cause);
+		}
+	}
+
+	/**
+	 * Maps the {@link java.io.File} referred to by the {@link Resource} into memory, read-only, in consecutive regions
+	 * of at most the {@link #getMaximumMappedRegionSize() maximum mapped region size}.
+	 *
+	 * @param resource {@link Resource} to map; must not be {@literal null}.
+	 * @return a {@link List} of read-only {@link MappedByteBuffer MappedByteBuffers} covering the entire
+	 * {@link java.io.File}, in order; contains a single, empty {@link MappedByteBuffer} for an empty {@link java.io.File}.
+	 * @throws ResourceReadException if the {@link java.io.File} cannot be mapped.
+	 * @see java.nio.channels.FileChannel#map(FileChannel.MapMode, long, long)
+	 */
+	protected @NonNull List<MappedByteBuffer> mapRegions(@NonNull Resource resource) {
+
+		try (FileChannel fileChannel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+
+			long size = fileChannel.size();
+			long regionSize = Math.max(Math.min(getMaximumMappedRegionSize(), DEFAULT_MAXIMUM_MAPPED_REGION_SIZE), 1L);
+
+			List<MappedByteBuffer> mappedRegions = new ArrayList<>();
+
+			long position = 0L;
+
+			do {
+				mappedRegions.add(fileChannel.map(FileChannel.MapMode.READ_ONLY, position,
+					Math.min(regionSize, size - position)));
+
+				position += regionSize;
+			}
+			while (position < size);
+
+			return mappedRegions;
+		}
+		catch (IOException cause) {
+			throw new ResourceReadException(String.format("Failed to map Resource [%s] into memory",
+				resource.getDescription()), cause);
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected @NonNull byte[] doRead(@NonNull InputStream resourceInputStream) throws IOException {
+		return StreamUtils.copyToByteArray(resourceInputStream);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.geode.core.io.CompressionCodec;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * An enumeration of {@link CompressionCodec CompressionCodecs} supported out-of-the-box by the JDK.
+ *
+ * @author John Blum
+ * @see java.util.zip.DeflaterOutputStream
+ * @see java.util.zip.GZIPInputStream
+ * @see java.util.zip.GZIPOutputStream
+ * @see java.util.zip.InflaterInputStream
+ * @see org.springframework.geode.core.io.CompressionCodec
+ * @since 1.4.0
+ */
+public enum StandardCompressionCodec implements CompressionCodec {
+
+	GZIP("gzip", ".gz") {
+
+		@Override
+		public @NonNull InputStream decompress(@NonNull InputStream in) throws IOException {
+			return new GZIPInputStream(in, BUFFER_SIZE);
+		}
+
+		@Override
+		public @NonNull OutputStream compress(@NonNull OutputStream out) throws IOException {
+			return new GZIPOutputStream(out, BUFFER_SIZE);
+		}
+	},
+
+	DEFLATE("deflate", ".deflate") {
+
+		@Override
+		public @NonNull InputStream decompress(@NonNull InputStream in) {
+			return new InflaterInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+		}
+
+		@Override
+		public @NonNull OutputStream compress(@NonNull OutputStream out) {
+			return new DeflaterOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+		}
+	};
+
+	static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Factory method used to try and find a {@link StandardCompressionCodec} enumerated value
+	 * matching the given {@link String name}.
+	 *
+	 * @param name {@link String} containing the name of the {@link CompressionCodec}.
+	 * @return a {@link StandardCompressionCodec} matching the given {@link String name}, ignoring case,
+	 * or {@literal null} if the {@link String name} does not match any {@link StandardCompressionCodec}.
+	 */
+	public static @Nullable StandardCompressionCodec from(@Nullable String name) {
+
+		if (StringUtils.hasText(name)) {
+
+			name = name.trim();
+
+			for (StandardCompressionCodec codec : values()) {
+				if (codec.getName().equalsIgnoreCase(name)) {
+					return codec;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private final String name;
+	private final String fileExtension;
+
+	StandardCompressionCodec(String name, String fileExtension) {
+		this.name = name;
+		this.fileExtension = fileExtension;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull String getFileExtension() {
+		return this.fileExtension;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return getName();
+	}
+}
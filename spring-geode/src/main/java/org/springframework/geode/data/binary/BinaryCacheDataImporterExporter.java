@@ -0,0 +1,412 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.binary;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.core.io.Resource;
+import org.springframework.geode.core.io.ResourceReadException;
+import org.springframework.geode.core.io.ResourceWriteException;
+import org.springframework.geode.data.CacheDataExporter;
+import org.springframework.geode.data.CacheDataImporter;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+import org.springframework.geode.util.CacheUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link BinaryCacheDataImporterExporter} class is a {@link CacheDataImporter} and {@link CacheDataExporter}
+ * implementation that can export/import {@link Region} data to/from a {@link Resource} in a compact, binary format.
+ *
+ * The binary format begins with a header containing a {@literal magic number}, the format version,
+ * the {@link Region#getName() name} of the {@link Region} from which the data was exported along with
+ * the {@link Class#getName() names} of the {@link Region Region's} {@link RegionAttributes#getKeyConstraint() key}
+ * and {@link RegionAttributes#getValueConstraint() value} types. The header is followed by a length-prefixed
+ * {@link Region} entry for each {@literal key} and {@literal value} serialized with the {@link DataSerializer},
+ * and then a terminating length of {@literal -1}.
+ *
+ * {@link Object Values} serialized with PDX are written and read as raw PDX bytes. As such, the PDX type metadata
+ * must be available, for example, by using a persistent PDX type registry, when importing the data.
+ *
+ * This implementation is selected by setting the {@literal spring.boot.data.gemfire.cache.data.format} property
+ * to {@literal binary}.
+ *
+ * @author John Blum
+ * @see java.io.DataInputStream
+ * @see java.io.DataOutputStream
+ * @see org.apache.geode.DataSerializer
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.core.io.Resource
+ * @see org.springframework.geode.data.CacheDataExporter
+ * @see org.springframework.geode.data.CacheDataImporter
+ * @see org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter
+ * @since 1.4.0
+ */
+@SuppressWarnings("rawtypes")
+public class BinaryCacheDataImporterExporter extends ResourceCapableCacheDataImporterExporter {
+
+	public static final String BINARY_CACHE_DATA_FORMAT = "binary";
+
+	protected static final int DEFAULT_EXPORT_BATCH_SIZE = 1000;
+	protected static final int END_OF_ENTRIES = -1;
+	protected static final int FORMAT_VERSION = 1;
+	protected static final int MAGIC_NUMBER = 0x53424447;
+	protected static final int READ_BUFFER_SIZE = 8192;
+
+	/**
+	 * @inheritDoc
+	 */
+	@NonNull @Override
+	public Region doExportFrom(@NonNull Region region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		getExportResourceResolver()
+			.resolve(region)
+			.ifPresent(resource -> {
+
+				getLogger().debug("Writing binary data from Region [{}] to Resource [{}]",
+					region.getName(), resource.getDescription());
+
+				writeBinary(region, getResourceWriter().getOutputStream(resource));
+			});
+
+		return region;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@NonNull @Override
+	public Region doImportInto(@NonNull Region region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		getImportResourceResolver()
+			.resolve(region)
+			.map(resource -> getResourceReader().getInputStream(resource))
+			.ifPresent(in -> readBinary(region, in));
+
+		return region;
+	}
+
+	/**
+	 * Returns the number of {@link Region} entries put into the {@link Region} in a single
+	 * {@link Region#putAll(Map)} operation on import.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @return the number of {@link Region} entries put into the {@link Region} in a single batch.
+	 * @see #readBinary(Region, InputStream)
+	 */
+	protected int getImportBatchSize() {
+
+		int batchSize = getEnvironment()
+			.map(environment -> environment.getProperty(CACHE_DATA_IMPORT_BATCH_SIZE_PROPERTY_NAME, Integer.class,
+				DEFAULT_CACHE_DATA_IMPORT_BATCH_SIZE))
+			.orElse(DEFAULT_CACHE_DATA_IMPORT_BATCH_SIZE);
+
+		return Math.max(batchSize, 1);
+	}
+
+	/**
+	 * Writes all entries of the given {@link Region} in binary format to the given {@link OutputStream}.
+	 *
+	 * The {@link OutputStream} is closed after all {@link Region} entries have been written.
+	 *
+	 * @param region {@link Region} to export; must not be {@literal null}.
+	 * @param out {@link OutputStream} to write the binary data to; must not be {@literal null}.
+	 * @throws ResourceWriteException if an I/O error occurs while writing the binary data.
+	 * @see #writeHeader(Region, DataOutputStream)
+	 * @see #writeEntry(Object, Object, DataOutputStream)
+	 * @see #streamEntries(Region)
+	 */
+	@SuppressWarnings("unchecked")
+	protected void writeBinary(@NonNull Region region, @NonNull OutputStream out) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(out, "OutputStream must not be null");
+
+		try (DataOutputStream dataOutput = new DataOutputStream(out)) {
+
+			writeHeader(region, dataOutput);
+
+			for (Map.Entry<?, ?> entry : (Iterable<Map.Entry<?, ?>>) streamEntries(region)::iterator) {
+				writeEntry(entry.getKey(), entry.getValue(), dataOutput);
+			}
+
+			dataOutput.writeInt(END_OF_ENTRIES);
+			dataOutput.flush();
+		}
+		catch (IOException cause) {
+			throw new ResourceWriteException(String.format("Failed to write binary data from Region [%s]",
+				region.getName()), cause);
+		}
+	}
+
+	/**
+	 * Reads {@link Region} entries in binary format from the given {@link InputStream} and puts the entries
+	 * into the target {@link Region} in batches using {@link Region#putAll(Map)}.
+	 *
+	 * The {@link InputStream} is closed after all {@link Region} entries have been read.
+	 *
+	 * @param region target {@link Region} to store the data; must not be {@literal null}.
+	 * @param in {@link InputStream} containing the binary data to import; must not be {@literal null}.
+	 * @throws IllegalStateException if the {@link InputStream} does not contain data in the expected binary format.
+	 * @throws ResourceReadException if an I/O error occurs while reading the binary data.
+	 * @see #readHeader(Region, DataInputStream)
+	 * @see #getImportBatchSize()
+	 */
+	@SuppressWarnings("unchecked")
+	protected void readBinary(@NonNull Region region, @NonNull InputStream in) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(in, "InputStream must not be null");
+
+		int batchSize = getImportBatchSize();
+
+		Map<Object, Object> batch = new LinkedHashMap<>(batchSize);
+
+		try (DataInputStream dataInput = new DataInputStream(new BufferedInputStream(in))) {
+
+			readHeader(region, dataInput);
+
+			for (int keyLength = dataInput.readInt(); keyLength != END_OF_ENTRIES; keyLength = dataInput.readInt()) {
+
+				Object key = readObject(dataInput, keyLength);
+				Object value = readObject(dataInput, dataInput.readInt());
+
+				batch.put(key, value);
+
+				if (batch.size() >= batchSize) {
+					region.putAll(batch);
+					batch.clear();
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				region.putAll(batch);
+			}
+		}
+		catch (ClassNotFoundException | IOException cause) {
+			throw new ResourceReadException(String.format("Failed to read binary data for Region [%s]",
+				region.getName()), cause);
+		}
+	}
+
+	/**
+	 * Writes the binary format header for the given {@link Region}.
+	 *
+	 * @param region {@link Region} being exported.
+	 * @param out {@link DataOutputStream} to write the header to.
+	 * @throws IOException if an I/O error occurs while writing the header.
+	 */
+	protected void writeHeader(@NonNull Region region, @NonNull DataOutputStream out) throws IOException {
+
+		out.writeInt(MAGIC_NUMBER);
+		out.writeInt(FORMAT_VERSION);
+		out.writeUTF(String.valueOf(region.getName()));
+		out.writeUTF(getKeyTypeName(region));
+		out.writeUTF(getValueTypeName(region));
+	}
+
+	/**
+	 * Reads and verifies the binary format header for the given {@link Region}.
+	 *
+	 * @param region {@link Region} being imported.
+	 * @param in {@link DataInputStream} to read the header from.
+	 * @throws IllegalStateException if the {@literal magic number} or format version do not match.
+	 * @throws IOException if an I/O error occurs while reading the header.
+	 */
+	protected void readHeader(@NonNull Region region, @NonNull DataInputStream in) throws IOException {
+
+		int magicNumber = in.readInt();
+
+		Assert.state(magicNumber == MAGIC_NUMBER,
+			() -> String.format("Resource for Region [%s] does not contain binary cache data", region.getName()));
+
+		int formatVersion = in.readInt();
+
+		Assert.state(formatVersion == FORMAT_VERSION,
+			() -> String.format("Binary cache data format version [%1$d] for Region [%2$s] is not supported;"
+				+ " expected version [%3$d]", formatVersion, region.getName(), FORMAT_VERSION));
+
+		String regionName = in.readUTF();
+		String keyTypeName = in.readUTF();
+		String valueTypeName = in.readUTF();
+
+		if (!getKeyTypeName(region).equals(keyTypeName) || !getValueTypeName(region).equals(valueTypeName)) {
+			getLogger().warn("Binary cache data exported from Region [{}] with key type [{}] and value type [{}]"
+				+ " is being imported into Region [{}] with key type [{}] and value type [{}]",
+					regionName, keyTypeName, valueTypeName,
+					region.getName(), getKeyTypeName(region), getValueTypeName(region));
+		}
+	}
+
+	/**
+	 * Writes the given {@link Region} entry {@literal key} and {@literal value}, each prefixed with the length
+	 * of its serialized form.
+	 *
+	 * @param key {@link Object key} of the {@link Region} entry.
+	 * @param value {@link Object value} of the {@link Region} entry.
+	 * @param out {@link DataOutputStream} to write the {@link Region} entry to.
+	 * @throws IOException if an I/O error occurs while writing the {@link Region} entry.
+	 */
+	protected void writeEntry(@NonNull Object key, @Nullable Object value, @NonNull DataOutputStream out)
+			throws IOException {
+
+		writeObject(key, out);
+		writeObject(value instanceof PdxInstance ? PdxInstanceWrapper.unwrap((PdxInstance) value) : value, out);
+	}
+
+	private void writeObject(Object target, DataOutputStream out) throws IOException {
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		try (DataOutputStream bufferOutput = new DataOutputStream(buffer)) {
+			DataSerializer.writeObject(target, bufferOutput);
+		}
+
+		out.writeInt(buffer.size());
+		buffer.writeTo(out);
+	}
+
+	private Object readObject(DataInputStream in, int length) throws ClassNotFoundException, IOException {
+
+		Assert.state(length >= 0, () -> String.format("Invalid binary cache data entry length [%d]", length));
+
+		try (DataInputStream bytesInput = new DataInputStream(new ByteArrayInputStream(readBytes(in, length)))) {
+			return DataSerializer.readObject(bytesInput);
+		}
+	}
+
+	/**
+	 * Reads the given number of bytes in bounded chunks so that a corrupt length prefix cannot cause more memory
+	 * to be allocated than the bytes that actually remain in the {@link InputStream}.
+	 */
+	private byte[] readBytes(DataInputStream in, int length) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, READ_BUFFER_SIZE));
+
+		byte[] buffer = new byte[Math.min(length, READ_BUFFER_SIZE)];
+
+		for (int remaining = length; remaining > 0; ) {
+
+			int bytesRead = in.read(buffer, 0, Math.min(remaining, buffer.length));
+
+			Assert.state(bytesRead > 0, () -> String.format("Binary cache data entry length [%1$d]"
+				+ " is larger than the [%2$d] byte(s) remaining", length, bytes.size()));
+
+			bytes.write(buffer, 0, bytesRead);
+			remaining -= bytesRead;
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Returns the maximum number of {@link Region} entries fetched from the server in a single
+	 * {@link Region#getAll(java.util.Collection)} operation when exporting a {@literal client}
+	 * {@literal PROXY} {@link Region}.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @return the maximum number of {@link Region} entries fetched from the server in a single batch.
+	 * @see #streamEntries(Region)
+	 */
+	protected int getExportBatchSize() {
+		return DEFAULT_EXPORT_BATCH_SIZE;
+	}
+
+	/**
+	 * Streams all entries from the given {@link Region}.
+	 *
+	 * For {@literal client} {@literal PROXY} {@link Region Regions}, the entries are pulled from the server
+	 * in batches of at most {@link #getExportBatchSize()} entries, so that only a single batch of {@link Object values}
+	 * is held in the client at any given time. All {@literal keys} are still fetched from the server up front.
+	 * Entries destroyed on the server after the {@literal keys} were fetched have {@literal null} {@link Object values}
+	 * and are not exported.
+	 *
+	 * @param region {@link Region} from which to stream entries.
+	 * @return a {@link Stream} of all entries from the given {@link Region}.
+	 * @see org.springframework.geode.util.CacheUtils#isProxyRegion(Region)
+	 * @see #getExportBatchSize()
+	 */
+	@SuppressWarnings("unchecked")
+	protected @NonNull Stream<Map.Entry<?, ?>> streamEntries(@NonNull Region region) {
+
+		if (CacheUtils.isClientRegion(region) && CacheUtils.isProxyRegion(region)) {
+
+			List<?> keys = new ArrayList<>(Optional.ofNullable((Set<?>) region.keySetOnServer())
+				.orElseGet(Collections::emptySet));
+
+			int batchSize = Math.max(getExportBatchSize(), 1);
+			int batchCount = (keys.size() + batchSize - 1) / batchSize;
+
+			return IntStream.range(0, batchCount)
+				.mapToObj(batchIndex -> keys.subList(batchIndex * batchSize,
+					Math.min(keys.size(), (batchIndex + 1) * batchSize)))
+				.flatMap(batch -> Optional.ofNullable((Map<?, ?>) region.getAll(batch))
+					.map(entries -> entries.entrySet().stream()
+						.filter(entry -> Objects.nonNull(entry.getValue())))
+					.orElseGet(Stream::empty));
+		}
+
+		return Optional.ofNullable((Set<Map.Entry<?, ?>>) region.entrySet())
+			.map(Set::stream)
+			.orElseGet(Stream::empty);
+	}
+
+	private String getKeyTypeName(Region<?, ?> region) {
+
+		return Optional.ofNullable(region.getAttributes())
+			.map(RegionAttributes::getKeyConstraint)
+			.map(Class::getName)
+			.orElseGet(Object.class::getName);
+	}
+
+	private String getValueTypeName(Region<?, ?> region) {
+
+		return Optional.ofNullable(region.getAttributes())
+			.map(RegionAttributes::getValueConstraint)
+			.map(Class::getName)
+			.orElseGet(Object.class::getName);
+	}
+}
@@ -15,21 +15,51 @@
  */
 package org.springframework.geode.data.json;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.pdx.PdxInstance;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.geode.core.io.ResourceReadException;
+import org.springframework.geode.core.io.ResourceReader;
+import org.springframework.geode.core.io.ResourceWriteException;
 import org.springframework.geode.data.CacheDataExporter;
 import org.springframework.geode.data.CacheDataImporter;
+import org.springframework.geode.data.function.ExportRegionValuesFunction;
 import org.springframework.geode.data.json.converter.AbstractObjectArrayToJsonConverter;
 import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
 import org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.JacksonStreamingJsonToPdxConverter;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter;
+import org.springframework.geode.function.support.StreamingResultCollector;
+import org.springframework.geode.function.support.StreamingResultCollector.CloseableIterable;
 import org.springframework.geode.pdx.ObjectPdxInstanceAdapter;
 import org.springframework.geode.pdx.PdxInstanceWrapper;
 import org.springframework.geode.util.CacheUtils;
@@ -43,14 +73,18 @@ import org.springframework.util.Assert;
  * implementation that can export/import JSON data to/from a {@link Resource} given a target {@link Region}.
  *
  * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonGenerator
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.core.io.Resource
  * @see org.springframework.geode.data.CacheDataExporter
  * @see org.springframework.geode.data.CacheDataImporter
+ * @see org.springframework.geode.data.function.ExportRegionValuesFunction
  * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter
  * @see org.springframework.geode.data.json.converter.ObjectArrayToJsonConverter
- * @see org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter
+ * @see org.springframework.geode.data.json.converter.ObjectToJsonConverter
+ * @see org.springframework.geode.data.json.converter.support.JacksonStreamingJsonToPdxConverter
  * @see org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter
  * @see org.springframework.geode.pdx.ObjectPdxInstanceAdapter
  * @see org.springframework.geode.pdx.PdxInstanceWrapper
@@ -59,14 +93,47 @@ import org.springframework.util.Assert;
  */
 @Component
 @SuppressWarnings("rawtypes")
-public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImporterExporter {
+public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImporterExporter
+		implements DisposableBean {
+
+	protected static final boolean DEFAULT_CACHE_DATA_EXPORT_FUNCTION_ENABLED = false;
+	protected static final boolean DEFAULT_CACHE_DATA_EXPORT_PARALLEL_ENABLED = false;
+	protected static final boolean DEFAULT_CACHE_DATA_EXPORT_STREAMING_ENABLED = false;
+	protected static final boolean DEFAULT_CACHE_DATA_IMPORT_STREAMING_ENABLED = false;
+
+	protected static final int DEFAULT_CACHE_DATA_EXPORT_SEGMENT_SIZE = 1000;
 
 	protected static final PdxInstance[] EMPTY_PDX_INSTANCE_ARRAY = {};
 
+	protected static final String CACHE_DATA_EXPORT_FUNCTION_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.export.function.enabled";
+
+	protected static final String CACHE_DATA_EXPORT_PARALLEL_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.export.parallel.enabled";
+
+	protected static final String CACHE_DATA_EXPORT_STREAMING_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.export.streaming.enabled";
+
+	protected static final String CACHE_DATA_IMPORT_STREAMING_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.streaming.enabled";
+
+	private boolean importStreamingEnabled = DEFAULT_CACHE_DATA_IMPORT_STREAMING_ENABLED;
+
+	private ExecutorService exportExecutorService;
+
+	private ForkJoinPool exportForkJoinPool;
+
+	private int importBatchSize = DEFAULT_CACHE_DATA_IMPORT_BATCH_SIZE;
+
 	@Autowired(required = false)
 	private JsonToPdxArrayConverter jsonToPdxArrayConverter;
 
-	private final RegionValuesToJsonConverter regionValuesToJsonConverter = new RegionValuesToJsonConverter();
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	@Autowired(required = false)
+	private ObjectToJsonConverter objectToJsonConverter;
+
+	private RegionValuesToJsonConverter regionValuesToJsonConverter = new RegionValuesToJsonConverter(null);
 
 	/**
 	 * Determines whether the given array is empty or not. An array is not empty if the array reference
@@ -82,7 +149,15 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 	}
 
 	/**
-	 * Initializes the JSON to PDX (array) converter.
+	 * Initializes the JSON to PDX (array) converter along with the streaming import configuration.
+	 *
+	 * If an {@link ObjectToJsonConverter} bean (for example, one configured with a customized Jackson
+	 * {@code ObjectMapper}) was declared, then it is used, and shared, to convert all {@link Region} values
+	 * to {@literal JSON} on export.
+	 *
+	 * When streaming import is enabled, the import {@link Resource} is read and converted to PDX incrementally,
+	 * one {@literal JSON} object at a time, and the PDX is put into the {@link Region} in batches rather than
+	 * reading the entire {@link Resource} into memory and putting each PDX into the {@link Region} individually.
 	 *
 	 * @see #newJsonToPdxArrayConverter()
 	 */
@@ -91,13 +166,61 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 
 		super.afterPropertiesSet();
 
+		getEnvironment().ifPresent(environment -> {
+
+			this.importStreamingEnabled = environment.getProperty(CACHE_DATA_IMPORT_STREAMING_ENABLED_PROPERTY_NAME,
+				Boolean.class, DEFAULT_CACHE_DATA_IMPORT_STREAMING_ENABLED);
+
+			this.importBatchSize = environment.getProperty(CACHE_DATA_IMPORT_BATCH_SIZE_PROPERTY_NAME,
+				Integer.class, DEFAULT_CACHE_DATA_IMPORT_BATCH_SIZE);
+		});
+
 		this.jsonToPdxArrayConverter = this.jsonToPdxArrayConverter != null
 			? this.jsonToPdxArrayConverter
 			: newJsonToPdxArrayConverter();
+
+		if (this.objectToJsonConverter != null) {
+			this.regionValuesToJsonConverter = new RegionValuesToJsonConverter(this.objectToJsonConverter);
+		}
 	}
 
+	/**
+	 * Shuts down the {@link ExecutorService} used to execute the {@link ExportRegionValuesFunction}
+	 * and the {@link ForkJoinPool} used to export a {@literal PARTITION} {@link Region} in parallel, if any.
+	 *
+	 * @see #getExportExecutorService()
+	 * @see #getExportForkJoinPool()
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		if (this.exportExecutorService != null) {
+			this.exportExecutorService.shutdownNow();
+			this.exportExecutorService = null;
+		}
+
+		if (this.exportForkJoinPool != null) {
+			this.exportForkJoinPool.shutdownNow();
+			this.exportForkJoinPool = null;
+		}
+	}
+
+	/**
+	 * Constructs the default {@link JsonToPdxArrayConverter} used when no {@link JsonToPdxArrayConverter} bean
+	 * was declared.
+	 *
+	 * The {@link JacksonStreamingJsonToPdxConverter} is only used when streaming import is enabled;
+	 * otherwise, the {@link JacksonJsonToPdxConverter} is used.
+	 *
+	 * @return a new {@link JsonToPdxArrayConverter}.
+	 * @see org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter
+	 * @see org.springframework.geode.data.json.converter.support.JacksonStreamingJsonToPdxConverter
+	 */
 	private @NonNull JsonToPdxArrayConverter newJsonToPdxArrayConverter() {
-		return new JacksonJsonToPdxConverter();
+
+		return this.importStreamingEnabled
+			? new JacksonStreamingJsonToPdxConverter()
+			: new JacksonJsonToPdxConverter();
 	}
 
 	/**
@@ -110,6 +233,134 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 		return this.jsonToPdxArrayConverter;
 	}
 
+	/**
+	 * Returns the number of {@link Region} entries put into the {@link Region} in a single
+	 * {@link Region#putAll(Map)} operation during a streaming import.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @return the number of {@link Region} entries put into the {@link Region} in a single batch.
+	 * @see #readJson(Region, InputStream)
+	 */
+	protected int getImportBatchSize() {
+		return Math.max(this.importBatchSize, 1);
+	}
+
+	/**
+	 * Determines whether the {@link Region} data should be streamed to the export {@link Resource}
+	 * one {@link Region} value at a time rather than first converting all {@link Region} values into
+	 * a single {@link String JSON} document and then writing it to the {@link Resource}.
+	 *
+	 * Streaming is disabled by default.
+	 *
+	 * @return a boolean value indicating whether the export streams {@link Region} data to the {@link Resource}.
+	 * @see #writeJson(Region, OutputStream)
+	 */
+	protected boolean isExportStreamingEnabled() {
+
+		return getEnvironment()
+			.map(environment -> environment.getProperty(CACHE_DATA_EXPORT_STREAMING_ENABLED_PROPERTY_NAME,
+				Boolean.class, DEFAULT_CACHE_DATA_EXPORT_STREAMING_ENABLED))
+			.orElse(DEFAULT_CACHE_DATA_EXPORT_STREAMING_ENABLED);
+	}
+
+	/**
+	 * Determines whether the {@link Object values} of a [client] {@literal PROXY} {@link Region} should be exported
+	 * by executing the {@link ExportRegionValuesFunction} on the servers rather than pulling all {@link Object values}
+	 * into the client with {@link Region#getAll(java.util.Collection)}.
+	 *
+	 * The {@link ExportRegionValuesFunction} must be registered on the servers. Export by {@literal Function}
+	 * is disabled by default.
+	 *
+	 * @return a boolean value indicating whether {@literal client} {@link Region} data is exported by
+	 * {@literal Function} execution.
+	 * @see org.springframework.geode.data.function.ExportRegionValuesFunction
+	 */
+	protected boolean isExportFunctionEnabled() {
+
+		return getEnvironment()
+			.map(environment -> environment.getProperty(CACHE_DATA_EXPORT_FUNCTION_ENABLED_PROPERTY_NAME,
+				Boolean.class, DEFAULT_CACHE_DATA_EXPORT_FUNCTION_ENABLED))
+			.orElse(DEFAULT_CACHE_DATA_EXPORT_FUNCTION_ENABLED);
+	}
+
+	private boolean isExportFunctionApplicable(@NonNull Region<?, ?> region) {
+
+		return isExportFunctionEnabled()
+			&& CacheUtils.isClientRegion(region)
+			&& CacheUtils.isProxyRegion(region);
+	}
+
+	/**
+	 * Determines whether the {@link Object values} of a {@literal peer} {@literal PARTITION} {@link Region} should be
+	 * exported from the local primary data in parallel.
+	 *
+	 * When enabled, only the data hosted by this member as primary is exported, without the redundant copies.
+	 * Therefore, when multiple members host the {@link Region}, each member must export to a separate
+	 * {@link Resource}. Parallel export is disabled by default.
+	 *
+	 * @return a boolean value indicating whether {@literal peer} {@literal PARTITION} {@link Region} data
+	 * is exported in parallel.
+	 * @see #writeJsonInParallel(Region, JsonGenerator)
+	 */
+	protected boolean isExportParallelEnabled() {
+
+		return getEnvironment()
+			.map(environment -> environment.getProperty(CACHE_DATA_EXPORT_PARALLEL_ENABLED_PROPERTY_NAME,
+				Boolean.class, DEFAULT_CACHE_DATA_EXPORT_PARALLEL_ENABLED))
+			.orElse(DEFAULT_CACHE_DATA_EXPORT_PARALLEL_ENABLED);
+	}
+
+	private boolean isExportParallelApplicable(@NonNull Region<?, ?> region) {
+
+		return isExportParallelEnabled()
+			&& CacheUtils.isPeerRegion(region)
+			&& PartitionRegionHelper.isPartitionedRegion(region);
+	}
+
+	/**
+	 * Returns the number of {@link Thread Threads} used to export the local primary data of a {@literal PARTITION} {@link Region}
+	 * in parallel.
+	 *
+	 * Defaults to the number of available processors.
+	 *
+	 * @return the number of {@link Thread Threads} used to export a {@literal PARTITION} {@link Region} in parallel.
+	 * @see #newExportForkJoinPool()
+	 */
+	protected int getExportParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Returns the {@link ForkJoinPool} used to export a {@literal PARTITION} {@link Region} in parallel,
+	 * constructing it on first use.
+	 *
+	 * The {@link ForkJoinPool} is shut down when this bean is {@link #destroy() destroyed}.
+	 *
+	 * @return the {@link ForkJoinPool} used to export a {@literal PARTITION} {@link Region} in parallel.
+	 * @see #newExportForkJoinPool()
+	 * @see #destroy()
+	 */
+	protected synchronized @NonNull ForkJoinPool getExportForkJoinPool() {
+
+		if (this.exportForkJoinPool == null) {
+			this.exportForkJoinPool = newExportForkJoinPool();
+		}
+
+		return this.exportForkJoinPool;
+	}
+
+	/**
+	 * Constructs a new {@link ForkJoinPool} used to export a {@literal PARTITION} {@link Region} in parallel.
+	 *
+	 * @return a new {@link ForkJoinPool} with the configured {@link #getExportParallelism() parallelism}.
+	 * @see java.util.concurrent.ForkJoinPool
+	 * @see #getExportParallelism()
+	 */
+	protected @NonNull ForkJoinPool newExportForkJoinPool() {
+		return new ForkJoinPool(Math.max(getExportParallelism(), 1));
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -122,11 +373,21 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 			.resolve(region)
 			.ifPresent(resource -> {
 
-				String json = toJson(region);
+				if (isExportStreamingEnabled()) {
+
+					getLogger().debug("Streaming JSON from Region [{}] to Resource [{}]",
+						region.getName(), resource.getDescription());
 
-				getLogger().debug("Saving JSON [{}] from Region [{}]", json, region.getName());
+					writeJson(region, getResourceWriter().getOutputStream(resource));
+				}
+				else {
 
-				getResourceWriter().write(resource, json.getBytes());
+					String json = toJson(region);
+
+					getLogger().debug("Saving JSON [{}] from Region [{}]", json, region.getName());
+
+					getResourceWriter().write(resource, json.getBytes());
+				}
 			});
 
 		return region;
@@ -140,15 +401,69 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 
 		Assert.notNull(region, "Region must not be null");
 
-		getImportResourceResolver()
-			.resolve(region)
-			.map(this.getResourceReader()::read)
-			.map(this::toPdx)
-			.ifPresent(pdxInstances -> regionPutPdx(region, pdxInstances));
+		Optional<Resource> resource = getImportResourceResolver().resolve(region);
+
+		ResourceReader resourceReader = getResourceReader();
+
+		if (this.importStreamingEnabled) {
+			resource.map(resourceReader::getInputStream)
+				.ifPresent(json -> readJson(region, json));
+		}
+		else {
+			resource.map(resourceReader::read)
+				.map(this::toPdx)
+				.ifPresent(pdxInstances -> regionPutPdx(region, pdxInstances));
+		}
 
 		return region;
 	}
 
+	/**
+	 * Reads {@literal JSON} from the given {@link InputStream}, converts each {@literal JSON} object into PDX
+	 * and puts all PDX data into the target {@link Region} in batches using {@link Region#putAll(Map)}.
+	 *
+	 * At most {@link #getImportBatchSize()} PDX data entries are held in memory at any given time.
+	 * The {@link InputStream} is closed after all {@literal JSON} has been read.
+	 *
+	 * @param region target {@link Region} to store the PDX data; must not be {@literal null}.
+	 * @param json {@link InputStream} containing the {@literal JSON} to import; must not be {@literal null}.
+	 * @throws ResourceReadException if an I/O error occurs while reading the {@literal JSON}.
+	 * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter#convert(InputStream, java.util.function.Consumer)
+	 * @see org.apache.geode.cache.Region#putAll(Map)
+	 * @see #getImportBatchSize()
+	 */
+	@SuppressWarnings("unchecked")
+	protected void readJson(@NonNull Region region, @NonNull InputStream json) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(json, "InputStream must not be null");
+
+		int batchSize = getImportBatchSize();
+
+		Map<Object, Object> batch = new LinkedHashMap<>(batchSize);
+
+		try (InputStream in = json) {
+
+			getJsonToPdxArrayConverter().convert(in, pdxInstance -> {
+
+				batch.put(resolveKey(pdxInstance), resolveValue(pdxInstance));
+
+				if (batch.size() >= batchSize) {
+					region.putAll(batch);
+					batch.clear();
+				}
+			});
+
+			if (!batch.isEmpty()) {
+				region.putAll(batch);
+			}
+		}
+		catch (IOException cause) {
+			throw new ResourceReadException(String.format("Failed to read JSON for Region [%s]",
+				region.getName()), cause);
+		}
+	}
+
 	/**
 	 * Puts all PDX data from the {@link PdxInstance} array into the target {@link Region} mapped to
 	 * the PDX {@link PdxInstance#isIdentityField(String) identifier} as the {@literal key}.
@@ -221,9 +536,220 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 	 */
 	@SuppressWarnings("unchecked")
 	protected @NonNull String toJson(@NonNull Region region) {
+
+		if (isExportParallelApplicable(region)) {
+
+			StringWriter json = new StringWriter();
+
+			try (JsonGenerator jsonGenerator = this.jsonFactory.createGenerator(json)) {
+				writeJsonInParallel(region, jsonGenerator);
+			}
+			catch (IOException cause) {
+				throw new ResourceWriteException(String.format("Failed to convert Region [%s] values to JSON",
+					region.getName()), cause);
+			}
+
+			return json.toString();
+		}
+
+		if (isExportFunctionApplicable(region)) {
+			try (CloseableIterable<?> values = executeExportFunction(region)) {
+				return this.regionValuesToJsonConverter.convert(values);
+			}
+		}
+
 		return this.regionValuesToJsonConverter.convert(region);
 	}
 
+	/**
+	 * Writes the {@link Object values} contained in the {@link Region} as {@link String JSON} to the given
+	 * {@link OutputStream}, one {@link Object value} at a time.
+	 *
+	 * The {@link OutputStream} is closed after all {@link Object values} have been written.
+	 *
+	 * @param region {@link Region} to process; must not be {@literal null}.
+	 * @param out {@link OutputStream} to write the {@link String JSON} to; must not be {@literal null}.
+	 * @throws ResourceWriteException if an I/O error occurs while writing the {@link String JSON}.
+	 * @see org.apache.geode.cache.Region
+	 * @see java.io.OutputStream
+	 */
+	@SuppressWarnings("unchecked")
+	protected void writeJson(@NonNull Region region, @NonNull OutputStream out) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(out, "OutputStream must not be null");
+
+		try (JsonGenerator jsonGenerator = this.jsonFactory.createGenerator(out)) {
+			if (isExportParallelApplicable(region)) {
+				writeJsonInParallel(region, jsonGenerator);
+			}
+			else if (isExportFunctionApplicable(region)) {
+				try (CloseableIterable<?> values = executeExportFunction(region)) {
+					this.regionValuesToJsonConverter.write(values, jsonGenerator);
+				}
+			}
+			else {
+				this.regionValuesToJsonConverter.write(region, jsonGenerator);
+			}
+		}
+		catch (IOException cause) {
+			throw new ResourceWriteException(String.format("Failed to write JSON from Region [%s]",
+				region.getName()), cause);
+		}
+	}
+
+	/**
+	 * Writes the {@link Object values} from the local primary data of the given {@literal peer}
+	 * {@literal PARTITION} {@link Region} as {@link String JSON} to the given {@link JsonGenerator}.
+	 *
+	 * The {@link Object values} are gathered into segments, which are written as {@literal JSON} to a buffer
+	 * per segment in parallel on the {@link #getExportForkJoinPool() export ForkJoinPool} and copied to
+	 * the {@link JsonGenerator} as part of a single {@literal JSON} array as soon as each segment is written.
+	 *
+	 * @param region {@link Region} to process; must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing the {@literal JSON}.
+	 * @see #streamLocalPrimaryValues(Region)
+	 * @see #getExportForkJoinPool()
+	 */
+	protected void writeJsonInParallel(@NonNull Region region, @NonNull JsonGenerator jsonGenerator)
+			throws IOException {
+
+		Region<?, ?> exportRegion = region;
+
+		try {
+			getExportForkJoinPool().submit(() -> {
+				this.regionValuesToJsonConverter.writeSegments(
+					streamLocalPrimaryValues(exportRegion).parallel(), jsonGenerator);
+				return null;
+			}).get();
+		}
+		catch (ExecutionException cause) {
+
+			Throwable resolvedCause = cause.getCause();
+
+			if (resolvedCause instanceof IOException) {
+				throw (IOException) resolvedCause;
+			}
+			else if (resolvedCause instanceof RuntimeException) {
+				throw (RuntimeException) resolvedCause;
+			}
+
+			throw new IllegalStateException(resolvedCause);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(String.format("Interrupted while exporting Region [%s]",
+				region.getName()));
+		}
+	}
+
+	/**
+	 * Streams the {@link Object values} hosted as primary by this member from the given {@literal peer}
+	 * {@literal PARTITION} {@link Region} in segments.
+	 *
+	 * @param <V> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} from which to stream the {@link Object values}; must not be {@literal null}.
+	 * @return a {@link Stream} of segments of {@link Object values}.
+	 * @see org.springframework.geode.util.CacheUtils#streamLocalPrimaryValues(Region, int)
+	 */
+	protected @NonNull <V> Stream<Collection<V>> streamLocalPrimaryValues(@NonNull Region<?, V> region) {
+		return CacheUtils.streamLocalPrimaryValues(region, DEFAULT_CACHE_DATA_EXPORT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Executes the {@link ExportRegionValuesFunction} on the servers hosting the data of the given
+	 * [client] {@literal PROXY} {@link Region}.
+	 *
+	 * The {@literal Function} is executed by the {@link #getExportExecutorService() export ExecutorService} and
+	 * the returned {@link Iterable} blocks while waiting for the next chunk of {@link Object values} sent by
+	 * the servers. This way, only a bounded number of chunks are held in the client at any given time.
+	 *
+	 * The caller must {@link CloseableIterable#close() close} the returned {@link Iterable} once done, even when
+	 * the export fails, so that chunks still sent by the servers are discarded rather than blocking the
+	 * {@link Thread} executing the {@literal Function}.
+	 *
+	 * @param <V> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} to export; must not be {@literal null}.
+	 * @return a single-use {@link CloseableIterable} over the {@link Object values} exported by the servers.
+	 * @see org.springframework.geode.data.function.ExportRegionValuesFunction
+	 * @see org.springframework.geode.function.support.StreamingResultCollector
+	 * @see #newExportFunctionExecution(Region)
+	 * @see #getExportExecutorService()
+	 */
+	protected @NonNull <V> CloseableIterable<V> executeExportFunction(@NonNull Region<?, V> region) {
+
+		StreamingResultCollector<V> resultCollector = new StreamingResultCollector<>();
+
+		Execution<Object, Object, CloseableIterable<V>> execution =
+			newExportFunctionExecution(region).withCollector(resultCollector);
+
+		getExportExecutorService().execute(() -> {
+			try {
+				execution.execute(ExportRegionValuesFunction.ID);
+			}
+			catch (Throwable cause) {
+				resultCollector.addFailure(cause);
+			}
+		});
+
+		return resultCollector.getResult();
+	}
+
+	/**
+	 * Returns the {@link ExecutorService} used to execute the {@link ExportRegionValuesFunction}, constructing it
+	 * on first use.
+	 *
+	 * The {@link ExecutorService} is shut down when this bean is {@link #destroy() destroyed}.
+	 *
+	 * @return the {@link ExecutorService} used to execute the {@link ExportRegionValuesFunction}.
+	 * @see #newExportExecutorService()
+	 * @see #destroy()
+	 */
+	protected synchronized @NonNull ExecutorService getExportExecutorService() {
+
+		if (this.exportExecutorService == null) {
+			this.exportExecutorService = newExportExecutorService();
+		}
+
+		return this.exportExecutorService;
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} used to execute the {@link ExportRegionValuesFunction}.
+	 *
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected @NonNull ExecutorService newExportExecutorService() {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return Executors.newCachedThreadPool(runnable -> {
+
+			Thread thread = new Thread(runnable, "cache-data-export-thread-" + threadNumber.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	/**
+	 * Constructs a new {@link Execution} for the {@link ExportRegionValuesFunction} on the given {@link Region}.
+	 *
+	 * @param <V> {@link Class type} of the {@link Region} {@link Object values}.
+	 * @param region {@link Region} on which the {@link ExportRegionValuesFunction} is executed.
+	 * @return a new {@link Execution} for the given {@link Region}.
+	 * @see org.apache.geode.cache.execute.FunctionService#onRegion(Region)
+	 */
+	@SuppressWarnings("unchecked")
+	protected @NonNull <V> Execution<Object, Object, CloseableIterable<V>> newExportFunctionExecution(
+			@NonNull Region<?, V> region) {
+
+		return FunctionService.onRegion(region);
+	}
+
 	/**
 	 * Converts the array of {@link Byte#TYPE bytes} containing multiple {@link String JSON} objects
 	 * into an array of {@link PdxInstance PdxInstances}.
@@ -249,11 +775,24 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 	 */
 	static class RegionValuesToJsonConverter extends AbstractObjectArrayToJsonConverter {
 
+		RegionValuesToJsonConverter(@Nullable ObjectToJsonConverter converter) {
+			super(converter);
+		}
+
 		@NonNull <K, V> String convert(@NonNull Region<K, V> region) {
 
 			Assert.notNull(region, "Region must not be null");
 
 			return super.convert(CollectionUtils.nullSafeCollection(CacheUtils.collectValues(region)));
 		}
+
+		<K, V> void write(@NonNull Region<K, V> region, @NonNull JsonGenerator jsonGenerator) throws IOException {
+
+			Assert.notNull(region, "Region must not be null");
+
+			Iterable<V> regionValues = () -> CacheUtils.streamValues(region).iterator();
+
+			super.write(regionValues, jsonGenerator);
+		}
 	}
 }
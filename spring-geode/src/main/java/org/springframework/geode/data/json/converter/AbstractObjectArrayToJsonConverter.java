@@ -15,7 +15,13 @@
  */
 package org.springframework.geode.data.json.converter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.geode.data.json.converter.support.JSONFormatterPdxToJsonConverter;
@@ -30,6 +36,9 @@ import org.springframework.util.Assert;
  * @author John Blum
  * @see java.lang.Iterable
  * @see java.util.Map
+ * @see java.util.stream.Stream
+ * @see com.fasterxml.jackson.core.JsonGenerator
+ * @see com.fasterxml.jackson.databind.util.TokenBuffer
  * @see org.springframework.geode.data.json.converter.ObjectArrayToJsonConverter
  * @since 1.3.0
  */
@@ -40,9 +49,36 @@ public abstract class AbstractObjectArrayToJsonConverter implements ObjectArrayT
 	protected static final String END_ARRAY = "]";
 	protected static final String JSON_OBJECT_SEPARATOR = ", ";
 
-	private ObjectToJsonConverter converter = newObjectToJsonConverter();
+	private final ObjectToJsonConverter converter;
+
+	/**
+	 * Constructs a new instance of {@link AbstractObjectArrayToJsonConverter} using
+	 * the {@link JSONFormatterPdxToJsonConverter} to convert individual {@link Object Objects}
+	 * into {@link String JSON}.
+	 *
+	 * @see org.springframework.geode.data.json.converter.support.JSONFormatterPdxToJsonConverter
+	 */
+	public AbstractObjectArrayToJsonConverter() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link AbstractObjectArrayToJsonConverter} initialized with the given
+	 * {@link ObjectToJsonConverter} used to convert individual {@link Object Objects} into {@link String JSON}.
+	 *
+	 * The {@link ObjectToJsonConverter} is shared for all {@link Object Objects} converted by this converter.
+	 *
+	 * @param converter {@link ObjectToJsonConverter} used to convert individual {@link Object Objects}
+	 * into {@link String JSON}; defaults to {@link JSONFormatterPdxToJsonConverter} if {@literal null}.
+	 * @see org.springframework.geode.data.json.converter.ObjectToJsonConverter
+	 */
+	public AbstractObjectArrayToJsonConverter(@Nullable ObjectToJsonConverter converter) {
+
+		this.converter = converter != null
+			? converter
+			: newObjectToJsonConverter();
+	}
 
-	// TODO configure via an SPI
 	private @NonNull ObjectToJsonConverter newObjectToJsonConverter() {
 		return new JSONFormatterPdxToJsonConverter();
 	}
@@ -91,6 +127,126 @@ public abstract class AbstractObjectArrayToJsonConverter implements ObjectArrayT
 		return json.toString();
 	}
 
+	/**
+	 * Writes the given {@link Iterable} of {@link Object Objects} as a {@literal JSON} array to
+	 * the given {@link JsonGenerator}.
+	 *
+	 * Unlike {@link #convert(Iterable)}, this method never materializes the entire {@literal JSON} array in memory.
+	 * Each {@link Object} is converted into {@link String JSON} and written to the {@link JsonGenerator}
+	 * one at a time. If the configured {@link ObjectToJsonConverter} is a {@link StreamingObjectToJsonConverter},
+	 * then each {@link Object} is written directly to the {@link JsonGenerator} without first being converted
+	 * into a {@link String}.
+	 *
+	 * @param iterable {@link Iterable} containing the {@link Object Objects} to write as {@literal JSON};
+	 * must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Iterable} or {@link JsonGenerator} is {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing {@literal JSON}.
+	 * @see com.fasterxml.jackson.core.JsonGenerator
+	 * @see org.springframework.geode.data.json.converter.StreamingObjectToJsonConverter
+	 * @see #getObjectToJsonConverter()
+	 * @see java.lang.Iterable
+	 */
+	public void write(@NonNull Iterable<?> iterable, @NonNull JsonGenerator jsonGenerator) throws IOException {
+
+		Assert.notNull(iterable, "Iterable must not be null");
+		Assert.notNull(jsonGenerator, "JsonGenerator must not be null");
+
+		ObjectToJsonConverter converter = getObjectToJsonConverter();
+
+		jsonGenerator.writeStartArray();
+		writeValues(converter, iterable, jsonGenerator);
+		jsonGenerator.writeEndArray();
+		jsonGenerator.flush();
+	}
+
+	private void writeValues(@NonNull ObjectToJsonConverter converter, @Nullable Iterable<?> iterable,
+			@NonNull JsonGenerator jsonGenerator) throws IOException {
+
+		if (converter instanceof StreamingObjectToJsonConverter) {
+
+			StreamingObjectToJsonConverter streamingConverter = (StreamingObjectToJsonConverter) converter;
+
+			for (Object value : CollectionUtils.nullSafeIterable(iterable)) {
+				streamingConverter.write(value, jsonGenerator);
+			}
+		}
+		else {
+			for (Object value : CollectionUtils.nullSafeIterable(iterable)) {
+				jsonGenerator.writeRawValue(converter.convert(value));
+			}
+		}
+	}
+
+	/**
+	 * Writes the {@link Object Objects} from the given {@link Stream} of segments as a single {@literal JSON} array
+	 * to the given {@link JsonGenerator}.
+	 *
+	 * Each segment is written to its own {@link TokenBuffer} independently of the other segments, the same way
+	 * {@link #write(Iterable, JsonGenerator)} writes {@link Object Objects}, so a {@link Stream#isParallel() parallel}
+	 * {@link Stream} converts segments concurrently. Buffered segments are copied to the {@link JsonGenerator}
+	 * one at a time as each completes, therefore the order of
+	 * the {@link Object Objects} in the {@literal JSON} array is only preserved for a sequential {@link Stream}.
+	 * When the {@link Stream} is parallel, the configured {@link ObjectToJsonConverter} must be thread-safe.
+	 *
+	 * @param segments {@link Stream} of {@link Iterable} segments containing the {@link Object Objects}
+	 * to write as {@literal JSON}; must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Stream} or {@link JsonGenerator} is {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing {@literal JSON}.
+	 * @see com.fasterxml.jackson.core.JsonGenerator
+	 * @see com.fasterxml.jackson.databind.util.TokenBuffer
+	 * @see #getObjectToJsonConverter()
+	 * @see java.util.stream.Stream
+	 */
+	public void writeSegments(@NonNull Stream<? extends Iterable<?>> segments, @NonNull JsonGenerator jsonGenerator)
+			throws IOException {
+
+		Assert.notNull(segments, "Stream must not be null");
+		Assert.notNull(jsonGenerator, "JsonGenerator must not be null");
+
+		ObjectToJsonConverter converter = getObjectToJsonConverter();
+
+		jsonGenerator.writeStartArray();
+
+		try {
+			segments
+				.map(segment -> writeSegment(converter, segment, jsonGenerator))
+				.filter(segmentBuffer -> segmentBuffer.firstToken() != null)
+				.forEach(segmentBuffer -> {
+					synchronized (jsonGenerator) {
+						try {
+							segmentBuffer.serialize(jsonGenerator);
+						}
+						catch (IOException cause) {
+							throw new UncheckedIOException(cause);
+						}
+					}
+				});
+		}
+		catch (UncheckedIOException cause) {
+			throw cause.getCause();
+		}
+
+		jsonGenerator.writeEndArray();
+		jsonGenerator.flush();
+	}
+
+	private @NonNull TokenBuffer writeSegment(@NonNull ObjectToJsonConverter converter, @Nullable Iterable<?> segment,
+			@NonNull JsonGenerator jsonGenerator) {
+
+		TokenBuffer segmentBuffer = new TokenBuffer(jsonGenerator.getCodec(), false);
+
+		try {
+			writeValues(converter, segment, segmentBuffer);
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException(cause);
+		}
+
+		return segmentBuffer;
+	}
+
 	/**
 	 * Converts the {@link Map#values() values} from the given {@link Map} into {@link String JSON}.
 	 *
@@ -15,16 +15,26 @@
  */
 package org.springframework.geode.data.json.converter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
 import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 /**
  * A Spring {@link Converter} interface extension defining a contract to convert
  * from {@link String JSON} to an array of {@link PdxInstance} objects.
  *
  * @author John Blum
+ * @see java.io.InputStream
  * @see java.lang.FunctionalInterface
  * @see java.lang.String
  * @see org.apache.geode.pdx.PdxInstance
@@ -46,4 +56,43 @@ public interface JsonToPdxArrayConverter extends Converter<String, PdxInstance[]
 	default @NonNull PdxInstance[] convert(@NonNull byte[] json) {
 		return convert(new String(json));
 	}
+
+	/**
+	 * Converts the {@literal JSON} read from the given {@link InputStream} into {@link PdxInstance} objects,
+	 * passing each {@link PdxInstance} to the given {@link Consumer} as it is converted.
+	 *
+	 * The default implementation reads all the {@literal JSON} from the {@link InputStream} into memory before
+	 * converting it. Implementations are encouraged to override this method and parse the {@literal JSON}
+	 * incrementally so that the amount of memory used is independent of the size of the {@literal JSON} content.
+	 *
+	 * The caller is responsible for closing the {@link InputStream}.
+	 *
+	 * @param json {@link InputStream} containing the {@literal JSON} to convert; must not be {@literal null}.
+	 * @param pdxInstanceConsumer {@link Consumer} receiving each converted {@link PdxInstance};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link InputStream} or {@link Consumer} is {@literal null}.
+	 * @throws DataRetrievalFailureException if the {@literal JSON} cannot be read from the {@link InputStream}.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 * @see java.util.function.Consumer
+	 * @see java.io.InputStream
+	 * @see #convert(byte[])
+	 */
+	default void convert(@NonNull InputStream json, @NonNull Consumer<PdxInstance> pdxInstanceConsumer) {
+
+		Assert.notNull(json, "InputStream must not be null");
+		Assert.notNull(pdxInstanceConsumer, "Consumer must not be null");
+
+		try {
+
+			byte[] jsonBytes = StreamUtils.copyToByteArray(json);
+
+			if (jsonBytes.length > 0) {
+				Arrays.stream(ArrayUtils.nullSafeArray(convert(jsonBytes), PdxInstance.class))
+					.forEach(pdxInstanceConsumer);
+			}
+		}
+		catch (IOException cause) {
+			throw new DataRetrievalFailureException("Failed to read JSON content", cause);
+		}
+	}
 }
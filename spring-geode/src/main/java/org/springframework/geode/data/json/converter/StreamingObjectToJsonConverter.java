@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * An {@link ObjectToJsonConverter} extension capable of writing the {@literal JSON} for an {@link Object}
+ * directly to a Jackson {@link JsonGenerator} rather than first generating the {@literal JSON} as a {@link String}.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonGenerator
+ * @see org.springframework.geode.data.json.converter.ObjectToJsonConverter
+ * @since 1.4.0
+ */
+public interface StreamingObjectToJsonConverter extends ObjectToJsonConverter {
+
+	/**
+	 * Writes the given {@link Object} as {@literal JSON} to the given {@link JsonGenerator}.
+	 *
+	 * The {@literal JSON} written is equivalent to the {@link String JSON} returned by {@link #convert(Object)}
+	 * though it may be formatted differently.
+	 *
+	 * @param source {@link Object} to write as {@literal JSON}; must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Object} or {@link JsonGenerator} is {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing the {@literal JSON}.
+	 * @see com.fasterxml.jackson.core.JsonGenerator
+	 */
+	void write(@NonNull Object source, @NonNull JsonGenerator jsonGenerator) throws IOException;
+
+}
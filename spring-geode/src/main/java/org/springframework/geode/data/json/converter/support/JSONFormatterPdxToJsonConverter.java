@@ -15,11 +15,19 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.apache.geode.pdx.JSONFormatter;
@@ -28,6 +36,7 @@ import org.apache.geode.pdx.WritablePdxInstance;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
+import org.springframework.geode.pdx.ObjectPdxInstanceAdapter;
 import org.springframework.geode.pdx.PdxInstanceBuilder;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -38,7 +47,12 @@ import org.springframework.util.StringUtils;
  * An {@link ObjectToJsonConverter} implementation using the Apache Geode {@link JSONFormatter} to convert
  * from a {@link PdxInstance} to a {@literal JSON} {@link String}.
  *
+ * When {@link #write(Object, JsonGenerator) writing} to a {@link JsonGenerator}, the {@link PdxInstance} fields
+ * are walked once and written directly to the {@link JsonGenerator}, including the {@literal @type} metadata
+ * property, without the {@link JSONFormatter} round trip.
+ *
  * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonGenerator
  * @see com.fasterxml.jackson.databind.JsonNode
  * @see com.fasterxml.jackson.databind.ObjectMapper
  * @see com.fasterxml.jackson.databind.node.ObjectNode
@@ -52,6 +66,26 @@ import org.springframework.util.StringUtils;
  */
 public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverter {
 
+	private volatile ObjectWriter pdxFieldValueWriter;
+
+	/**
+	 * Constructs a new instance of {@link JSONFormatterPdxToJsonConverter} using a default Jackson
+	 * {@link ObjectMapper}.
+	 */
+	public JSONFormatterPdxToJsonConverter() { }
+
+	/**
+	 * Constructs a new instance of {@link JSONFormatterPdxToJsonConverter} initialized with the given,
+	 * customized Jackson {@link ObjectMapper} used as a template.
+	 *
+	 * @param objectMapper customized Jackson {@link ObjectMapper} used as a template; may be {@literal null}.
+	 * @see JacksonObjectToJsonConverter#JacksonObjectToJsonConverter(ObjectMapper)
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 */
+	public JSONFormatterPdxToJsonConverter(@Nullable ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -65,6 +99,168 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 			.orElseGet(() -> convertPojoToJson(source));
 	}
 
+	/**
+	 * Writes the given {@link Object} as {@literal JSON} directly to the given {@link JsonGenerator}.
+	 *
+	 * A {@link PdxInstance} is written field by field, in PDX field order, with the {@literal @type} metadata
+	 * property appended when the {@link PdxInstance} does not already declare it. Any other {@link Object}
+	 * is written with Jackson.
+	 *
+	 * @param source {@link Object} to write as {@literal JSON}; must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Object} or {@link JsonGenerator} is {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing the {@literal JSON}.
+	 * @see #writePdx(PdxInstance, JsonGenerator)
+	 */
+	@Override
+	public void write(@NonNull Object source, @NonNull JsonGenerator jsonGenerator) throws IOException {
+
+		Object resolvedSource = source instanceof PdxInstance
+			? ObjectPdxInstanceAdapter.unwrap((PdxInstance) source)
+			: source;
+
+		if (resolvedSource instanceof PdxInstance) {
+
+			Assert.notNull(jsonGenerator, "JsonGenerator must not be null");
+
+			writePdx((PdxInstance) resolvedSource, jsonGenerator);
+		}
+		else {
+			super.write(resolvedSource, jsonGenerator);
+		}
+	}
+
+	/**
+	 * Writes the given {@link PdxInstance} as a {@literal JSON} object to the given {@link JsonGenerator},
+	 * including the {@literal @type} metadata property.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to write; must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing the {@literal JSON}.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 * @see com.fasterxml.jackson.core.JsonGenerator
+	 */
+	protected void writePdx(@NonNull PdxInstance pdxInstance, @NonNull JsonGenerator jsonGenerator)
+			throws IOException {
+
+		writePdxObject(pdxInstance, jsonGenerator);
+
+		if (isMissingObjectTypeMetadata(pdxInstance)) {
+			jsonGenerator.writeStringField(AT_TYPE_METADATA_PROPERTY_NAME, pdxInstance.getClassName());
+		}
+
+		jsonGenerator.writeEndObject();
+	}
+
+	private void writePdxObject(PdxInstance pdxInstance, JsonGenerator jsonGenerator) throws IOException {
+
+		jsonGenerator.writeStartObject();
+
+		for (String fieldName : pdxInstance.getFieldNames()) {
+			jsonGenerator.writeFieldName(fieldName);
+			writePdxValue(pdxInstance.getField(fieldName), jsonGenerator);
+		}
+	}
+
+	private void writePdxValue(@Nullable Object value, JsonGenerator jsonGenerator) throws IOException {
+
+		if (value == null) {
+			jsonGenerator.writeNull();
+		}
+		else if (value instanceof String || value instanceof Character) {
+			jsonGenerator.writeString(value.toString());
+		}
+		else if (value instanceof Boolean) {
+			jsonGenerator.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			jsonGenerator.writeNumber(((Number) value).intValue());
+		}
+		else if (value instanceof Long) {
+			jsonGenerator.writeNumber((Long) value);
+		}
+		else if (value instanceof Double) {
+			jsonGenerator.writeNumber((Double) value);
+		}
+		else if (value instanceof Float) {
+			jsonGenerator.writeNumber((Float) value);
+		}
+		else if (value instanceof BigDecimal) {
+			jsonGenerator.writeNumber((BigDecimal) value);
+		}
+		else if (value instanceof BigInteger) {
+			jsonGenerator.writeNumber((BigInteger) value);
+		}
+		else if (value instanceof Enum) {
+			jsonGenerator.writeString(((Enum<?>) value).name());
+		}
+		else if (value instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) value;
+
+			if (pdxInstance.isEnum()) {
+				jsonGenerator.writeString(String.valueOf(pdxInstance.getField("name")));
+			}
+			else {
+				writePdxObject(pdxInstance, jsonGenerator);
+				jsonGenerator.writeEndObject();
+			}
+		}
+		else if (value.getClass().isArray()) {
+
+			jsonGenerator.writeStartArray();
+
+			for (int index = 0, length = Array.getLength(value); index < length; index++) {
+				writePdxValue(Array.get(value, index), jsonGenerator);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else if (value instanceof Collection) {
+
+			jsonGenerator.writeStartArray();
+
+			for (Object element : (Collection<?>) value) {
+				writePdxValue(element, jsonGenerator);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+		else if (value instanceof Map) {
+
+			jsonGenerator.writeStartObject();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				jsonGenerator.writeFieldName(String.valueOf(entry.getKey()));
+				writePdxValue(entry.getValue(), jsonGenerator);
+			}
+
+			jsonGenerator.writeEndObject();
+		}
+		else {
+			getPdxFieldValueWriter().writeValue(jsonGenerator, value);
+		}
+	}
+
+	/**
+	 * Returns the Jackson {@link ObjectWriter} used to write PDX field values of a {@link Class type}
+	 * not natively supported by PDX, without {@literal @type} metadata.
+	 *
+	 * @return the Jackson {@link ObjectWriter} used to write non-PDX field values.
+	 * @see com.fasterxml.jackson.databind.ObjectWriter
+	 */
+	private @NonNull ObjectWriter getPdxFieldValueWriter() {
+
+		ObjectWriter pdxFieldValueWriter = this.pdxFieldValueWriter;
+
+		if (pdxFieldValueWriter == null) {
+			pdxFieldValueWriter = newObjectMapper().findAndRegisterModules().writer();
+			this.pdxFieldValueWriter = pdxFieldValueWriter;
+		}
+
+		return pdxFieldValueWriter;
+	}
+
 	/**
 	 * Converts the given {@link Object} to JSON.
 	 *
@@ -168,7 +364,7 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 	 * and the {@link PdxInstance} is not based on a valid {@link Class} type.
 	 * @see JacksonObjectToJsonConverter#convert(Object)
 	 * @see org.apache.geode.pdx.PdxInstance
-	 * @see #newObjectMapper(Object)
+	 * @see #getObjectMapper(Object)
 	 */
 	@SuppressWarnings("unused")
 	protected @NonNull String decorate(@NonNull PdxInstance pdxInstance, @NonNull String json) {
@@ -176,7 +372,7 @@ public class JSONFormatterPdxToJsonConverter extends JacksonObjectToJsonConverte
 		if (isDecorationRequired(pdxInstance, json)) {
 			try {
 
-				ObjectMapper objectMapper = newObjectMapper(json);
+				ObjectMapper objectMapper = getObjectMapper(json);
 
 				JsonNode jsonNode = objectMapper.readTree(json);
 
@@ -15,11 +15,16 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -34,12 +39,14 @@ import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
 import org.springframework.geode.data.json.converter.JsonToPdxConverter;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * The {@link JacksonJsonToPdxConverter} class is an implementation of the {@link JsonToPdxArrayConverter} that is
  * capable of converting an array of {@literal JSON} objects into an array of {@link PdxInstance PdxInstances}.
  *
  * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonParser
  * @see com.fasterxml.jackson.databind.JsonNode
  * @see com.fasterxml.jackson.databind.ObjectMapper
  * @see com.fasterxml.jackson.databind.node.ArrayNode
@@ -139,6 +146,70 @@ public class JacksonJsonToPdxConverter implements JsonToPdxArrayConverter {
 		}
 	}
 
+	/**
+	 * Converts the {@literal JSON} read from the given {@link InputStream} into {@link PdxInstance} objects
+	 * using a Jackson {@link JsonParser} to parse the {@literal JSON} incrementally, one {@literal JSON} object
+	 * at a time, passing each {@link PdxInstance} to the given {@link Consumer} as it is converted.
+	 *
+	 * Only a single {@literal JSON} object is held in memory at any given time regardless of the number of
+	 * {@literal JSON} objects contained in the {@literal JSON} array.
+	 *
+	 * @param json {@link InputStream} containing the {@literal JSON} to convert; must not be {@literal null}.
+	 * @param pdxInstanceConsumer {@link Consumer} receiving each converted {@link PdxInstance};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link InputStream} or {@link Consumer} is {@literal null}.
+	 * @throws IllegalStateException if the {@literal JSON} does not start with
+	 * either a JSON array or a JSON object.
+	 * @throws DataRetrievalFailureException if the {@literal JSON} cannot be read from the {@link InputStream}.
+	 * @see com.fasterxml.jackson.core.JsonParser
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	@Override
+	public void convert(@NonNull InputStream json, @NonNull Consumer<PdxInstance> pdxInstanceConsumer) {
+
+		Assert.notNull(json, "InputStream must not be null");
+		Assert.notNull(pdxInstanceConsumer, "Consumer must not be null");
+
+		ObjectMapper objectMapper = getObjectMapper();
+
+		try (JsonParser jsonParser = objectMapper.getFactory().createParser(json)) {
+
+			JsonToken jsonToken = jsonParser.nextToken();
+
+			if (jsonToken != null) {
+
+				JsonToPdxConverter converter = getJsonToPdxConverter();
+
+				if (JsonToken.START_ARRAY.equals(jsonToken)) {
+					for (jsonToken = jsonParser.nextToken();
+							jsonToken != null && !JsonToken.END_ARRAY.equals(jsonToken);
+							jsonToken = jsonParser.nextToken()) {
+
+						JsonNode object = objectMapper.readTree(jsonParser);
+
+						pdxInstanceConsumer.accept(converter.convert(object.toString()));
+					}
+				}
+				else if (JsonToken.START_OBJECT.equals(jsonToken)) {
+
+					JsonNode object = objectMapper.readTree(jsonParser);
+
+					pdxInstanceConsumer.accept(converter.convert(object.toString()));
+				}
+				else {
+
+					String message = String.format("Unable to process JSON token [%s];"
+						+ " expected either an [%s] or an [%s]", jsonToken, JsonNodeType.OBJECT, JsonNodeType.ARRAY);
+
+					throw new IllegalStateException(message);
+				}
+			}
+		}
+		catch (IOException cause) {
+			throw new DataRetrievalFailureException("Failed to read JSON content", cause);
+		}
+	}
+
 	private boolean isArray(@Nullable JsonNode node) {
 		return node != null && (node.isArray() || JsonNodeType.ARRAY.equals(node.getNodeType()));
 	}
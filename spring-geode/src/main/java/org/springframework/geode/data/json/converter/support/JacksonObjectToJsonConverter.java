@@ -15,38 +15,76 @@
  */
 package org.springframework.geode.data.json.converter.support;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
+import org.springframework.geode.data.json.converter.StreamingObjectToJsonConverter;
 import org.springframework.geode.pdx.PdxInstanceWrapper;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * A {@link ObjectToJsonConverter} implementation using Jackson's {@link ObjectMapper} to convert
  * from an {@link Object} to a {@literal JSON} {@link String}.
  *
+ * The configured {@link ObjectMapper} is constructed once per {@link Class type} of {@link Object} converted
+ * and reused for all subsequent conversions of {@link Object Objects} of the same {@link Class type}.
+ * The {@link ObjectMapper ObjectMappers} are associated with the {@link Class type} using a {@link ClassValue}
+ * so that they do not prevent the {@link Class type}, or its {@link ClassLoader}, from being garbage collected.
+ *
  * @author John Blum
  * @see com.fasterxml.jackson.annotation.JsonTypeInfo
  * @see com.fasterxml.jackson.core.JsonGenerator
  * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see com.fasterxml.jackson.databind.ObjectWriter
  * @see com.fasterxml.jackson.databind.MapperFeature
+ * @see java.lang.ClassValue
  * @see org.springframework.core.convert.TypeDescriptor
  * @see org.springframework.geode.data.json.converter.ObjectToJsonConverter
+ * @see org.springframework.geode.data.json.converter.StreamingObjectToJsonConverter
  * @see org.springframework.geode.pdx.PdxInstanceWrapper
  * @since 1.3.0
  */
-public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
+public class JacksonObjectToJsonConverter implements StreamingObjectToJsonConverter {
 
 	protected static final String AT_TYPE_METADATA_PROPERTY_NAME = PdxInstanceWrapper.AT_TYPE_FIELD_NAME;
 
+	private final ClassValue<TypeMappers> typeMappers = new TypeMappersClassValue();
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructs a new instance of {@link JacksonObjectToJsonConverter} using a default Jackson {@link ObjectMapper}.
+	 */
+	public JacksonObjectToJsonConverter() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link JacksonObjectToJsonConverter} initialized with the given,
+	 * customized Jackson {@link ObjectMapper} used as a template for the {@link ObjectMapper ObjectMappers}
+	 * used to convert {@link Object Objects} to {@link String JSON}.
+	 *
+	 * The given {@link ObjectMapper} is {@link ObjectMapper#copy() copied} and never modified.
+	 *
+	 * @param objectMapper customized Jackson {@link ObjectMapper} used as a template; may be {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 */
+	public JacksonObjectToJsonConverter(@Nullable ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
 	/**
 	 * Converts the given {@link Object} into {@link String JSON}.
 	 *
@@ -81,18 +119,106 @@ public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 	 * @throws JsonProcessingException if the generation of {@link String JSON} from the given {@link Object}
 	 * results in an error.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper#writeValueAsString(Object)
-	 * @see #newObjectMapper(Object)
+	 * @see #getObjectMapper(Object)
 	 */
 	protected @NonNull String convertObjectToJson(@NonNull Object source) throws JsonProcessingException {
 
 		Assert.notNull(source, "Source object to convert must not be null");
 
-		return newObjectMapper(source).writeValueAsString(source);
+		return getObjectMapper(source).writeValueAsString(source);
 	}
 
 	/**
-	 * Constructs a new instance of the Jackson {@link ObjectMapper} class.
+	 * Writes the given {@link Object} as {@literal JSON} directly to the given {@link JsonGenerator}.
 	 *
+	 * @param source {@link Object} to write as {@literal JSON}; must not be {@literal null}.
+	 * @param jsonGenerator {@link JsonGenerator} used to write the {@literal JSON}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Object} or {@link JsonGenerator} is {@literal null}.
+	 * @throws IOException if an I/O error occurs while writing the {@literal JSON}.
+	 * @see com.fasterxml.jackson.core.JsonGenerator
+	 * @see #getObjectWriter(Object)
+	 */
+	@Override
+	public void write(@NonNull Object source, @NonNull JsonGenerator jsonGenerator) throws IOException {
+
+		Assert.notNull(source, "Source object to convert must not be null");
+		Assert.notNull(jsonGenerator, "JsonGenerator must not be null");
+
+		getObjectWriter(source).writeValue(jsonGenerator, source);
+	}
+
+	/**
+	 * Returns the Jackson {@link ObjectMapper} used to convert the given {@link Object} to {@link String JSON}.
+	 *
+	 * The {@link ObjectMapper} is {@link #newObjectMapper(Object) constructed} on first use and cached by
+	 * the {@link Class type} of the given {@link Object}.
+	 *
+	 * @param target {@link Object} to convert; must not be {@literal null}.
+	 * @return the Jackson {@link ObjectMapper} used to convert the given {@link Object} to {@link String JSON}.
+	 * @throws IllegalArgumentException if the {@link Object target} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 * @see #newObjectMapper(Object)
+	 */
+	protected @NonNull ObjectMapper getObjectMapper(@NonNull Object target) {
+
+		Assert.notNull(target, "Target object must not be null");
+
+		TypeMappers typeMappers = this.typeMappers.get(target.getClass());
+
+		ObjectMapper objectMapper = typeMappers.objectMapper;
+
+		if (objectMapper == null) {
+			synchronized (typeMappers) {
+				objectMapper = typeMappers.objectMapper;
+				if (objectMapper == null) {
+					objectMapper = newObjectMapper(target);
+					typeMappers.objectMapper = objectMapper;
+				}
+			}
+		}
+
+		return objectMapper;
+	}
+
+	/**
+	 * Returns the Jackson {@link ObjectWriter} used to write the given {@link Object} to a {@link JsonGenerator}.
+	 *
+	 * The {@link ObjectWriter} is derived from the {@link #getObjectMapper(Object) ObjectMapper} for
+	 * the {@link Class type} of the given {@link Object}, but never indents output nor flushes
+	 * the {@link JsonGenerator}, which is owned by the caller.
+	 *
+	 * @param target {@link Object} to write; must not be {@literal null}.
+	 * @return the Jackson {@link ObjectWriter} used to write the given {@link Object} to a {@link JsonGenerator}.
+	 * @throws IllegalArgumentException if the {@link Object target} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectWriter
+	 * @see #getObjectMapper(Object)
+	 */
+	protected @NonNull ObjectWriter getObjectWriter(@NonNull Object target) {
+
+		Assert.notNull(target, "Target object must not be null");
+
+		TypeMappers typeMappers = this.typeMappers.get(target.getClass());
+
+		ObjectWriter objectWriter = typeMappers.objectWriter;
+
+		if (objectWriter == null) {
+
+			// ObjectWriters are immutable; constructing one more than once under contention is harmless
+			objectWriter = getObjectMapper(target).writer()
+				.without(SerializationFeature.INDENT_OUTPUT)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+			typeMappers.objectWriter = objectWriter;
+		}
+
+		return objectWriter;
+	}
+
+	/**
+	 * Constructs a new instance of the Jackson {@link ObjectMapper} class configured for
+	 * the {@link Class type} of the given {@link Object}.
+	 *
+	 * @param target {@link Object} to convert; must not be {@literal null}.
 	 * @return a new instance of the Jackson {@link ObjectMapper} class.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper
 	 */
@@ -109,13 +235,33 @@ public class JacksonObjectToJsonConverter implements ObjectToJsonConverter {
 	}
 
 	/**
-	 * Constructs a new instance of Jackson's {@link ObjectMapper}.
+	 * Constructs a new instance of Jackson's {@link ObjectMapper}, copying the customized {@link ObjectMapper}
+	 * if one was provided.
 	 *
 	 * @return a new instance of Jackson's {@link ObjectMapper}; never {@literal null}.
 	 * @see com.fasterxml.jackson.databind.ObjectMapper
 	 */
 	@NonNull ObjectMapper newObjectMapper() {
-		return new ObjectMapper();
+
+		return this.objectMapper != null
+			? this.objectMapper.copy()
+			: new ObjectMapper();
+	}
+
+	static final class TypeMappersClassValue extends ClassValue<TypeMappers> {
+
+		@Override
+		protected TypeMappers computeValue(Class<?> type) {
+			return new TypeMappers();
+		}
+	}
+
+	static final class TypeMappers {
+
+		volatile ObjectMapper objectMapper;
+
+		volatile ObjectWriter objectWriter;
+
 	}
 
 	@JsonTypeInfo(
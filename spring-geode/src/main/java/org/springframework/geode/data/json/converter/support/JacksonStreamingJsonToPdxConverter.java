@@ -0,0 +1,388 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.geode.cache.SimpleCacheResolver;
+import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link JacksonStreamingJsonToPdxConverter} class is an implementation of the {@link JsonToPdxArrayConverter}
+ * that builds {@link PdxInstance PdxInstances} directly from the tokens of a Jackson {@link JsonParser}
+ * using a {@link PdxInstanceFactory}.
+ *
+ * Unlike the {@link JacksonJsonToPdxConverter}, which reads each {@literal JSON} object into a tree, serializes
+ * the tree back to a {@link String} and then parses the {@link String} again with Apache Geode's {@link JSONFormatter},
+ * this converter parses each {@literal JSON} document exactly once.
+ *
+ * {@link PdxInstance PdxInstances} are created with the same PDX type ({@link JSONFormatter#JSON_CLASSNAME})
+ * and the same {@link Number} field types as the {@link JSONFormatter}. The {@literal @type} metadata field
+ * is preserved as a {@link String} field and the field named by the {@literal @identifier} metadata field,
+ * or the {@literal id} field, is marked as the {@link PdxInstance#isIdentityField(String) identity field}.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonParser
+ * @see org.apache.geode.cache.RegionService
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxInstanceFactory
+ * @see org.springframework.geode.data.json.converter.JsonToPdxArrayConverter
+ * @see org.springframework.geode.pdx.PdxInstanceWrapper
+ * @since 1.4.0
+ */
+public class JacksonStreamingJsonToPdxConverter implements JsonToPdxArrayConverter {
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	/**
+	 * Returns a reference to the configured Jackson {@link JsonFactory} used to create {@link JsonParser JsonParsers}.
+	 *
+	 * @return a reference to the configured Jackson {@link JsonFactory}; never {@literal null}.
+	 * @see com.fasterxml.jackson.core.JsonFactory
+	 */
+	protected @NonNull JsonFactory getJsonFactory() {
+		return this.jsonFactory;
+	}
+
+	/**
+	 * Resolves the {@link RegionService} used to create {@link PdxInstanceFactory PdxInstanceFactories}.
+	 *
+	 * @return the resolved {@link RegionService}; never {@literal null}.
+	 * @throws IllegalStateException if a cache instance is not present.
+	 * @see org.springframework.geode.cache.SimpleCacheResolver#require()
+	 * @see org.apache.geode.cache.RegionService
+	 */
+	protected @NonNull RegionService resolveRegionService() {
+		return SimpleCacheResolver.getInstance().require();
+	}
+
+	/**
+	 * Constructs a new {@link PdxInstanceFactory} for a {@literal JSON} object.
+	 *
+	 * Like the {@link JSONFormatter}, the {@link PdxInstance PdxInstances} created by the {@link PdxInstanceFactory}
+	 * are {@link PdxInstanceFactory#neverDeserialize() never deserialized} into a domain object.
+	 *
+	 * @return a new {@link PdxInstanceFactory} for the {@link JSONFormatter#JSON_CLASSNAME} PDX type.
+	 * @see org.apache.geode.cache.RegionService#createPdxInstanceFactory(String)
+	 * @see org.apache.geode.pdx.PdxInstanceFactory#neverDeserialize()
+	 * @see #resolveRegionService()
+	 */
+	protected @NonNull PdxInstanceFactory newPdxInstanceFactory() {
+		return resolveRegionService().createPdxInstanceFactory(JSONFormatter.JSON_CLASSNAME).neverDeserialize();
+	}
+
+	/**
+	 * Converts the given {@link String JSON} containing multiple objects into an array of {@link PdxInstance} objects.
+	 *
+	 * @param json {@link String JSON} data to convert.
+	 * @return an array of {@link PdxInstance} objects from the given {@link String JSON}.
+	 * @throws IllegalStateException if the {@link String JSON} does not start with
+	 * either a JSON array or a JSON object.
+	 * @see #convert(InputStream, Consumer)
+	 */
+	@Nullable @Override
+	public PdxInstance[] convert(String json) {
+
+		List<PdxInstance> pdxList = new ArrayList<>();
+
+		if (StringUtils.hasText(json)) {
+			convert(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), pdxList::add);
+		}
+
+		return pdxList.toArray(new PdxInstance[0]);
+	}
+
+	/**
+	 * Converts the {@literal JSON} read from the given {@link InputStream} into {@link PdxInstance} objects,
+	 * building each {@link PdxInstance} directly from the {@link JsonParser JsonParser's} tokens and passing
+	 * each {@link PdxInstance} to the given {@link Consumer} as it is built.
+	 *
+	 * @param json {@link InputStream} containing the {@literal JSON} to convert; must not be {@literal null}.
+	 * @param pdxInstanceConsumer {@link Consumer} receiving each converted {@link PdxInstance};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link InputStream} or {@link Consumer} is {@literal null}.
+	 * @throws IllegalStateException if the {@literal JSON} does not start with
+	 * either a JSON array or a JSON object.
+	 * @throws DataRetrievalFailureException if the {@literal JSON} cannot be read from the {@link InputStream}.
+	 * @see #readPdxInstance(JsonParser)
+	 */
+	@Override
+	public void convert(@NonNull InputStream json, @NonNull Consumer<PdxInstance> pdxInstanceConsumer) {
+
+		Assert.notNull(json, "InputStream must not be null");
+		Assert.notNull(pdxInstanceConsumer, "Consumer must not be null");
+
+		try (JsonParser jsonParser = getJsonFactory().createParser(json)) {
+
+			JsonToken jsonToken = jsonParser.nextToken();
+
+			if (jsonToken != null) {
+				if (JsonToken.START_ARRAY.equals(jsonToken)) {
+					for (jsonToken = jsonParser.nextToken();
+							jsonToken != null && !JsonToken.END_ARRAY.equals(jsonToken);
+							jsonToken = jsonParser.nextToken()) {
+
+						pdxInstanceConsumer.accept(wrap(readPdxInstance(jsonParser)));
+					}
+				}
+				else if (JsonToken.START_OBJECT.equals(jsonToken)) {
+					pdxInstanceConsumer.accept(wrap(readPdxInstance(jsonParser)));
+				}
+				else {
+
+					String message = String.format("Unable to process JSON token [%s];"
+						+ " expected either an [%s] or an [%s]", jsonToken, JsonNodeType.OBJECT, JsonNodeType.ARRAY);
+
+					throw new IllegalStateException(message);
+				}
+			}
+		}
+		catch (IOException cause) {
+			throw new DataRetrievalFailureException("Failed to read JSON content", cause);
+		}
+	}
+
+	/**
+	 * Reads a single {@literal JSON} object from the given {@link JsonParser} positioned on
+	 * the {@link JsonToken#START_OBJECT} token into a {@link PdxInstance}.
+	 *
+	 * On return, the {@link JsonParser} is positioned on the matching {@link JsonToken#END_OBJECT} token.
+	 *
+	 * @param jsonParser {@link JsonParser} positioned at the start of a {@literal JSON} object.
+	 * @return a new {@link PdxInstance} containing the fields of the {@literal JSON} object.
+	 * @throws IOException if the {@literal JSON} could not be read.
+	 * @throws IllegalStateException if the {@link JsonParser} is not positioned at the start of
+	 * a {@literal JSON} object.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 * @see #newPdxInstanceFactory()
+	 */
+	protected @NonNull PdxInstance readPdxInstance(@NonNull JsonParser jsonParser) throws IOException {
+
+		if (!JsonToken.START_OBJECT.equals(jsonParser.currentToken())) {
+
+			String message = String.format("Unable to process JSON token [%s]; expected an [%s]",
+				jsonParser.currentToken(), JsonNodeType.OBJECT);
+
+			throw new IllegalStateException(message);
+		}
+
+		PdxInstanceFactory factory = newPdxInstanceFactory();
+
+		Set<String> fieldNames = new HashSet<>();
+
+		String atIdentifier = null;
+
+		for (JsonToken jsonToken = jsonParser.nextToken();
+				jsonToken != null && !JsonToken.END_OBJECT.equals(jsonToken);
+				jsonToken = jsonParser.nextToken()) {
+
+			String fieldName = jsonParser.getCurrentName();
+
+			jsonToken = jsonParser.nextToken();
+
+			if (PdxInstanceWrapper.AT_IDENTIFIER_FIELD_NAME.equals(fieldName)
+					&& JsonToken.VALUE_STRING.equals(jsonToken)) {
+
+				atIdentifier = jsonParser.getText();
+			}
+
+			fieldNames.add(fieldName);
+
+			writeField(factory, fieldName, jsonParser);
+		}
+
+		markIdentityField(factory, fieldNames, atIdentifier);
+
+		return factory.create();
+	}
+
+	private void markIdentityField(PdxInstanceFactory factory, Set<String> fieldNames,
+			@Nullable String atIdentifier) {
+
+		String identityFieldName = StringUtils.hasText(atIdentifier)
+			? atIdentifier.trim()
+			: PdxInstanceWrapper.ID_FIELD_NAME;
+
+		if (fieldNames.contains(identityFieldName)) {
+			factory.markIdentityField(identityFieldName);
+		}
+	}
+
+	private void writeField(PdxInstanceFactory factory, String fieldName, JsonParser jsonParser) throws IOException {
+
+		switch (jsonParser.currentToken()) {
+			case START_OBJECT:
+				factory.writeObject(fieldName, readPdxInstance(jsonParser));
+				break;
+			case START_ARRAY:
+				factory.writeObject(fieldName, readList(jsonParser));
+				break;
+			case VALUE_STRING:
+				factory.writeString(fieldName, jsonParser.getText());
+				break;
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				writeNumber(factory, fieldName, jsonParser);
+				break;
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				factory.writeBoolean(fieldName, jsonParser.getBooleanValue());
+				break;
+			case VALUE_NULL:
+				factory.writeObject(fieldName, null);
+				break;
+			default:
+				throw new IllegalStateException(String.format("Unexpected JSON token [%1$s] for field [%2$s]",
+					jsonParser.currentToken(), fieldName));
+		}
+	}
+
+	private void writeNumber(PdxInstanceFactory factory, String fieldName, JsonParser jsonParser) throws IOException {
+
+		switch (jsonParser.getNumberType()) {
+			case BIG_DECIMAL:
+				factory.writeObject(fieldName, jsonParser.getDecimalValue());
+				break;
+			case BIG_INTEGER:
+				factory.writeObject(fieldName, jsonParser.getBigIntegerValue());
+				break;
+			case DOUBLE:
+				factory.writeDouble(fieldName, jsonParser.getDoubleValue());
+				break;
+			case FLOAT:
+				factory.writeFloat(fieldName, jsonParser.getFloatValue());
+				break;
+			case LONG:
+				factory.writeLong(fieldName, jsonParser.getLongValue());
+				break;
+			default:
+
+				int value = jsonParser.getIntValue();
+
+				if (value > Short.MAX_VALUE || value < Short.MIN_VALUE) {
+					factory.writeInt(fieldName, value);
+				}
+				else if (value > Byte.MAX_VALUE || value < Byte.MIN_VALUE) {
+					factory.writeShort(fieldName, (short) value);
+				}
+				else {
+					factory.writeByte(fieldName, (byte) value);
+				}
+		}
+	}
+
+	private List<Object> readList(JsonParser jsonParser) throws IOException {
+
+		List<Object> list = new ArrayList<>();
+
+		for (JsonToken jsonToken = jsonParser.nextToken();
+				jsonToken != null && !JsonToken.END_ARRAY.equals(jsonToken);
+				jsonToken = jsonParser.nextToken()) {
+
+			list.add(readValue(jsonParser));
+		}
+
+		return list;
+	}
+
+	private @Nullable Object readValue(JsonParser jsonParser) throws IOException {
+
+		switch (jsonParser.currentToken()) {
+			case START_OBJECT:
+				return readPdxInstance(jsonParser);
+			case START_ARRAY:
+				return readList(jsonParser);
+			case VALUE_STRING:
+				return jsonParser.getText();
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				return readNumber(jsonParser);
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				return jsonParser.getBooleanValue();
+			case VALUE_NULL:
+				return null;
+			default:
+				throw new IllegalStateException(String.format("Unexpected JSON token [%s] in JSON array",
+					jsonParser.currentToken()));
+		}
+	}
+
+	private Number readNumber(JsonParser jsonParser) throws IOException {
+
+		switch (jsonParser.getNumberType()) {
+			case BIG_DECIMAL:
+				return jsonParser.getDecimalValue();
+			case BIG_INTEGER:
+				return jsonParser.getBigIntegerValue();
+			case DOUBLE:
+				return jsonParser.getDoubleValue();
+			case FLOAT:
+				return jsonParser.getFloatValue();
+			case LONG:
+				return jsonParser.getLongValue();
+			default:
+
+				int value = jsonParser.getIntValue();
+
+				if (value > Short.MAX_VALUE || value < Short.MIN_VALUE) {
+					return value;
+				}
+				else if (value > Byte.MAX_VALUE || value < Byte.MIN_VALUE) {
+					return (short) value;
+				}
+				else {
+					return (byte) value;
+				}
+		}
+	}
+
+	/**
+	 * Wraps the given {@link PdxInstance} in a new instance of {@link PdxInstanceWrapper}.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to wrap.
+	 * @return a new instance of {@link PdxInstanceWrapper} wrapping the given {@link PdxInstance}.
+	 * @see org.springframework.geode.pdx.PdxInstanceWrapper#from(PdxInstance)
+	 */
+	protected @NonNull PdxInstanceWrapper wrap(@NonNull PdxInstance pdxInstance) {
+		return PdxInstanceWrapper.from(pdxInstance);
+	}
+}
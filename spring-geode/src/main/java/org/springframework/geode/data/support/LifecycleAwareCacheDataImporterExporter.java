@@ -15,14 +15,37 @@
  */
 package org.springframework.geode.data.support;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.Region;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -44,6 +67,9 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * A {@link CacheDataImporterExporter} implementation using the {@literal Decorator Software Design Pattern} to wrap
  * an existing {@link CacheDataImporterExporter} in order to {@literal decorate} the cache (i.e. {@link Region}) data
@@ -55,6 +81,10 @@ import org.springframework.util.Assert;
  * or {@link ImportLifecycle#LAZY lazily}, once all beans have been fully initialized and the Spring
  * {@link ApplicationContext} is refreshed.
  *
+ * When the cache data import is {@link ImportLifecycle#LAZY lazy}, the data for multiple {@link Region Regions}
+ * can be imported in parallel by setting the {@literal spring.boot.data.gemfire.cache.data.import.parallelism}
+ * property to a value greater than {@literal 1}.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.Region
  * @see org.springframework.context.ApplicationContext
@@ -76,16 +106,29 @@ import org.springframework.util.Assert;
  */
 @SuppressWarnings("rawtypes")
 public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporterExporter,
-		ApplicationContextAware, EnvironmentAware, InitializingBean, ResourceLoaderAware, SmartLifecycleSupport {
+		ApplicationContextAware, DisposableBean, EnvironmentAware, InitializingBean, ResourceLoaderAware,
+		SmartLifecycleSupport {
 
+	protected static final int DEFAULT_IMPORT_PARALLELISM = 1;
 	protected static final int DEFAULT_IMPORT_PHASE = Integer.MIN_VALUE + 1000000;
 
+	protected static final long DEFAULT_IMPORT_TIMEOUT = 0L;
+
+	protected static final String CACHE_DATA_IMPORT_ERROR_POLICY_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.error-policy";
+
 	protected static final String CACHE_DATA_IMPORT_LIFECYCLE_PROPERTY_NAME =
 		"spring.boot.data.gemfire.cache.data.import.lifecycle";
 
+	protected static final String CACHE_DATA_IMPORT_PARALLELISM_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.parallelism";
+
 	protected static final String CACHE_DATA_IMPORT_PHASE_PROPERTY_NAME =
 		"spring.boot.data.gemfire.cache.data.import.phase";
 
+	protected static final String CACHE_DATA_IMPORT_TIMEOUT_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.timeout";
+
 	private final AtomicReference<ImportLifecycle> resolvedImportLifecycle = new AtomicReference<>(null);
 	private final AtomicReference<Integer> resolvedImportPhase = new AtomicReference<>(null);
 
@@ -93,6 +136,8 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 
 	private Environment environment;
 
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
 	private final Set<Region> regionsForImport = Collections.synchronizedSet(new HashSet<>());
 
 	/**
@@ -128,6 +173,22 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 		}
 	}
 
+	/**
+	 * Destroys the wrapped {@link CacheDataImporterExporter} if the importer/exporter
+	 * implements {@link DisposableBean}.
+	 *
+	 * @throws Exception if {@link CacheDataImporterExporter} destruction fails.
+	 */
+	@Override
+	public void destroy() throws Exception {
+
+		CacheDataImporterExporter importerExporter = getCacheDataImporterExporter();
+
+		if (importerExporter instanceof DisposableBean) {
+			((DisposableBean) importerExporter).destroy();
+		}
+	}
+
 	/**
 	 * Configures a reference to the Spring {@link ApplicationContext}.
 	 *
@@ -196,6 +257,16 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 		return Optional.ofNullable(this.environment);
 	}
 
+	/**
+	 * Return the configured {@link Logger} to log messages.
+	 *
+	 * @return the configured {@link Logger}.
+	 * @see org.slf4j.Logger
+	 */
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
 	/**
 	 * Configures the {@link ExportResourceResolver} of the wrapped {@link CacheDataImporterExporter}
 	 * if the {@link ExportResourceResolver} is not {@literal null} and the {@link CacheDataImporterExporter}
@@ -379,11 +450,75 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 				.orElse(DEFAULT_IMPORT_PHASE));
 	}
 
+	/**
+	 * Resolves the configured {@link ImportErrorPolicy} applied when the cache data import for a {@link Region}
+	 * fails during a parallel import.
+	 *
+	 * The cache data import error policy is configured with the
+	 * {@literal spring.boot.data.gemfire.cache.data.import.error-policy} property
+	 * in Spring Boot {@literal application.properties}.
+	 *
+	 * @return the configured {@link ImportErrorPolicy}.
+	 * @throws IllegalArgumentException if the configured {@link ImportErrorPolicy} is not recognized.
+	 * @see LifecycleAwareCacheDataImporterExporter.ImportErrorPolicy
+	 */
+	protected @NonNull ImportErrorPolicy resolveImportErrorPolicy() {
+
+		return getEnvironment()
+			.map(env -> env.getProperty(CACHE_DATA_IMPORT_ERROR_POLICY_PROPERTY_NAME, String.class,
+				ImportErrorPolicy.getDefault().name()))
+			.map(errorPolicy -> Optional.ofNullable(ImportErrorPolicy.from(errorPolicy))
+				.orElseThrow(() -> newIllegalArgumentException("Cache data import error policy [%1$s] is not valid;"
+					+ " must be one of %2$s", errorPolicy, Arrays.stream(ImportErrorPolicy.values())
+						.map(ImportErrorPolicy::name).collect(Collectors.toList()))))
+			.orElseGet(ImportErrorPolicy::getDefault);
+	}
+
+	/**
+	 * Resolves the configured number of {@link Thread Threads} used to import cache data
+	 * into the {@link Region Regions} in parallel.
+	 *
+	 * The cache data import parallelism is configured with the
+	 * {@literal spring.boot.data.gemfire.cache.data.import.parallelism} property
+	 * in Spring Boot {@literal application.properties}. A value of {@literal 1} (the default) imports cache data
+	 * into each {@link Region} sequentially.
+	 *
+	 * @return the configured cache data import parallelism; always greater than {@literal 0}.
+	 */
+	protected int resolveImportParallelism() {
+
+		int parallelism = getEnvironment()
+			.map(env -> env.getProperty(CACHE_DATA_IMPORT_PARALLELISM_PROPERTY_NAME, Integer.class,
+				DEFAULT_IMPORT_PARALLELISM))
+			.orElse(DEFAULT_IMPORT_PARALLELISM);
+
+		return Math.max(parallelism, 1);
+	}
+
+	/**
+	 * Resolves the configured timeout, in milliseconds, to wait for the cache data import of a single {@link Region}
+	 * to complete during a parallel import.
+	 *
+	 * The cache data import timeout is configured with the
+	 * {@literal spring.boot.data.gemfire.cache.data.import.timeout} property
+	 * in Spring Boot {@literal application.properties}. A value less than or equal to {@literal 0} (the default)
+	 * waits indefinitely.
+	 *
+	 * @return the configured cache data import timeout in milliseconds.
+	 */
+	protected long resolveImportTimeout() {
+
+		return getEnvironment()
+			.map(env -> env.getProperty(CACHE_DATA_IMPORT_TIMEOUT_PROPERTY_NAME, Long.class, DEFAULT_IMPORT_TIMEOUT))
+			.orElse(DEFAULT_IMPORT_TIMEOUT);
+	}
+
 	/**
 	 * Performs the cache data import for each of the targeted {@link Region Regions}.
 	 *
 	 * @see #getCacheDataImporterExporter()
 	 * @see #getRegionsForImport()
+	 * @see #resolveImportParallelism()
 	 */
 	@Override
 	public void start() {
@@ -391,7 +526,282 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 		// Technically, the resolveImportLifecycle().isLazy() check is not strictly required since if the cache data
 		// import is "eager", then the regionsForImport Set will be empty anyway.
 		if (resolveImportLifecycle().isLazy()) {
-			getRegionsForImport().forEach(getCacheDataImporterExporter()::importInto);
+
+			int parallelism = resolveImportParallelism();
+
+			if (parallelism > 1 && getRegionsForImport().size() > 1) {
+				importInParallel(new ArrayList<>(getRegionsForImport()), parallelism);
+			}
+			else {
+				getRegionsForImport().forEach(getCacheDataImporterExporter()::importInto);
+			}
+		}
+	}
+
+	/**
+	 * Imports cache data into each of the given {@link Region Regions} concurrently using a bounded pool
+	 * of {@link Thread Threads}.
+	 *
+	 * {@link Region} imports are handled in the order they complete. Each {@link Region} import must complete within
+	 * the {@link #resolveImportTimeout() timeout}, measured from when the import started running. Therefore,
+	 * {@link Region Regions} waiting for a {@link Thread} do not use up their timeout. If a {@link Region}
+	 * import fails, or times out, then the configured {@link ImportErrorPolicy} determines whether the remaining
+	 * {@link Region} imports are cancelled immediately or allowed to complete before all failures are reported
+	 * together, in the order of the given {@link Region Regions}. The time taken to import cache data into each {@link Region} is logged once all imports
+	 * have finished.
+	 *
+	 * @param regions {@link Collection} of {@link Region Regions} to import cache data into.
+	 * @param parallelism maximum number of {@link Region Regions} to import concurrently.
+	 * @throws RuntimeException if the cache data import of any {@link Region} fails.
+	 * @see #newImportExecutorService(int)
+	 * @see #resolveImportErrorPolicy()
+	 * @see #resolveImportTimeout()
+	 */
+	protected void importInParallel(@NonNull Collection<Region> regions, int parallelism) {
+
+		ImportErrorPolicy errorPolicy = resolveImportErrorPolicy();
+
+		long timeout = resolveImportTimeout();
+
+		Map<String, Long> importTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+
+		ExecutorService importExecutorService = newImportExecutorService(Math.min(parallelism, regions.size()));
+
+		try {
+
+			CompletionService<Region> importCompletionService = new ExecutorCompletionService<>(importExecutorService);
+
+			Map<Future<Region>, Region> pendingImports = new LinkedHashMap<>();
+			Map<Future<Region>, ImportTimer> importTimers = new LinkedHashMap<>();
+
+			for (Region region : regions) {
+
+				ImportTimer importTimer = new ImportTimer();
+
+				Future<Region> importFuture =
+					importCompletionService.submit(() -> timedImportInto(region, importTimer, importTimes));
+
+				pendingImports.put(importFuture, region);
+				importTimers.put(importFuture, importTimer);
+			}
+
+			Map<Region, RuntimeException> importErrors = new HashMap<>();
+
+			while (!pendingImports.isEmpty()) {
+
+				Future<Region> importFuture = awaitNextImport(importCompletionService, pendingImports,
+					importTimers, timeout);
+
+				Region region = pendingImports.remove(importFuture);
+
+				// An import that timed out may still be consumed from the CompletionService after it was cancelled
+				if (region == null) {
+					continue;
+				}
+
+				importTimers.remove(importFuture);
+
+				try {
+					completeImport(region, importFuture, timeout);
+				}
+				catch (RuntimeException cause) {
+
+					if (errorPolicy.isFailFast()) {
+						throw cause;
+					}
+
+					importErrors.put(region, cause);
+				}
+			}
+
+			if (!importErrors.isEmpty()) {
+
+				List<Region> failedRegions = regions.stream()
+					.filter(importErrors::containsKey)
+					.collect(Collectors.toList());
+
+				List<String> failedRegionNames = failedRegions.stream()
+					.map(Region::getName)
+					.collect(Collectors.toList());
+
+				RuntimeException importFailure = newIllegalStateException(importErrors.get(failedRegions.get(0)),
+					"Failed to import data into Regions %s", failedRegionNames);
+
+				failedRegions.stream().skip(1).map(importErrors::get).forEach(importFailure::addSuppressed);
+
+				throw importFailure;
+			}
+		}
+		finally {
+			importExecutorService.shutdownNow();
+			logImportTimes(importTimes);
+		}
+	}
+
+	/**
+	 * Constructs a new {@link ExecutorService} used to import cache data into {@link Region Regions} in parallel.
+	 *
+	 * @param threadCount number of {@link Thread Threads} in the pool.
+	 * @return a new {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected @NonNull ExecutorService newImportExecutorService(int threadCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+
+			Thread thread = new Thread(runnable, "cache-data-import-thread-" + threadNumber.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	private Region timedImportInto(Region region, ImportTimer importTimer, Map<String, Long> importTimes) {
+
+		importTimer.start();
+
+		try {
+			return getCacheDataImporterExporter().importInto(region);
+		}
+		finally {
+			importTimes.put(String.valueOf(region.getName()), TimeUnit.NANOSECONDS.toMillis(importTimer.elapsed()));
+		}
+	}
+
+	private Future<Region> awaitNextImport(CompletionService<Region> importCompletionService,
+			Map<Future<Region>, Region> pendingImports, Map<Future<Region>, ImportTimer> importTimers, long timeout) {
+
+		try {
+
+			if (timeout > 0) {
+
+				long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+				while (true) {
+
+					// Only started imports have a deadline; imports waiting for a Thread have not used up their timeout
+					Map.Entry<Future<Region>, ImportTimer> earliestStartedImport = importTimers.entrySet().stream()
+						.filter(entry -> entry.getValue().isStarted())
+						.max(Comparator.comparingLong(entry -> entry.getValue().elapsed()))
+						.orElse(null);
+
+					long waitNanos = earliestStartedImport != null
+						? Math.max(timeoutNanos - earliestStartedImport.getValue().elapsed(), 0L)
+						: timeoutNanos;
+
+					Future<Region> importFuture = importCompletionService.poll(waitNanos, TimeUnit.NANOSECONDS);
+
+					// Completed imports are always consumed from the CompletionService; if none completed in time,
+					// then the import started earliest has timed out
+					if (importFuture != null) {
+						return importFuture;
+					}
+					else if (earliestStartedImport != null
+							&& earliestStartedImport.getValue().elapsed() >= timeoutNanos) {
+
+						return earliestStartedImport.getKey();
+					}
+				}
+			}
+
+			return importCompletionService.take();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw newIllegalStateException(cause, "Interrupted while importing data into Regions %s",
+				pendingImports.values().stream().map(Region::getName).collect(Collectors.toList()));
+		}
+	}
+
+	private void completeImport(Region region, Future<Region> importFuture, long timeout) {
+
+		if (!importFuture.isDone()) {
+			importFuture.cancel(true);
+			throw newIllegalStateException(new TimeoutException(),
+				"Timed out after [%d] ms importing data into Region [%s]", timeout, region.getName());
+		}
+
+		try {
+			importFuture.get();
+		}
+		catch (CancellationException cause) {
+			throw newIllegalStateException(cause, "Cancelled importing data into Region [%s]", region.getName());
+		}
+		catch (ExecutionException cause) {
+
+			Throwable importFailure = cause.getCause();
+
+			throw importFailure instanceof RuntimeException
+				? (RuntimeException) importFailure
+				: newIllegalStateException(importFailure, "Failed to import data into Region [%s]",
+					region.getName());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw newIllegalStateException(cause, "Interrupted while importing data into Region [%s]",
+				region.getName());
+		}
+	}
+
+	private void logImportTimes(Map<String, Long> importTimes) {
+
+		Logger logger = getLogger();
+
+		if (logger.isInfoEnabled()) {
+			synchronized (importTimes) {
+				importTimes.forEach((regionName, importTime) ->
+					logger.info("Imported data into Region [{}] in [{}] ms", regionName, importTime));
+			}
+		}
+	}
+
+	/**
+	 * An {@link Enum Enumeration} defining the different policies for handling errors during a parallel
+	 * cache data import.
+	 */
+	public enum ImportErrorPolicy {
+
+		COLLECT_ERRORS("Waits for all Region imports to complete and reports all failures together"),
+		FAIL_FAST("Cancels all remaining Region imports on the first failure");
+
+		private final String description;
+
+		ImportErrorPolicy(@NonNull String description) {
+
+			Assert.hasText(description, "The enumerated value must have a description");
+
+			this.description = description;
+		}
+
+		public static @NonNull ImportErrorPolicy getDefault() {
+			return FAIL_FAST;
+		}
+
+		public static @Nullable ImportErrorPolicy from(String name) {
+
+			for (ImportErrorPolicy errorPolicy : values()) {
+				if (errorPolicy.name().equalsIgnoreCase(String.valueOf(name).trim().replace('-', '_'))) {
+					return errorPolicy;
+				}
+			}
+
+			return null;
+		}
+
+		public boolean isCollectErrors() {
+			return COLLECT_ERRORS.equals(this);
+		}
+
+		public boolean isFailFast() {
+			return FAIL_FAST.equals(this);
+		}
+
+		@Override
+		public String toString() {
+			return this.description;
 		}
 	}
 
@@ -440,4 +850,27 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 			return this.description;
 		}
 	}
+
+	/**
+	 * Measures the time elapsed since a {@link Region} import started running.
+	 */
+	private static final class ImportTimer {
+
+		private volatile boolean started;
+
+		private volatile long startTime;
+
+		void start() {
+			this.startTime = System.nanoTime();
+			this.started = true;
+		}
+
+		boolean isStarted() {
+			return this.started;
+		}
+
+		long elapsed() {
+			return isStarted() ? System.nanoTime() - this.startTime : 0L;
+		}
+	}
 }
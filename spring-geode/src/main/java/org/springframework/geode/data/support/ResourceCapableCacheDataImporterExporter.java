@@ -15,6 +15,7 @@
  */
 package org.springframework.geode.data.support;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 import static org.springframework.geode.core.util.ObjectUtils.initialize;
 
 import java.io.File;
@@ -50,10 +51,13 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.DataBindingPropertyAccessor;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.geode.core.env.EnvironmentMapAdapter;
+import org.springframework.geode.core.io.CompressionCodec;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceResolver;
 import org.springframework.geode.core.io.ResourceWriter;
 import org.springframework.geode.core.io.support.ByteArrayResourceReader;
+import org.springframework.geode.core.io.support.CompressedResource;
+import org.springframework.geode.core.io.support.CompressionCodecResolver;
 import org.springframework.geode.core.io.support.FileResourceWriter;
 import org.springframework.geode.core.io.support.ResourceLoaderResourceResolver;
 import org.springframework.geode.core.io.support.ResourcePrefix;
@@ -99,13 +103,26 @@ import org.slf4j.LoggerFactory;
 public abstract class ResourceCapableCacheDataImporterExporter extends AbstractCacheDataImporterExporter
 		implements InitializingBean, ResourceLoaderAware {
 
+	protected static final int DEFAULT_CACHE_DATA_IMPORT_BATCH_SIZE = 1000;
+
+	protected static final String CACHE_DATA_COMPRESSION_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.compression";
+
 	protected static final String CACHE_DATA_EXPORT_RESOURCE_LOCATION_PROPERTY_NAME =
 		"spring.boot.data.gemfire.cache.data.export.resource.location";
 
+	protected static final String CACHE_DATA_FORMAT_PROPERTY_NAME = "spring.boot.data.gemfire.cache.data.format";
+
+	protected static final String CACHE_DATA_IMPORT_BATCH_SIZE_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.import.batch-size";
+
 	protected static final String CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME =
 		"spring.boot.data.gemfire.cache.data.import.resource.location";
 
+	protected static final String DEFAULT_CACHE_DATA_FORMAT = "json";
+
 	protected static final String RESOURCE_NAME_PATTERN = "data-%s.json";
+	protected static final String RESOURCE_NAME_WITH_FORMAT_PATTERN = "data-%1$s.%2$s";
 
 	private ExportResourceResolver exportResourceResolver;
 
@@ -318,6 +335,8 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 		private Environment environment;
 
+		private final CompressionCodecResolver compressionCodecResolver;
+
 		private final ExpressionParser expressionParser;
 
 		private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -341,6 +360,7 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 			this.expressionParser = newExpressionParser();
 			this.evaluationContextBuilder = newEvaluationContextBuilder();
 			this.compiledExpressions = new ConcurrentHashMap<>();
+			this.compressionCodecResolver = new CompressionCodecResolver();
 		}
 
 		private ExpressionParser newExpressionParser() {
@@ -562,11 +582,96 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 		/**
 		 * Determines a {@link String resource name} for the given {@link String name}.
 		 *
+		 * The {@link String resource name} file extension is determined by the cache data format configured with
+		 * the {@literal spring.boot.data.gemfire.cache.data.format} property, which defaults to {@literal json}.
+		 *
+		 * If a {@link CompressionCodec} is configured with the {@literal spring.boot.data.gemfire.cache.data.compression}
+		 * property, then the {@link CompressionCodec#getFileExtension() compression file extension} is appended to
+		 * the {@link String resource name} (e.g. {@literal data-example.json.gz}).
+		 *
 		 * @param name {@link String} containing the name to evaluate; must not be {@literal null}.
 		 * @return a {@link String resource name} from the given {@link String name}.
+		 * @see #getResourceCompression()
+		 * @see #getResourceFormat()
 		 */
 		protected @NonNull String getResourceName(@NonNull String name) {
-			return String.format(RESOURCE_NAME_PATTERN, name);
+
+			String format = getResourceFormat();
+
+			String resourceName = DEFAULT_CACHE_DATA_FORMAT.equals(format)
+				? String.format(RESOURCE_NAME_PATTERN, name)
+				: String.format(RESOURCE_NAME_WITH_FORMAT_PATTERN, name, format);
+
+			return getResourceCompression()
+				.map(CompressionCodec::getFileExtension)
+				.map(resourceName::concat)
+				.orElse(resourceName);
+		}
+
+		/**
+		 * Determines the {@link CompressionCodec} used to compress the cache data stored in the {@link Resource}
+		 * as configured with the {@literal spring.boot.data.gemfire.cache.data.compression} property.
+		 *
+		 * @return an {@link Optional} {@link CompressionCodec} used to compress the cache data stored in
+		 * the {@link Resource}; {@link Optional#empty()} if the cache data is not compressed.
+		 * @throws IllegalStateException if the configured {@link CompressionCodec} is unknown.
+		 * @see org.springframework.geode.core.io.CompressionCodec
+		 */
+		protected Optional<CompressionCodec> getResourceCompression() {
+
+			return getEnvironment()
+				.map(environment -> environment.getProperty(CACHE_DATA_COMPRESSION_PROPERTY_NAME))
+				.filter(StringUtils::hasText)
+				.filter(compression -> !"none".equalsIgnoreCase(compression.trim()))
+				.map(compression -> getCompressionCodecResolver().resolveByName(compression)
+					.orElseThrow(() -> newIllegalStateException("Compression [%1$s] is not supported; expected one of %2$s",
+						compression, getCompressionCodecResolver().getCompressionCodecs())));
+		}
+
+		/**
+		 * Returns the configured {@link CompressionCodecResolver} used to resolve the {@link CompressionCodec}
+		 * for a {@link Resource} {@link String location}.
+		 *
+		 * @return the configured {@link CompressionCodecResolver}.
+		 * @see org.springframework.geode.core.io.support.CompressionCodecResolver
+		 */
+		protected @NonNull CompressionCodecResolver getCompressionCodecResolver() {
+			return this.compressionCodecResolver;
+		}
+
+		/**
+		 * Decorates the given {@link Resource} with a {@link CompressedResource} when the {@link String location}
+		 * of the {@link Resource} identifies compressed cache data (e.g. {@literal data-example.json.gz}).
+		 *
+		 * @param resource {@link Resource} to decorate.
+		 * @param location {@link String} containing the location of the {@link Resource}.
+		 * @return a {@link CompressedResource} if the {@link Resource} {@link String location} is handled by
+		 * a {@link CompressionCodec}, otherwise returns the given {@link Resource}.
+		 * @see org.springframework.geode.core.io.support.CompressedResource
+		 */
+		protected @Nullable Resource decorate(@Nullable Resource resource, @Nullable String location) {
+
+			return resource != null
+				? getCompressionCodecResolver().resolveByLocation(location)
+					.<Resource>map(compressionCodec -> new CompressedResource(resource, compressionCodec))
+					.orElse(resource)
+				: null;
+		}
+
+		/**
+		 * Determines the {@link String format} of the cache data stored in the {@link Resource}.
+		 *
+		 * @return the configured {@link String format} of the cache data stored in the {@link Resource};
+		 * defaults to {@literal json}.
+		 */
+		protected @NonNull String getResourceFormat() {
+
+			return getEnvironment()
+				.map(environment -> environment.getProperty(CACHE_DATA_FORMAT_PROPERTY_NAME))
+				.filter(StringUtils::hasText)
+				.map(String::trim)
+				.map(String::toLowerCase)
+				.orElse(DEFAULT_CACHE_DATA_FORMAT);
 		}
 
 		/**
@@ -607,7 +712,8 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 			String resourceLocation = getResourceLocation(region, CACHE_DATA_EXPORT_RESOURCE_LOCATION_PROPERTY_NAME);
 
-			Optional<Resource> resource = resolve(resourceLocation);
+			Optional<Resource> resource = resolve(resourceLocation)
+				.map(it -> decorate(it, resourceLocation));
 
 			boolean writable = resource.filter(ResourceUtils::isWritable).isPresent();
 
@@ -673,7 +779,8 @@ public abstract class ResourceCapableCacheDataImporterExporter extends AbstractC
 
 			String resourceLocation = getResourceLocation(region, CACHE_DATA_IMPORT_RESOURCE_LOCATION_PROPERTY_NAME);
 
-			Optional<Resource> resource = resolve(resourceLocation);
+			Optional<Resource> resource = resolve(resourceLocation)
+				.map(it -> decorate(it, resourceLocation));
 
 			boolean exists = resource.isPresent();
 			boolean readable = exists && resource.filter(Resource::isReadable).isPresent();
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * The {@link StreamingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * that hands the chunked results of a Function execution to a consumer as the results arrive.
+ *
+ * Each result sent by a Function is expected to be a chunk, such as a {@link java.util.List}, of elements.
+ * The {@link Iterable} returned by {@link #getResult()} iterates the elements of all chunks, blocking until
+ * the next chunk arrives or the Function execution ends. Because the number of buffered chunks is bounded,
+ * the Function must be executed on a different {@link Thread} than the {@link Thread} consuming the results.
+ *
+ * The consumer must {@link CloseableIterable#close() close} the {@link Iterable} when it stops iterating,
+ * whether all results were consumed or not. Once closed, all buffered chunks are discarded and any further
+ * chunks sent by the Function are dropped so the {@link Thread} executing the Function is never left blocked.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.AbstractResultCollector
+ * @since 1.4.0
+ */
+public class StreamingResultCollector<T>
+		extends AbstractResultCollector<Object, StreamingResultCollector.CloseableIterable<T>> {
+
+	protected static final int DEFAULT_CAPACITY = 16;
+
+	protected static final long PUT_TIMEOUT_MILLISECONDS = 100L;
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private final BlockingQueue<Object> chunks;
+
+	private final Iterator<T> iterator = new ChunkIterator();
+
+	private volatile boolean cancelled = false;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} buffering at most {@literal 16} chunks.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} buffering at most the given number of chunks.
+	 *
+	 * @param capacity maximum number of chunks buffered before {@link #addResult(DistributedMember, Object)} blocks;
+	 * a non-positive value uses the default capacity.
+	 */
+	public StreamingResultCollector(int capacity) {
+		this.chunks = new LinkedBlockingQueue<>(capacity > 0 ? capacity : DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Returns a single-use, {@link CloseableIterable closeable} {@link Iterable} over the elements of all chunks
+	 * sent by the Function.
+	 *
+	 * @return a single-use {@link CloseableIterable} over the elements of all chunks.
+	 * @see CloseableIterable
+	 */
+	@Override
+	public CloseableIterable<T> getResult() {
+
+		return new CloseableIterable<T>() {
+
+			@Override
+			public Iterator<T> iterator() {
+				return StreamingResultCollector.this.iterator;
+			}
+
+			@Override
+			public void close() {
+				cancel();
+			}
+		};
+	}
+
+	/**
+	 * Determines whether the consumer stopped consuming the results.
+	 *
+	 * @return a boolean value indicating whether the consumer stopped consuming the results.
+	 * @see #cancel()
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * Stops collecting results, discarding all buffered chunks as well as any chunks sent by the Function afterwards.
+	 *
+	 * @see #isCancelled()
+	 */
+	public void cancel() {
+		this.cancelled = true;
+		this.chunks.clear();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void addResult(DistributedMember memberId, Object resultOfSingleExecution) {
+		put(resultOfSingleExecution);
+	}
+
+	/**
+	 * Records the given {@link Throwable} that caused the Function execution to fail, which is rethrown
+	 * to the consumer iterating the results.
+	 *
+	 * @param cause {@link Throwable} that caused the Function execution to fail.
+	 */
+	public void addFailure(Throwable cause) {
+		put(cause);
+		put(END_OF_RESULTS);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void clearResults() {
+		this.chunks.clear();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void endResults() {
+		super.endResults();
+		put(END_OF_RESULTS);
+	}
+
+	private void put(Object chunk) {
+
+		try {
+			boolean buffered = chunk == null;
+
+			while (!buffered && !isCancelled()) {
+				buffered = this.chunks.offer(chunk, PUT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting to buffer a Function result", cause);
+		}
+	}
+
+	private Object take() {
+
+		try {
+			return this.chunks.take();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for a Function result", cause);
+		}
+	}
+
+	private class ChunkIterator implements Iterator<T> {
+
+		private boolean ended = false;
+
+		private Iterator<?> chunk = Collections.emptyIterator();
+
+		@Override
+		public boolean hasNext() {
+
+			while (!this.chunk.hasNext()) {
+
+				if (this.ended || isCancelled()) {
+					return false;
+				}
+
+				Object next = take();
+
+				if (next == END_OF_RESULTS) {
+					this.ended = true;
+				}
+				else if (next instanceof Throwable) {
+
+					this.ended = true;
+
+					Throwable cause = (Throwable) next;
+
+					throw cause instanceof FunctionException ? (FunctionException) cause
+						: new FunctionException("Function execution failed", cause);
+				}
+				else {
+					this.chunk = next instanceof Iterable ? ((Iterable<?>) next).iterator()
+						: Collections.singletonList(next).iterator();
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return (T) this.chunk.next();
+		}
+	}
+
+	/**
+	 * {@link Iterable} over the Function results that must be {@link #close() closed} by the consumer
+	 * once it stops iterating.
+	 *
+	 * @param <T> {@link Class type} of the elements.
+	 * @see java.lang.AutoCloseable
+	 * @see java.lang.Iterable
+	 */
+	public interface CloseableIterable<T> extends Iterable<T>, AutoCloseable {
+
+		@Override
+		void close();
+
+	}
+}
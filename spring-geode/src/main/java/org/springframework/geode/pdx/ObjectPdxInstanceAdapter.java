@@ -16,11 +16,20 @@
 package org.springframework.geode.pdx;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -30,9 +39,11 @@ import org.apache.geode.pdx.PdxFieldTypeMismatchException;
 import org.apache.geode.pdx.PdxInstance;
 import org.apache.geode.pdx.WritablePdxInstance;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.PropertyAccessorUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.gemfire.util.ArrayUtils;
@@ -40,6 +51,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -53,6 +65,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.beans.BeanWrapper
  * @see org.springframework.beans.PropertyAccessor
  * @see org.springframework.beans.PropertyAccessorFactory
+ * @see java.lang.invoke.MethodHandle
  * @since 1.3.0
  */
 public class ObjectPdxInstanceAdapter implements PdxInstance {
@@ -60,6 +73,14 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 	protected static final String CLASS_PROPERTY_NAME = "class";
 	protected static final String ID_PROPERTY_NAME = "id";
 
+	private static final ClassValue<TypeMetadata> TYPE_METADATA = new ClassValue<TypeMetadata>() {
+
+		@Override
+		protected TypeMetadata computeValue(Class<?> type) {
+			return new TypeMetadata(type);
+		}
+	};
+
 	private static void assertCondition(boolean condition, Supplier<RuntimeException> runtimeExceptionSupplier) {
 		if (!condition) {
 			throw runtimeExceptionSupplier.get();
@@ -96,7 +117,7 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 
 	private final AtomicReference<String> resolvedIdentityFieldName = new AtomicReference<>(null);
 
-	private transient final BeanWrapper beanWrapper;
+	private transient volatile BeanWrapper beanWrapper;
 
 	private final Object target;
 
@@ -112,18 +133,50 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 		Assert.notNull(target, "Object to adapt must not be null");
 
 		this.target = target;
-		this.beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(target);
 	}
 
 	/**
 	 * Returns a {@link BeanWrapper} wrapping the {@literal target} {@link Object} in order to access the {@link Object}
 	 * as a Java bean using JavaBeans conventions.
 	 *
+	 * The {@link BeanWrapper} is created lazily since it is only required to write properties or to read
+	 * nested properties of the {@literal target} {@link Object}.
+	 *
 	 * @return a {@link BeanWrapper} for the {@literal target} {@link Object}; never {@literal null}.
 	 * @see org.springframework.beans.BeanWrapper
 	 */
 	protected @NonNull BeanWrapper getBeanWrapper() {
-		return this.beanWrapper;
+
+		BeanWrapper beanWrapper = this.beanWrapper;
+
+		if (beanWrapper == null) {
+			beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(getObject());
+			this.beanWrapper = beanWrapper;
+		}
+
+		return beanWrapper;
+	}
+
+	/**
+	 * Returns the cached {@link TypeMetadata} describing the properties of the {@literal target} {@link Object}.
+	 *
+	 * The {@link TypeMetadata} is computed once per {@link Class type} and shared by all adapters
+	 * for {@link Object objects} of the same {@link Class type}. It is resolved on access rather than held by
+	 * the adapter so that it is never lost when the adapter is serialized.
+	 *
+	 * The {@link TypeMetadata} is stored on the {@link Class type} it describes. It strongly references that
+	 * {@link Class type} through its {@link MethodHandle MethodHandles}, and it references the {@link ClassLoader}
+	 * that loaded this {@link Class}. When both {@link Class classes} come from the same {@link ClassLoader},
+	 * or the {@link Class type} comes from a child {@link ClassLoader}, the cached {@link TypeMetadata} is unloaded
+	 * together with the {@link Class type}. However, adapting an {@link Object} whose {@link Class type} comes from
+	 * a parent {@link ClassLoader}, such as a JDK {@link Class}, keeps the {@link ClassLoader} that loaded this
+	 * {@link Class} loaded for as long as the {@link Class type} is loaded. This trade-off avoids introspecting
+	 * the {@link Class type} for every adapter.
+	 *
+	 * @return the {@link TypeMetadata} for the {@literal target} {@link Object}; never {@literal null}.
+	 */
+	@NonNull TypeMetadata getTypeMetadata() {
+		return TYPE_METADATA.get(getObject().getClass());
 	}
 
 	/**
@@ -176,16 +229,42 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 	 * @return the {@link Object value} for the {@link PropertyDescriptor property} identified by
 	 * the given {@link String field name} on the underlying, target {@link Object}.
 	 * @see org.springframework.beans.BeanWrapper#getPropertyValue(String)
-	 * @see #getBeanWrapper()
+	 * @see #getTypeMetadata()
 	 */
 	@Override
 	public Object getField(String fieldName) {
 
-		BeanWrapper beanWrapper = getBeanWrapper();
+		TypeMetadata typeMetadata = getTypeMetadata();
+
+		MethodHandle reader = typeMetadata.getReader(fieldName);
+
+		if (reader != null) {
+			return read(reader, fieldName);
+		}
+		else if (typeMetadata.isReadable(fieldName) || PropertyAccessorUtils.isNestedOrIndexedProperty(fieldName)) {
+
+			BeanWrapper beanWrapper = getBeanWrapper();
 
-		return beanWrapper.isReadableProperty(fieldName)
-			? beanWrapper.getPropertyValue(fieldName)
-			: null;
+			return beanWrapper.isReadableProperty(fieldName)
+				? beanWrapper.getPropertyValue(fieldName)
+				: null;
+		}
+
+		return null;
+	}
+
+	private Object read(MethodHandle reader, String fieldName) {
+
+		try {
+			return reader.invokeExact(getObject());
+		}
+		catch (RuntimeException | Error cause) {
+			throw cause;
+		}
+		catch (Throwable cause) {
+			throw new IllegalStateException(String.format("Failed to read field [%1$s] of Object [%2$s]",
+				fieldName, getClassName()), cause);
+		}
 	}
 
 	/**
@@ -194,20 +273,12 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 	 *
 	 * @return a {@link List} of {@link String field names} / {@link PropertyDescriptor properties} serialized
 	 * in the PDX bytes for the underlying, target {@link Object}.
-	 * @see org.springframework.beans.BeanWrapper#getPropertyDescriptors()
 	 * @see java.beans.PropertyDescriptor
-	 * @see #getBeanWrapper()
+	 * @see #getTypeMetadata()
 	 */
 	@Override
 	public List<String> getFieldNames() {
-
-		PropertyDescriptor[] propertyDescriptors =
-			ArrayUtils.nullSafeArray(getBeanWrapper().getPropertyDescriptors(), PropertyDescriptor.class);
-
-		return Arrays.stream(propertyDescriptors)
-			.map(PropertyDescriptor::getName)
-			.filter(propertyName -> !CLASS_PROPERTY_NAME.equals(propertyName))
-			.collect(Collectors.toList());
+		return getTypeMetadata().getFieldNames();
 	}
 
 	/**
@@ -230,56 +301,7 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 	// Identifier Search Algorithm: @Id Property -> @Id Field -> "id" Property
 
 	@Nullable String resolveIdentityFieldNameFromProperty() {
-		return resolveIdentityFieldNameFromProperty(getBeanWrapper());
-	}
-
-	private @Nullable String resolveIdentityFieldNameFromProperty(@NonNull BeanWrapper beanWrapper) {
-
-		List<PropertyDescriptor> properties =
-			Arrays.asList(ArrayUtils.nullSafeArray(beanWrapper.getPropertyDescriptors(), PropertyDescriptor.class));
-
-		Optional<PropertyDescriptor> atIdAnnotatedProperty = properties.stream()
-			.filter(this::isAtIdAnnotatedProperty)
-			.findFirst();
-
-		return atIdAnnotatedProperty
-			.map(PropertyDescriptor::getName)
-			.orElseGet(() -> resolveIdentityFieldNameFromField(beanWrapper));
-	}
-
-	private boolean isAtIdAnnotatedProperty(@Nullable PropertyDescriptor propertyDescriptor) {
-
-		return Optional.ofNullable(propertyDescriptor)
-			.map(PropertyDescriptor::getReadMethod)
-			.map(method -> AnnotationUtils.findAnnotation(method, Id.class))
-			.isPresent();
-	}
-
-	private @Nullable String resolveIdentityFieldNameFromField(@NonNull BeanWrapper beanWrapper) {
-
-		List<Field> fields =
-			Arrays.asList(ArrayUtils.nullSafeArray(beanWrapper.getWrappedClass().getDeclaredFields(), Field.class));
-
-		Optional<PropertyDescriptor> atIdAnnotatedProperty = fields.stream()
-			.map(field -> getPropertyForAtIdAnnotatedField(beanWrapper, field))
-			.filter(Objects::nonNull)
-			.findFirst();
-
-		return atIdAnnotatedProperty
-			.map(PropertyDescriptor::getName)
-			.orElseGet(() -> beanWrapper.isReadableProperty(ID_PROPERTY_NAME)
-				? ID_PROPERTY_NAME
-				: null);
-	}
-
-	private @Nullable PropertyDescriptor getPropertyForAtIdAnnotatedField(@NonNull BeanWrapper beanWrapper,
-			@Nullable Field field) {
-
-		return Optional.ofNullable(field)
-			.filter(it -> beanWrapper.isReadableProperty(it.getName()))
-			.filter(it -> Objects.nonNull(AnnotationUtils.findAnnotation(it, Id.class)))
-			.map(it -> beanWrapper.getPropertyDescriptor(it.getName()))
-			.orElse(null);
+		return getTypeMetadata().getIdentityFieldName();
 	}
 
 	/**
@@ -411,10 +433,138 @@ public class ObjectPdxInstanceAdapter implements PdxInstance {
 	 * a {@link PropertyDescriptor property} from the underlying, target {@link Object}.
 	 * @return a boolean value that determines whether the given {@link String field name}
 	 * is a {@link PropertyDescriptor property} on the underlying, target {@link Object}.
-	 * @see #getFieldNames()
+	 * @see #getTypeMetadata()
 	 */
 	@Override
 	public boolean hasField(String fieldName) {
-		return getFieldNames().contains(fieldName);
+		return getTypeMetadata().hasField(fieldName);
+	}
+
+	/**
+	 * Metadata describing the {@link PropertyDescriptor properties} of a {@link Class type} adapted as PDX,
+	 * computed once per {@link Class type} and shared by all {@link ObjectPdxInstanceAdapter} instances
+	 * adapting {@link Object objects} of that {@link Class type}.
+	 *
+	 * Property values are read with {@link MethodHandle MethodHandles} bound to the property's read {@link Method}.
+	 */
+	static class TypeMetadata {
+
+		private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		private final List<String> fieldNames;
+
+		private final Map<String, MethodHandle> readers;
+
+		private final Set<String> fieldNameSet;
+
+		private final Set<String> readableFieldNames;
+
+		private final String identityFieldName;
+
+		TypeMetadata(@NonNull Class<?> type) {
+
+			PropertyDescriptor[] propertyDescriptors =
+				ArrayUtils.nullSafeArray(BeanUtils.getPropertyDescriptors(type), PropertyDescriptor.class);
+
+			List<PropertyDescriptor> properties = Arrays.stream(propertyDescriptors)
+				.filter(property -> !CLASS_PROPERTY_NAME.equals(property.getName()))
+				.collect(Collectors.toList());
+
+			this.fieldNames = Collections.unmodifiableList(properties.stream()
+				.map(PropertyDescriptor::getName)
+				.collect(Collectors.toList()));
+
+			this.fieldNameSet = Collections.unmodifiableSet(new HashSet<>(this.fieldNames));
+
+			Map<String, MethodHandle> readers = new HashMap<>(properties.size());
+
+			Set<String> readableFieldNames = new HashSet<>(properties.size());
+
+			properties.stream()
+				.filter(property -> Objects.nonNull(property.getReadMethod()))
+				.forEach(property -> {
+
+					readableFieldNames.add(property.getName());
+
+					MethodHandle reader = newReader(property.getReadMethod());
+
+					if (reader != null) {
+						readers.put(property.getName(), reader);
+					}
+				});
+
+			this.readers = Collections.unmodifiableMap(readers);
+			this.readableFieldNames = Collections.unmodifiableSet(readableFieldNames);
+			this.identityFieldName = resolveIdentityFieldName(type, properties);
+		}
+
+		// Properties whose read Method cannot be accessed through a MethodHandle are read with a BeanWrapper
+		private static @Nullable MethodHandle newReader(@NonNull Method readMethod) {
+
+			try {
+				ReflectionUtils.makeAccessible(readMethod);
+
+				return MethodHandles.lookup().unreflect(readMethod).asType(READER_TYPE);
+			}
+			catch (IllegalAccessException | RuntimeException ignore) {
+				return null;
+			}
+		}
+
+		// Identifier Search Algorithm: @Id Property -> @Id Field -> "id" Property
+
+		private @Nullable String resolveIdentityFieldName(@NonNull Class<?> type,
+				@NonNull List<PropertyDescriptor> properties) {
+
+			Optional<PropertyDescriptor> atIdAnnotatedProperty = properties.stream()
+				.filter(this::isAtIdAnnotatedProperty)
+				.findFirst();
+
+			return atIdAnnotatedProperty
+				.map(PropertyDescriptor::getName)
+				.orElseGet(() -> resolveIdentityFieldNameFromField(type));
+		}
+
+		private boolean isAtIdAnnotatedProperty(@Nullable PropertyDescriptor propertyDescriptor) {
+
+			return Optional.ofNullable(propertyDescriptor)
+				.map(PropertyDescriptor::getReadMethod)
+				.map(method -> AnnotationUtils.findAnnotation(method, Id.class))
+				.isPresent();
+		}
+
+		private @Nullable String resolveIdentityFieldNameFromField(@NonNull Class<?> type) {
+
+			List<Field> fields = Arrays.asList(ArrayUtils.nullSafeArray(type.getDeclaredFields(), Field.class));
+
+			Optional<String> atIdAnnotatedFieldName = fields.stream()
+				.filter(field -> isReadable(field.getName()))
+				.filter(field -> Objects.nonNull(AnnotationUtils.findAnnotation(field, Id.class)))
+				.map(Field::getName)
+				.findFirst();
+
+			return atIdAnnotatedFieldName
+				.orElseGet(() -> isReadable(ID_PROPERTY_NAME) ? ID_PROPERTY_NAME : null);
+		}
+
+		@NonNull List<String> getFieldNames() {
+			return this.fieldNames;
+		}
+
+		@Nullable String getIdentityFieldName() {
+			return this.identityFieldName;
+		}
+
+		@Nullable MethodHandle getReader(String fieldName) {
+			return fieldName != null ? this.readers.get(fieldName) : null;
+		}
+
+		boolean hasField(String fieldName) {
+			return this.fieldNameSet.contains(fieldName);
+		}
+
+		boolean isReadable(String fieldName) {
+			return this.readableFieldNames.contains(fieldName);
+		}
 	}
 }
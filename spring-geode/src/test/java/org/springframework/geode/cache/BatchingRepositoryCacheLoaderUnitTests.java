@@ -0,0 +1,342 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit Tests for {@link BatchingRepositoryCacheLoader}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.LoaderHelper
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.BatchingRepositoryCacheLoader
+ * @since 1.4.0
+ */
+@SuppressWarnings("unchecked")
+public class BatchingRepositoryCacheLoaderUnitTests {
+
+	private CrudRepository<String, Integer> mockRepository;
+
+	private ExecutorService executorService;
+
+	@Before
+	public void setup() {
+		this.mockRepository = mock(CrudRepository.class);
+		this.executorService = Executors.newCachedThreadPool();
+	}
+
+	@After
+	public void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	private LoaderHelper<Integer, String> mockLoaderHelper(Integer key) {
+
+		LoaderHelper<Integer, String> mockLoaderHelper = mock(LoaderHelper.class);
+
+		doReturn(key).when(mockLoaderHelper).getKey();
+
+		return mockLoaderHelper;
+	}
+
+	private BatchingRepositoryCacheLoader<String, Integer> newCacheLoader() {
+		return new BatchingRepositoryCacheLoader<>(this.mockRepository, entity -> Integer.valueOf(entity.substring(6)));
+	}
+
+	private void stubFindAllById() {
+
+		doAnswer(invocation -> StreamSupport.stream(((Iterable<Integer>) invocation.getArgument(0)).spliterator(), false)
+			.filter(key -> key % 2 != 0)
+			.map(key -> "Entity" + key)
+			.collect(Collectors.toList())
+		).when(this.mockRepository).findAllById(anyIterable());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullIdentifierResolverThrowsIllegalArgumentException() {
+
+		try {
+			new BatchingRepositoryCacheLoader<>(this.mockRepository, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Identifier resolver Function must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void loadSingleKeyUsesFindById() {
+
+		doReturn(Optional.of("Entity1")).when(this.mockRepository).findById(eq(1));
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader().withBatchWindow(Duration.ZERO);
+
+		assertThat(cacheLoader.load(mockLoaderHelper(1))).isEqualTo("Entity1");
+		assertThat(cacheLoader.getBatchCount()).isEqualTo(1L);
+		assertThat(cacheLoader.getLoadCount()).isEqualTo(1L);
+		assertThat(cacheLoader.getCoalescedLoadCount()).isZero();
+
+		verify(this.mockRepository, times(1)).findById(eq(1));
+		verify(this.mockRepository, never()).findAllById(any());
+	}
+
+	@Test
+	public void concurrentLoadsForSameKeyAreCoalesced() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Optional.of("Entity1");
+		}).when(this.mockRepository).findById(eq(1));
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader().withBatchWindow(Duration.ZERO);
+
+		Future<String> loadOne = this.executorService.submit(() -> cacheLoader.load(mockLoaderHelper(1)));
+
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<String> loadTwo = this.executorService.submit(() -> cacheLoader.load(mockLoaderHelper(1)));
+
+		while (cacheLoader.getCoalescedLoadCount() < 1L) {
+			Thread.sleep(10L);
+		}
+
+		release.countDown();
+
+		assertThat(loadOne.get(5, TimeUnit.SECONDS)).isEqualTo("Entity1");
+		assertThat(loadTwo.get(5, TimeUnit.SECONDS)).isEqualTo("Entity1");
+		assertThat(cacheLoader.getBatchCount()).isEqualTo(1L);
+		assertThat(cacheLoader.getLoadCount()).isEqualTo(2L);
+
+		verify(this.mockRepository, times(1)).findById(eq(1));
+	}
+
+	@Test
+	public void concurrentLoadsForDifferentKeysAreBatched() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Optional.of("Entity0");
+		}).when(this.mockRepository).findById(eq(0));
+
+		stubFindAllById();
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader()
+			.withBatchWindow(Duration.ofSeconds(30L))
+			.withMaxBatchSize(3);
+
+		// keep a load in-flight so that the batch window is used for the following loads
+		Future<String> loadZero = this.executorService.submit(() -> cacheLoader.load(mockLoaderHelper(0)));
+
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		List<Future<String>> loads = new ArrayList<>();
+
+		for (int key = 1; key <= 3; key++) {
+			Integer loadKey = key;
+			loads.add(this.executorService.submit(() -> cacheLoader.load(mockLoaderHelper(loadKey))));
+		}
+
+		try {
+			assertThat(loads.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("Entity1");
+			assertThat(loads.get(1).get(5, TimeUnit.SECONDS)).isNull();
+			assertThat(loads.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("Entity3");
+		}
+		finally {
+			release.countDown();
+		}
+
+		assertThat(loadZero.get(5, TimeUnit.SECONDS)).isEqualTo("Entity0");
+		assertThat(cacheLoader.getBatchCount()).isEqualTo(2L);
+
+		verify(this.mockRepository, times(1)).findAllById(anyIterable());
+		verify(this.mockRepository, times(1)).findById(eq(0));
+	}
+
+	@Test
+	public void loadDoesNotWaitForBatchWindowWhenNoOtherLoadsAreInFlight() throws Exception {
+
+		doReturn(Optional.of("Entity1")).when(this.mockRepository).findById(eq(1));
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader()
+			.withBatchWindow(Duration.ofSeconds(30L));
+
+		Future<String> load = this.executorService.submit(() -> cacheLoader.load(mockLoaderHelper(1)));
+
+		assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("Entity1");
+		assertThat(cacheLoader.getBatchCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void loadAllLoadsKeysInBatches() {
+
+		stubFindAllById();
+
+		doReturn(Optional.of("Entity5")).when(this.mockRepository).findById(eq(5));
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader().withMaxBatchSize(2);
+
+		Map<Integer, String> entities = cacheLoader.loadAll(Arrays.asList(1, 2, 3, 3, 4, 5, null));
+
+		assertThat(entities).hasSize(3);
+		assertThat(entities).containsEntry(1, "Entity1");
+		assertThat(entities).containsEntry(3, "Entity3");
+		assertThat(entities).containsEntry(5, "Entity5");
+		assertThat(cacheLoader.getBatchCount()).isEqualTo(3L);
+		assertThat(cacheLoader.getLoadCount()).isEqualTo(5L);
+
+		verify(this.mockRepository, times(2)).findAllById(anyIterable());
+		verify(this.mockRepository, times(1)).findById(eq(5));
+	}
+
+	@Test
+	public void loadAllCachesNegativeResults() {
+
+		stubFindAllById();
+
+		doReturn(Optional.of("Entity1")).when(this.mockRepository).findById(eq(1));
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader();
+
+		cacheLoader.withNegativeCaching(Duration.ofMinutes(1L));
+
+		assertThat(cacheLoader.loadAll(Arrays.asList(1, 2))).containsOnlyKeys(1);
+		assertThat(cacheLoader.loadAll(Arrays.asList(1, 2))).containsOnlyKeys(1);
+		assertThat(cacheLoader.load(mockLoaderHelper(2))).isNull();
+
+		verify(this.mockRepository, times(1)).findAllById(eq(Arrays.asList(1, 2)));
+		verify(this.mockRepository, times(1)).findById(eq(1));
+		verify(this.mockRepository, never()).findById(eq(2));
+	}
+
+	@Test
+	public void loadAllSchedulesRefreshAheadForLoadedEntities() {
+
+		stubFindAllById();
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = spy(newCacheLoader());
+
+		doNothing().when(cacheLoader).scheduleRefreshAhead(any(), any());
+
+		cacheLoader.withRefreshAhead(0.5f);
+
+		assertThat(cacheLoader.loadAll(mockRegion, Arrays.asList(1, 2, 3))).containsOnlyKeys(1, 3);
+
+		verify(cacheLoader, times(1)).scheduleRefreshAhead(eq(mockRegion), eq(1));
+		verify(cacheLoader, times(1)).scheduleRefreshAhead(eq(mockRegion), eq(3));
+		verify(cacheLoader, never()).scheduleRefreshAhead(any(), eq(2));
+	}
+
+	@Test
+	public void loadAllWithNullKeysReturnsEmptyMap() {
+
+		assertThat(newCacheLoader().loadAll(null)).isEmpty();
+
+		verify(this.mockRepository, never()).findAllById(any());
+	}
+
+	@Test(expected = CacheLoaderException.class)
+	public void loadAllFailureThrowsCacheLoaderException() {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockRepository).findAllById(anyIterable());
+
+		BatchingRepositoryCacheLoader<String, Integer> cacheLoader = newCacheLoader();
+
+		try {
+			cacheLoader.loadAll(Arrays.asList(1, 2));
+		}
+		catch (CacheLoaderException expected) {
+
+			assertThat(expected).hasMessage(RepositoryCacheLoader.CACHE_LOAD_EXCEPTION_MESSAGE,
+				1, this.mockRepository.getClass().getName());
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+
+			// a failed load must not be left in-flight
+			doReturn(Optional.of("Entity1")).when(this.mockRepository).findById(eq(1));
+
+			assertThat(cacheLoader.withBatchWindow(Duration.ZERO).load(mockLoaderHelper(1))).isEqualTo("Entity1");
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withMaxBatchSizeLessThanOneThrowsIllegalArgumentException() {
+
+		try {
+			newCacheLoader().withMaxBatchSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Max batch size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.wan.EventSequenceID;
+
+import org.springframework.geode.cache.DeadLetterAsyncEventErrorHandler.DeadLetter;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventError;
+
+/**
+ * Unit Tests for {@link DeadLetterAsyncEventErrorHandler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.geode.cache.DeadLetterAsyncEventErrorHandler
+ * @since 1.4.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class DeadLetterAsyncEventErrorHandlerUnitTests {
+
+	private AsyncEventError newAsyncEventError() {
+		return newAsyncEventError(null);
+	}
+
+	private AsyncEventError newAsyncEventError(EventSequenceID eventSequenceId) {
+
+		AsyncEvent mockEvent = mock(AsyncEvent.class);
+
+		Region mockRegion = mock(Region.class);
+
+		doReturn("/Customers").when(mockRegion).getFullPath();
+		doReturn(mockRegion).when(mockEvent).getRegion();
+		doReturn(1).when(mockEvent).getKey();
+		doReturn(Operation.UPDATE).when(mockEvent).getOperation();
+		doReturn("Jon Doe").when(mockEvent).getDeserializedValue();
+		doReturn(eventSequenceId).when(mockEvent).getEventSequenceID();
+
+		return new AsyncEventError(mockEvent, new IllegalStateException("TEST"));
+	}
+
+	@Test
+	public void recordsDeadLetterAndReturnsTrue() {
+
+		List<DeadLetter> deadLetters = new ArrayList<>();
+
+		DeadLetterAsyncEventErrorHandler errorHandler = new DeadLetterAsyncEventErrorHandler(deadLetters::add);
+
+		assertThat(errorHandler.apply(newAsyncEventError())).isTrue();
+		assertThat(errorHandler.getDeadLetterCount()).isEqualTo(1L);
+		assertThat(deadLetters).hasSize(1);
+
+		DeadLetter deadLetter = deadLetters.get(0);
+
+		assertThat(deadLetter.getRegionPath()).isEqualTo("/Customers");
+		assertThat(deadLetter.getKey()).isEqualTo(1);
+		assertThat(deadLetter.getOperation()).isEqualTo(Operation.UPDATE.toString());
+		assertThat(deadLetter.getValue()).isEqualTo("Jon Doe");
+		assertThat(deadLetter.getErrorType()).isEqualTo(IllegalStateException.class.getName());
+		assertThat(deadLetter.getErrorMessage()).isEqualTo("TEST");
+		assertThat(deadLetter.getTimestamp()).isPositive();
+		assertThat(deadLetter.getId()).isEqualTo("1:" + deadLetter.getTimestamp());
+	}
+
+	@Test
+	public void deadLetterIdIsResolvedFromEventSequenceId() {
+
+		EventSequenceID eventSequenceId = new EventSequenceID(new byte[] { 0x01 }, 2L, 3L);
+
+		DeadLetter deadLetter = DeadLetter.from(newAsyncEventError(eventSequenceId));
+
+		assertThat(deadLetter.getId())
+			.isEqualTo(String.format("1:%s:2:3", eventSequenceId.getMembershipID()));
+	}
+
+	@Test
+	public void deadLetterFromAsyncEventErrorWithNoCause() {
+
+		AsyncEventError eventError = newAsyncEventError();
+
+		AsyncEventError mockEventError = mock(AsyncEventError.class);
+
+		doReturn(eventError.getEvent()).when(mockEventError).getEvent();
+
+		DeadLetter deadLetter = DeadLetter.from(mockEventError);
+
+		assertThat(deadLetter.getKey()).isEqualTo(1);
+		assertThat(deadLetter.getErrorType()).isNull();
+		assertThat(deadLetter.getErrorMessage()).isNull();
+	}
+
+	@Test
+	public void toRegionPutsDeadLetterIntoRegionById() {
+
+		Region<Object, DeadLetter> mockDeadLetterRegion = mock(Region.class);
+
+		DeadLetterAsyncEventErrorHandler errorHandler = DeadLetterAsyncEventErrorHandler.toRegion(mockDeadLetterRegion);
+
+		assertThat(errorHandler.apply(newAsyncEventError(new EventSequenceID(new byte[] { 0x01 }, 1L, 1L)))).isTrue();
+		assertThat(errorHandler.apply(newAsyncEventError(new EventSequenceID(new byte[] { 0x01 }, 1L, 2L)))).isTrue();
+
+		ArgumentCaptor<Object> deadLetterIds = ArgumentCaptor.forClass(Object.class);
+
+		verify(mockDeadLetterRegion, times(2)).put(deadLetterIds.capture(), isA(DeadLetter.class));
+
+		assertThat(deadLetterIds.getAllValues()).doesNotHaveDuplicates();
+		assertThat(deadLetterIds.getAllValues()).allMatch(id -> String.valueOf(id).startsWith("1:"));
+	}
+
+	@Test
+	public void failureToRecordDeadLetterReturnsFalse() {
+
+		Region<Object, DeadLetter> mockDeadLetterRegion = mock(Region.class);
+
+		doThrow(new IllegalStateException("Region destroyed")).when(mockDeadLetterRegion).put(any(), any());
+
+		DeadLetterAsyncEventErrorHandler errorHandler = DeadLetterAsyncEventErrorHandler.toRegion(mockDeadLetterRegion);
+
+		assertThat(errorHandler.apply(newAsyncEventError())).isFalse();
+		assertThat(errorHandler.getDeadLetterCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void toNullRegionThrowsIllegalArgumentException() {
+
+		try {
+			DeadLetterAsyncEventErrorHandler.toRegion(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Dead-letter Region must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
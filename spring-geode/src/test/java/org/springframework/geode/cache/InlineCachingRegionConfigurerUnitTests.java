@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -35,8 +37,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
 
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
@@ -52,6 +56,7 @@ import org.springframework.data.repository.CrudRepository;
  * @see java.util.function.Predicate
  * @see org.apache.geode.cache.CacheLoader
  * @see org.apache.geode.cache.CacheWriter
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
  * @see org.springframework.data.gemfire.PeerRegionFactoryBean
  * @see org.springframework.data.gemfire.client.ClientRegionFactoryBean
  * @see org.springframework.data.repository.CrudRepository
@@ -214,4 +219,90 @@ public class InlineCachingRegionConfigurerUnitTests {
 		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
 		verify(this.mockPredicate, times(2)).test(eq("Example"));
 	}
+
+	@Test
+	public void writeBehindIsDisabledByDefault() {
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate);
+
+		assertThat(regionConfigurer.isWriteBehindEnabled()).isFalse();
+		assertThat(regionConfigurer.withWriteBehind()).isSameAs(regionConfigurer);
+		assertThat(regionConfigurer.isWriteBehindEnabled()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configurePeerRegionFactoryBeanWithWriteBehindAttachesAsyncEventQueueInsteadOfCacheWriter() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		Cache mockCache = mock(Cache.class);
+
+		PeerRegionFactoryBean<?, ?> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doReturn(mockCache).when(peerRegionFactoryBean).getCache();
+		doReturn(mockAsyncEventQueue).when(mockCache).getAsyncEventQueue(eq("Example-RepositoryAsyncEventQueue"));
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withWriteBehind(asyncEventQueueRegionConfigurer -> asyncEventQueueRegionConfigurer.setBatchSize(500));
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		verify(peerRegionFactoryBean, times(1)).setCacheLoader(isA(RepositoryCacheLoader.class));
+		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
+		verify(peerRegionFactoryBean, times(1))
+			.addAsyncEventQueues(eq(new AsyncEventQueue[] { mockAsyncEventQueue }));
+		verify(this.mockPredicate, times(2)).test(eq("Example"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configureClientRegionFactoryBeanWithWriteBehindWritesThrough() {
+
+		ClientRegionFactoryBean<?, ?> clientRegionFactoryBean = mock(ClientRegionFactoryBean.class);
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate).withWriteBehind();
+
+		regionConfigurer.configure("Example", clientRegionFactoryBean);
+
+		verify(clientRegionFactoryBean, times(1)).setCacheLoader(isA(RepositoryCacheLoader.class));
+		verify(clientRegionFactoryBean, times(1)).setCacheWriter(isA(RepositoryCacheWriter.class));
+		verify(this.mockPredicate, times(2)).test(eq("Example"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configureRegionFactoryBeanWithNegativeCachingAndRefreshAhead() {
+
+		PeerRegionFactoryBean<?, ?> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doAnswer(answer -> {
+
+			RepositoryCacheLoader<?, ?> cacheLoader = answer.getArgument(0);
+
+			assertThat(cacheLoader.getNegativeResultTimeToLive()).isEqualTo(Duration.ofSeconds(10L));
+			assertThat(cacheLoader.getRefreshAheadFactor()).isEqualTo(0.8f);
+
+			return null;
+
+		}).when(peerRegionFactoryBean).setCacheLoader(any(CacheLoader.class));
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withNegativeCaching(Duration.ofSeconds(10L))
+				.withRefreshAhead(0.8f);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		verify(peerRegionFactoryBean, times(1)).setCacheLoader(isA(RepositoryCacheLoader.class));
+		verify(peerRegionFactoryBean, times(1)).setCacheWriter(isA(RepositoryCacheWriter.class));
+	}
 }
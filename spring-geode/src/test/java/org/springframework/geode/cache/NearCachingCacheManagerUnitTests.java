@@ -0,0 +1,451 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.SubscriptionNotEnabledException;
+import org.apache.geode.management.membership.ClientMembership;
+import org.apache.geode.management.membership.ClientMembershipEvent;
+import org.apache.geode.management.membership.ClientMembershipListener;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Unit Tests for {@link NearCachingCacheManager}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.cache.Cache
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.geode.cache.NearCachingCacheManager
+ * @since 1.4.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class NearCachingCacheManagerUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private CacheManager mockCacheManager;
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	private Region<Object, Object> mockClientRegion(Region<Object, Object> mockRegion) {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+
+		return mockRegion;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructNearCachingCacheManagerWithNullCacheManager() {
+
+		try {
+			new NearCachingCacheManager(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("CacheManager is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void withMaximumSizeIsCorrect() {
+
+		NearCachingCacheManager cacheManager = new NearCachingCacheManager(this.mockCacheManager);
+
+		assertThat(cacheManager.getMaximumSize()).isEqualTo(NearCachingCacheManager.DEFAULT_MAXIMUM_SIZE);
+		assertThat(cacheManager.withMaximumSize(50)).isSameAs(cacheManager);
+		assertThat(cacheManager.getMaximumSize()).isEqualTo(50);
+		assertThat(cacheManager.withMaximumSize(-1).getMaximumSize())
+			.isEqualTo(NearCachingCacheManager.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	@Test
+	public void withTimeToLiveIsCorrect() {
+
+		NearCachingCacheManager cacheManager = new NearCachingCacheManager(this.mockCacheManager);
+
+		assertThat(cacheManager.getTimeToLive()).isEqualTo(NearCachingCacheManager.DEFAULT_TIME_TO_LIVE);
+		assertThat(cacheManager.withTimeToLive(Duration.ofSeconds(30L))).isSameAs(cacheManager);
+		assertThat(cacheManager.getTimeToLive()).isEqualTo(Duration.ofSeconds(30L));
+		assertThat(cacheManager.withTimeToLive(Duration.ofSeconds(-1L)).getTimeToLive())
+			.isEqualTo(NearCachingCacheManager.DEFAULT_TIME_TO_LIVE);
+		assertThat(cacheManager.withTimeToLive(null).getTimeToLive())
+			.isEqualTo(NearCachingCacheManager.DEFAULT_TIME_TO_LIVE);
+	}
+
+	@Test
+	public void getCacheNamesDelegatesToCacheManager() {
+
+		when(this.mockCacheManager.getCacheNames()).thenReturn(Arrays.asList("CacheOne", "CacheTwo"));
+
+		assertThat(new NearCachingCacheManager(this.mockCacheManager).getCacheNames())
+			.containsExactly("CacheOne", "CacheTwo");
+	}
+
+	@Test
+	public void getCacheReturnsNullForNonExistingCache() {
+		assertThat(new NearCachingCacheManager(this.mockCacheManager).getCache("NonExistingCache")).isNull();
+	}
+
+	@Test
+	public void getCacheDecoratesClientRegionCache() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		mockClientRegion(this.mockRegion);
+
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(this.mockCache.getNativeCache()).thenReturn(this.mockRegion);
+		when(this.mockCacheManager.getCache(eq("Example"))).thenReturn(this.mockCache);
+
+		AtomicReference<ClientMembershipListener> clientMembershipListenerReference = new AtomicReference<>();
+
+		NearCachingCacheManager cacheManager = new NearCachingCacheManager(this.mockCacheManager) {
+
+			@Override
+			protected void registerClientMembershipListener(ClientMembershipListener listener) {
+				assertThat(clientMembershipListenerReference.getAndSet(listener)).isNull();
+			}
+		};
+
+		Cache cache = cacheManager.getCache("Example");
+
+		assertThat(cache).isInstanceOf(NearCachingCacheManager.NearCache.class);
+		assertThat(cacheManager.getCache("Example")).isSameAs(cache);
+		assertThat(cache.getNativeCache()).isSameAs(this.mockRegion);
+		assertThat(clientMembershipListenerReference.get()).isNotNull();
+
+		verify(this.mockRegion, times(1))
+			.registerInterestForAllKeys(eq(InterestResultPolicy.NONE), eq(false), eq(false));
+		verify(mockAttributesMutator, times(1)).addCacheListener(any(CacheListener.class));
+	}
+
+	@Test
+	public void destroyUnregistersClientMembershipListeners() {
+
+		NearCachingCacheManager cacheManager = new NearCachingCacheManager(this.mockCacheManager);
+
+		ClientMembershipListener listener =
+			new NearCachingCacheManager.NearCache(this.mockCache, 10).newClientMembershipListener();
+
+		try {
+			cacheManager.registerClientMembershipListener(listener);
+
+			assertThat(ClientMembership.getClientMembershipListeners()).contains(listener);
+
+			cacheManager.destroy();
+
+			assertThat(ClientMembership.getClientMembershipListeners()).doesNotContain(listener);
+		}
+		finally {
+			ClientMembership.unregisterClientMembershipListener(listener);
+		}
+	}
+
+	@Test
+	public void getCacheDoesNotDecorateCacheWhenSubscriptionIsNotEnabled() {
+
+		mockClientRegion(this.mockRegion);
+
+		doThrow(new SubscriptionNotEnabledException()).when(this.mockRegion)
+			.registerInterestForAllKeys(any(InterestResultPolicy.class), eq(false), eq(false));
+
+		when(this.mockRegion.getFullPath()).thenReturn("/Example");
+		when(this.mockCache.getNativeCache()).thenReturn(this.mockRegion);
+		when(this.mockCacheManager.getCache(eq("Example"))).thenReturn(this.mockCache);
+
+		assertThat(new NearCachingCacheManager(this.mockCacheManager).getCache("Example")).isSameAs(this.mockCache);
+
+		verify(this.mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test
+	public void getCacheDoesNotDecorateNonClientRegionCache() {
+
+		when(this.mockCache.getNativeCache()).thenReturn(this.mockRegion);
+		when(this.mockCacheManager.getCache(eq("Example"))).thenReturn(this.mockCache);
+
+		assertThat(new NearCachingCacheManager(this.mockCacheManager).getCache("Example")).isSameAs(this.mockCache);
+
+		verify(this.mockRegion, never()).registerInterestForAllKeys(any(InterestResultPolicy.class), eq(false), eq(false));
+	}
+
+	@Test
+	public void nearCacheGetReadsThroughOnceAndThenHitsLocally() {
+
+		when(this.mockCache.get(eq("key"))).thenReturn(new SimpleValueWrapper("value"));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		assertThat(nearCache.get("key").get()).isEqualTo("value");
+		assertThat(nearCache.get("key", String.class)).isEqualTo("value");
+		assertThat(nearCache.get("key", () -> "loaded")).isEqualTo("value");
+		assertThat(nearCache.getHitCount()).isEqualTo(2L);
+		assertThat(nearCache.getMissCount()).isEqualTo(1L);
+		assertThat(nearCache.size()).isOne();
+
+		verify(this.mockCache, times(1)).get(eq("key"));
+	}
+
+	@Test
+	public void nearCacheDoesNotHoldMisses() {
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		assertThat(nearCache.get("key")).isNull();
+		assertThat(nearCache.get("key")).isNull();
+		assertThat(nearCache.size()).isZero();
+
+		verify(this.mockCache, times(2)).get(eq("key"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nearCacheGetWithWrongTypeThrowsException() {
+
+		when(this.mockCache.get(eq("key"))).thenReturn(new SimpleValueWrapper("value"));
+
+		new NearCachingCacheManager.NearCache(this.mockCache, 10).get("key", Integer.class);
+	}
+
+	@Test
+	public void nearCacheEvictsLeastRecentlyUsedEntry() {
+
+		when(this.mockCache.get(any())).thenAnswer(invocation -> new SimpleValueWrapper(invocation.getArgument(0)));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 2);
+
+		nearCache.get("one");
+		nearCache.get("two");
+		nearCache.get("one");
+		nearCache.get("three");
+		nearCache.get("one");
+		nearCache.get("two");
+
+		assertThat(nearCache.size()).isEqualTo(2);
+
+		verify(this.mockCache, times(1)).get(eq("one"));
+		verify(this.mockCache, times(2)).get(eq("two"));
+		verify(this.mockCache, times(1)).get(eq("three"));
+	}
+
+	@Test
+	public void nearCacheWritesEvictLocalEntry() {
+
+		when(this.mockCache.get(eq("key"))).thenReturn(new SimpleValueWrapper("value"));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		nearCache.get("key");
+		nearCache.put("key", "newValue");
+
+		assertThat(nearCache.size()).isZero();
+
+		nearCache.get("key");
+		nearCache.putIfAbsent("key", "newValue");
+
+		assertThat(nearCache.size()).isZero();
+
+		nearCache.get("key");
+		nearCache.evict("key");
+
+		assertThat(nearCache.size()).isZero();
+
+		nearCache.get("key");
+		nearCache.clear();
+
+		assertThat(nearCache.size()).isZero();
+
+		verify(this.mockCache, times(1)).put(eq("key"), eq("newValue"));
+		verify(this.mockCache, times(1)).putIfAbsent(eq("key"), eq("newValue"));
+		verify(this.mockCache, times(1)).evict(eq("key"));
+		verify(this.mockCache, times(1)).clear();
+	}
+
+	@Test
+	public void nearCacheDoesNotHoldValueWhenEvictedDuringRead() {
+
+		AtomicReference<NearCachingCacheManager.NearCache> nearCacheReference = new AtomicReference<>();
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("key");
+
+		doAnswer(invocation -> {
+			nearCacheReference.get().newCacheListener().afterUpdate(mockEntryEvent);
+			return new SimpleValueWrapper("staleValue");
+		}).when(this.mockCache).get(eq("key"));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		nearCacheReference.set(nearCache);
+
+		assertThat(nearCache.get("key").get()).isEqualTo("staleValue");
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void nearCacheHoldsValueWhenOtherEntryIsEvictedDuringRead() {
+
+		AtomicReference<NearCachingCacheManager.NearCache> nearCacheReference = new AtomicReference<>();
+
+		doAnswer(invocation -> {
+			nearCacheReference.get().evict("otherKey");
+			return new SimpleValueWrapper("value");
+		}).when(this.mockCache).get(eq("key"));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		nearCacheReference.set(nearCache);
+
+		assertThat(nearCache.get("key").get()).isEqualTo("value");
+		assertThat(nearCache.get("key").get()).isEqualTo("value");
+		assertThat(nearCache.size()).isOne();
+
+		verify(this.mockCache, times(1)).get(eq("key"));
+		verify(this.mockCache, times(1)).evict(eq("otherKey"));
+	}
+
+	@Test
+	public void nearCacheEntriesExpireAfterTimeToLive() throws InterruptedException {
+
+		when(this.mockCache.get(eq("key"))).thenReturn(new SimpleValueWrapper("value"));
+
+		NearCachingCacheManager.NearCache nearCache =
+			new NearCachingCacheManager.NearCache(this.mockCache, 10, Duration.ofMillis(1L));
+
+		assertThat(nearCache.get("key").get()).isEqualTo("value");
+
+		Thread.sleep(10L);
+
+		assertThat(nearCache.get("key").get()).isEqualTo("value");
+		assertThat(nearCache.getHitCount()).isZero();
+		assertThat(nearCache.getMissCount()).isEqualTo(2L);
+
+		verify(this.mockCache, times(2)).get(eq("key"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructNearCacheWithNegativeTimeToLive() {
+
+		try {
+			new NearCachingCacheManager.NearCache(this.mockCache, 10, Duration.ofSeconds(-1L));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Time-to-live [PT-1S] must not be negative");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void clientMembershipListenerClearsLocalEntriesWhenServerLeavesOrCrashes() {
+
+		ClientMembershipEvent mockClientEvent = mock(ClientMembershipEvent.class);
+		ClientMembershipEvent mockServerEvent = mock(ClientMembershipEvent.class);
+
+		when(mockClientEvent.isClient()).thenReturn(true);
+		when(mockServerEvent.isClient()).thenReturn(false);
+		when(this.mockCache.get(any())).thenAnswer(invocation -> new SimpleValueWrapper(invocation.getArgument(0)));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		ClientMembershipListener listener = nearCache.newClientMembershipListener();
+
+		nearCache.get("one");
+		nearCache.get("two");
+		listener.memberLeft(mockClientEvent);
+
+		assertThat(nearCache.size()).isEqualTo(2);
+
+		listener.memberLeft(mockServerEvent);
+
+		assertThat(nearCache.size()).isZero();
+
+		nearCache.get("one");
+		listener.memberCrashed(mockServerEvent);
+
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void cacheListenerEvictsLocalEntriesOnRegionEvents() {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("one");
+		when(this.mockCache.get(any())).thenAnswer(invocation -> new SimpleValueWrapper(invocation.getArgument(0)));
+
+		NearCachingCacheManager.NearCache nearCache = new NearCachingCacheManager.NearCache(this.mockCache, 10);
+
+		CacheListener<Object, Object> cacheListener = nearCache.newCacheListener();
+
+		nearCache.get("one");
+		nearCache.get("two");
+
+		assertThat(nearCache.size()).isEqualTo(2);
+
+		cacheListener.afterInvalidate(mockEntryEvent);
+
+		assertThat(nearCache.size()).isOne();
+
+		cacheListener.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(nearCache.size()).isZero();
+	}
+}
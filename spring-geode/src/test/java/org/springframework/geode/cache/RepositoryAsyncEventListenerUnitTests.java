@@ -31,9 +31,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -43,6 +49,7 @@ import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.asyncqueue.AsyncEvent;
 
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.DeadLetterAsyncEventErrorHandler.DeadLetter;
 import org.springframework.geode.cache.RepositoryAsyncEventListener.AbstractAsyncEventOperationRepositoryFunction;
 import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventError;
 import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler;
@@ -755,6 +762,355 @@ public class RepositoryAsyncEventListenerUnitTests {
 		verifyNoMoreInteractions(mockRepository);
 	}
 
+	private AsyncEvent mockEvent(String name, Object key, Operation operation, Object entity) {
+
+		AsyncEvent mockEvent = mock(AsyncEvent.class, name);
+
+		doReturn(key).when(mockEvent).getKey();
+		doReturn(operation).when(mockEvent).getOperation();
+		doReturn(entity).when(mockEvent).getDeserializedValue();
+
+		return mockEvent;
+	}
+
+	@Test
+	public void batchingIsDisabledByDefault() {
+
+		RepositoryAsyncEventListener<?, ?> listener = new RepositoryAsyncEventListener<>(mock(CrudRepository.class));
+
+		assertThat(listener.isBatchingEnabled()).isFalse();
+
+		listener.setBatchingEnabled(true);
+
+		assertThat(listener.isBatchingEnabled()).isTrue();
+	}
+
+	@Test
+	public void processEventsInBatchCoalescesEventsAndWritesInBulk() {
+
+		List<AsyncEvent> events = Arrays.asList(
+			mockEvent("CreateOne", 1, Operation.CREATE, "EntityOne"),
+			mockEvent("UpdateOne", 1, Operation.UPDATE, "EntityOneUpdated"),
+			mockEvent("CreateTwo", 2, Operation.CREATE, "EntityTwo"),
+			mockEvent("RemoveTwo", 2, Operation.REMOVE, "EntityTwo"),
+			mockEvent("UpdateThree", 3, Operation.UPDATE, "EntityThree"),
+			mockEvent("RemoveFour", 4, Operation.REMOVE, "EntityFour")
+		);
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setBatchingEnabled(true);
+
+		assertThat(listener.processEvents(events)).isTrue();
+
+		verify(mockRepository, times(1)).saveAll(eq(Arrays.asList("EntityOneUpdated", "EntityThree")));
+		verify(mockRepository, times(1)).deleteAll(eq(Arrays.asList("EntityTwo", "EntityFour")));
+		verifyNoMoreInteractions(mockRepository);
+
+		assertThat(listener.getBatchMetrics().getBatchCount()).isEqualTo(1L);
+		assertThat(listener.getBatchMetrics().getEventCount()).isEqualTo(6L);
+		assertThat(listener.getBatchMetrics().getCoalescedEventCount()).isEqualTo(2L);
+		assertThat(listener.getBatchMetrics().getSavedEntityCount()).isEqualTo(2L);
+		assertThat(listener.getBatchMetrics().getDeletedEntityCount()).isEqualTo(2L);
+		assertThat(listener.getBatchMetrics().getFailedBatchCount()).isZero();
+	}
+
+	@Test
+	public void processEventsInBatchDeletesEntityLoadedThenRemovedInBatch() {
+
+		List<AsyncEvent> events = Arrays.asList(
+			mockEvent("LoadOne", 1, Operation.LOCAL_LOAD_CREATE, "EntityOne"),
+			mockEvent("RemoveOne", 1, Operation.REMOVE, "EntityOne")
+		);
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setBatchingEnabled(true);
+
+		assertThat(listener.processEvents(events)).isTrue();
+
+		verify(mockRepository, times(1)).deleteAll(eq(Collections.singletonList("EntityOne")));
+		verifyNoMoreInteractions(mockRepository);
+	}
+
+	@Test
+	public void processEventsInBatchWritesPendingBatchBeforeProcessingNonBatchableEvent() {
+
+		AsyncEvent createOne = mockEvent("CreateOne", 1, Operation.CREATE, "EntityOne");
+		AsyncEvent invalidateOne = mockEvent("InvalidateOne", 1, Operation.INVALIDATE, null);
+		AsyncEvent createTwo = mockEvent("CreateTwo", 2, Operation.CREATE, "EntityTwo");
+
+		AsyncEventOperationRepositoryFunction mockRepositoryFunction =
+			mock(AsyncEventOperationRepositoryFunction.class);
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		doReturn(true).when(mockRepositoryFunction).canProcess(eq(invalidateOne));
+		doAnswer(invocation -> {
+			mockRepository.deleteById(1);
+			return true;
+		}).when(mockRepositoryFunction).apply(eq(invalidateOne));
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setBatchingEnabled(true);
+		listener.register(mockRepositoryFunction);
+
+		assertThat(listener.processEvents(Arrays.asList(createOne, invalidateOne, createTwo))).isTrue();
+
+		InOrder order = inOrder(mockRepository, mockRepositoryFunction);
+
+		order.verify(mockRepository, times(1)).saveAll(eq(Collections.singletonList("EntityOne")));
+		order.verify(mockRepositoryFunction, times(1)).apply(eq(invalidateOne));
+		order.verify(mockRepository, times(1)).deleteById(eq(1));
+		order.verify(mockRepository, times(1)).saveAll(eq(Collections.singletonList("EntityTwo")));
+
+		assertThat(listener.getBatchMetrics().getBatchCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void processEventsInBatchDoesNotBypassRegisteredRepositoryFunction() {
+
+		AsyncEvent createOne = mockEvent("CreateOne", 1, Operation.CREATE, "EntityOne");
+		AsyncEvent updateTwo = mockEvent("UpdateTwo", 2, Operation.UPDATE, "EntityTwo");
+		AsyncEvent createThree = mockEvent("CreateThree", 3, Operation.CREATE, "EntityThree");
+
+		AsyncEventOperationRepositoryFunction mockRepositoryFunction =
+			mock(AsyncEventOperationRepositoryFunction.class);
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		doReturn(true).when(mockRepositoryFunction).canProcess(eq(updateTwo));
+		doReturn(true).when(mockRepositoryFunction).apply(eq(updateTwo));
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setBatchingEnabled(true);
+		listener.register(mockRepositoryFunction);
+
+		assertThat(listener.isBatchable(createOne)).isTrue();
+		assertThat(listener.isBatchable(updateTwo)).isFalse();
+		assertThat(listener.processEvents(Arrays.asList(createOne, updateTwo, createThree))).isTrue();
+
+		InOrder order = inOrder(mockRepository, mockRepositoryFunction);
+
+		order.verify(mockRepository, times(1)).saveAll(eq(Collections.singletonList("EntityOne")));
+		order.verify(mockRepositoryFunction, times(1)).apply(eq(updateTwo));
+		order.verify(mockRepository, times(1)).saveAll(eq(Collections.singletonList("EntityThree")));
+
+		verify(mockRepository, never()).save(any());
+		verifyNoMoreInteractions(mockRepository);
+	}
+
+	@Test
+	public void processEventsInBatchDoesNotBatchEventsForOverriddenDefaultRepositoryFunction() {
+
+		AsyncEvent createOne = mockEvent("CreateOne", 1, Operation.CREATE, "EntityOne");
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setBatchingEnabled(true);
+		listener.register(listener.new CreateUpdateAsyncEventRepositoryFunction() {
+
+			@Override
+			protected Object doRepositoryOp(Object entity) {
+				return mockRepository.save("Overridden" + entity);
+			}
+		});
+
+		assertThat(listener.processEvents(Collections.singletonList(createOne))).isTrue();
+
+		verify(mockRepository, times(1)).save(eq("OverriddenEntityOne"));
+		verifyNoMoreInteractions(mockRepository);
+	}
+
+	@Test
+	public void processEventsInBatchProcessesEachEventIndividuallyWhenBulkWriteFails() {
+
+		AsyncEvent createOne = mockEvent("CreateOne", 1, Operation.CREATE, "EntityOne");
+		AsyncEvent createTwo = mockEvent("CreateTwo", 2, Operation.CREATE, "EntityTwo");
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		doAnswer(invocation -> {
+			throw new IllegalStateException("TEST");
+		}).when(mockRepository).save(eq("EntityTwo"));
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setBatchingEnabled(true);
+		listener.setBatchWriter((repository, entitiesToSave, entitiesToDelete) -> {
+			throw new IllegalStateException("BULK");
+		});
+
+		assertThat(listener.processEvents(Arrays.asList(createOne, createTwo))).isFalse();
+
+		verify(mockRepository, times(1)).save(eq("EntityOne"));
+		verify(mockRepository, times(1)).save(eq("EntityTwo"));
+		verifyNoMoreInteractions(mockRepository);
+
+		assertThat(listener.getBatchMetrics().getBatchCount()).isEqualTo(1L);
+		assertThat(listener.getBatchMetrics().getFailedBatchCount()).isEqualTo(1L);
+		assertThat(listener.getBatchMetrics().getSavedEntityCount()).isZero();
+	}
+
+	@Test
+	public void setAndGetParallelism() {
+
+		RepositoryAsyncEventListener<?, ?> listener = new RepositoryAsyncEventListener<>(mock(CrudRepository.class));
+
+		assertThat(listener.getParallelism()).isEqualTo(1);
+
+		listener.setParallelism(4);
+
+		assertThat(listener.getParallelism()).isEqualTo(4);
+
+		listener.setParallelism(-2);
+
+		assertThat(listener.getParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	public void partitionPreservesOrderOfEventsForTheSameKey() {
+
+		List<AsyncEvent> events = new ArrayList<>();
+
+		for (int index = 0; index < 20; index++) {
+			events.add(mockEvent("Event" + index, index % 5, Operation.UPDATE, "Entity" + index));
+		}
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mock(CrudRepository.class));
+
+		List<List<AsyncEvent>> partitions = listener.partition(events, 3);
+
+		assertThat(partitions).hasSize(3);
+		assertThat(partitions.stream().mapToInt(List::size).sum()).isEqualTo(events.size());
+
+		for (List<AsyncEvent> partition : partitions) {
+
+			assertThat(partition).isSortedAccordingTo(Comparator.comparingInt(events::indexOf));
+
+			partition.forEach(event -> assertThat(partitions.stream()
+				.filter(it -> it.stream().anyMatch(other -> other.getKey().equals(event.getKey())))
+				.count()).isEqualTo(1L));
+		}
+	}
+
+	@Test
+	public void processEventsInParallelPreservesOrderPerKey() {
+
+		List<AsyncEvent> events = new ArrayList<>();
+
+		for (int index = 0; index < 100; index++) {
+			events.add(mockEvent("Event" + index, index % 10, Operation.UPDATE, index));
+		}
+
+		Map<Object, List<Object>> savedEntitiesByKey = new ConcurrentHashMap<>();
+
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		doAnswer(invocation -> {
+
+			Integer entity = invocation.getArgument(0);
+
+			threadNames.add(Thread.currentThread().getName());
+			savedEntitiesByKey.computeIfAbsent(entity % 10, key -> Collections.synchronizedList(new ArrayList<>()))
+				.add(entity);
+
+			return entity;
+
+		}).when(mockRepository).save(any());
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setParallelism(4);
+
+		try {
+			assertThat(listener.processEvents(events)).isTrue();
+		}
+		finally {
+			listener.close();
+		}
+
+		assertThat(savedEntitiesByKey).hasSize(10);
+		assertThat(threadNames).allMatch(name -> name.startsWith("repository-async-event-dispatcher-thread-"));
+
+		savedEntitiesByKey.values().forEach(entities -> assertThat(entities).hasSize(10).isSorted());
+
+		verify(mockRepository, times(100)).save(any());
+	}
+
+	@Test
+	public void processEventsInParallelIsUnsuccessfulWhenAnyPartitionFails() {
+
+		List<AsyncEvent> events = new ArrayList<>();
+
+		for (int index = 0; index < 10; index++) {
+			events.add(mockEvent("Event" + index, index, Operation.CREATE, index));
+		}
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		doAnswer(invocation -> {
+			throw new IllegalStateException("TEST");
+		}).when(mockRepository).save(eq(7));
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setParallelism(3);
+
+		try {
+			assertThat(listener.processEvents(events)).isFalse();
+		}
+		finally {
+			listener.close();
+		}
+
+		verify(mockRepository, times(10)).save(any());
+	}
+
+	@Test
+	public void processEventsRetriesFailedRepositoryOperationAndRecordsDeadLetter() {
+
+		AsyncEvent createOne = mockEvent("CreateOne", 1, Operation.CREATE, "EntityOne");
+		AsyncEvent createTwo = mockEvent("CreateTwo", 2, Operation.CREATE, "EntityTwo");
+
+		CrudRepository mockRepository = mock(CrudRepository.class);
+
+		doAnswer(invocation -> {
+			throw new IllegalStateException("TEST");
+		}).when(mockRepository).save(eq("EntityTwo"));
+
+		List<DeadLetter> deadLetters = new ArrayList<>();
+
+		RetryingAsyncEventErrorHandler errorHandler =
+			new RetryingAsyncEventErrorHandler(new DeadLetterAsyncEventErrorHandler(deadLetters::add))
+				.withInitialBackoff(Duration.ZERO)
+				.withMaxAttempts(2);
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener<>(mockRepository);
+
+		listener.setAsyncEventErrorHandler(errorHandler);
+
+		assertThat(listener.processEvents(Arrays.asList(createOne, createTwo))).isTrue();
+		assertThat(errorHandler.getRetryCount()).isEqualTo(2L);
+		assertThat(errorHandler.getExhaustedCount()).isEqualTo(1L);
+		assertThat(deadLetters).hasSize(1);
+		assertThat(deadLetters.get(0).getKey()).isEqualTo(2);
+		assertThat(deadLetters.get(0).getValue()).isEqualTo("EntityTwo");
+
+		verify(mockRepository, times(1)).save(eq("EntityOne"));
+		verify(mockRepository, times(3)).save(eq("EntityTwo"));
+	}
+
 	private static class TestRepositoryAsyncEventListener<T, ID> extends RepositoryAsyncEventListener<T, ID> {
 
 		private TestRepositoryAsyncEventListener(CrudRepository<T, ID> repository) {
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.wan.GatewayQueueEvent;
+
+import org.springframework.data.gemfire.PeerRegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit Tests for {@link RepositoryAsyncEventQueueRegionConfigurer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory
+ * @see org.springframework.data.gemfire.PeerRegionFactoryBean
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryAsyncEventQueueRegionConfigurer
+ * @since 1.4.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RepositoryAsyncEventQueueRegionConfigurerUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	@Mock
+	private CrudRepository<Object, Object> mockRepository;
+
+	@Mock
+	private Predicate<String> mockPredicate;
+
+	private AsyncEventQueueFactory mockAsyncEventQueueFactory(AtomicReference<AsyncEventListener> listener,
+			AsyncEventQueue asyncEventQueue) {
+
+		AsyncEventQueueFactory mockAsyncEventQueueFactory = mock(AsyncEventQueueFactory.class);
+
+		doReturn(mockAsyncEventQueueFactory).when(mockAsyncEventQueueFactory).setBatchSize(anyInt());
+		doReturn(mockAsyncEventQueueFactory).when(mockAsyncEventQueueFactory).setBatchTimeInterval(anyInt());
+		doReturn(mockAsyncEventQueueFactory).when(mockAsyncEventQueueFactory).setDispatcherThreads(anyInt());
+		doReturn(mockAsyncEventQueueFactory).when(mockAsyncEventQueueFactory).setParallel(any(Boolean.class));
+		doReturn(mockAsyncEventQueueFactory).when(mockAsyncEventQueueFactory).setPersistent(any(Boolean.class));
+
+		doAnswer(invocation -> {
+			listener.set(invocation.getArgument(1));
+			return asyncEventQueue;
+		}).when(mockAsyncEventQueueFactory).create(anyString(), any(AsyncEventListener.class));
+
+		doReturn(mockAsyncEventQueueFactory).when(this.mockCache).createAsyncEventQueueFactory();
+
+		return mockAsyncEventQueueFactory;
+	}
+
+	@Test
+	public void constructRepositoryAsyncEventQueueRegionConfigurerWithDefaults() {
+
+		RepositoryAsyncEventQueueRegionConfigurer<?, ?> regionConfigurer =
+			RepositoryAsyncEventQueueRegionConfigurer.create(this.mockRepository, this.mockPredicate);
+
+		assertThat(regionConfigurer.getRepository()).isEqualTo(this.mockRepository);
+		assertThat(regionConfigurer.getRegionBeanName()).isEqualTo(this.mockPredicate);
+		assertThat(regionConfigurer.getBatchSize()).isEqualTo(100);
+		assertThat(regionConfigurer.getBatchTimeInterval()).isEqualTo(1000);
+		assertThat(regionConfigurer.getDispatcherThreads()).isEqualTo(5);
+		assertThat(regionConfigurer.getDiskStoreName()).isNull();
+		assertThat(regionConfigurer.isBatchingEnabled()).isFalse();
+		assertThat(regionConfigurer.isParallel()).isFalse();
+		assertThat(regionConfigurer.isPersistent()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructRepositoryAsyncEventQueueRegionConfigurerWithNullCrudRepositoryThrowsException() {
+
+		try {
+			new RepositoryAsyncEventQueueRegionConfigurer<>(null, this.mockPredicate);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("CrudRepository is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void setInvalidQueueSettingsUsesDefaults() {
+
+		RepositoryAsyncEventQueueRegionConfigurer<?, ?> regionConfigurer =
+			new RepositoryAsyncEventQueueRegionConfigurer<>(this.mockRepository, this.mockPredicate);
+
+		regionConfigurer.setBatchSize(0);
+		regionConfigurer.setBatchTimeInterval(-1);
+		regionConfigurer.setDispatcherThreads(0);
+
+		assertThat(regionConfigurer.getBatchSize()).isEqualTo(100);
+		assertThat(regionConfigurer.getBatchTimeInterval()).isEqualTo(1000);
+		assertThat(regionConfigurer.getDispatcherThreads()).isEqualTo(5);
+	}
+
+	@Test
+	public void configurePeerRegionFactoryBeanCreatesAndAttachesAsyncEventQueue() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		AtomicReference<AsyncEventListener> listener = new AtomicReference<>();
+
+		AsyncEventQueueFactory mockAsyncEventQueueFactory =
+			mockAsyncEventQueueFactory(listener, mockAsyncEventQueue);
+
+		PeerRegionFactoryBean<?, ?> mockPeerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doReturn(this.mockCache).when(mockPeerRegionFactoryBean).getCache();
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		RepositoryAsyncEventListener.AsyncEventErrorHandler errorHandler = eventError -> true;
+
+		RepositoryAsyncEventQueueRegionConfigurer<?, ?> regionConfigurer =
+			new RepositoryAsyncEventQueueRegionConfigurer<>(this.mockRepository, this.mockPredicate);
+
+		regionConfigurer.setAsyncEventErrorHandler(errorHandler);
+		regionConfigurer.setBatchingEnabled(true);
+		regionConfigurer.setBatchSize(500);
+		regionConfigurer.setBatchTimeInterval(50);
+		regionConfigurer.setDiskStoreName("TestDiskStore");
+		regionConfigurer.setDispatcherThreads(2);
+		regionConfigurer.setParallel(true);
+		regionConfigurer.setPersistent(true);
+		regionConfigurer.configure("Example", mockPeerRegionFactoryBean);
+
+		verify(this.mockPredicate, times(1)).test(eq("Example"));
+		verify(this.mockCache, times(1)).getAsyncEventQueue(eq("Example-RepositoryAsyncEventQueue"));
+		verify(mockAsyncEventQueueFactory, times(1)).setBatchSize(eq(500));
+		verify(mockAsyncEventQueueFactory, times(1)).setBatchTimeInterval(eq(50));
+		verify(mockAsyncEventQueueFactory, times(1)).setDiskStoreName(eq("TestDiskStore"));
+		verify(mockAsyncEventQueueFactory, times(1)).setDispatcherThreads(eq(2));
+		verify(mockAsyncEventQueueFactory, times(1)).setParallel(eq(true));
+		verify(mockAsyncEventQueueFactory, times(1)).setPersistent(eq(true));
+		verify(mockAsyncEventQueueFactory, times(1))
+			.addGatewayEventFilter(isA(RepositoryAsyncEventQueueRegionConfigurer.RefreshAheadGatewayEventFilter.class));
+		verify(mockAsyncEventQueueFactory, times(1))
+			.create(eq("Example-RepositoryAsyncEventQueue"), isA(RepositoryAsyncEventListener.class));
+		verify(mockPeerRegionFactoryBean, times(1))
+			.addAsyncEventQueues(eq(new AsyncEventQueue[] { mockAsyncEventQueue }));
+
+		RepositoryAsyncEventListener<?, ?> repositoryAsyncEventListener =
+			(RepositoryAsyncEventListener<?, ?>) listener.get();
+
+		assertThat(repositoryAsyncEventListener.getRepository()).isEqualTo(this.mockRepository);
+		assertThat(repositoryAsyncEventListener.getAsyncEventErrorHandler()).isSameAs(errorHandler);
+		assertThat(repositoryAsyncEventListener.isBatchingEnabled()).isTrue();
+	}
+
+	@Test
+	public void configurePeerRegionFactoryBeanReusesExistingAsyncEventQueue() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		PeerRegionFactoryBean<?, ?> mockPeerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doReturn(this.mockCache).when(mockPeerRegionFactoryBean).getCache();
+		doReturn(mockAsyncEventQueue).when(this.mockCache).getAsyncEventQueue(eq("Example-RepositoryAsyncEventQueue"));
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		new RepositoryAsyncEventQueueRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+			.configure("Example", mockPeerRegionFactoryBean);
+
+		verify(this.mockCache, never()).createAsyncEventQueueFactory();
+		verify(mockPeerRegionFactoryBean, times(1))
+			.addAsyncEventQueues(eq(new AsyncEventQueue[] { mockAsyncEventQueue }));
+	}
+
+	@Test
+	public void doesNotConfigurePeerRegionFactoryBeanWhenPredicateReturnsFalse() {
+
+		PeerRegionFactoryBean<?, ?> mockPeerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		when(this.mockPredicate.test(anyString())).thenReturn(false);
+
+		new RepositoryAsyncEventQueueRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+			.configure("Example", mockPeerRegionFactoryBean);
+
+		verify(this.mockPredicate, times(1)).test(eq("Example"));
+		verifyNoInteractions(mockPeerRegionFactoryBean, this.mockCache);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void configurePeerRegionFactoryBeanWithNonPeerCacheThrowsException() {
+
+		PeerRegionFactoryBean<?, ?> mockPeerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doReturn(mock(ClientCache.class)).when(mockPeerRegionFactoryBean).getCache();
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		try {
+			new RepositoryAsyncEventQueueRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.configure("Example", mockPeerRegionFactoryBean);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("A peer Cache is required to create an AsyncEventQueue for Region [Example]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockPeerRegionFactoryBean, never()).addAsyncEventQueues(any());
+		}
+	}
+
+	@Test
+	public void doesNotConfigureClientRegionFactoryBean() {
+
+		ClientRegionFactoryBean<?, ?> mockClientRegionFactoryBean = mock(ClientRegionFactoryBean.class);
+
+		new RepositoryAsyncEventQueueRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+			.configure("Example", mockClientRegionFactoryBean);
+
+		verifyNoInteractions(mockClientRegionFactoryBean, this.mockPredicate);
+	}
+
+	@Test
+	public void refreshAheadGatewayEventFilterDoesNotEnqueueRefreshAheadEvents() {
+
+		GatewayQueueEvent<?, ?> mockRefreshAheadEvent = mock(GatewayQueueEvent.class);
+		GatewayQueueEvent<?, ?> mockEvent = mock(GatewayQueueEvent.class);
+
+		doReturn(RepositoryCacheLoader.REFRESH_AHEAD_CALLBACK_ARGUMENT)
+			.when(mockRefreshAheadEvent).getCallbackArgument();
+
+		RepositoryAsyncEventQueueRegionConfigurer.RefreshAheadGatewayEventFilter filter =
+			new RepositoryAsyncEventQueueRegionConfigurer.RefreshAheadGatewayEventFilter();
+
+		assertThat(filter.beforeEnqueue(mockRefreshAheadEvent)).isFalse();
+		assertThat(filter.beforeEnqueue(mockEvent)).isTrue();
+		assertThat(filter.beforeTransmit(mockRefreshAheadEvent)).isTrue();
+	}
+}
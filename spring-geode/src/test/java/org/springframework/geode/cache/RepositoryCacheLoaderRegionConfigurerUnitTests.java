@@ -28,6 +28,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -185,4 +186,48 @@ public class RepositoryCacheLoaderRegionConfigurerUnitTests {
 		verify(peerRegionFactoryBean, never()).setCacheLoader(any(CacheLoader.class));
 		verify(this.mockPredicate, times(1)).test(eq("Example"));
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresRepositoryCacheLoaderWithNegativeCachingAndRefreshAhead() {
+
+		PeerRegionFactoryBean<?, ?> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doAnswer(answer -> {
+
+			RepositoryCacheLoader<?, ?> cacheLoader = answer.getArgument(0);
+
+			assertThat(cacheLoader.getNegativeResultTimeToLive()).isEqualTo(Duration.ofSeconds(5L));
+			assertThat(cacheLoader.getRefreshAheadFactor()).isEqualTo(0.75f);
+
+			return null;
+
+		}).when(peerRegionFactoryBean).setCacheLoader(isA(CacheLoader.class));
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		RepositoryCacheLoaderRegionConfigurer<?, ?> regionConfigurer =
+			new RepositoryCacheLoaderRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withNegativeCaching(Duration.ofSeconds(5L))
+				.withRefreshAhead(0.75f);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		verify(peerRegionFactoryBean, times(1)).setCacheLoader(isA(RepositoryCacheLoader.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withRefreshAheadFactorOfOneThrowsException() {
+
+		try {
+			new RepositoryCacheLoaderRegionConfigurer<>(this.mockRepository, this.mockPredicate).withRefreshAhead(1.0f);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Refresh-ahead factor [1.0] must be greater than or equal to 0 and less than 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
 }
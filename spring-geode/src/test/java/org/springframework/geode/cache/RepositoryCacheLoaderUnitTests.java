@@ -16,24 +16,41 @@
 package org.springframework.geode.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
 import org.apache.geode.cache.CacheLoaderException;
 import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 
 import org.springframework.core.env.Environment;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -138,4 +155,275 @@ public class RepositoryCacheLoaderUnitTests {
 		assertThat(cacheRuntimeException.getMessage()).isEqualTo("TEST");
 		assertThat(cacheRuntimeException.getCause()).isEqualTo(cause);
 	}
+
+	@Test
+	public void negativeCachingIsDisabledByDefault() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.empty());
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		assertThat(this.cacheLoader.isNegativeCachingEnabled()).isFalse();
+		assertThat(this.cacheLoader.isRefreshAheadEnabled()).isFalse();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		verify(this.mockCrudRepository, times(2)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadRemembersNegativeResult() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.empty());
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.withNegativeCaching(Duration.ofMinutes(1L));
+
+		assertThat(this.cacheLoader.isNegativeCachingEnabled()).isTrue();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+
+		this.cacheLoader.evictNegativeResult("TestKey");
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		verify(this.mockCrudRepository, times(2)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadQueriesRepositoryAfterNegativeResultExpires() throws InterruptedException {
+
+		when(this.mockCrudRepository.findById(eq("TestKey")))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(this.testEntity));
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.withNegativeCaching(Duration.ofMillis(1L));
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		Thread.sleep(10L);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+
+		verify(this.mockCrudRepository, times(2)).findById(eq("TestKey"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadForgetsNegativeResultWhenEntityIsCreatedOrUpdatedInRegion() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.empty());
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+
+		this.cacheLoader.withNegativeCaching(Duration.ofMinutes(1L));
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		ArgumentCaptor<CacheListener<Object, Object>> cacheListenerCaptor = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(cacheListenerCaptor.capture());
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+
+		CacheListener<Object, Object> cacheListener = cacheListenerCaptor.getValue();
+
+		cacheListener.afterCreate(mockEntryEvent);
+
+		assertThat(this.cacheLoader.isNegativeResultCached("TestKey")).isFalse();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+		assertThat(this.cacheLoader.isNegativeResultCached("TestKey")).isTrue();
+
+		cacheListener.afterUpdate(mockEntryEvent);
+
+		assertThat(this.cacheLoader.isNegativeResultCached("TestKey")).isFalse();
+
+		verify(this.mockCrudRepository, times(2)).findById(eq("TestKey"));
+		verify(mockAttributesMutator, times(1)).addCacheListener(any(CacheListener.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadDoesNotRegisterNegativeResultEvictingCacheListenerWhenNegativeCachingIsDisabled() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.empty());
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		verify(mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withNegativeCachingUsingNegativeDurationThrowsException() {
+
+		try {
+			this.cacheLoader.withNegativeCaching(Duration.ofSeconds(-1L));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Negative result time-to-live [PT-1S] must not be null or negative");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withRefreshAheadUsingInvalidFactorThrowsException() {
+
+		try {
+			this.cacheLoader.withRefreshAhead(-0.5f);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected)
+				.hasMessage("Refresh-ahead factor [-0.5] must be greater than or equal to 0 and less than 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(int entryTimeToLiveSeconds) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(new ExpirationAttributes(entryTimeToLiveSeconds, ExpirationAction.DESTROY))
+			.when(mockRegionAttributes).getEntryTimeToLive();
+
+		return mockRegion;
+	}
+
+	private RepositoryCacheLoader<Object, Object> newRefreshAheadCacheLoader(
+			ScheduledExecutorService mockExecutorService) {
+
+		return new RepositoryCacheLoader<Object, Object>(this.mockCrudRepository) {
+
+			@Override
+			protected ScheduledExecutorService newRefreshAheadExecutorService() {
+				return mockExecutorService;
+			}
+		}.withRefreshAhead(0.75f);
+	}
+
+	@Test
+	public void loadSchedulesRefreshAheadForRegionWithEntryTimeToLive() {
+
+		Region<Object, Object> mockRegion = mockRegion(60);
+
+		ScheduledExecutorService mockExecutorService = mock(ScheduledExecutorService.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+
+		RepositoryCacheLoader<Object, Object> cacheLoader = newRefreshAheadCacheLoader(mockExecutorService);
+
+		assertThat(cacheLoader.isRefreshAheadEnabled()).isTrue();
+		assertThat(cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+
+		verify(mockExecutorService, times(1))
+			.schedule(any(Runnable.class), eq(45000L), eq(TimeUnit.MILLISECONDS));
+
+		cacheLoader.close();
+
+		verify(mockExecutorService, times(1)).shutdownNow();
+	}
+
+	@Test
+	public void loadDoesNotScheduleRefreshAheadForRegionWithoutEntryTimeToLive() {
+
+		Region<Object, Object> mockRegion = mockRegion(0);
+
+		ScheduledExecutorService mockExecutorService = mock(ScheduledExecutorService.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+
+		RepositoryCacheLoader<Object, Object> cacheLoader = newRefreshAheadCacheLoader(mockExecutorService);
+
+		assertThat(cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+
+		verifyNoInteractions(mockExecutorService);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Runnable scheduleRefreshAhead(RepositoryCacheLoader<Object, Object> cacheLoader,
+			ScheduledExecutorService mockExecutorService, Region<Object, Object> mockRegion,
+			long lastAccessedTime, long lastModifiedTime) {
+
+		Region.Entry<Object, Object> mockEntry = mock(Region.Entry.class);
+
+		CacheStatistics mockStatistics = mock(CacheStatistics.class);
+
+		doReturn(mockEntry).when(mockRegion).getEntry(eq("TestKey"));
+		doReturn(mockStatistics).when(mockEntry).getStatistics();
+		doReturn(lastAccessedTime).when(mockStatistics).getLastAccessedTime();
+		doReturn(lastModifiedTime).when(mockStatistics).getLastModifiedTime();
+
+		cacheLoader.scheduleRefreshAhead(mockRegion, "TestKey");
+
+		ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+
+		verify(mockExecutorService, times(1)).schedule(refresh.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+		return refresh.getValue();
+	}
+
+	@Test
+	public void refreshAheadReloadsAccessedEntryWithoutWritingThrough() {
+
+		Region<Object, Object> mockRegion = mockRegion(10);
+
+		ScheduledExecutorService mockExecutorService = mock(ScheduledExecutorService.class);
+
+		Object refreshedEntity = new Object();
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(refreshedEntity));
+
+		RepositoryCacheLoader<Object, Object> cacheLoader = newRefreshAheadCacheLoader(mockExecutorService);
+
+		scheduleRefreshAhead(cacheLoader, mockExecutorService, mockRegion, 2000L, 1000L).run();
+
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+		verify(mockRegion, times(1))
+			.put(eq("TestKey"), eq(refreshedEntity), eq(RepositoryCacheLoader.REFRESH_AHEAD_CALLBACK_ARGUMENT));
+		verify(mockExecutorService, times(2)).schedule(any(Runnable.class), eq(7500L), eq(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void refreshAheadLeavesEntryNotAccessedSinceLastModifiedToExpire() {
+
+		Region<Object, Object> mockRegion = mockRegion(10);
+
+		ScheduledExecutorService mockExecutorService = mock(ScheduledExecutorService.class);
+
+		RepositoryCacheLoader<Object, Object> cacheLoader = newRefreshAheadCacheLoader(mockExecutorService);
+
+		scheduleRefreshAhead(cacheLoader, mockExecutorService, mockRegion, 1000L, 1000L).run();
+
+		verify(this.mockCrudRepository, never()).findById(any());
+		verify(mockRegion, never()).put(any(), any(), any());
+	}
 }
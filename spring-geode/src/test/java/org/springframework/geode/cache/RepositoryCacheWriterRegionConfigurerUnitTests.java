@@ -185,4 +185,72 @@ public class RepositoryCacheWriterRegionConfigurerUnitTests {
 		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
 		verify(this.mockPredicate, times(1)).test(eq("Example"));
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresRepositoryCacheWriterWithChangeDetection() {
+
+		RepositoryCacheWriter.ChangeDetector<Object> changeDetector = RepositoryCacheWriter.ChangeDetector.equality();
+
+		ClientRegionFactoryBean<?, ?> clientRegionFactoryBean = mock(ClientRegionFactoryBean.class);
+
+		doAnswer(answer -> {
+
+			RepositoryCacheWriter<?, ?> cacheWriter = answer.getArgument(0);
+
+			assertThat(cacheWriter.getChangeDetector()).isSameAs(changeDetector);
+
+			return null;
+
+		}).when(clientRegionFactoryBean).setCacheWriter(any(CacheWriter.class));
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		CrudRepository<Object, Object> repository = (CrudRepository<Object, Object>) this.mockRepository;
+
+		RepositoryCacheWriterRegionConfigurer<Object, Object> regionConfigurer =
+			new RepositoryCacheWriterRegionConfigurer<>(repository, this.mockPredicate)
+				.withChangeDetection(changeDetector);
+
+		regionConfigurer.configure("Example", clientRegionFactoryBean);
+
+		verify(clientRegionFactoryBean, times(1)).setCacheWriter(isA(RepositoryCacheWriter.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresRepositoryCacheWriterWithBulkDeleteStrategyAndRegionDestroyAction() {
+
+		RepositoryCacheWriter.BulkDeleteStrategy<Object, Object> bulkDeleteStrategy =
+			RepositoryCacheWriter.BulkDeleteStrategy.deleteAllInBatch();
+
+		RepositoryCacheWriter.BulkDeleteStrategy<Object, Object> regionDestroyAction =
+			RepositoryCacheWriter.BulkDeleteStrategy.deleteAll();
+
+		PeerRegionFactoryBean<?, ?> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doAnswer(answer -> {
+
+			RepositoryCacheWriter<?, ?> cacheWriter = answer.getArgument(0);
+
+			assertThat(cacheWriter.getBulkDeleteStrategy()).isSameAs(bulkDeleteStrategy);
+			assertThat(cacheWriter.getRegionDestroyAction()).isSameAs(regionDestroyAction);
+
+			return null;
+
+		}).when(peerRegionFactoryBean).setCacheWriter(any(CacheWriter.class));
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		CrudRepository<Object, Object> repository = (CrudRepository<Object, Object>) this.mockRepository;
+
+		RepositoryCacheWriterRegionConfigurer<Object, Object> regionConfigurer =
+			new RepositoryCacheWriterRegionConfigurer<>(repository, this.mockPredicate)
+				.withBulkDeleteStrategy(bulkDeleteStrategy)
+				.withRegionDestroyAction(regionDestroyAction);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		verify(peerRegionFactoryBean, times(1)).setCacheWriter(isA(RepositoryCacheWriter.class));
+	}
 }
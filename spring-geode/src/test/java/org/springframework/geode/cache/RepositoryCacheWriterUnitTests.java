@@ -17,13 +17,19 @@ package org.springframework.geode.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,9 +40,12 @@ import org.apache.geode.cache.CacheRuntimeException;
 import org.apache.geode.cache.CacheWriterException;
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.core.env.Environment;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.RepositoryCacheWriter.BulkDeleteStrategy;
+import org.springframework.geode.cache.RepositoryCacheWriter.ChangeDetector;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
 
 /**
@@ -155,6 +164,103 @@ public class RepositoryCacheWriterUnitTests {
 		verifyNoInteractions(mockRegionEvent);
 	}
 
+	@Test
+	public void beforeRegionClearDeletesAllUsingBulkDeleteStrategyWhenNukeAndPaveIsEnabled() {
+
+		BulkDeleteStrategy<Object, Object> mockBulkDeleteStrategy = mock(BulkDeleteStrategy.class);
+
+		RegionEvent<Object, Object> mockRegionEvent = mock(RegionEvent.class);
+
+		when(this.mockEnvironment.getProperty(eq(RepositoryCacheLoaderWriterSupport.NUKE_AND_PAVE_PROPERTY),
+			eq(Boolean.class))).thenReturn(true);
+
+		assertThat(this.cacheWriter.withBulkDeleteStrategy(mockBulkDeleteStrategy)).isSameAs(this.cacheWriter);
+		assertThat(this.cacheWriter.getBulkDeleteStrategy()).isSameAs(mockBulkDeleteStrategy);
+
+		this.cacheWriter.beforeRegionClear(mockRegionEvent);
+
+		verify(mockBulkDeleteStrategy, times(1)).deleteAll(eq(this.mockCrudRepository));
+		verifyNoInteractions(this.mockCrudRepository);
+		verifyNoInteractions(mockRegionEvent);
+	}
+
+	@Test
+	public void withNullBulkDeleteStrategyDefaultsToDeleteAll() {
+
+		assertThat(this.cacheWriter.withBulkDeleteStrategy(null)).isSameAs(this.cacheWriter);
+		assertThat(this.cacheWriter.getBulkDeleteStrategy()).isNotNull();
+
+		this.cacheWriter.getBulkDeleteStrategy().deleteAll(this.mockCrudRepository);
+
+		verify(this.mockCrudRepository, times(1)).deleteAll();
+	}
+
+	@Test
+	public void beforeRegionDestroyRunsConfiguredRegionDestroyAction() {
+
+		BulkDeleteStrategy<Object, Object> mockRegionDestroyAction = mock(BulkDeleteStrategy.class);
+
+		RegionEvent<Object, Object> mockRegionEvent = mock(RegionEvent.class);
+
+		assertThat(this.cacheWriter.getRegionDestroyAction()).isNull();
+		assertThat(this.cacheWriter.withRegionDestroyAction(mockRegionDestroyAction)).isSameAs(this.cacheWriter);
+		assertThat(this.cacheWriter.getRegionDestroyAction()).isSameAs(mockRegionDestroyAction);
+
+		this.cacheWriter.beforeRegionDestroy(mockRegionEvent);
+
+		verify(mockRegionDestroyAction, times(1)).deleteAll(eq(this.mockCrudRepository));
+		verifyNoInteractions(this.mockEnvironment);
+		verifyNoInteractions(mockRegionEvent);
+	}
+
+	@Test(expected = CacheRuntimeException.class)
+	public void beforeRegionDestroyWrapsRegionDestroyActionFailure() {
+
+		RegionEvent<Object, Object> mockRegionEvent = mock(RegionEvent.class);
+
+		this.cacheWriter.withRegionDestroyAction(repository -> { throw new IllegalStateException("TEST"); });
+
+		try {
+			this.cacheWriter.beforeRegionDestroy(mockRegionEvent);
+		}
+		catch (CacheRuntimeException expected) {
+
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void deleteAllBulkDeleteStrategyCallsDeleteAll() {
+
+		BulkDeleteStrategy.deleteAll().deleteAll(this.mockCrudRepository);
+
+		verify(this.mockCrudRepository, times(1)).deleteAll();
+		verifyNoMoreInteractions(this.mockCrudRepository);
+	}
+
+	@Test
+	public void deleteAllInBatchBulkDeleteStrategyCallsDeleteAllInBatch() {
+
+		BatchDeletingCrudRepository mockRepository = mock(BatchDeletingCrudRepository.class);
+
+		BulkDeleteStrategy.<Object, Object>deleteAllInBatch().deleteAll(mockRepository);
+
+		verify(mockRepository, times(1)).deleteAllInBatch();
+		verify(mockRepository, never()).deleteAll();
+	}
+
+	@Test
+	public void deleteAllInBatchBulkDeleteStrategyFallsBackToDeleteAll() {
+
+		BulkDeleteStrategy.deleteAllInBatch().deleteAll(this.mockCrudRepository);
+
+		verify(this.mockCrudRepository, times(1)).deleteAll();
+		verifyNoMoreInteractions(this.mockCrudRepository);
+	}
+
 	@Test
 	public void newCacheRuntimeExceptionIsCorrect() {
 
@@ -166,4 +272,203 @@ public class RepositoryCacheWriterUnitTests {
 		assertThat(cacheRuntimeException.getMessage()).isEqualTo("TEST");
 		assertThat(cacheRuntimeException.getCause()).isEqualTo(cause);
 	}
+
+	@Test
+	public void beforeCreateAndUpdateDoNotSaveRefreshAheadEntity() {
+
+		when(this.mockEntryEvent.getCallbackArgument()).thenReturn(RepositoryCacheLoader.REFRESH_AHEAD_CALLBACK_ARGUMENT);
+
+		this.cacheWriter.beforeCreate(this.mockEntryEvent);
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		verify(this.mockEntryEvent, times(2)).getCallbackArgument();
+		verify(this.mockEntryEvent, never()).getNewValue();
+		verifyNoInteractions(this.mockCrudRepository);
+	}
+
+	@Test
+	public void changeDetectionIsDisabledByDefault() {
+
+		when(this.mockEntryEvent.getNewValue()).thenReturn(this.testEntity);
+
+		assertThat(this.cacheWriter.isChangeDetectionEnabled()).isFalse();
+
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(this.cacheWriter.getWriteCount()).isEqualTo(1L);
+		assertThat(this.cacheWriter.getSkippedWriteCount()).isZero();
+
+		verify(this.mockEntryEvent, never()).getOldValue();
+		verify(this.mockCrudRepository, times(1)).save(eq(this.testEntity));
+	}
+
+	@Test
+	public void beforeUpdateSkipsUnchangedEntity() {
+
+		when(this.mockEntryEvent.getOldValue()).thenReturn(new StringBuilder("TestEntity").toString());
+		when(this.mockEntryEvent.getNewValue()).thenReturn(new StringBuilder("TestEntity").toString());
+
+		this.cacheWriter.withChangeDetection(ChangeDetector.equality());
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(this.cacheWriter.isChangeDetectionEnabled()).isTrue();
+		assertThat(this.cacheWriter.getWriteCount()).isZero();
+		assertThat(this.cacheWriter.getSkippedWriteCount()).isEqualTo(2L);
+
+		verifyNoInteractions(this.mockCrudRepository);
+	}
+
+	@Test
+	public void beforeUpdateSavesChangedEntity() {
+
+		when(this.mockEntryEvent.getOldValue()).thenReturn("OldEntity");
+		when(this.mockEntryEvent.getNewValue()).thenReturn("NewEntity");
+
+		this.cacheWriter.withChangeDetection(ChangeDetector.equality());
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(this.cacheWriter.getWriteCount()).isEqualTo(1L);
+		assertThat(this.cacheWriter.getSkippedWriteCount()).isZero();
+
+		verify(this.mockCrudRepository, times(1)).save(eq("NewEntity"));
+	}
+
+	@Test
+	public void beforeUpdateSavesEntityModifiedInPlace() {
+
+		AtomicReference<String> entity = new AtomicReference<>("TestEntity");
+
+		when(this.mockEntryEvent.getOldValue()).thenReturn(entity);
+		when(this.mockEntryEvent.getNewValue()).thenReturn(entity);
+
+		this.cacheWriter.withChangeDetection(ChangeDetector.equality());
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		entity.set("ModifiedEntity");
+
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(this.cacheWriter.getWriteCount()).isEqualTo(2L);
+		assertThat(this.cacheWriter.getSkippedWriteCount()).isZero();
+
+		verify(this.mockCrudRepository, times(2)).save(eq(entity));
+	}
+
+	@Test
+	public void beforeUpdateSavesEntityWhenOldValueIsNotAvailable() {
+
+		ChangeDetector<Object> mockChangeDetector = mock(ChangeDetector.class);
+
+		when(this.mockEntryEvent.getNewValue()).thenReturn(this.testEntity);
+
+		this.cacheWriter.withChangeDetection(mockChangeDetector);
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(this.cacheWriter.getWriteCount()).isEqualTo(1L);
+
+		verify(this.mockEntryEvent, times(1)).getOldValue();
+		verify(this.mockCrudRepository, times(1)).save(eq(this.testEntity));
+		verifyNoInteractions(mockChangeDetector);
+	}
+
+	@Test
+	public void beforeCreateIsNotSubjectToChangeDetection() {
+
+		when(this.mockEntryEvent.getNewValue()).thenReturn(this.testEntity);
+
+		this.cacheWriter.withChangeDetection(ChangeDetector.equality());
+		this.cacheWriter.beforeCreate(this.mockEntryEvent);
+
+		assertThat(this.cacheWriter.getWriteCount()).isEqualTo(1L);
+
+		verify(this.mockEntryEvent, never()).getOldValue();
+		verify(this.mockCrudRepository, times(1)).save(eq(this.testEntity));
+	}
+
+	@Test
+	public void versionChangeDetectorComparesVersions() {
+
+		ChangeDetector<String> changeDetector = ChangeDetector.version(String::length);
+
+		assertThat(changeDetector.isChanged("ab", "cd")).isFalse();
+		assertThat(changeDetector.isChanged("ab", "abc")).isTrue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void versionChangeDetectorWithNullVersionResolverThrowsException() {
+
+		try {
+			ChangeDetector.version(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Version resolver Function must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	private PdxInstance mockPdxInstance(String name, Object... fieldNamesAndValues) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class, name);
+
+		doReturn("example.Customer").when(mockPdxInstance).getClassName();
+
+		String[] fieldNames = new String[fieldNamesAndValues.length / 2];
+
+		for (int index = 0; index < fieldNamesAndValues.length; index += 2) {
+			fieldNames[index / 2] = String.valueOf(fieldNamesAndValues[index]);
+			doReturn(fieldNamesAndValues[index + 1]).when(mockPdxInstance).getField(eq(fieldNames[index / 2]));
+		}
+
+		doReturn(Arrays.asList(fieldNames)).when(mockPdxInstance).getFieldNames();
+
+		return mockPdxInstance;
+	}
+
+	@Test
+	public void pdxFieldsChangeDetectorComparesPersistentFields() {
+
+		PdxInstance oldValue = mockPdxInstance("Old", "id", 1L, "name", "Jon Doe",
+			"tags", new String[] { "a" }, "lastAccessed", 100L);
+
+		PdxInstance sameValue = mockPdxInstance("Same", "id", 1L, "name", "Jon Doe",
+			"tags", new String[] { "a" }, "lastAccessed", 200L);
+
+		PdxInstance changedValue = mockPdxInstance("Changed", "id", 1L, "name", "Jane Doe",
+			"tags", new String[] { "a" }, "lastAccessed", 100L);
+
+		ChangeDetector<Object> changeDetector = ChangeDetector.pdxFields("lastAccessed");
+
+		assertThat(changeDetector.isChanged(oldValue, sameValue)).isFalse();
+		assertThat(changeDetector.isChanged(oldValue, changedValue)).isTrue();
+		assertThat(ChangeDetector.pdxFields().isChanged(oldValue, sameValue)).isTrue();
+	}
+
+	@Test
+	public void pdxFieldsChangeDetectorDetectsAddedField() {
+
+		PdxInstance oldValue = mockPdxInstance("Old", "id", 1L);
+		PdxInstance newValue = mockPdxInstance("New", "id", 1L, "name", "Jon Doe");
+
+		doReturn(null).when(oldValue).getField(eq("name"));
+
+		assertThat(ChangeDetector.pdxFields().isChanged(oldValue, newValue)).isTrue();
+	}
+
+	@Test
+	public void pdxFieldsChangeDetectorComparesNonPdxValuesWithEquals() {
+
+		ChangeDetector<Object> changeDetector = ChangeDetector.pdxFields();
+
+		assertThat(changeDetector.isChanged("test", "test")).isFalse();
+		assertThat(changeDetector.isChanged("test", "mock")).isTrue();
+		assertThat(changeDetector.isChanged(Collections.emptyList(), null)).isTrue();
+	}
+
+	interface BatchDeletingCrudRepository extends CrudRepository<Object, Object> {
+		void deleteAllInBatch();
+	}
 }
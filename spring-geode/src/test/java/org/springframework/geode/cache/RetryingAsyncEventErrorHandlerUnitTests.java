@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventError;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler;
+
+/**
+ * Unit Tests for {@link RetryingAsyncEventErrorHandler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.geode.cache.RetryingAsyncEventErrorHandler
+ * @since 1.4.0
+ */
+public class RetryingAsyncEventErrorHandlerUnitTests {
+
+	@Test
+	public void defaultConfiguration() {
+
+		RetryingAsyncEventErrorHandler errorHandler = new RetryingAsyncEventErrorHandler();
+
+		assertThat(errorHandler.getMaxAttempts()).isEqualTo(3);
+		assertThat(errorHandler.getInitialBackoff()).isEqualTo(Duration.ofMillis(100L));
+		assertThat(errorHandler.getMaxBackoff()).isEqualTo(Duration.ofSeconds(5L));
+		assertThat(errorHandler.getMultiplier()).isEqualTo(2.0d);
+		assertThat(errorHandler.getFallbackHandler().apply(mock(AsyncEventError.class))).isFalse();
+	}
+
+	@Test
+	public void backoffIsExponentialAndBounded() {
+
+		RetryingAsyncEventErrorHandler errorHandler = new RetryingAsyncEventErrorHandler()
+			.withInitialBackoff(Duration.ofMillis(100L))
+			.withMaxBackoff(Duration.ofMillis(500L))
+			.withMultiplier(2.0d);
+
+		assertThat(errorHandler.getBackoff(1)).isEqualTo(Duration.ofMillis(100L));
+		assertThat(errorHandler.getBackoff(2)).isEqualTo(Duration.ofMillis(200L));
+		assertThat(errorHandler.getBackoff(3)).isEqualTo(Duration.ofMillis(400L));
+		assertThat(errorHandler.getBackoff(4)).isEqualTo(Duration.ofMillis(500L));
+	}
+
+	@Test
+	public void retrySucceedsBeforeAttemptsAreExhausted() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		AsyncEventError eventError = new AsyncEventError(mock(AsyncEvent.class), new RuntimeException("TEST"), () -> {
+			if (attempts.incrementAndGet() < 2) {
+				throw new IllegalStateException("RETRY");
+			}
+		});
+
+		AsyncEventErrorHandler mockFallbackHandler = mock(AsyncEventErrorHandler.class);
+
+		TestRetryingAsyncEventErrorHandler errorHandler = new TestRetryingAsyncEventErrorHandler(mockFallbackHandler);
+
+		assertThat(errorHandler.apply(eventError)).isTrue();
+		assertThat(attempts.get()).isEqualTo(2);
+		assertThat(errorHandler.backoffs).containsExactly(Duration.ofMillis(100L), Duration.ofMillis(200L));
+		assertThat(errorHandler.getRetryCount()).isEqualTo(2L);
+		assertThat(errorHandler.getSuccessfulRetryCount()).isEqualTo(1L);
+		assertThat(errorHandler.getExhaustedCount()).isZero();
+
+		verify(mockFallbackHandler, never()).apply(any());
+	}
+
+	@Test
+	public void exhaustedRetriesCallFallbackHandlerWithLastError() {
+
+		AsyncEvent mockEvent = mock(AsyncEvent.class);
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		AsyncEventError eventError = new AsyncEventError(mockEvent, new RuntimeException("TEST"), () -> {
+			throw new IllegalStateException("RETRY" + attempts.incrementAndGet());
+		});
+
+		List<AsyncEventError> fallbackErrors = new ArrayList<>();
+
+		TestRetryingAsyncEventErrorHandler errorHandler = new TestRetryingAsyncEventErrorHandler(error -> {
+			fallbackErrors.add(error);
+			return true;
+		});
+
+		errorHandler.withMaxAttempts(2);
+
+		assertThat(errorHandler.apply(eventError)).isTrue();
+		assertThat(attempts.get()).isEqualTo(2);
+		assertThat(errorHandler.getRetryCount()).isEqualTo(2L);
+		assertThat(errorHandler.getSuccessfulRetryCount()).isZero();
+		assertThat(errorHandler.getExhaustedCount()).isEqualTo(1L);
+		assertThat(fallbackErrors).hasSize(1);
+		assertThat(fallbackErrors.get(0).getEvent()).isSameAs(mockEvent);
+		assertThat(fallbackErrors.get(0).getCause()).hasMessage("RETRY2");
+	}
+
+	@Test
+	public void nonRetryableErrorIsPassedToFallbackHandler() {
+
+		AsyncEventError eventError = new AsyncEventError(mock(AsyncEvent.class), new RuntimeException("TEST"));
+
+		AsyncEventErrorHandler mockFallbackHandler = mock(AsyncEventErrorHandler.class);
+
+		doReturn(false).when(mockFallbackHandler).apply(any());
+
+		TestRetryingAsyncEventErrorHandler errorHandler = new TestRetryingAsyncEventErrorHandler(mockFallbackHandler);
+
+		assertThat(eventError.isRetryable()).isFalse();
+		assertThat(errorHandler.apply(eventError)).isFalse();
+		assertThat(errorHandler.backoffs).isEmpty();
+		assertThat(errorHandler.getRetryCount()).isZero();
+
+		verify(mockFallbackHandler, times(1)).apply(eventError);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withNegativeMaxAttemptsThrowsIllegalArgumentException() {
+
+		try {
+			new RetryingAsyncEventErrorHandler().withMaxAttempts(-1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Max attempts [-1] must be greater than or equal to 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	static class TestRetryingAsyncEventErrorHandler extends RetryingAsyncEventErrorHandler {
+
+		private final List<Duration> backoffs = new ArrayList<>();
+
+		TestRetryingAsyncEventErrorHandler(AsyncEventErrorHandler fallbackHandler) {
+			super(fallbackHandler);
+		}
+
+		@Override
+		protected void sleep(Duration duration) {
+			this.backoffs.add(duration);
+		}
+	}
+}
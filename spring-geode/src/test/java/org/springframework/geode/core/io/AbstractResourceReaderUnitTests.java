@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -136,6 +137,102 @@ public class AbstractResourceReaderUnitTests {
 		}
 	}
 
+	@Test
+	public void getInputStreamFromResourceCallsDecorate() throws IOException {
+
+		AbstractResourceReader mockResourceReader = mock(AbstractResourceReader.class);
+
+		InputStream mockInputStream = mock(InputStream.class);
+		InputStream mockDecoratedInputStream = mock(InputStream.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		doCallRealMethod().when(mockResourceReader).getInputStream(any());
+		doReturn(true).when(mockResourceReader).isAbleToHandle(eq(mockResource));
+		doAnswer(invocation -> invocation.getArgument(0)).when(mockResourceReader).preProcess(any());
+		doReturn(mockDecoratedInputStream).when(mockResourceReader).decorate(eq(mockInputStream));
+		doReturn(mockInputStream).when(mockResource).getInputStream();
+
+		assertThat(mockResourceReader.getInputStream(mockResource)).isSameAs(mockDecoratedInputStream);
+
+		InOrder order = inOrder(mockResourceReader, mockResource);
+
+		order.verify(mockResourceReader, times(1)).isAbleToHandle(eq(mockResource));
+		order.verify(mockResourceReader, times(1)).preProcess(eq(mockResource));
+		order.verify(mockResource, times(1)).getInputStream();
+		order.verify(mockResourceReader, times(1)).decorate(eq(mockInputStream));
+
+		verifyNoMoreInteractions(mockResource);
+		verifyNoInteractions(mockInputStream, mockDecoratedInputStream);
+	}
+
+	@Test(expected = UnhandledResourceException.class)
+	public void getInputStreamFromNullResourceIsNullSafeAndThrowsUnhandledResourceException() {
+
+		AbstractResourceReader mockResourceReader = mock(AbstractResourceReader.class);
+
+		doCallRealMethod().when(mockResourceReader).getInputStream(any());
+
+		try {
+			mockResourceReader.getInputStream(null);
+		}
+		catch (UnhandledResourceException expected) {
+
+			assertThat(expected).hasMessage("Unable to handle Resource [null]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockResourceReader, never()).isAbleToHandle(any());
+			verify(mockResourceReader, never()).preProcess(any());
+			verify(mockResourceReader, never()).decorate(any());
+		}
+	}
+
+	@Test(expected = ResourceReadException.class)
+	public void getInputStreamThrowsResourceReadExceptionForIoException() throws IOException {
+
+		AbstractResourceReader mockResourceReader = mock(AbstractResourceReader.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		doCallRealMethod().when(mockResourceReader).getInputStream(any());
+		doReturn(true).when(mockResourceReader).isAbleToHandle(eq(mockResource));
+		doAnswer(invocation -> invocation.getArgument(0)).when(mockResourceReader).preProcess(any());
+		doThrow(new IOException("TEST")).when(mockResource).getInputStream();
+		doReturn("MOCK").when(mockResource).getDescription();
+
+		try {
+			mockResourceReader.getInputStream(mockResource);
+		}
+		catch (ResourceReadException expected) {
+
+			assertThat(expected).hasMessage("Failed to open an InputStream from Resource [MOCK]");
+			assertThat(expected).hasCauseInstanceOf(IOException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+
+			throw expected;
+		}
+		finally {
+			verify(mockResourceReader, never()).decorate(any());
+		}
+	}
+
+	@Test
+	public void decorateReturnsInputStream() {
+
+		AbstractResourceReader mockResourceReader = mock(AbstractResourceReader.class);
+
+		InputStream mockInputStream = mock(InputStream.class);
+
+		doCallRealMethod().when(mockResourceReader).decorate(any());
+
+		assertThat(mockResourceReader.decorate(mockInputStream)).isSameAs(mockInputStream);
+
+		verifyNoInteractions(mockInputStream);
+	}
+
 	@Test
 	public void isAbleToHandleNonNullResourceReturnsTrue() {
 
@@ -214,6 +214,105 @@ public class AbstractResourceWriterUnitTests {
 		}
 	}
 
+	@Test
+	public void getOutputStreamFromWritableResourceCallsDecorate() throws IOException {
+
+		AbstractResourceWriter mockResourceWriter = mock(AbstractResourceWriter.class);
+
+		OutputStream mockOutputStream = mock(OutputStream.class);
+		OutputStream mockDecoratedOutputStream = mock(OutputStream.class);
+
+		WritableResource mockResource = mock(WritableResource.class);
+
+		doCallRealMethod().when(mockResourceWriter).getOutputStream(any());
+		doReturn(true).when(mockResourceWriter).isAbleToHandle(eq(mockResource));
+		doAnswer(invocation -> invocation.getArgument(0)).when(mockResourceWriter).preProcess(any());
+		doReturn(mockDecoratedOutputStream).when(mockResourceWriter).decorate(eq(mockOutputStream));
+		doReturn(mockOutputStream).when(mockResource).getOutputStream();
+
+		assertThat(mockResourceWriter.getOutputStream(mockResource)).isSameAs(mockDecoratedOutputStream);
+
+		InOrder order = inOrder(mockResourceWriter, mockResource);
+
+		order.verify(mockResourceWriter, times(1)).isAbleToHandle(eq(mockResource));
+		order.verify(mockResourceWriter, times(1)).preProcess(eq(mockResource));
+		order.verify(mockResource, times(1)).getOutputStream();
+		order.verify(mockResourceWriter, times(1)).decorate(eq(mockOutputStream));
+
+		verifyNoMoreInteractions(mockResource);
+		verifyNoInteractions(mockOutputStream, mockDecoratedOutputStream);
+	}
+
+	@Test(expected = UnhandledResourceException.class)
+	public void getOutputStreamFromNonWritableResourceThrowsUnhandledResourceException() {
+
+		AbstractResourceWriter mockResourceWriter = mock(AbstractResourceWriter.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		doCallRealMethod().when(mockResourceWriter).getOutputStream(any());
+		doReturn("MOCK").when(mockResource).getDescription();
+
+		try {
+			mockResourceWriter.getOutputStream(mockResource);
+		}
+		catch (UnhandledResourceException expected) {
+
+			assertThat(expected).hasMessage("Unable to handle Resource [MOCK]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockResourceWriter, never()).isAbleToHandle(any());
+			verify(mockResourceWriter, never()).preProcess(any());
+			verify(mockResourceWriter, never()).decorate(any());
+		}
+	}
+
+	@Test(expected = ResourceWriteException.class)
+	public void getOutputStreamThrowsResourceWriteExceptionForIoException() throws IOException {
+
+		AbstractResourceWriter mockResourceWriter = mock(AbstractResourceWriter.class);
+
+		WritableResource mockResource = mock(WritableResource.class);
+
+		doCallRealMethod().when(mockResourceWriter).getOutputStream(any());
+		doReturn(true).when(mockResourceWriter).isAbleToHandle(eq(mockResource));
+		doAnswer(invocation -> invocation.getArgument(0)).when(mockResourceWriter).preProcess(any());
+		doThrow(new IOException("TEST")).when(mockResource).getOutputStream();
+		doReturn("MOCK").when(mockResource).getDescription();
+
+		try {
+			mockResourceWriter.getOutputStream(mockResource);
+		}
+		catch (ResourceWriteException expected) {
+
+			assertThat(expected).hasMessage("Failed to open an OutputStream to Resource [MOCK]");
+			assertThat(expected).hasCauseInstanceOf(IOException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+
+			throw expected;
+		}
+		finally {
+			verify(mockResourceWriter, never()).decorate(any());
+		}
+	}
+
+	@Test
+	public void decorateReturnsOutputStream() {
+
+		AbstractResourceWriter mockResourceWriter = mock(AbstractResourceWriter.class);
+
+		OutputStream mockOutputStream = mock(OutputStream.class);
+
+		doCallRealMethod().when(mockResourceWriter).decorate(any());
+
+		assertThat(mockResourceWriter.decorate(mockOutputStream)).isSameAs(mockOutputStream);
+
+		verifyNoInteractions(mockOutputStream);
+	}
+
 	@Test
 	public void isAbleToHandleNonNullResourceReturnsTrue() {
 
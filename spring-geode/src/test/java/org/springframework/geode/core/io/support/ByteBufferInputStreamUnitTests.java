@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ByteBufferInputStream}.
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.junit.Test
+ * @see org.springframework.geode.core.io.support.ByteBufferInputStream
+ * @since 1.4.0
+ */
+public class ByteBufferInputStreamUnitTests {
+
+	@Test
+	public void readsFromByteBufferWithoutChangingByteBufferPosition() {
+
+		ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE });
+
+		ByteBufferInputStream in = new ByteBufferInputStream(byteBuffer);
+
+		assertThat(in.available()).isEqualTo(4);
+		assertThat(in.read()).isEqualTo(0xCA);
+		assertThat(in.skip(1L)).isEqualTo(1L);
+
+		byte[] bytes = new byte[4];
+
+		assertThat(in.read(bytes, 0, 4)).isEqualTo(2);
+		assertThat(bytes[0]).isEqualTo((byte) 0xBA);
+		assertThat(bytes[1]).isEqualTo((byte) 0xBE);
+		assertThat(in.available()).isZero();
+		assertThat(in.read()).isEqualTo(-1);
+		assertThat(in.read(bytes, 0, 4)).isEqualTo(-1);
+		assertThat(in.read(bytes, 0, 0)).isZero();
+		assertThat(in.skip(10L)).isZero();
+		assertThat(byteBuffer.position()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullByteBuffer() {
+
+		try {
+			new ByteBufferInputStream(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("ByteBuffer must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.geode.core.io.CompressionCodec;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit Tests for {@link CompressedResource} and {@link CompressionCodecResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.core.io.Resource
+ * @see org.springframework.geode.core.io.support.CompressedResource
+ * @see org.springframework.geode.core.io.support.CompressionCodecResolver
+ * @since 1.4.0
+ */
+public class CompressedResourceUnitTests {
+
+	@Test
+	public void writeAndReadCompressedFileResource() throws IOException {
+
+		File file = File.createTempFile("data-example", ".json.gz");
+
+		file.deleteOnExit();
+
+		byte[] data = "[{ \"name\": \"Jon Doe\" }]".getBytes(StandardCharsets.UTF_8);
+
+		CompressedResource resource =
+			new CompressedResource(new FileSystemResource(file), StandardCompressionCodec.GZIP);
+
+		assertThat(resource.isWritable()).isTrue();
+
+		try (OutputStream out = new FileResourceWriter().getOutputStream(resource)) {
+			out.write(data);
+		}
+
+		assertThat(Files.readAllBytes(file.toPath())).isNotEqualTo(data);
+		assertThat(new ByteArrayResourceReader().read(resource)).isEqualTo(data);
+
+		try (InputStream in = resource.getInputStream()) {
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(data);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getOutputStreamFromNonWritableResourceThrowsIllegalStateException() throws IOException {
+
+		CompressedResource resource =
+			new CompressedResource(new ByteArrayResource(new byte[0]), StandardCompressionCodec.GZIP);
+
+		assertThat(resource.isWritable()).isFalse();
+
+		resource.getOutputStream();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructCompressedResourceWithNullResource() {
+
+		try {
+			new CompressedResource(null, StandardCompressionCodec.GZIP);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Resource must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void compressionCodecResolverResolvesStandardCompressionCodecs() {
+
+		CompressionCodecResolver resolver = new CompressionCodecResolver();
+
+		assertThat(resolver.getCompressionCodecs()).contains(StandardCompressionCodec.values());
+		assertThat(resolver.resolveByLocation("file:///path/to/data-example.json.gz"))
+			.contains(StandardCompressionCodec.GZIP);
+		assertThat(resolver.resolveByLocation("data-example.binary.deflate"))
+			.contains(StandardCompressionCodec.DEFLATE);
+		assertThat(resolver.resolveByLocation("data-example.json")).isNotPresent();
+		assertThat(resolver.resolveByLocation(null)).isNotPresent();
+		assertThat(resolver.resolveByName(" GZIP ")).contains(StandardCompressionCodec.GZIP);
+		assertThat(resolver.resolveByName("zstd")).isNotPresent();
+		assertThat(resolver.resolveByName(null)).isNotPresent();
+	}
+
+	@Test
+	public void compressionCodecResolverPrefersCompressionCodecsInOrder() {
+
+		CompressionCodec mockCompressionCodec = mock(CompressionCodec.class);
+
+		CompressionCodecResolver resolver =
+			new CompressionCodecResolver(Arrays.asList(mockCompressionCodec, StandardCompressionCodec.GZIP));
+
+		assertThat(resolver.getCompressionCodecs()).containsExactly(mockCompressionCodec, StandardCompressionCodec.GZIP);
+		assertThat(resolver.resolveByLocation("data-example.json.gz")).contains(StandardCompressionCodec.GZIP);
+		assertThat(new CompressionCodecResolver(Collections.emptyList()).resolveByName("gzip"))
+			.isEqualTo(Optional.empty());
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.geode.core.io.ResourceReader;
+import org.springframework.geode.core.io.UnhandledResourceException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit Tests for {@link MappedFileResourceReader}.
+ *
+ * @author John Blum
+ * @see java.io.File
+ * @see java.nio.ByteBuffer
+ * @see org.junit.Test
+ * @see org.springframework.geode.core.io.support.MappedFileResourceReader
+ * @since 1.4.0
+ */
+public class MappedFileResourceReaderUnitTests {
+
+	private static final byte[] DATA = "[{ \"name\": \"Jon Doe\" }, { \"name\": \"Jane Doe\" }]"
+		.getBytes(StandardCharsets.UTF_8);
+
+	private Resource resource;
+
+	@Before
+	public void setup() throws IOException {
+
+		File file = File.createTempFile("data-example", ".json");
+
+		file.deleteOnExit();
+
+		Files.write(file.toPath(), DATA);
+
+		this.resource = new FileSystemResource(file);
+	}
+
+	@Test
+	public void readFromFileResource() {
+		assertThat(new MappedFileResourceReader().read(this.resource)).isEqualTo(DATA);
+	}
+
+	@Test
+	public void readIntoByteBufferFromFileResourceReturnsReadOnlyMappedByteBuffer() {
+
+		ByteBuffer byteBuffer = new MappedFileResourceReader().readIntoByteBuffer(this.resource);
+
+		assertThat(byteBuffer).isNotNull();
+		assertThat(byteBuffer.isReadOnly()).isTrue();
+		assertThat(byteBuffer.remaining()).isEqualTo(DATA.length);
+		assertThat(byteBuffer).isEqualTo(ByteBuffer.wrap(DATA));
+	}
+
+	@Test
+	public void getInputStreamFromFileResource() throws IOException {
+
+		try (InputStream in = new MappedFileResourceReader().getInputStream(this.resource)) {
+			assertThat(in).isInstanceOf(ByteBufferInputStream.class);
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(DATA);
+		}
+	}
+
+	@Test
+	public void readFromEmptyFileResource() throws IOException {
+
+		File file = File.createTempFile("data-empty", ".json");
+
+		file.deleteOnExit();
+
+		assertThat(new MappedFileResourceReader().read(new FileSystemResource(file))).isEmpty();
+	}
+
+	@Test(expected = UnhandledResourceException.class)
+	public void readFromNonFileResourceThrowsUnhandledResourceException() {
+		new MappedFileResourceReader().read(new ByteArrayResource(DATA));
+	}
+
+	@Test(expected = UnhandledResourceException.class)
+	public void readFromCompressedFileResourceThrowsUnhandledResourceException() {
+		new MappedFileResourceReader().read(new CompressedResource(this.resource, StandardCompressionCodec.GZIP));
+	}
+
+	@Test(expected = UnhandledResourceException.class)
+	public void readFromNullResourceThrowsUnhandledResourceException() {
+		new MappedFileResourceReader().readIntoByteBuffer(null);
+	}
+
+	@Test(expected = UnhandledResourceException.class)
+	public void readFromFileResourceLargerThanMaximumMappedRegionSizeThrowsUnhandledResourceException() {
+		new TestMappedFileResourceReader(DATA.length - 1).read(this.resource);
+	}
+
+	@Test
+	public void getInputStreamFromFileResourceLargerThanMaximumMappedRegionSizeReadsMappedRegionsInSequence()
+			throws IOException {
+
+		try (InputStream in = new TestMappedFileResourceReader(4).getInputStream(this.resource)) {
+			assertThat(in).isNotInstanceOf(ByteBufferInputStream.class);
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(DATA);
+		}
+	}
+
+	@Test
+	public void getInputStreamFromEmptyFileResource() throws IOException {
+
+		File file = File.createTempFile("data-empty", ".json");
+
+		file.deleteOnExit();
+
+		try (InputStream in = new MappedFileResourceReader().getInputStream(new FileSystemResource(file))) {
+			assertThat(StreamUtils.copyToByteArray(in)).isEmpty();
+		}
+	}
+
+	@Test
+	public void compositeReaderFallsBackForFileResourceLargerThanMaximumMappedRegionSize() {
+
+		ResourceReader reader = new TestMappedFileResourceReader(DATA.length - 1)
+			.thenReadFrom(new ByteArrayResourceReader());
+
+		assertThat(reader.read(this.resource)).isEqualTo(DATA);
+		assertThat(reader.readIntoByteBuffer(this.resource)).isEqualTo(ByteBuffer.wrap(DATA));
+	}
+
+	@Test
+	public void compositeReaderFallsBackForNonFileResource() throws IOException {
+
+		ResourceReader reader = new MappedFileResourceReader().thenReadFrom(new ByteArrayResourceReader());
+
+		Resource byteArrayResource = new ByteArrayResource(DATA);
+
+		assertThat(reader.read(byteArrayResource)).isEqualTo(DATA);
+		assertThat(reader.readIntoByteBuffer(this.resource).isReadOnly()).isTrue();
+
+		try (InputStream in = reader.getInputStream(this.resource)) {
+			assertThat(in).isInstanceOf(ByteBufferInputStream.class);
+		}
+
+		try (InputStream in = reader.getInputStream(byteArrayResource)) {
+			assertThat(in).isNotInstanceOf(ByteBufferInputStream.class);
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(DATA);
+		}
+	}
+
+	static class TestMappedFileResourceReader extends MappedFileResourceReader {
+
+		private final long maximumMappedRegionSize;
+
+		TestMappedFileResourceReader(long maximumMappedRegionSize) {
+			this.maximumMappedRegionSize = maximumMappedRegionSize;
+		}
+
+		@Override
+		protected long getMaximumMappedRegionSize() {
+			return this.maximumMappedRegionSize;
+		}
+	}
+}
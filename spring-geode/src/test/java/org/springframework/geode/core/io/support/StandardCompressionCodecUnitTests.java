@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.core.io.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit Tests for {@link StandardCompressionCodec}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.core.io.support.StandardCompressionCodec
+ * @since 1.4.0
+ */
+public class StandardCompressionCodecUnitTests {
+
+	private static final byte[] DATA = "[{ \"name\": \"Jon Doe\" }, { \"name\": \"Jane Doe\" }, { \"name\": \"Jon Doe\" }]"
+		.getBytes(StandardCharsets.UTF_8);
+
+	private void assertRoundTrip(StandardCompressionCodec codec) throws IOException {
+
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+		try (OutputStream out = codec.compress(compressed)) {
+			out.write(DATA);
+		}
+
+		assertThat(compressed.toByteArray()).isNotEmpty();
+		assertThat(compressed.toByteArray()).isNotEqualTo(DATA);
+
+		try (InputStream in = codec.decompress(new ByteArrayInputStream(compressed.toByteArray()))) {
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(DATA);
+		}
+	}
+
+	@Test
+	public void deflateRoundTripsData() throws IOException {
+		assertRoundTrip(StandardCompressionCodec.DEFLATE);
+	}
+
+	@Test
+	public void gzipRoundTripsData() throws IOException {
+		assertRoundTrip(StandardCompressionCodec.GZIP);
+	}
+
+	@Test
+	public void fromReturnsStandardCompressionCodec() {
+
+		assertThat(StandardCompressionCodec.from(" GZip ")).isEqualTo(StandardCompressionCodec.GZIP);
+
+		for (StandardCompressionCodec codec : StandardCompressionCodec.values()) {
+			assertThat(StandardCompressionCodec.from(codec.getName())).isEqualTo(codec);
+		}
+	}
+
+	@Test
+	public void fromInvalidNameReturnsNull() {
+
+		assertThat(StandardCompressionCodec.from("zip")).isNull();
+		assertThat(StandardCompressionCodec.from("  ")).isNull();
+		assertThat(StandardCompressionCodec.from("")).isNull();
+		assertThat(StandardCompressionCodec.from(null)).isNull();
+	}
+
+	@Test
+	public void isAbleToHandleLocationWithMatchingFileExtension() {
+
+		assertThat(StandardCompressionCodec.GZIP.isAbleToHandle("file:///path/to/data-example.json.gz")).isTrue();
+		assertThat(StandardCompressionCodec.GZIP.isAbleToHandle("classpath:data-example.binary.GZ ")).isTrue();
+		assertThat(StandardCompressionCodec.DEFLATE.isAbleToHandle("data-example.json.deflate")).isTrue();
+	}
+
+	@Test
+	public void isNotAbleToHandleLocationWithNonMatchingFileExtension() {
+
+		assertThat(StandardCompressionCodec.GZIP.isAbleToHandle("file:///path/to/data-example.json")).isFalse();
+		assertThat(StandardCompressionCodec.GZIP.isAbleToHandle("data-example.json.deflate")).isFalse();
+		assertThat(StandardCompressionCodec.DEFLATE.isAbleToHandle("data-example.json.gz")).isFalse();
+		assertThat(StandardCompressionCodec.GZIP.isAbleToHandle("  ")).isFalse();
+		assertThat(StandardCompressionCodec.GZIP.isAbleToHandle(null)).isFalse();
+	}
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.core.io.Resource;
+import org.springframework.geode.core.io.ResourceReader;
+import org.springframework.geode.core.io.ResourceWriter;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
+
+/**
+ * Unit Tests for {@link BinaryCacheDataImporterExporter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.data.binary.BinaryCacheDataImporterExporter
+ * @since 1.4.0
+ */
+public class BinaryCacheDataImporterExporterUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String name, Map<Object, Object> entries) {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(name).when(mockRegion).getName();
+		doReturn(entries.entrySet()).when(mockRegion).entrySet();
+
+		return mockRegion;
+	}
+
+	private byte[] export(Region<?, ?> region) {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		new BinaryCacheDataImporterExporter().writeBinary(region, out);
+
+		return out.toByteArray();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void writeAndReadBinaryRoundTripsRegionEntries() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		entries.put(1, "Jon Doe");
+		entries.put(2, "Jane Doe");
+		entries.put("three", 3L);
+
+		byte[] binary = export(mockRegion("Example", entries));
+
+		Map<Object, Object> importedEntries = new LinkedHashMap<>();
+
+		Region<Object, Object> mockTargetRegion = mock(Region.class);
+
+		doReturn("Example").when(mockTargetRegion).getName();
+		doAnswer(invocation -> {
+			importedEntries.putAll(invocation.getArgument(0));
+			return null;
+		}).when(mockTargetRegion).putAll(anyMap());
+
+		new BinaryCacheDataImporterExporter().readBinary(mockTargetRegion, new ByteArrayInputStream(binary));
+
+		assertThat(importedEntries).containsExactlyEntriesOf(entries);
+
+		verify(mockTargetRegion, times(1)).putAll(anyMap());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readBinaryPutsEntriesIntoRegionInBatches() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		for (int index = 0; index < 5; index++) {
+			entries.put(index, "value" + index);
+		}
+
+		byte[] binary = export(mockRegion("Example", entries));
+
+		List<Map<Object, Object>> batches = new ArrayList<>();
+
+		Region<Object, Object> mockTargetRegion = mock(Region.class);
+
+		doAnswer(invocation -> batches.add(new LinkedHashMap<>(invocation.getArgument(0))))
+			.when(mockTargetRegion).putAll(anyMap());
+
+		BinaryCacheDataImporterExporter importer = spy(new BinaryCacheDataImporterExporter());
+
+		doReturn(2).when(importer).getImportBatchSize();
+
+		importer.readBinary(mockTargetRegion, new ByteArrayInputStream(binary));
+
+		assertThat(batches).hasSize(3);
+		assertThat(batches.get(0)).containsOnlyKeys(0, 1);
+		assertThat(batches.get(1)).containsOnlyKeys(2, 3);
+		assertThat(batches.get(2)).containsOnlyKeys(4);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readBinaryFromEmptyRegionDoesNotPutIntoRegion() {
+
+		byte[] binary = export(mockRegion("Example", new LinkedHashMap<>()));
+
+		Region<Object, Object> mockTargetRegion = mock(Region.class);
+
+		new BinaryCacheDataImporterExporter().readBinary(mockTargetRegion, new ByteArrayInputStream(binary));
+
+		verify(mockTargetRegion, never()).putAll(anyMap());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	@SuppressWarnings("unchecked")
+	public void readBinaryWithInvalidMagicNumberThrowsIllegalStateException() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("Example").when(mockRegion).getName();
+
+		try {
+			new BinaryCacheDataImporterExporter()
+				.readBinary(mockRegion, new ByteArrayInputStream("[{ \"name\": \"Jon Doe\" }]".getBytes()));
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Resource for Region [Example] does not contain binary cache data");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockRegion, never()).putAll(anyMap());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	@SuppressWarnings("unchecked")
+	public void readBinaryWithUnsupportedVersionThrowsIllegalStateException() {
+
+		byte[] binary = export(mockRegion("Example", new LinkedHashMap<>()));
+
+		binary[7] = 42;
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("Example").when(mockRegion).getName();
+
+		try {
+			new BinaryCacheDataImporterExporter().readBinary(mockRegion, new ByteArrayInputStream(binary));
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Binary cache data format version [42] for Region [Example]"
+				+ " is not supported; expected version [1]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	@SuppressWarnings("unchecked")
+	public void readBinaryWithEntryLengthLargerThanRemainingBytesThrowsIllegalStateException() throws IOException {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn("Example").when(mockRegion).getName();
+
+		BinaryCacheDataImporterExporter importer = new BinaryCacheDataImporterExporter();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (DataOutputStream dataOutput = new DataOutputStream(out)) {
+			importer.writeHeader(mockRegion, dataOutput);
+			dataOutput.writeInt(Integer.MAX_VALUE);
+			dataOutput.write(new byte[16]);
+		}
+
+		try {
+			importer.readBinary(mockRegion, new ByteArrayInputStream(out.toByteArray()));
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Binary cache data entry length [%d] is larger than the [16] byte(s)"
+				+ " remaining", Integer.MAX_VALUE);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockRegion, never()).putAll(anyMap());
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void writeBinaryFromClientProxyRegionGetsEntriesFromServerInBatches() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		for (int key = 1; key <= 5; key++) {
+			entries.put(key, "value" + key);
+		}
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn("Example").when(mockRegion).getName();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("DEFAULT").when(mockRegionAttributes).getPoolName();
+		doReturn(entries.keySet()).when(mockRegion).keySetOnServer();
+		doAnswer(invocation -> {
+
+			Map<Object, Object> batch = new LinkedHashMap<>();
+
+			((Collection<?>) invocation.getArgument(0)).forEach(key -> batch.put(key, entries.get(key)));
+
+			return batch;
+
+		}).when(mockRegion).getAll(any(Collection.class));
+
+		BinaryCacheDataImporterExporter exporter = spy(new BinaryCacheDataImporterExporter());
+
+		doReturn(2).when(exporter).getExportBatchSize();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exporter.writeBinary(mockRegion, out);
+
+		Region<Object, Object> mockTargetRegion = mock(Region.class);
+
+		List<Map<Object, Object>> batches = new ArrayList<>();
+
+		doAnswer(invocation -> batches.add(new LinkedHashMap<>(invocation.getArgument(0))))
+			.when(mockTargetRegion).putAll(anyMap());
+
+		new BinaryCacheDataImporterExporter().readBinary(mockTargetRegion, new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).isEqualTo(entries);
+
+		verify(mockRegion, times(3)).getAll(any(Collection.class));
+		verify(mockRegion, never()).entrySet();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void writeBinaryFromClientProxyRegionSkipsEntriesDestroyedOnServer() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		entries.put(1, "Jon Doe");
+		entries.put(2, null);
+		entries.put(3, "Jane Doe");
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn("Example").when(mockRegion).getName();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("DEFAULT").when(mockRegionAttributes).getPoolName();
+		doReturn(entries.keySet()).when(mockRegion).keySetOnServer();
+		doReturn(entries).when(mockRegion).getAll(any(Collection.class));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		new BinaryCacheDataImporterExporter().writeBinary(mockRegion, out);
+
+		Region<Object, Object> mockTargetRegion = mock(Region.class);
+
+		List<Map<Object, Object>> batches = new ArrayList<>();
+
+		doAnswer(invocation -> batches.add(new LinkedHashMap<>(invocation.getArgument(0))))
+			.when(mockTargetRegion).putAll(anyMap());
+
+		new BinaryCacheDataImporterExporter().readBinary(mockTargetRegion, new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).containsOnlyKeys(1, 3);
+		assertThat(batches.get(0)).containsEntry(1, "Jon Doe");
+		assertThat(batches.get(0)).containsEntry(3, "Jane Doe");
+
+		verify(mockRegion, times(1)).getAll(any(Collection.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void writeBinaryFromNullRegion() {
+
+		try {
+			new BinaryCacheDataImporterExporter().writeBinary(null, new ByteArrayOutputStream());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void doExportFromRegionWritesBinaryToResource() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		entries.put(1, "Jon Doe");
+
+		Region<Object, Object> mockRegion = mockRegion("Example", entries);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ExportResourceResolver mockExportResourceResolver = mock(ExportResourceResolver.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		ResourceWriter mockResourceWriter = mock(ResourceWriter.class);
+
+		doReturn(Optional.of(mockResource)).when(mockExportResourceResolver).resolve(eq(mockRegion));
+		doReturn(out).when(mockResourceWriter).getOutputStream(eq(mockResource));
+
+		TestBinaryCacheDataImporterExporter exporter = spy(new TestBinaryCacheDataImporterExporter());
+
+		doReturn(mockExportResourceResolver).when(exporter).getExportResourceResolver();
+		doReturn(mockResourceWriter).when(exporter).getResourceWriter();
+
+		assertThat(exporter.doExportFrom(mockRegion)).isSameAs(mockRegion);
+		assertThat(out.toByteArray()).isEqualTo(export(mockRegion));
+
+		verify(exporter, times(1)).writeBinary(eq(mockRegion), eq(out));
+		verify(mockResourceWriter, times(1)).getOutputStream(eq(mockResource));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doImportIntoRegionReadsBinaryFromResource() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		InputStream in = new ByteArrayInputStream(export(mockRegion("Example", new LinkedHashMap<>())));
+
+		ImportResourceResolver mockImportResourceResolver = mock(ImportResourceResolver.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		ResourceReader mockResourceReader = mock(ResourceReader.class);
+
+		doReturn(Optional.of(mockResource)).when(mockImportResourceResolver).resolve(eq(mockRegion));
+		doReturn(in).when(mockResourceReader).getInputStream(eq(mockResource));
+
+		TestBinaryCacheDataImporterExporter importer = spy(new TestBinaryCacheDataImporterExporter());
+
+		doReturn(mockImportResourceResolver).when(importer).getImportResourceResolver();
+		doReturn(mockResourceReader).when(importer).getResourceReader();
+
+		assertThat(importer.doImportInto(mockRegion)).isSameAs(mockRegion);
+
+		verify(importer, times(1)).readBinary(eq(mockRegion), eq(in));
+		verify(mockResourceReader, times(1)).getInputStream(eq(mockResource));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doImportIntoRegionWithNoResourceDoesNothing() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		ImportResourceResolver mockImportResourceResolver = mock(ImportResourceResolver.class);
+
+		doReturn(Optional.empty()).when(mockImportResourceResolver).resolve(eq(mockRegion));
+
+		TestBinaryCacheDataImporterExporter importer = spy(new TestBinaryCacheDataImporterExporter());
+
+		doReturn(mockImportResourceResolver).when(importer).getImportResourceResolver();
+
+		assertThat(importer.doImportInto(mockRegion)).isSameAs(mockRegion);
+
+		verify(importer, never()).readBinary(any(), any());
+	}
+
+	@Test
+	public void importBatchSizeDefaultsToOneThousand() {
+		assertThat(new BinaryCacheDataImporterExporter().getImportBatchSize()).isEqualTo(1000);
+	}
+
+	static class TestBinaryCacheDataImporterExporter extends BinaryCacheDataImporterExporter {
+
+		@Override
+		protected ExportResourceResolver getExportResourceResolver() {
+			return super.getExportResourceResolver();
+		}
+
+		@Override
+		protected ImportResourceResolver getImportResourceResolver() {
+			return super.getImportResourceResolver();
+		}
+
+		@Override
+		protected ResourceReader getResourceReader() {
+			return super.getResourceReader();
+		}
+
+		@Override
+		protected ResourceWriter getResourceWriter() {
+			return super.getResourceWriter();
+		}
+	}
+}
@@ -16,17 +16,38 @@
 package org.springframework.geode.data.json;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,17 +55,33 @@ import org.mockito.InOrder;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceWriter;
+import org.springframework.geode.data.function.ExportRegionValuesFunction;
 import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+import org.springframework.geode.data.json.converter.ObjectToJsonConverter;
+import org.springframework.geode.data.json.converter.support.JacksonJsonToPdxConverter;
+import org.springframework.geode.data.json.converter.support.JacksonStreamingJsonToPdxConverter;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
+import org.springframework.geode.function.support.StreamingResultCollector;
 import org.springframework.lang.NonNull;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit Tests for {@link JsonCacheDataImporterExporter}.
@@ -103,6 +140,44 @@ public class JsonCacheDataImporterExporterUnitTests {
 		verifyNoInteractions(mockResource);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doExportFromRegionStreamsJson() {
+
+		OutputStream mockOutputStream = mock(OutputStream.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		ResourceWriter mockResourceWriter = mock(ResourceWriter.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		ExportResourceResolver mockExportResourceResolver = mock(ExportResourceResolver.class);
+
+		doReturn(true).when(this.importerExporter).isExportStreamingEnabled();
+		doReturn(mockExportResourceResolver).when(this.importerExporter).getExportResourceResolver();
+		doReturn(mockResourceWriter).when(this.importerExporter).getResourceWriter();
+		doReturn(Optional.of(mockResource)).when(mockExportResourceResolver).resolve(eq(mockRegion));
+		doReturn(mockOutputStream).when(mockResourceWriter).getOutputStream(eq(mockResource));
+		doNothing().when(this.importerExporter).writeJson(any(Region.class), any(OutputStream.class));
+
+		assertThat(this.importerExporter.doExportFrom(mockRegion)).isEqualTo(mockRegion);
+
+		InOrder order = inOrder(this.importerExporter, mockExportResourceResolver, mockResourceWriter);
+
+		order.verify(this.importerExporter, times(1)).getExportResourceResolver();
+		order.verify(mockExportResourceResolver, times(1)).resolve(eq(mockRegion));
+		order.verify(this.importerExporter, times(1)).isExportStreamingEnabled();
+		order.verify(this.importerExporter, times(1)).getResourceWriter();
+		order.verify(mockResourceWriter, times(1)).getOutputStream(eq(mockResource));
+		order.verify(this.importerExporter, times(1)).writeJson(eq(mockRegion), eq(mockOutputStream));
+
+		verify(this.importerExporter, never()).toJson(any());
+		verify(mockResourceWriter, never()).write(any(), any(byte[].class));
+		verifyNoMoreInteractions(mockExportResourceResolver, mockResourceWriter);
+		verifyNoInteractions(mockOutputStream);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void doExportFromWithNoResource() {
@@ -317,6 +392,466 @@ public class JsonCacheDataImporterExporterUnitTests {
 		}
 	}
 
+	@Test
+	public void writeJsonFromEmptyRegion() {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn(Collections.emptyList()).when(mockRegion).values();
+
+		this.importerExporter.writeJson(mockRegion, out);
+
+		assertThat(new String(out.toByteArray())).isEqualTo("[]");
+
+		verify(mockRegion, times(1)).values();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void writeJsonFromNullRegion() {
+
+		try {
+			this.importerExporter.writeJson(null, new ByteArrayOutputStream());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readJsonPutsPdxIntoRegionInBatches() {
+
+		InputStream json = new ByteArrayInputStream("[]".getBytes());
+
+		JsonToPdxArrayConverter mockConverter = mock(JsonToPdxArrayConverter.class);
+
+		PdxInstance mockPdxInstanceOne = mock(PdxInstance.class);
+		PdxInstance mockPdxInstanceTwo = mock(PdxInstance.class);
+		PdxInstance mockPdxInstanceThree = mock(PdxInstance.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doAnswer(invocation -> {
+
+			Consumer<PdxInstance> pdxInstanceConsumer = invocation.getArgument(1);
+
+			pdxInstanceConsumer.accept(mockPdxInstanceOne);
+			pdxInstanceConsumer.accept(mockPdxInstanceTwo);
+			pdxInstanceConsumer.accept(mockPdxInstanceThree);
+
+			return null;
+
+		}).when(mockConverter).convert(any(InputStream.class), any(Consumer.class));
+
+		doReturn(mockConverter).when(this.importerExporter).getJsonToPdxArrayConverter();
+		doReturn(2).when(this.importerExporter).getImportBatchSize();
+		doReturn(1).when(this.importerExporter).resolveKey(eq(mockPdxInstanceOne));
+		doReturn(2).when(this.importerExporter).resolveKey(eq(mockPdxInstanceTwo));
+		doReturn(3).when(this.importerExporter).resolveKey(eq(mockPdxInstanceThree));
+		doReturn("one").when(this.importerExporter).resolveValue(eq(mockPdxInstanceOne));
+		doReturn("two").when(this.importerExporter).resolveValue(eq(mockPdxInstanceTwo));
+		doReturn("three").when(this.importerExporter).resolveValue(eq(mockPdxInstanceThree));
+
+		this.importerExporter.readJson(mockRegion, json);
+
+		verify(this.importerExporter, times(1)).getImportBatchSize();
+		verify(this.importerExporter, times(1)).getJsonToPdxArrayConverter();
+		verify(mockConverter, times(1)).convert(eq(json), any(Consumer.class));
+		verify(this.importerExporter, times(3)).resolveKey(any(PdxInstance.class));
+		verify(this.importerExporter, times(3)).resolveValue(any(PdxInstance.class));
+		verify(mockRegion, times(2)).putAll(anyMap());
+		verifyNoMoreInteractions(mockConverter, mockRegion);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readJsonWithNoPdxDoesNotPutIntoRegion() {
+
+		InputStream json = new ByteArrayInputStream(new byte[0]);
+
+		JsonToPdxArrayConverter mockConverter = mock(JsonToPdxArrayConverter.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		doReturn(mockConverter).when(this.importerExporter).getJsonToPdxArrayConverter();
+
+		this.importerExporter.readJson(mockRegion, json);
+
+		verify(mockConverter, times(1)).convert(eq(json), any(Consumer.class));
+		verifyNoInteractions(mockRegion);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void readJsonIntoNullRegion() {
+
+		try {
+			this.importerExporter.readJson(null, new ByteArrayInputStream(new byte[0]));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void importBatchSizeDefaultsToOneThousand() {
+
+		JsonCacheDataImporterExporter importer = new JsonCacheDataImporterExporter();
+
+		assertThat(importer.getImportBatchSize()).isEqualTo(1000);
+	}
+
+	@Test
+	public void toJsonUsesConfiguredObjectToJsonConverter() {
+
+		ObjectToJsonConverter mockConverter = mock(ObjectToJsonConverter.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn(Arrays.asList("one", "two")).when(mockRegion).values();
+		doReturn("{ \"value\": 1 }").when(mockConverter).convert(eq("one"));
+		doReturn("{ \"value\": 2 }").when(mockConverter).convert(eq("two"));
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		ReflectionTestUtils.setField(importerExporter, "objectToJsonConverter", mockConverter);
+
+		importerExporter.afterPropertiesSet();
+
+		assertThat(importerExporter.toJson(mockRegion)).isEqualTo("[{ \"value\": 1 }, { \"value\": 2 }]");
+
+		verify(mockConverter, times(1)).convert(eq("one"));
+		verify(mockConverter, times(1)).convert(eq("two"));
+		verifyNoMoreInteractions(mockConverter);
+	}
+
+	@Test
+	public void defaultJsonToPdxArrayConverterIsNotStreamingWhenStreamingImportIsDisabled() {
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		importerExporter.setEnvironment(new MockEnvironment());
+		importerExporter.afterPropertiesSet();
+
+		assertThat(importerExporter.getJsonToPdxArrayConverter()).isInstanceOf(JacksonJsonToPdxConverter.class);
+	}
+
+	@Test
+	public void defaultJsonToPdxArrayConverterIsStreamingWhenStreamingImportIsEnabled() {
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		importerExporter.setEnvironment(new MockEnvironment()
+			.withProperty(JsonCacheDataImporterExporter.CACHE_DATA_IMPORT_STREAMING_ENABLED_PROPERTY_NAME, "true"));
+		importerExporter.afterPropertiesSet();
+
+		assertThat(importerExporter.getJsonToPdxArrayConverter())
+			.isInstanceOf(JacksonStreamingJsonToPdxConverter.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockClientProxyRegion() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn(mock(ClientCache.class)).when(mockRegion).getRegionService();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn(DataPolicy.EMPTY).when(mockRegionAttributes).getDataPolicy();
+
+		return mockRegion;
+	}
+
+	@Test
+	public void exportFunctionIsDisabledByDefault() {
+		assertThat(new JsonCacheDataImporterExporter().isExportFunctionEnabled()).isFalse();
+	}
+
+	@Test
+	public void toJsonFromClientProxyRegionWithExportFunctionEnabledExecutesFunction() {
+
+		Region<Object, Object> mockRegion = mockClientProxyRegion();
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.endResults();
+
+		doReturn(true).when(this.importerExporter).isExportFunctionEnabled();
+		doReturn(resultCollector.getResult()).when(this.importerExporter).executeExportFunction(eq(mockRegion));
+
+		assertThat(this.importerExporter.toJson(mockRegion)).isEqualTo("[]");
+
+		verify(this.importerExporter, times(1)).executeExportFunction(eq(mockRegion));
+		verify(mockRegion, never()).keySetOnServer();
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+		verify(mockRegion, never()).values();
+	}
+
+	@Test
+	public void writeJsonFromClientProxyRegionWithExportFunctionEnabledExecutesFunction() {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		Region<Object, Object> mockRegion = mockClientProxyRegion();
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.endResults();
+
+		doReturn(true).when(this.importerExporter).isExportFunctionEnabled();
+		doReturn(resultCollector.getResult()).when(this.importerExporter).executeExportFunction(eq(mockRegion));
+
+		this.importerExporter.writeJson(mockRegion, out);
+
+		assertThat(new String(out.toByteArray())).isEqualTo("[]");
+
+		verify(this.importerExporter, times(1)).executeExportFunction(eq(mockRegion));
+		verify(mockRegion, never()).keySetOnServer();
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+	}
+
+	@Test
+	public void writeJsonClosesExportFunctionResultsWhenExportFails() {
+
+		Region<Object, Object> mockRegion = mockClientProxyRegion();
+
+		IllegalStateException cause = new IllegalStateException("TEST");
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(null, Collections.singletonList("test"));
+		resultCollector.addFailure(cause);
+
+		doReturn(true).when(this.importerExporter).isExportFunctionEnabled();
+		doReturn(resultCollector.getResult()).when(this.importerExporter).executeExportFunction(eq(mockRegion));
+
+		assertThatThrownBy(() -> this.importerExporter.writeJson(mockRegion, new ByteArrayOutputStream()))
+			.isInstanceOf(FunctionException.class)
+			.hasCause(cause);
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+	}
+
+	@Test
+	public void toJsonFromPeerRegionWithExportFunctionEnabledDoesNotExecuteFunction() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn(true).when(this.importerExporter).isExportFunctionEnabled();
+
+		assertThat(this.importerExporter.toJson(mockRegion)).isEqualTo("[]");
+
+		verify(this.importerExporter, never()).executeExportFunction(any());
+		verify(mockRegion, times(1)).values();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeExportFunctionStreamsChunkedResults() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Execution mockExecution = mock(Execution.class);
+
+		AtomicReference<ResultCollector> resultCollector = new AtomicReference<>();
+
+		doReturn(mockExecution).when(this.importerExporter).newExportFunctionExecution(eq(mockRegion));
+
+		doAnswer(invocation -> {
+			resultCollector.set(invocation.getArgument(0));
+			return mockExecution;
+		}).when(mockExecution).withCollector(any(ResultCollector.class));
+
+		doAnswer(invocation -> {
+			resultCollector.get().addResult(null, Arrays.asList("one", "two"));
+			resultCollector.get().addResult(null, Collections.singletonList("three"));
+			resultCollector.get().endResults();
+			return resultCollector.get();
+		}).when(mockExecution).execute(eq(ExportRegionValuesFunction.ID));
+
+		List<Object> values = new ArrayList<>();
+
+		this.importerExporter.executeExportFunction(mockRegion).forEach(values::add);
+
+		assertThat(values).containsExactly("one", "two", "three");
+		assertThat(resultCollector.get()).isInstanceOf(StreamingResultCollector.class);
+
+		verify(mockExecution, times(1)).execute(eq(ExportRegionValuesFunction.ID));
+		verify(this.importerExporter, times(1)).getExportExecutorService();
+	}
+
+	@Test
+	public void destroyShutsDownExportExecutorService() {
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		ExecutorService exportExecutorService = importerExporter.getExportExecutorService();
+
+		assertThat(importerExporter.getExportExecutorService()).isSameAs(exportExecutorService);
+
+		importerExporter.destroy();
+
+		assertThat(exportExecutorService.isShutdown()).isTrue();
+		assertThat(importerExporter.getExportExecutorService()).isNotSameAs(exportExecutorService);
+
+		importerExporter.destroy();
+	}
+
+	@Test(expected = FunctionException.class)
+	@SuppressWarnings("unchecked")
+	public void executeExportFunctionRethrowsFunctionExecutionFailure() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Execution mockExecution = mock(Execution.class);
+
+		FunctionException cause = new FunctionException("Function [ExportRegionValuesFunction] is not registered");
+
+		doReturn(mockExecution).when(this.importerExporter).newExportFunctionExecution(eq(mockRegion));
+		doReturn(mockExecution).when(mockExecution).withCollector(any(ResultCollector.class));
+		doThrow(cause).when(mockExecution).execute(eq(ExportRegionValuesFunction.ID));
+
+		try {
+			this.importerExporter.executeExportFunction(mockRegion).iterator().hasNext();
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).isSameAs(cause);
+
+			throw expected;
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeExportFunctionRethrowsFunctionExecutionError() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Execution mockExecution = mock(Execution.class);
+
+		OutOfMemoryError cause = new OutOfMemoryError("TEST");
+
+		doReturn(mockExecution).when(this.importerExporter).newExportFunctionExecution(eq(mockRegion));
+		doReturn(mockExecution).when(mockExecution).withCollector(any(ResultCollector.class));
+		doThrow(cause).when(mockExecution).execute(eq(ExportRegionValuesFunction.ID));
+
+		assertThatThrownBy(() -> this.importerExporter.executeExportFunction(mockRegion).iterator().hasNext())
+			.isInstanceOf(FunctionException.class)
+			.hasCause(cause);
+	}
+
+	private JsonCacheDataImporterExporter newParallelExportingImporterExporter() {
+
+		ObjectToJsonConverter mockConverter = mock(ObjectToJsonConverter.class);
+
+		doAnswer(invocation -> String.format("{\"name\":\"%s\"}", invocation.<Object>getArgument(0)))
+			.when(mockConverter).convert(any());
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		ReflectionTestUtils.setField(importerExporter, "objectToJsonConverter", mockConverter);
+
+		importerExporter.afterPropertiesSet();
+
+		importerExporter = spy(importerExporter);
+
+		doReturn(true).when(importerExporter).isExportParallelEnabled();
+
+		return importerExporter;
+	}
+
+	@Test
+	public void destroyShutsDownExportForkJoinPool() {
+
+		JsonCacheDataImporterExporter importerExporter = new JsonCacheDataImporterExporter();
+
+		ForkJoinPool exportForkJoinPool = importerExporter.getExportForkJoinPool();
+
+		assertThat(importerExporter.getExportForkJoinPool()).isSameAs(exportForkJoinPool);
+
+		importerExporter.destroy();
+
+		assertThat(exportForkJoinPool.isShutdown()).isTrue();
+		assertThat(importerExporter.getExportForkJoinPool()).isNotSameAs(exportForkJoinPool);
+
+		importerExporter.destroy();
+	}
+
+	@Test
+	public void exportParallelIsDisabledByDefault() {
+		assertThat(new JsonCacheDataImporterExporter().isExportParallelEnabled()).isFalse();
+	}
+
+	@Test
+	public void writeJsonFromPeerPartitionRegionWithParallelExportEnabledWritesLocalPrimaryValues()
+			throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		PartitionedRegion mockRegion = mock(PartitionedRegion.class);
+
+		JsonCacheDataImporterExporter importerExporter = newParallelExportingImporterExporter();
+
+		doReturn(Stream.of(Arrays.asList("Jon Doe", "Jane Doe"), Collections.singletonList("Pie Doe")))
+			.when(importerExporter).streamLocalPrimaryValues(eq(mockRegion));
+
+		importerExporter.writeJson(mockRegion, out);
+
+		String json = new String(out.toByteArray());
+
+		assertThat(json).startsWith("[").endsWith("]");
+		assertThat(json).contains("{\"name\":\"Jon Doe\"},{\"name\":\"Jane Doe\"}");
+		assertThat(json).contains("{\"name\":\"Pie Doe\"}");
+		assertThat(json).hasSize(59);
+
+		verify(importerExporter, times(1)).writeJsonInParallel(eq(mockRegion), any(JsonGenerator.class));
+		verify(importerExporter, times(1)).streamLocalPrimaryValues(eq(mockRegion));
+		verify(mockRegion, never()).values();
+	}
+
+	@Test
+	public void toJsonFromPeerPartitionRegionWithParallelExportEnabledConvertsLocalPrimaryValues()
+			throws IOException {
+
+		PartitionedRegion mockRegion = mock(PartitionedRegion.class);
+
+		JsonCacheDataImporterExporter importerExporter = newParallelExportingImporterExporter();
+
+		doReturn(Stream.of(Collections.singletonList("Jon Doe")))
+			.when(importerExporter).streamLocalPrimaryValues(eq(mockRegion));
+
+		assertThat(importerExporter.toJson(mockRegion)).isEqualTo("[{\"name\":\"Jon Doe\"}]");
+
+		verify(importerExporter, times(1)).writeJsonInParallel(eq(mockRegion), any(JsonGenerator.class));
+		verify(mockRegion, never()).values();
+	}
+
+	@Test
+	public void toJsonFromClientRegionWithParallelExportEnabledDoesNotExportInParallel() throws IOException {
+
+		Region<Object, Object> mockRegion = mockClientProxyRegion();
+
+		doReturn(true).when(this.importerExporter).isExportParallelEnabled();
+		doReturn(Collections.emptySet()).when(mockRegion).keySetOnServer();
+
+		assertThat(this.importerExporter.toJson(mockRegion)).isEqualTo("[]");
+
+		verify(this.importerExporter, never()).writeJsonInParallel(any(), any());
+	}
+
 	@Test
 	public void toPdxArrayFromJsonCallsJsonToPdxArrayConverter() {
 
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -26,13 +27,26 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
 import example.app.crm.model.Customer;
 
 /**
@@ -111,6 +125,256 @@ public class AbstractObjectArrayToJsonConverterUnitTests {
 		}
 	}
 
+	@Test
+	public void writeIterable() throws IOException {
+
+		Customer jonDoe = Customer.newCustomer(1L, "Jon Doe");
+		Customer janeDoe = Customer.newCustomer(2L, "Jane Doe");
+
+		Iterable<Object> iterable = Arrays.asList(jonDoe, janeDoe);
+
+		String jonDoeJson = "{\"name\":\"Jon Doe\"}";
+		String janeDoeJson = "{\"name\":\"Jane Doe\"}";
+		String json = String.format("[%s,%s]", jonDoeJson, janeDoeJson);
+
+		ObjectToJsonConverter mockConverter = mock(ObjectToJsonConverter.class);
+
+		doReturn(jonDoeJson).when(mockConverter).convert(eq(jonDoe));
+		doReturn(janeDoeJson).when(mockConverter).convert(eq(janeDoe));
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).write(ArgumentMatchers.<Iterable<Object>>any(), any(JsonGenerator.class));
+		doReturn(mockConverter).when(converter).getObjectToJsonConverter();
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.write(iterable, jsonGenerator);
+		}
+
+		assertThat(writer.toString()).isEqualTo(json);
+
+		verify(converter, times(1)).getObjectToJsonConverter();
+		verify(mockConverter, times(1)).convert(eq(jonDoe));
+		verify(mockConverter, times(1)).convert(eq(janeDoe));
+	}
+
+	@Test
+	public void writeIterableWithStreamingConverter() throws IOException {
+
+		Customer jonDoe = Customer.newCustomer(1L, "Jon Doe");
+		Customer janeDoe = Customer.newCustomer(2L, "Jane Doe");
+
+		StreamingObjectToJsonConverter mockConverter = mock(StreamingObjectToJsonConverter.class);
+
+		doAnswer(invocation -> {
+
+			Customer customer = invocation.getArgument(0);
+
+			invocation.<JsonGenerator>getArgument(1).writeRawValue("{\"id\":" + customer.getId() + "}");
+
+			return null;
+		}).when(mockConverter).write(any(), any(JsonGenerator.class));
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).write(ArgumentMatchers.<Iterable<Object>>any(), any(JsonGenerator.class));
+		doReturn(mockConverter).when(converter).getObjectToJsonConverter();
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.write(Arrays.asList(jonDoe, janeDoe), jsonGenerator);
+		}
+
+		assertThat(writer.toString()).isEqualTo("[{\"id\":1},{\"id\":2}]");
+
+		verify(mockConverter, times(1)).write(eq(jonDoe), isA(JsonGenerator.class));
+		verify(mockConverter, times(1)).write(eq(janeDoe), isA(JsonGenerator.class));
+		verify(mockConverter, never()).convert(any());
+	}
+
+	@Test
+	public void writeEmptyIterable() throws IOException {
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).write(ArgumentMatchers.<Iterable<Object>>any(), any(JsonGenerator.class));
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.write(Collections.emptySet(), jsonGenerator);
+		}
+
+		assertThat(writer.toString()).isEqualTo("[]");
+
+		verify(converter, times(1)).getObjectToJsonConverter();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void writeToNullJsonGenerator() throws IOException {
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).write(ArgumentMatchers.<Iterable<Object>>any(), any());
+
+		try {
+			converter.write(Collections.emptySet(), null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("JsonGenerator must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(converter, never()).getObjectToJsonConverter();
+		}
+	}
+
+	private AbstractObjectArrayToJsonConverter newSegmentWritingConverter() throws IOException {
+
+		ObjectToJsonConverter mockConverter = mock(ObjectToJsonConverter.class);
+
+		doAnswer(invocation -> "{\"id\":" + invocation.getArgument(0) + "}").when(mockConverter).convert(any());
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).writeSegments(any(), any());
+		doReturn(mockConverter).when(converter).getObjectToJsonConverter();
+
+		return converter;
+	}
+
+	@Test
+	public void writeSegments() throws IOException {
+
+		AbstractObjectArrayToJsonConverter converter = newSegmentWritingConverter();
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.writeSegments(Stream.of(Arrays.asList(1, 2), Collections.emptyList(), null,
+				Collections.singletonList(3)), jsonGenerator);
+		}
+
+		assertThat(writer.toString()).isEqualTo("[{\"id\":1},{\"id\":2},{\"id\":3}]");
+
+		verify(converter, times(1)).getObjectToJsonConverter();
+	}
+
+	@Test
+	public void writeSegmentsInParallel() throws IOException {
+
+		AbstractObjectArrayToJsonConverter converter = newSegmentWritingConverter();
+
+		StringWriter writer = new StringWriter();
+
+		Stream<List<Integer>> segments = IntStream.range(0, 113)
+			.mapToObj(bucket -> Arrays.asList(bucket * 2, bucket * 2 + 1))
+			.parallel();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.writeSegments(segments, jsonGenerator);
+		}
+
+		JsonNode json = new ObjectMapper().readTree(writer.toString());
+
+		assertThat(json.isArray()).isTrue();
+		assertThat(json.size()).isEqualTo(226);
+
+		Set<Integer> ids = new HashSet<>();
+
+		json.forEach(node -> ids.add(node.get("id").asInt()));
+
+		assertThat(ids).hasSize(226);
+	}
+
+	@Test
+	public void writeSegmentsInParallelWithStreamingConverter() throws IOException {
+
+		StreamingObjectToJsonConverter mockConverter = mock(StreamingObjectToJsonConverter.class);
+
+		doAnswer(invocation -> {
+
+			JsonGenerator jsonGenerator = invocation.getArgument(1);
+
+			jsonGenerator.writeStartObject();
+			jsonGenerator.writeNumberField("id", invocation.<Integer>getArgument(0));
+			jsonGenerator.writeEndObject();
+
+			return null;
+		}).when(mockConverter).write(any(), any(JsonGenerator.class));
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).writeSegments(any(), any());
+		doReturn(mockConverter).when(converter).getObjectToJsonConverter();
+
+		StringWriter writer = new StringWriter();
+
+		Stream<List<Integer>> segments = IntStream.range(0, 113)
+			.mapToObj(bucket -> Arrays.asList(bucket * 2, bucket * 2 + 1))
+			.parallel();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.writeSegments(segments, jsonGenerator);
+		}
+
+		JsonNode json = new ObjectMapper().readTree(writer.toString());
+
+		assertThat(json.isArray()).isTrue();
+		assertThat(json.size()).isEqualTo(226);
+
+		Set<Integer> ids = new HashSet<>();
+
+		json.forEach(node -> ids.add(node.get("id").asInt()));
+
+		assertThat(ids).hasSize(226);
+
+		verify(mockConverter, times(226)).write(any(), isA(TokenBuffer.class));
+		verify(mockConverter, never()).convert(any());
+	}
+
+	@Test
+	public void writeEmptySegments() throws IOException {
+
+		AbstractObjectArrayToJsonConverter converter = newSegmentWritingConverter();
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.writeSegments(Stream.empty(), jsonGenerator);
+		}
+
+		assertThat(writer.toString()).isEqualTo("[]");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void writeNullSegments() throws IOException {
+
+		AbstractObjectArrayToJsonConverter converter = mock(AbstractObjectArrayToJsonConverter.class);
+
+		doCallRealMethod().when(converter).writeSegments(any(), any());
+
+		try {
+			converter.writeSegments(null, mock(JsonGenerator.class));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Stream must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(converter, never()).getObjectToJsonConverter();
+		}
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void convertMap() {
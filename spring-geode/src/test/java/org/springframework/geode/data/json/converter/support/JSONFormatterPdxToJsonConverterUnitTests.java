@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -29,6 +30,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -548,4 +558,99 @@ public class JSONFormatterPdxToJsonConverterUnitTests {
 	public void isValidJsonWithNull() {
 		assertThat(new JSONFormatterPdxToJsonConverter().isValidJson(null)).isFalse();
 	}
+
+	private String write(JSONFormatterPdxToJsonConverter converter, Object source) throws IOException {
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator jsonGenerator = new JsonFactory().createGenerator(writer)) {
+			converter.write(source, jsonGenerator);
+		}
+
+		return writer.toString();
+	}
+
+	private PdxInstance mockPdxInstance(String className, Map<String, Object> fields) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(className).when(mockPdxInstance).getClassName();
+		doReturn(new ArrayList<>(fields.keySet())).when(mockPdxInstance).getFieldNames();
+		doAnswer(invocation -> fields.containsKey(invocation.<String>getArgument(0)))
+			.when(mockPdxInstance).hasField(anyString());
+		doAnswer(invocation -> fields.get(invocation.<String>getArgument(0)))
+			.when(mockPdxInstance).getField(anyString());
+
+		return mockPdxInstance;
+	}
+
+	@Test
+	public void writePdxWritesFieldsAndTypeMetadataDirectlyToJsonGenerator() throws IOException {
+
+		Map<String, Object> addressFields = new LinkedHashMap<>();
+
+		addressFields.put("street", "100 Main St.");
+		addressFields.put("zip", 12345);
+
+		Map<String, Object> customerFields = new LinkedHashMap<>();
+
+		customerFields.put("id", 1L);
+		customerFields.put("name", "Jon Doe");
+		customerFields.put("active", true);
+		customerFields.put("balance", new BigDecimal("100.50"));
+		customerFields.put("address", mockPdxInstance(JSONFormatter.JSON_CLASSNAME, addressFields));
+		customerFields.put("scores", new int[] { 1, 2 });
+		customerFields.put("tags", Arrays.asList("a", null));
+		customerFields.put("nickname", null);
+
+		PdxInstance mockPdxInstance = mockPdxInstance(Customer.class.getName(), customerFields);
+
+		JSONFormatterPdxToJsonConverter converter = spy(new JSONFormatterPdxToJsonConverter());
+
+		assertThat(write(converter, mockPdxInstance)).isEqualTo("{\"id\":1,\"name\":\"Jon Doe\",\"active\":true,"
+			+ "\"balance\":100.50,\"address\":{\"street\":\"100 Main St.\",\"zip\":12345},"
+			+ "\"scores\":[1,2],\"tags\":[\"a\",null],\"nickname\":null,"
+			+ "\"@type\":\"example.app.crm.model.Customer\"}");
+
+		verify(converter, never()).jsonFormatterToJson(any());
+		verify(converter, never()).convert(any());
+	}
+
+	@Test
+	public void writePdxWithTypeMetadataDoesNotDuplicateTypeMetadata() throws IOException {
+
+		Map<String, Object> fields = new LinkedHashMap<>();
+
+		fields.put("@type", Customer.class.getName());
+		fields.put("name", "Jon Doe");
+
+		assertThat(write(new JSONFormatterPdxToJsonConverter(), mockPdxInstance(JSONFormatter.JSON_CLASSNAME, fields)))
+			.isEqualTo("{\"@type\":\"example.app.crm.model.Customer\",\"name\":\"Jon Doe\"}");
+	}
+
+	@Test
+	public void writePdxEnumFieldWritesEnumName() throws IOException {
+
+		PdxInstance mockPdxEnum = mock(PdxInstance.class);
+
+		doReturn(true).when(mockPdxEnum).isEnum();
+		doReturn("GOLD").when(mockPdxEnum).getField(eq("name"));
+
+		Map<String, Object> fields = new LinkedHashMap<>();
+
+		fields.put("status", mockPdxEnum);
+
+		assertThat(write(new JSONFormatterPdxToJsonConverter(), mockPdxInstance(Customer.class.getName(), fields)))
+			.isEqualTo("{\"status\":\"GOLD\",\"@type\":\"example.app.crm.model.Customer\"}");
+	}
+
+	@Test
+	public void writeObjectWritesJsonWithTypeMetadata() throws IOException {
+
+		String json = write(new JSONFormatterPdxToJsonConverter(), Customer.newCustomer(1L, "Jon Doe"));
+
+		assertThat(json).doesNotContain("\n");
+		assertThat(json).contains("\"@type\":\"example.app.crm.model.Customer\"");
+		assertThat(json).contains("\"name\":\"Jon Doe\"");
+	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.geode.data.json.converter.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -26,7 +27,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.io.JsonEOFException;
@@ -196,4 +201,120 @@ public class JacksonJsonToPdxConverterUnitTests {
 			throw expected;
 		}
 	}
+
+	@Test
+	public void convertJsonArrayInputStreamToPdx() {
+
+		InputStream json = new ByteArrayInputStream(("[{ \"name\": \"Jon Doe\" }, { \"name\": \"Jane Doe\" },"
+			+ " { \"name\": \"Pie Doe\" }]").getBytes());
+
+		PdxInstance jonDoePdx = mock(PdxInstance.class);
+		PdxInstance janeDoePdx = mock(PdxInstance.class);
+		PdxInstance pieDoePdx = mock(PdxInstance.class);
+
+		JsonToPdxConverter mockJsonToPdxConverter = mock(JsonToPdxConverter.class);
+
+		doReturn(jonDoePdx).when(mockJsonToPdxConverter).convert(eq("{\"name\":\"Jon Doe\"}"));
+		doReturn(janeDoePdx).when(mockJsonToPdxConverter).convert(eq("{\"name\":\"Jane Doe\"}"));
+		doReturn(pieDoePdx).when(mockJsonToPdxConverter).convert(eq("{\"name\":\"Pie Doe\"}"));
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(mockJsonToPdxConverter).when(converter).getJsonToPdxConverter();
+
+		List<PdxInstance> pdxInstances = new ArrayList<>();
+
+		converter.convert(json, pdxInstances::add);
+
+		assertThat(pdxInstances).containsExactly(jonDoePdx, janeDoePdx, pieDoePdx);
+
+		verify(converter, times(1)).getObjectMapper();
+		verify(converter, times(1)).getJsonToPdxConverter();
+		verify(mockJsonToPdxConverter, times(3)).convert(any(String.class));
+		verifyNoInteractions(jonDoePdx, janeDoePdx, pieDoePdx);
+	}
+
+	@Test
+	public void convertJsonObjectInputStreamToPdx() {
+
+		InputStream json = new ByteArrayInputStream("{ \"name\": \"Jon Doe\" }".getBytes());
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		JsonToPdxConverter mockJsonToPdxConverter = mock(JsonToPdxConverter.class);
+
+		doReturn(mockPdxInstance).when(mockJsonToPdxConverter).convert(eq("{\"name\":\"Jon Doe\"}"));
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(mockJsonToPdxConverter).when(converter).getJsonToPdxConverter();
+
+		List<PdxInstance> pdxInstances = new ArrayList<>();
+
+		converter.convert(json, pdxInstances::add);
+
+		assertThat(pdxInstances).containsExactly(mockPdxInstance);
+
+		verify(mockJsonToPdxConverter, times(1)).convert(any(String.class));
+		verifyNoInteractions(mockPdxInstance);
+	}
+
+	@Test
+	public void convertEmptyInputStreamToPdx() {
+
+		JsonToPdxConverter mockJsonToPdxConverter = mock(JsonToPdxConverter.class);
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		List<PdxInstance> pdxInstances = new ArrayList<>();
+
+		converter.convert(new ByteArrayInputStream(new byte[0]), pdxInstances::add);
+
+		assertThat(pdxInstances).isEmpty();
+
+		verify(converter, never()).getJsonToPdxConverter();
+		verifyNoInteractions(mockJsonToPdxConverter);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void convertUnhandledJsonTokenFromInputStream() {
+
+		JacksonJsonToPdxConverter converter = new JacksonJsonToPdxConverter();
+
+		try {
+			converter.convert(new ByteArrayInputStream("\"test\"".getBytes()), pdxInstance -> {});
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Unable to process JSON token [VALUE_STRING];"
+				+ " expected either an [OBJECT] or an [ARRAY]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = DataRetrievalFailureException.class)
+	public void convertInvalidJsonFromInputStreamThrowsDataRetrievalFailureException() {
+
+		JsonToPdxConverter mockJsonToPdxConverter = mock(JsonToPdxConverter.class);
+
+		JacksonJsonToPdxConverter converter = spy(new JacksonJsonToPdxConverter());
+
+		doReturn(mockJsonToPdxConverter).when(converter).getJsonToPdxConverter();
+
+		try {
+			converter.convert(new ByteArrayInputStream("[{ \"name\": ".getBytes()), pdxInstance -> {});
+		}
+		catch (DataRetrievalFailureException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Failed to read JSON content");
+			assertThat(expected).hasCauseInstanceOf(JsonEOFException.class);
+
+			throw expected;
+		}
+		finally {
+			verifyNoInteractions(mockJsonToPdxConverter);
+		}
+	}
 }
@@ -33,6 +33,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.junit.Test;
@@ -171,4 +172,58 @@ public class JacksonObjectToJsonConverterUnitTests {
 		verify(mockObjectMapper, times(1)).findAndRegisterModules();
 		verifyNoMoreInteractions(mockObjectMapper);
 	}
+
+	@Test
+	public void convertReusesObjectMapperForObjectsOfTheSameType() {
+
+		JacksonObjectToJsonConverter converter = spy(new JacksonObjectToJsonConverter());
+
+		assertThat(converter.convert(Customer.newCustomer(1L, "Jon Doe"))).contains("\"name\" : \"Jon Doe\"");
+		assertThat(converter.convert(Customer.newCustomer(2L, "Jane Doe"))).contains("\"name\" : \"Jane Doe\"");
+		assertThat(converter.convert(Customer.newCustomer(3L, "Pie Doe"))).contains("\"name\" : \"Pie Doe\"");
+
+		verify(converter, times(1)).newObjectMapper(any(Customer.class));
+		verify(converter, times(1)).newObjectMapper();
+	}
+
+	@Test
+	public void getObjectMapperCachesObjectMapperByType() {
+
+		JacksonObjectToJsonConverter converter = new JacksonObjectToJsonConverter();
+
+		ObjectMapper objectMapper = converter.getObjectMapper(Customer.newCustomer(1L, "Jon Doe"));
+
+		assertThat(objectMapper).isNotNull();
+		assertThat(converter.getObjectMapper(Customer.newCustomer(2L, "Jane Doe"))).isSameAs(objectMapper);
+		assertThat(converter.getObjectMapper("TEST")).isNotSameAs(objectMapper);
+	}
+
+	@Test
+	public void getObjectMapperAndObjectWriterAreNotSharedBetweenConverters() {
+
+		Customer customer = Customer.newCustomer(1L, "Jon Doe");
+
+		JacksonObjectToJsonConverter converterOne = new JacksonObjectToJsonConverter();
+		JacksonObjectToJsonConverter converterTwo = new JacksonObjectToJsonConverter();
+
+		assertThat(converterOne.getObjectMapper(customer)).isNotSameAs(converterTwo.getObjectMapper(customer));
+		assertThat(converterOne.getObjectWriter(customer)).isSameAs(converterOne.getObjectWriter(customer));
+		assertThat(converterOne.getObjectWriter(customer)).isNotSameAs(converterTwo.getObjectWriter(customer));
+	}
+
+	@Test
+	public void customObjectMapperIsUsedAsTemplateAndIsNotModified() {
+
+		ObjectMapper customObjectMapper = new ObjectMapper()
+			.setPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE);
+
+		JacksonObjectToJsonConverter converter = new JacksonObjectToJsonConverter(customObjectMapper);
+
+		String json = converter.convert(Customer.newCustomer(1L, "Jon Doe"));
+
+		assertThat(json).contains("\"Name\" : \"Jon Doe\"");
+		assertThat(json).contains("\"@type\" : \"example.app.crm.model.Customer\"");
+		assertThat(customObjectMapper.mixInCount()).isZero();
+		assertThat(customObjectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)).isFalse();
+	}
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.data.json.converter.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.geode.pdx.PdxInstanceWrapper;
+
+/**
+ * Unit Tests for {@link JacksonStreamingJsonToPdxConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxInstanceFactory
+ * @see org.springframework.geode.data.json.converter.support.JacksonStreamingJsonToPdxConverter
+ * @since 1.4.0
+ */
+public class JacksonStreamingJsonToPdxConverterUnitTests {
+
+	private final List<PdxInstanceFactory> factories = new ArrayList<>();
+
+	private final List<PdxInstance> pdxInstances = new ArrayList<>();
+
+	private JacksonStreamingJsonToPdxConverter newConverter() {
+
+		JacksonStreamingJsonToPdxConverter converter = spy(new JacksonStreamingJsonToPdxConverter());
+
+		doAnswer(invocation -> {
+
+			PdxInstanceFactory mockFactory = mock(PdxInstanceFactory.class);
+			PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+			doReturn(mockPdxInstance).when(mockFactory).create();
+
+			this.factories.add(mockFactory);
+			this.pdxInstances.add(mockPdxInstance);
+
+			return mockFactory;
+
+		}).when(converter).newPdxInstanceFactory();
+
+		return converter;
+	}
+
+	@Test
+	public void convertJsonArrayBuildsPdxInstancesFromTokens() {
+
+		String json = "[{ \"name\": \"Jon Doe\", \"age\": 42 }, { \"name\": \"Jane Doe\", \"age\": 40000 }]";
+
+		PdxInstance[] pdx = newConverter().convert(json);
+
+		assertThat(pdx).hasSize(2);
+		assertThat(pdx).allMatch(PdxInstanceWrapper.class::isInstance);
+		assertThat(((PdxInstanceWrapper) pdx[0]).getDelegate()).isSameAs(this.pdxInstances.get(0));
+		assertThat(((PdxInstanceWrapper) pdx[1]).getDelegate()).isSameAs(this.pdxInstances.get(1));
+
+		verify(this.factories.get(0), times(1)).writeString(eq("name"), eq("Jon Doe"));
+		verify(this.factories.get(0), times(1)).writeByte(eq("age"), eq((byte) 42));
+		verify(this.factories.get(0), times(1)).create();
+		verify(this.factories.get(1), times(1)).writeString(eq("name"), eq("Jane Doe"));
+		verify(this.factories.get(1), times(1)).writeInt(eq("age"), eq(40000));
+		verify(this.factories.get(1), times(1)).create();
+	}
+
+	@Test
+	public void convertJsonObjectMapsValuesLikeJsonFormatter() {
+
+		String json = "{ \"@type\": \"example.Customer\", \"short\": 1000, \"long\": 5000000000,"
+			+ " \"double\": 3.14, \"active\": true, \"nickname\": null,"
+			+ " \"tags\": [ \"a\", 1, false ], \"address\": { \"city\": \"Portland\" } }";
+
+		List<PdxInstance> pdx = new ArrayList<>();
+
+		newConverter().convert(new ByteArrayInputStream(json.getBytes()), pdx::add);
+
+		assertThat(pdx).hasSize(1);
+		assertThat(this.factories).hasSize(2);
+
+		PdxInstanceFactory customerFactory = this.factories.get(0);
+		PdxInstanceFactory addressFactory = this.factories.get(1);
+
+		verify(customerFactory, times(1)).writeString(eq(PdxInstanceWrapper.AT_TYPE_FIELD_NAME),
+			eq("example.Customer"));
+		verify(customerFactory, times(1)).writeShort(eq("short"), eq((short) 1000));
+		verify(customerFactory, times(1)).writeLong(eq("long"), eq(5000000000L));
+		verify(customerFactory, times(1)).writeDouble(eq("double"), eq(3.14d));
+		verify(customerFactory, times(1)).writeBoolean(eq("active"), eq(true));
+		verify(customerFactory, times(1)).writeObject(eq("nickname"), isNull());
+		verify(customerFactory, times(1)).writeObject(eq("tags"), eq(Arrays.asList("a", (byte) 1, false)));
+		verify(customerFactory, times(1)).writeObject(eq("address"), eq(this.pdxInstances.get(1)));
+		verify(customerFactory, never()).markIdentityField(anyString());
+		verify(addressFactory, times(1)).writeString(eq("city"), eq("Portland"));
+	}
+
+	@Test
+	public void convertMarksIdFieldAsIdentityField() {
+
+		newConverter().convert("{ \"id\": 1, \"name\": \"Jon Doe\" }");
+
+		verify(this.factories.get(0), times(1)).markIdentityField(eq(PdxInstanceWrapper.ID_FIELD_NAME));
+	}
+
+	@Test
+	public void convertMarksAtIdentifierFieldAsIdentityField() {
+
+		newConverter().convert("{ \"id\": 1, \"@identifier\": \"name\", \"name\": \"Jon Doe\" }");
+
+		verify(this.factories.get(0), times(1)).writeString(eq(PdxInstanceWrapper.AT_IDENTIFIER_FIELD_NAME),
+			eq("name"));
+		verify(this.factories.get(0), times(1)).markIdentityField(eq("name"));
+		verify(this.factories.get(0), never()).markIdentityField(eq(PdxInstanceWrapper.ID_FIELD_NAME));
+	}
+
+	@Test
+	public void convertIgnoresAtIdentifierDeclaringNonExistingField() {
+
+		newConverter().convert("{ \"@identifier\": \"ssn\", \"name\": \"Jon Doe\" }");
+
+		verify(this.factories.get(0), never()).markIdentityField(anyString());
+	}
+
+	@Test
+	public void convertEmptyJsonReturnsEmptyArray() {
+
+		JacksonStreamingJsonToPdxConverter converter = newConverter();
+
+		assertThat(converter.convert("  ")).isEmpty();
+		assertThat(converter.convert("[]")).isEmpty();
+		assertThat(this.factories).isEmpty();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void convertJsonScalarThrowsIllegalStateException() {
+
+		try {
+			newConverter().convert("\"Jon Doe\"");
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Unable to process JSON token [VALUE_STRING];"
+				+ " expected either an [OBJECT] or an [ARRAY]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = DataRetrievalFailureException.class)
+	public void convertInvalidJsonThrowsDataRetrievalFailureException() {
+
+		try {
+			newConverter().convert("[{ \"name\": \"Jon Doe\" ");
+		}
+		catch (DataRetrievalFailureException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Failed to read JSON content");
+			assertThat(expected).hasCauseInstanceOf(IOException.class);
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void newPdxInstanceFactoryUsesRegionServiceAndNeverDeserializes() {
+
+		RegionService mockRegionService = mock(RegionService.class);
+
+		PdxInstanceFactory mockFactory = mock(PdxInstanceFactory.class);
+
+		doReturn(mockFactory).when(mockRegionService).createPdxInstanceFactory(anyString());
+		doReturn(mockFactory).when(mockFactory).neverDeserialize();
+
+		JacksonStreamingJsonToPdxConverter converter = spy(new JacksonStreamingJsonToPdxConverter());
+
+		doReturn(mockRegionService).when(converter).resolveRegionService();
+
+		assertThat(converter.newPdxInstanceFactory()).isSameAs(mockFactory);
+
+		verify(mockRegionService, times(1)).createPdxInstanceFactory(eq(JSONFormatter.JSON_CLASSNAME));
+		verify(mockFactory, times(1)).neverDeserialize();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void convertNullInputStreamThrowsIllegalArgumentException() {
+
+		try {
+			newConverter().convert(null, pdx -> {});
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("InputStream must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			assertThat(this.factories).isEmpty();
+		}
+	}
+}
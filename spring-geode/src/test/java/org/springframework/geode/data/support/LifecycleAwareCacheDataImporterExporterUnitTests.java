@@ -18,7 +18,9 @@ package org.springframework.geode.data.support;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -27,10 +29,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.junit.Test;
 
 import org.apache.geode.cache.Region;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.EnvironmentAware;
@@ -40,6 +51,7 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceWriter;
 import org.springframework.geode.data.CacheDataImporterExporter;
+import org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter.ImportErrorPolicy;
 import org.springframework.geode.data.support.LifecycleAwareCacheDataImporterExporter.ImportLifecycle;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
@@ -89,6 +101,27 @@ public class LifecycleAwareCacheDataImporterExporterUnitTests {
 		}
 	}
 
+	@Test
+	public void destroyDestroysWrappedDisposableCacheDataImporterExporter() throws Exception {
+
+		DisposableCacheDataImporterExporter mockImporterExporter = mock(DisposableCacheDataImporterExporter.class);
+
+		new LifecycleAwareCacheDataImporterExporter(mockImporterExporter).destroy();
+
+		verify(mockImporterExporter, times(1)).destroy();
+		verifyNoMoreInteractions(mockImporterExporter);
+	}
+
+	@Test
+	public void destroyDoesNotDestroyWrappedNonDisposableCacheDataImporterExporter() throws Exception {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		new LifecycleAwareCacheDataImporterExporter(mockImporterExporter).destroy();
+
+		verifyNoInteractions(mockImporterExporter);
+	}
+
 	@Test
 	public void setApplicationContextOnWrappedApplicationContextAwareCacheDataImporterExporter() {
 
@@ -703,6 +736,410 @@ public class LifecycleAwareCacheDataImporterExporterUnitTests {
 		verifyNoInteractions(mockRegionOne, mockRegionTwo);
 	}
 
+	@Test
+	public void startImportsIntoRegionsInParallelWhenParallelismIsGreaterThanOne() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+		Region<?, ?> mockRegionThree = mock(Region.class);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		CyclicBarrier barrier = new CyclicBarrier(3);
+
+		doAnswer(invocation -> {
+			barrier.await(5, TimeUnit.SECONDS);
+			return invocation.getArgument(0);
+		}).when(mockImporterExporter).importInto(any());
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportLifecycle.LAZY).when(importerExporter).resolveImportLifecycle();
+		doReturn(4).when(importerExporter).resolveImportParallelism();
+
+		importerExporter.getRegionsForImport().add(mockRegionOne);
+		importerExporter.getRegionsForImport().add(mockRegionTwo);
+		importerExporter.getRegionsForImport().add(mockRegionThree);
+
+		importerExporter.start();
+
+		verify(importerExporter, times(1)).importInParallel(any(), eq(4));
+		verify(importerExporter, times(1)).newImportExecutorService(eq(3));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionOne));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionTwo));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionThree));
+		verifyNoMoreInteractions(mockImporterExporter);
+	}
+
+	@Test
+	public void startImportsIntoRegionsSequentiallyWhenParallelismIsOne() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportLifecycle.LAZY).when(importerExporter).resolveImportLifecycle();
+		doReturn(1).when(importerExporter).resolveImportParallelism();
+
+		importerExporter.getRegionsForImport().add(mockRegionOne);
+		importerExporter.getRegionsForImport().add(mockRegionTwo);
+
+		importerExporter.start();
+
+		verify(importerExporter, never()).importInParallel(any(), any(Integer.class));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionOne));
+		verify(mockImporterExporter, times(1)).importInto(eq(mockRegionTwo));
+		verifyNoMoreInteractions(mockImporterExporter);
+		verifyNoInteractions(mockRegionOne, mockRegionTwo);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void importInParallelFailsFast() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doThrow(new IllegalStateException("TEST")).when(mockImporterExporter).importInto(eq(mockRegionOne));
+		doReturn(mockRegionTwo).when(mockImporterExporter).importInto(eq(mockRegionTwo));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportErrorPolicy.FAIL_FAST).when(importerExporter).resolveImportErrorPolicy();
+
+		try {
+			importerExporter.importInParallel(Arrays.asList(mockRegionOne, mockRegionTwo), 2);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("TEST");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void importInParallelCollectsErrors() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+		Region<?, ?> mockRegionThree = mock(Region.class);
+
+		doReturn("RegionOne").when(mockRegionOne).getName();
+		doReturn("RegionTwo").when(mockRegionTwo).getName();
+		doReturn("RegionThree").when(mockRegionThree).getName();
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doThrow(new IllegalStateException("ONE")).when(mockImporterExporter).importInto(eq(mockRegionOne));
+		doReturn(mockRegionTwo).when(mockImporterExporter).importInto(eq(mockRegionTwo));
+		doThrow(new IllegalArgumentException("THREE")).when(mockImporterExporter).importInto(eq(mockRegionThree));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportErrorPolicy.COLLECT_ERRORS).when(importerExporter).resolveImportErrorPolicy();
+
+		try {
+			importerExporter.importInParallel(Arrays.asList(mockRegionOne, mockRegionTwo, mockRegionThree), 2);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Failed to import data into Regions [RegionOne, RegionThree]");
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+			assertThat(expected.getCause()).hasMessage("ONE");
+			assertThat(expected.getSuppressed()).hasSize(1);
+			assertThat(expected.getSuppressed()[0]).isInstanceOf(IllegalArgumentException.class);
+			assertThat(expected.getSuppressed()[0]).hasMessage("THREE");
+
+			throw expected;
+		}
+		finally {
+			verify(mockImporterExporter, times(1)).importInto(eq(mockRegionOne));
+			verify(mockImporterExporter, times(1)).importInto(eq(mockRegionTwo));
+			verify(mockImporterExporter, times(1)).importInto(eq(mockRegionThree));
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void importInParallelTimesOut() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		doReturn("RegionOne").when(mockRegionOne).getName();
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doAnswer(invocation -> {
+			latch.await(5, TimeUnit.SECONDS);
+			return mockRegionOne;
+		}).when(mockImporterExporter).importInto(eq(mockRegionOne));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(50L).when(importerExporter).resolveImportTimeout();
+
+		try {
+			importerExporter.importInParallel(Arrays.asList(mockRegionOne, mockRegionTwo), 2);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Timed out after [50] ms importing data into Region [RegionOne]");
+			assertThat(expected).hasCauseInstanceOf(TimeoutException.class);
+
+			throw expected;
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void importInParallelFailsFastWithoutWaitingForEarlierRegions() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doAnswer(invocation -> {
+			latch.await(5, TimeUnit.SECONDS);
+			return mockRegionOne;
+		}).when(mockImporterExporter).importInto(eq(mockRegionOne));
+
+		doThrow(new IllegalStateException("TWO")).when(mockImporterExporter).importInto(eq(mockRegionTwo));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportErrorPolicy.FAIL_FAST).when(importerExporter).resolveImportErrorPolicy();
+
+		try {
+			importerExporter.importInParallel(Arrays.asList(mockRegionOne, mockRegionTwo), 2);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("TWO");
+			assertThat(latch.getCount()).isOne();
+
+			throw expected;
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void importInParallelTimesOutConcurrentImportsTogether() {
+
+		Region<?, ?> mockRegionOne = mock(Region.class);
+		Region<?, ?> mockRegionTwo = mock(Region.class);
+
+		doReturn("RegionOne").when(mockRegionOne).getName();
+		doReturn("RegionTwo").when(mockRegionTwo).getName();
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doAnswer(invocation -> {
+			latch.await(5, TimeUnit.SECONDS);
+			return invocation.getArgument(0);
+		}).when(mockImporterExporter).importInto(any(Region.class));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportErrorPolicy.COLLECT_ERRORS).when(importerExporter).resolveImportErrorPolicy();
+		doReturn(200L).when(importerExporter).resolveImportTimeout();
+
+		long startTime = System.nanoTime();
+
+		try {
+			importerExporter.importInParallel(Arrays.asList(mockRegionOne, mockRegionTwo), 2);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).isLessThan(400L);
+			assertThat(expected).hasMessage("Failed to import data into Regions [RegionOne, RegionTwo]");
+			assertThat(expected).hasRootCauseInstanceOf(TimeoutException.class);
+			assertThat(expected.getSuppressed()).hasSize(1);
+
+			throw expected;
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void importInParallelTimeoutIsMeasuredFromStartOfImport() {
+
+		List<Region<?, ?>> regions = new ArrayList<>();
+
+		for (int index = 0; index < 8; index++) {
+			regions.add(mock(Region.class));
+		}
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		doAnswer(invocation -> {
+			Thread.sleep(100L);
+			return invocation.getArgument(0);
+		}).when(mockImporterExporter).importInto(any(Region.class));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			spy(new LifecycleAwareCacheDataImporterExporter(mockImporterExporter));
+
+		doReturn(ImportErrorPolicy.FAIL_FAST).when(importerExporter).resolveImportErrorPolicy();
+		doReturn(250L).when(importerExporter).resolveImportTimeout();
+
+		importerExporter.importInParallel(new ArrayList<>(regions), 2);
+
+		regions.forEach(region -> verify(mockImporterExporter, times(1)).importInto(eq(region)));
+	}
+
+	@Test
+	public void resolveImportParallelismFromEnvironment() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(8).when(mockEnvironment)
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_PARALLELISM_PROPERTY_NAME),
+				eq(Integer.class), eq(LifecycleAwareCacheDataImporterExporter.DEFAULT_IMPORT_PARALLELISM));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mockImporterExporter);
+
+		assertThat(importerExporter.resolveImportParallelism())
+			.isEqualTo(LifecycleAwareCacheDataImporterExporter.DEFAULT_IMPORT_PARALLELISM);
+
+		importerExporter.setEnvironment(mockEnvironment);
+
+		assertThat(importerExporter.resolveImportParallelism()).isEqualTo(8);
+	}
+
+	@Test
+	public void resolveImportParallelismIsAtLeastOne() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(-2).when(mockEnvironment)
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_PARALLELISM_PROPERTY_NAME),
+				eq(Integer.class), eq(LifecycleAwareCacheDataImporterExporter.DEFAULT_IMPORT_PARALLELISM));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mockImporterExporter);
+
+		importerExporter.setEnvironment(mockEnvironment);
+
+		assertThat(importerExporter.resolveImportParallelism()).isOne();
+	}
+
+	@Test
+	public void resolveImportErrorPolicyFromEnvironment() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn("collect-errors").when(mockEnvironment)
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_ERROR_POLICY_PROPERTY_NAME),
+				eq(String.class), eq(ImportErrorPolicy.FAIL_FAST.name()));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mockImporterExporter);
+
+		assertThat(importerExporter.resolveImportErrorPolicy()).isEqualTo(ImportErrorPolicy.FAIL_FAST);
+
+		importerExporter.setEnvironment(mockEnvironment);
+
+		assertThat(importerExporter.resolveImportErrorPolicy()).isEqualTo(ImportErrorPolicy.COLLECT_ERRORS);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void resolveInvalidImportErrorPolicyThrowsIllegalArgumentException() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn("skip-errors").when(mockEnvironment)
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_ERROR_POLICY_PROPERTY_NAME),
+				eq(String.class), eq(ImportErrorPolicy.FAIL_FAST.name()));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mockImporterExporter);
+
+		importerExporter.setEnvironment(mockEnvironment);
+
+		try {
+			importerExporter.resolveImportErrorPolicy();
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Cache data import error policy [skip-errors] is not valid;"
+				+ " must be one of [COLLECT_ERRORS, FAIL_FAST]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void resolveImportTimeoutFromEnvironment() {
+
+		CacheDataImporterExporter mockImporterExporter = mock(CacheDataImporterExporter.class);
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(30000L).when(mockEnvironment)
+			.getProperty(eq(LifecycleAwareCacheDataImporterExporter.CACHE_DATA_IMPORT_TIMEOUT_PROPERTY_NAME),
+				eq(Long.class), eq(LifecycleAwareCacheDataImporterExporter.DEFAULT_IMPORT_TIMEOUT));
+
+		LifecycleAwareCacheDataImporterExporter importerExporter =
+			new LifecycleAwareCacheDataImporterExporter(mockImporterExporter);
+
+		assertThat(importerExporter.resolveImportTimeout())
+			.isEqualTo(LifecycleAwareCacheDataImporterExporter.DEFAULT_IMPORT_TIMEOUT);
+
+		importerExporter.setEnvironment(mockEnvironment);
+
+		assertThat(importerExporter.resolveImportTimeout()).isEqualTo(30000L);
+	}
+
+	@Test
+	public void importErrorPolicyDefaultIsFailFast() {
+		assertThat(ImportErrorPolicy.getDefault()).isEqualTo(ImportErrorPolicy.FAIL_FAST);
+	}
+
+	@Test
+	public void importErrorPolicyFromIsCaseInsensitive() {
+
+		assertThat(ImportErrorPolicy.from("Fail-Fast")).isEqualTo(ImportErrorPolicy.FAIL_FAST);
+		assertThat(ImportErrorPolicy.from("collect_errors")).isEqualTo(ImportErrorPolicy.COLLECT_ERRORS);
+		assertThat(ImportErrorPolicy.from("UNKNOWN")).isNull();
+		assertThat(ImportErrorPolicy.from(null)).isNull();
+	}
+
 	@Test
 	public void importLifecycleDefaultIsLazy() {
 		assertThat(ImportLifecycle.getDefault()).isEqualTo(ImportLifecycle.LAZY);
@@ -753,6 +1190,8 @@ public class LifecycleAwareCacheDataImporterExporterUnitTests {
 	interface ApplicationContextEnvironmentAndResourceLoaderAwareCacheDataImporterExporter
 		extends ApplicationContextAware, CacheDataImporterExporter, EnvironmentAware, ResourceLoaderAware { }
 
+	interface DisposableCacheDataImporterExporter extends CacheDataImporterExporter, DisposableBean { }
+
 	abstract static class TestResourceCapableCacheDataImporterExporter
 		extends ResourceCapableCacheDataImporterExporter { }
 
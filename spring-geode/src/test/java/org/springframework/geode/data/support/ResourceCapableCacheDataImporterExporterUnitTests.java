@@ -51,8 +51,10 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceWriter;
 import org.springframework.geode.core.io.support.ByteArrayResourceReader;
+import org.springframework.geode.core.io.support.CompressedResource;
 import org.springframework.geode.core.io.support.FileResourceWriter;
 import org.springframework.geode.core.io.support.ResourcePrefix;
+import org.springframework.geode.core.io.support.StandardCompressionCodec;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.AbstractCacheResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.AbstractExportResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.AbstractImportResourceResolver;
@@ -573,6 +575,130 @@ public class ResourceCapableCacheDataImporterExporterUnitTests {
 			.isEqualTo(String.format(ResourceCapableCacheDataImporterExporter.RESOURCE_NAME_PATTERN, "EXAMPLE"));
 	}
 
+	@Test
+	public void getResourceNameFromStringUsingConfiguredFormat() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(" Binary ").when(mockEnvironment)
+			.getProperty(eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_FORMAT_PROPERTY_NAME));
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		resourceResolver.setEnvironment(mockEnvironment);
+
+		assertThat(resourceResolver.getResourceFormat()).isEqualTo("binary");
+		assertThat(resourceResolver.getResourceName("example")).isEqualTo("data-example.binary");
+	}
+
+	@Test
+	public void getResourceFormatDefaultsToJson() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		assertThat(resourceResolver.getResourceFormat())
+			.isEqualTo(ResourceCapableCacheDataImporterExporter.DEFAULT_CACHE_DATA_FORMAT);
+
+		resourceResolver.setEnvironment(mockEnvironment);
+
+		assertThat(resourceResolver.getResourceFormat())
+			.isEqualTo(ResourceCapableCacheDataImporterExporter.DEFAULT_CACHE_DATA_FORMAT);
+		assertThat(resourceResolver.getResourceName("example")).isEqualTo("data-example.json");
+	}
+
+	@Test
+	public void getResourceNameFromStringUsingConfiguredCompression() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn("binary").when(mockEnvironment)
+			.getProperty(eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_FORMAT_PROPERTY_NAME));
+
+		doReturn(" GZIP ").when(mockEnvironment)
+			.getProperty(eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_COMPRESSION_PROPERTY_NAME));
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		resourceResolver.setEnvironment(mockEnvironment);
+
+		assertThat(resourceResolver.getResourceCompression()).contains(StandardCompressionCodec.GZIP);
+		assertThat(resourceResolver.getResourceName("example")).isEqualTo("data-example.binary.gz");
+	}
+
+	@Test
+	public void getResourceCompressionWithNoneIsEmpty() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn("none").when(mockEnvironment)
+			.getProperty(eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_COMPRESSION_PROPERTY_NAME));
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		assertThat(resourceResolver.getResourceCompression()).isNotPresent();
+
+		resourceResolver.setEnvironment(mockEnvironment);
+
+		assertThat(resourceResolver.getResourceCompression()).isNotPresent();
+		assertThat(resourceResolver.getResourceName("example")).isEqualTo("data-example.json");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getResourceCompressionWithUnknownCodecThrowsIllegalStateException() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn("rar").when(mockEnvironment)
+			.getProperty(eq(ResourceCapableCacheDataImporterExporter.CACHE_DATA_COMPRESSION_PROPERTY_NAME));
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		resourceResolver.setEnvironment(mockEnvironment);
+
+		try {
+			resourceResolver.getResourceCompression();
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Compression [rar] is not supported");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void decorateResourceWithCompressedLocationReturnsCompressedResource() {
+
+		Resource mockResource = mock(Resource.class);
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		Resource resource = resourceResolver.decorate(mockResource, "file:///path/to/data-example.json.gz");
+
+		assertThat(resource).isInstanceOf(CompressedResource.class);
+		assertThat(((CompressedResource) resource).getResource()).isSameAs(mockResource);
+		assertThat(((CompressedResource) resource).getCompressionCodec()).isEqualTo(StandardCompressionCodec.GZIP);
+
+		verifyNoInteractions(mockResource);
+	}
+
+	@Test
+	public void decorateResourceWithUncompressedLocationReturnsResource() {
+
+		Resource mockResource = mock(Resource.class);
+
+		AbstractCacheResourceResolver resourceResolver = new TestCacheResourceResolver();
+
+		assertThat(resourceResolver.decorate(mockResource, "file:///path/to/data-example.json"))
+			.isSameAs(mockResource);
+		assertThat(resourceResolver.decorate(null, "file:///path/to/data-example.json.gz")).isNull();
+
+		verifyNoInteractions(mockResource);
+	}
+
 	@Test
 	@SuppressWarnings("all")
 	public void evaluatesExpressionContainingBeanAndPropertyAndRegionReferences() {
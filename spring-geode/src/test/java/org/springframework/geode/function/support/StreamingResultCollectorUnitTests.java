@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 1.4.0
+ */
+public class StreamingResultCollectorUnitTests {
+
+	private final DistributedMember mockMember = mock(DistributedMember.class);
+
+	@Test
+	public void iteratesElementsOfAllChunks() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(this.mockMember, Arrays.asList(1, 2));
+		resultCollector.addResult(this.mockMember, Collections.emptyList());
+		resultCollector.addResult(this.mockMember, 3);
+		resultCollector.addResult(this.mockMember, null);
+		resultCollector.addResult(this.mockMember, Arrays.asList(4, 5));
+		resultCollector.endResults();
+
+		List<Object> results = new ArrayList<>();
+
+		resultCollector.getResult().forEach(results::add);
+
+		assertThat(results).containsExactly(1, 2, 3, 4, 5);
+		assertThat(resultCollector.hasResultsEnded()).isTrue();
+	}
+
+	@Test
+	public void iteratesChunksAddedConcurrently() throws Exception {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1);
+
+		Thread producer = new Thread(() -> {
+			for (int chunk = 0; chunk < 10; chunk++) {
+				resultCollector.addResult(this.mockMember, Arrays.asList(chunk * 2, chunk * 2 + 1));
+			}
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		List<Object> results = new ArrayList<>();
+
+		resultCollector.getResult().forEach(results::add);
+
+		producer.join(5000L);
+
+		assertThat(results).hasSize(20);
+		assertThat(results.get(0)).isEqualTo(0);
+		assertThat(results.get(19)).isEqualTo(19);
+	}
+
+	@Test
+	public void iteratorThrowsNoSuchElementExceptionAfterEndOfResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.endResults();
+
+		Iterator<Object> iterator = resultCollector.getResult().iterator();
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+	}
+
+	@Test
+	public void iteratorRethrowsFailure() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		IllegalStateException cause = new IllegalStateException("TEST");
+
+		resultCollector.addResult(this.mockMember, Collections.singletonList(1));
+		resultCollector.addFailure(cause);
+
+		Iterator<Object> iterator = resultCollector.getResult().iterator();
+
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThatThrownBy(iterator::hasNext)
+			.isInstanceOf(FunctionException.class)
+			.hasMessage("Function execution failed")
+			.hasCause(cause);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void iteratorRethrowsFunctionExceptionAsIs() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		FunctionException cause = new FunctionException("TEST");
+
+		resultCollector.addResult(this.mockMember, cause);
+
+		assertThatThrownBy(() -> resultCollector.getResult().iterator().hasNext()).isSameAs(cause);
+	}
+
+	@Test
+	public void clearResultsDiscardsBufferedChunks() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(this.mockMember, Arrays.asList(1, 2));
+		resultCollector.clearResults();
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEmpty();
+	}
+
+	@Test
+	public void closeDiscardsBufferedChunksAndStopsIteration() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(this.mockMember, Arrays.asList(1, 2));
+		resultCollector.addResult(this.mockMember, Arrays.asList(3, 4));
+
+		StreamingResultCollector.CloseableIterable<Object> results = resultCollector.getResult();
+
+		Iterator<Object> iterator = results.iterator();
+
+		assertThat(iterator.next()).isEqualTo(1);
+
+		results.close();
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+		assertThat(iterator.next()).isEqualTo(2);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void closeUnblocksFunctionThreadAndDropsFurtherChunks() throws Exception {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1);
+
+		Thread producer = new Thread(() -> {
+			for (int chunk = 0; chunk < 10; chunk++) {
+				resultCollector.addResult(this.mockMember, Collections.singletonList(chunk));
+			}
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		StreamingResultCollector.CloseableIterable<Object> results = resultCollector.getResult();
+
+		assertThat(results.iterator().next()).isEqualTo(0);
+
+		results.close();
+
+		producer.join(5000L);
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(resultCollector.hasResultsEnded()).isTrue();
+		assertThat(results.iterator().hasNext()).isFalse();
+	}
+}
@@ -34,6 +34,7 @@ import org.apache.geode.pdx.WritablePdxInstance;
 
 import org.springframework.beans.BeanWrapper;
 import org.springframework.data.annotation.Id;
+import org.springframework.util.SerializationUtils;
 
 import example.app.crm.model.Customer;
 import lombok.AccessLevel;
@@ -194,6 +195,80 @@ public class ObjectPdxInstanceAdapterUnitTests {
 		assertThat(ObjectPdxInstanceAdapter.from(new NoPropertyNoFieldBean()).getFieldNames()).isEmpty();
 	}
 
+	@Test
+	public void getNestedFieldReturnsNestedPropertyValue() {
+
+		Customer cookieDoe = Customer.newCustomer(5L, "Cookie Doe");
+
+		ObjectPdxInstanceAdapter adapter = ObjectPdxInstanceAdapter.from(new NestedPropertyBean(cookieDoe));
+
+		assertThat(adapter.getField("customer")).isSameAs(cookieDoe);
+		assertThat(adapter.getField("customer.name")).isEqualTo("Cookie Doe");
+		assertThat(adapter.getField("customer.nonExistingField")).isNull();
+		assertThat(adapter.hasField("customer.name")).isFalse();
+	}
+
+	@Test
+	public void hasFieldForExistingAndNonExistingFields() {
+
+		ObjectPdxInstanceAdapter adapter = ObjectPdxInstanceAdapter.from(Customer.newCustomer(6L, "Moe Doe"));
+
+		assertThat(adapter.hasField("id")).isTrue();
+		assertThat(adapter.hasField("name")).isTrue();
+		assertThat(adapter.hasField("class")).isFalse();
+		assertThat(adapter.hasField("nonExistingField")).isFalse();
+		assertThat(adapter.hasField(null)).isFalse();
+	}
+
+	@Test
+	public void hasFieldForWriteOnlyField() {
+		assertThat(ObjectPdxInstanceAdapter.from(new WriteOnlyBean()).hasField("value")).isTrue();
+	}
+
+	@Test
+	public void typeMetadataIsSharedByAdaptersForObjectsOfTheSameType() {
+
+		ObjectPdxInstanceAdapter jonDoe = ObjectPdxInstanceAdapter.from(Customer.newCustomer(1L, "Jon Doe"));
+		ObjectPdxInstanceAdapter janeDoe = ObjectPdxInstanceAdapter.from(Customer.newCustomer(2L, "Jane Doe"));
+		ObjectPdxInstanceAdapter bean = ObjectPdxInstanceAdapter.from(new IdNamedPropertyBean());
+
+		assertThat(jonDoe.getTypeMetadata()).isSameAs(janeDoe.getTypeMetadata());
+		assertThat(jonDoe.getTypeMetadata()).isNotSameAs(bean.getTypeMetadata());
+		assertThat(jonDoe.getFieldNames()).isSameAs(janeDoe.getFieldNames());
+		assertThat(jonDoe.getField("name")).isEqualTo("Jon Doe");
+		assertThat(janeDoe.getField("name")).isEqualTo("Jane Doe");
+	}
+
+	@Test
+	public void typeMetadataIsResolvedAfterDeserialization() {
+
+		ObjectPdxInstanceAdapter adapter = ObjectPdxInstanceAdapter.from("TEST");
+
+		ObjectPdxInstanceAdapter deserializedAdapter =
+			(ObjectPdxInstanceAdapter) SerializationUtils.deserialize(SerializationUtils.serialize(adapter));
+
+		assertThat(deserializedAdapter).isNotNull();
+		assertThat(deserializedAdapter.getObject()).isEqualTo("TEST");
+		assertThat(deserializedAdapter.getTypeMetadata()).isSameAs(adapter.getTypeMetadata());
+		assertThat(deserializedAdapter.getFieldNames()).isEqualTo(adapter.getFieldNames());
+		assertThat(deserializedAdapter.hasField("bytes")).isEqualTo(adapter.hasField("bytes"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void getFieldNamesIsUnmodifiable() {
+		ObjectPdxInstanceAdapter.from(Customer.newCustomer(1L, "Jon Doe")).getFieldNames().add("ssn");
+	}
+
+	@Test
+	public void isIdentityFieldResolvesIdentityFieldFromTypeMetadata() {
+
+		ObjectPdxInstanceAdapter adapter = ObjectPdxInstanceAdapter.from(new AtIdAnnotatedPropertyBean());
+
+		assertThat(adapter.getTypeMetadata().getIdentityFieldName()).isEqualTo("accountNumber");
+		assertThat(adapter.isIdentityField("accountNumber")).isTrue();
+		assertThat(adapter.isIdentityField("id")).isFalse();
+	}
+
 	@Test
 	public void isIdentityFieldWithIdentifierAndNonIdentifierFields() {
 
@@ -596,6 +671,16 @@ public class ObjectPdxInstanceAdapterUnitTests {
 
 	static class NoPropertyNoFieldBean { }
 
+	static class NestedPropertyBean {
+
+		@Getter
+		private final Customer customer;
+
+		NestedPropertyBean(Customer customer) {
+			this.customer = customer;
+		}
+	}
+
 	static class ReadOnlyBean {
 
 		@Getter